@@ -48,23 +48,28 @@ public class HashingBenchmark {
     private static final SplittableRandom RANDOM = new SplittableRandom(1_234_567L);
 
     public static void main(String... args) throws Exception {
-        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.blocks.HashingBenchmark.hashItemTree"});
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.blocks.HashingBenchmark"});
     }
 
-    @Param({"10000"})
+    @Param({"10000", "50000", "100000"})
     private int numLeafHashes;
 
+    @Param({"NAIVE", "CONCURRENT"})
+    private String hasher;
+
+    private List<byte[]> serializedItems;
     private List<byte[]> leafHashes;
     private Bytes expectedAnswer;
 
     @Setup(Level.Trial)
     public void setup() throws IOException {
         final var digest = sha384DigestOrThrow();
+        serializedItems = new ArrayList<>(numLeafHashes);
         leafHashes = new ArrayList<>(numLeafHashes);
         for (int i = 0; i < numLeafHashes; i++) {
-            final var item = randomBlockItem();
-            final var hash = digest.digest(BlockItem.PROTOBUF.toBytes(item).toByteArray());
-            leafHashes.add(hash);
+            final var item = BlockItem.PROTOBUF.toBytes(randomBlockItem()).toByteArray();
+            serializedItems.add(item);
+            leafHashes.add(digest.digest(item));
         }
         expectedAnswer = NaiveStreamingTreeHasher.computeRootHash(leafHashes);
     }
@@ -73,16 +78,39 @@ public class HashingBenchmark {
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.SECONDS)
     public void hashItemTree(@NonNull final Blackhole blackhole) {
-        //                final var subject = new NaiveStreamingTreeHasher();
-        final var subject = new ConcurrentStreamingTreeHasher(ForkJoinPool.commonPool());
+        final var subject = newHasher();
         for (final var hash : leafHashes) {
             subject.addLeaf(ByteBuffer.wrap(hash));
         }
+        blackhole.consume(verifiedRootHash(subject));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void hashItemsAndTree(@NonNull final Blackhole blackhole) {
+        final var subject = newHasher();
+        final var digest = sha384DigestOrThrow();
+        for (final var item : serializedItems) {
+            subject.addLeaf(ByteBuffer.wrap(digest.digest(item)));
+        }
+        blackhole.consume(verifiedRootHash(subject));
+    }
+
+    private StreamingTreeHasher newHasher() {
+        return switch (hasher) {
+            case "NAIVE" -> new NaiveStreamingTreeHasher();
+            case "CONCURRENT" -> new ConcurrentStreamingTreeHasher(ForkJoinPool.commonPool());
+            default -> throw new IllegalArgumentException("Unknown hasher " + hasher);
+        };
+    }
+
+    private Bytes verifiedRootHash(@NonNull final StreamingTreeHasher subject) {
         final var rootHash = subject.rootHash().join();
         if (!rootHash.equals(expectedAnswer)) {
             throw new IllegalStateException("Expected " + expectedAnswer + " but got " + rootHash);
         }
-        blackhole.consume(rootHash);
+        return rootHash;
     }
 
     private static BlockItem randomBlockItem() {
@@ -92,6 +92,7 @@ import com.hedera.node.app.services.ServicesRegistry;
 import com.hedera.node.app.signature.AppSignatureVerifier;
 import com.hedera.node.app.signature.impl.SignatureExpanderImpl;
 import com.hedera.node.app.signature.impl.SignatureVerifierImpl;
+import com.hedera.node.app.signature.impl.VerifiedSignatureCache;
 import com.hedera.node.app.spi.AppContext;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.ConsensusStateEventHandlerImpl;
@@ -108,6 +109,7 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.Utils;
 import com.hedera.node.config.data.BlockNodeConnectionConfig;
 import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.node.config.data.CacheConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.NetworkAdminConfig;
 import com.hedera.node.config.data.TssConfig;
@@ -346,6 +348,11 @@ public final class Hedera implements SwirldMain<MerkleNodeState>, AppContext.Gos
      */
     private final Metrics metrics;
 
+    /**
+     * The cache of verified signatures, shared by all signature verifiers of the app.
+     */
+    private final VerifiedSignatureCache verifiedSignatureCache;
+
     /**
      * A {@link StateChangeListener} that accumulates state changes that are only reported once per block; in the
      * current system, these are the singleton and queue updates. Every {@link MerkleNodeState} will have this
@@ -484,6 +491,8 @@ public final class Hedera implements SwirldMain<MerkleNodeState>, AppContext.Gos
                 .build();
         streamMode = bootstrapConfig.getConfigData(BlockStreamConfig.class).streamMode();
         servicesRegistry = registryFactory.create(constructableRegistry, bootstrapConfig);
+        verifiedSignatureCache = new VerifiedSignatureCache(
+                bootstrapConfig.getConfigData(CacheConfig.class).verifiedSignaturesMaxSize(), metrics);
         logger.info(
                 "Creating Hedera Consensus Node {} with HAPI {}",
                 () -> HapiUtils.toString(version),
@@ -496,7 +505,7 @@ public final class Hedera implements SwirldMain<MerkleNodeState>, AppContext.Gos
                 new AppSignatureVerifier(
                         bootstrapConfig.getConfigData(HederaConfig.class),
                         new SignatureExpanderImpl(),
-                        new SignatureVerifierImpl()),
+                        new SignatureVerifierImpl(verifiedSignatureCache)),
                 this,
                 configSupplier,
                 () -> daggerApp.networkInfo().selfNodeInfo(),
@@ -525,6 +534,7 @@ public final class Hedera implements SwirldMain<MerkleNodeState>, AppContext.Gos
         transactionPool = new TransactionPoolNexus(
                 transactionLimits,
                 bootstrapConfig.getConfigData(HederaConfig.class).throttleTransactionQueueSize(),
+                bootstrapConfig.getConfigData(HederaConfig.class).throttleTransactionQueueBytes(),
                 metrics);
 
         // Register all service schema RuntimeConstructable factories before platform init
@@ -1228,6 +1238,7 @@ public final class Hedera implements SwirldMain<MerkleNodeState>, AppContext.Gos
                 .blockHashSigner(blockHashSigner)
                 .appContext(appContext)
                 .platformStateFacade(platformStateFacade)
+                .verifiedSignatureCache(verifiedSignatureCache)
                 .build();
         // Initialize infrastructure for fees, exchange rates, and throttles from the working state
         daggerApp.initializer().initialize(state, streamMode);
@@ -35,6 +35,7 @@ import com.hedera.node.app.service.util.impl.UtilServiceImpl;
 import com.hedera.node.app.services.NodeRewardManager;
 import com.hedera.node.app.services.ServicesInjectionModule;
 import com.hedera.node.app.services.ServicesRegistry;
+import com.hedera.node.app.signature.impl.VerifiedSignatureCache;
 import com.hedera.node.app.spi.AppContext;
 import com.hedera.node.app.spi.info.NetworkInfo;
 import com.hedera.node.app.spi.info.NodeInfo;
@@ -238,6 +239,9 @@ public interface HederaInjectionComponent {
         @BindsInstance
         Builder appContext(AppContext appContext);
 
+        @BindsInstance
+        Builder verifiedSignatureCache(VerifiedSignatureCache verifiedSignatureCache);
+
         HederaInjectionComponent build();
     }
 }
@@ -19,6 +19,7 @@ import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.FileSystem;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import javax.inject.Singleton;
@@ -72,12 +73,26 @@ public interface BlockStreamModule {
             @NonNull final BlockNodeConnectionManager blockNodeConnectionManager) {
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
+        // Shared by the writers of all blocks, so a new block doesn't need a new pool
+        final ExecutorService compressionExecutor = blockStreamConfig.compressionThreads() > 0
+                ? Executors.newFixedThreadPool(
+                        blockStreamConfig.compressionThreads(),
+                        Thread.ofPlatform()
+                                .name("BlockFileCompression-", 0)
+                                .daemon(true)
+                                .factory())
+                : null;
         return switch (blockStreamConfig.writerMode()) {
-            case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+            case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, compressionExecutor);
             case GRPC -> () -> new GrpcBlockItemWriter(blockBufferService, blockNodeConnectionManager);
             case FILE_AND_GRPC ->
                 () -> new FileAndGrpcBlockItemWriter(
-                        configProvider, selfNodeInfo, fileSystem, blockBufferService, blockNodeConnectionManager);
+                        configProvider,
+                        selfNodeInfo,
+                        fileSystem,
+                        blockBufferService,
+                        blockNodeConnectionManager,
+                        compressionExecutor);
         };
     }
 
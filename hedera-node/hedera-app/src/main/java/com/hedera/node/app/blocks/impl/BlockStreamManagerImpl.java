@@ -13,7 +13,6 @@ import static com.hedera.node.app.blocks.impl.streaming.FileBlockItemWriter.bloc
 import static com.hedera.node.app.blocks.impl.streaming.FileBlockItemWriter.cleanUpPendingBlock;
 import static com.hedera.node.app.blocks.impl.streaming.FileBlockItemWriter.loadContiguousPendingBlocks;
 import static com.hedera.node.app.blocks.schemas.V0560BlockStreamSchema.BLOCK_STREAM_INFO_KEY;
-import static com.hedera.node.app.hapi.utils.CommonUtils.sha384DigestOrThrow;
 import static com.hedera.node.app.records.BlockRecordService.EPOCH;
 import static com.hedera.node.app.records.impl.BlockRecordInfoUtils.HASH_SIZE;
 import static com.hedera.node.app.workflows.handle.HandleWorkflow.ALERT_MESSAGE;
@@ -97,6 +96,8 @@ import org.hiero.consensus.model.hashgraph.Round;
 @Singleton
 public class BlockStreamManagerImpl implements BlockStreamManager {
     private static final Logger log = LogManager.getLogger(BlockStreamManagerImpl.class);
+    private static final ThreadLocal<MessageDigest> LEAF_DIGESTS =
+            ThreadLocal.withInitial(CommonUtils::sha384DigestOrThrow);
     public static final Bytes NULL_HASH = Bytes.wrap(new byte[HASH_SIZE]);
 
     private final int roundsPerBlock;
@@ -754,7 +755,8 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                             ROUND_HEADER,
                             BLOCK_HEADER,
                             TRACE_DATA -> {
-                        MessageDigest digest = sha384DigestOrThrow();
+                        final var digest = LEAF_DIGESTS.get();
+                        digest.reset();
                         bytes.writeTo(digest);
                         hash = ByteBuffer.wrap(digest.digest());
                     }
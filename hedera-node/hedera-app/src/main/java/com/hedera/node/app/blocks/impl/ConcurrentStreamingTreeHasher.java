@@ -9,16 +9,23 @@ import com.hedera.node.app.hapi.utils.CommonUtils;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 
 /**
  * A {@link StreamingTreeHasher} that computes the root hash of a perfect binary Merkle tree of {@link Bytes} leaves
  * using a concurrent algorithm that hashes leaves in parallel and combines the resulting hashes in parallel.
  * <p>
+ * Hashes are kept back to back in pooled arenas of one batch each, and every batch is combined in a single pass with
+ * a reused per-thread digest, so adding leaves and combining them doesn't allocate per hash.
+ * <p>
  * <b>Important:</b> This class is not thread-safe, and client code must not make concurrent calls to
  * {@link StreamingTreeHasher#addLeaf(ByteBuffer)} or {@link #rootHash()}.
  */
@@ -28,10 +35,15 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
      */
     private static final int DEFAULT_HASH_COMBINE_BATCH_SIZE = 8;
 
+    /**
+     * Arenas of {@code hashCombineBatchSize} hashes, recycled once the hashes in them have been combined, so that
+     * neither leaves nor combined hashes need an allocation of their own.
+     */
+    private final Queue<byte[]> arenas = new ConcurrentLinkedQueue<>();
     /**
      * The base {@link HashCombiner} that combines the hashes of the leaves of the tree, at height zero.
      */
-    private final HashCombiner combiner = new HashCombiner(0);
+    private final HashCombiner combiner;
     /**
      * The {@link ExecutorService} used to parallelize the hashing and combining of the leaves of the tree.
      */
@@ -64,10 +76,11 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
     public ConcurrentStreamingTreeHasher(
             @NonNull final ExecutorService executorService, final int hashCombineBatchSize) {
         this.executorService = requireNonNull(executorService);
-        if (hashCombineBatchSize % 2 == 1) {
-            throw new IllegalArgumentException("Hash combine batch size must be an even number");
+        if (hashCombineBatchSize <= 0 || hashCombineBatchSize % 2 == 1) {
+            throw new IllegalArgumentException("Hash combine batch size must be a positive even number");
         }
         this.hashCombineBatchSize = hashCombineBatchSize;
+        this.combiner = new HashCombiner(0);
     }
 
     @Override
@@ -80,9 +93,7 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
             throw new IllegalArgumentException("Buffer has less than " + HASH_LENGTH + " bytes remaining");
         }
         numLeaves++;
-        final var bytes = new byte[HASH_LENGTH];
-        hash.get(bytes);
-        combiner.combine(bytes);
+        combiner.combine(hash);
     }
 
     @Override
@@ -127,6 +138,21 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
         return Bytes.wrap(hash);
     }
 
+    /**
+     * Takes an arena from the pool, or allocates a new one if the pool is empty.
+     */
+    private byte[] acquireArena() {
+        final var arena = arenas.poll();
+        return arena != null ? arena : new byte[hashCombineBatchSize * HASH_LENGTH];
+    }
+
+    /**
+     * Returns an arena to the pool, once no one reads or writes it anymore.
+     */
+    private void releaseArena(@NonNull final byte[] arena) {
+        arenas.offer(arena);
+    }
+
     private class HashCombiner {
         private static final ThreadLocal<MessageDigest> DIGESTS =
                 ThreadLocal.withInitial(CommonUtils::sha384DigestOrThrow);
@@ -145,7 +171,12 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
         private final int height;
 
         private HashCombiner delegate;
-        private List<byte[]> pendingHashes = new ArrayList<>();
+        /**
+         * The hashes waiting to be combined, back to back in an arena with room for a full batch.
+         */
+        private byte[] pendingHashes = acquireArena();
+
+        private int numPending;
         private CompletableFuture<Void> combination = CompletableFuture.completedFuture(null);
 
         private HashCombiner(final int height) {
@@ -155,19 +186,26 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
             this.height = height;
         }
 
-        public void combine(@NonNull final byte[] hash) {
-            pendingHashes.add(hash);
-            if (pendingHashes.size() == hashCombineBatchSize) {
+        public void combine(@NonNull final ByteBuffer hash) {
+            hash.get(pendingHashes, numPending * HASH_LENGTH, HASH_LENGTH);
+            if (++numPending == hashCombineBatchSize) {
+                schedulePendingWork();
+            }
+        }
+
+        public void combine(@NonNull final byte[] hashes, final int offset) {
+            System.arraycopy(hashes, offset, pendingHashes, numPending * HASH_LENGTH, HASH_LENGTH);
+            if (++numPending == hashCombineBatchSize) {
                 schedulePendingWork();
             }
         }
 
         public CompletableFuture<Bytes> finalCombination() {
             if (height == rootHeight) {
-                final var rootHash = pendingHashes.isEmpty() ? EMPTY_HASHES[0] : pendingHashes.getFirst();
+                final var rootHash = numPending == 0 ? EMPTY_HASHES[0] : Arrays.copyOf(pendingHashes, HASH_LENGTH);
                 return CompletableFuture.completedFuture(Bytes.wrap(rootHash));
             } else {
-                if (!pendingHashes.isEmpty()) {
+                if (numPending > 0) {
                     schedulePendingWork();
                 }
                 return combination.thenCompose(ignore -> delegate.finalCombination());
@@ -176,11 +214,18 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
 
         public void flushAvailable(@NonNull final List<Bytes> rightmostHashes, final int stopHeight) {
             if (height < stopHeight) {
-                final var newPendingHash = pendingHashes.size() % 2 == 0 ? null : pendingHashes.removeLast();
+                final byte[] newPendingHash;
+                if (numPending % 2 == 0) {
+                    newPendingHash = null;
+                } else {
+                    numPending--;
+                    newPendingHash = Arrays.copyOfRange(
+                            pendingHashes, numPending * HASH_LENGTH, (numPending + 1) * HASH_LENGTH);
+                }
                 schedulePendingWork();
                 combination.join();
                 if (newPendingHash != null) {
-                    pendingHashes.add(newPendingHash);
+                    combine(newPendingHash, 0);
                     rightmostHashes.add(Bytes.wrap(newPendingHash));
                 } else {
                     rightmostHashes.add(Bytes.EMPTY);
@@ -193,30 +238,54 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
             if (delegate == null) {
                 delegate = new HashCombiner(height + 1);
             }
-            final CompletableFuture<List<byte[]>> pendingCombination;
-            if (pendingHashes.size() < MIN_TO_SCHEDULE) {
-                pendingCombination = CompletableFuture.completedFuture(combine(pendingHashes));
+            if (numPending == 0) {
+                return;
+            }
+            final var hashes = pendingHashes;
+            final int n = numPending;
+            pendingHashes = acquireArena();
+            numPending = 0;
+            final CompletableFuture<byte[]> pendingCombination;
+            if (n < MIN_TO_SCHEDULE) {
+                pendingCombination = CompletableFuture.completedFuture(combinePairs(hashes, n));
             } else {
-                final var hashes = pendingHashes;
-                pendingCombination = CompletableFuture.supplyAsync(() -> combine(hashes), executorService);
+                pendingCombination = CompletableFuture.supplyAsync(() -> combinePairs(hashes, n), executorService);
             }
+            final int numCombined = (n + 1) / 2;
             combination = combination.thenCombine(pendingCombination, (ignore, combined) -> {
-                combined.forEach(delegate::combine);
+                for (int i = 0; i < numCombined; i++) {
+                    delegate.combine(combined, i * HASH_LENGTH);
+                }
+                releaseArena(combined);
                 return null;
             });
-            pendingHashes = new ArrayList<>();
         }
 
-        private List<byte[]> combine(@NonNull final List<byte[]> hashes) {
-            final List<byte[]> result = new ArrayList<>();
+        /**
+         * Combines the given hashes pairwise in a single pass with this thread's digest, writing the results back to
+         * back into a new arena; the arena of the given hashes is returned to the pool.
+         *
+         * @param hashes the arena of hashes to combine
+         * @param n the number of hashes in the arena
+         * @return the arena of combined hashes
+         */
+        private byte[] combinePairs(@NonNull final byte[] hashes, final int n) {
+            final var result = acquireArena();
             final var digest = DIGESTS.get();
-            for (int i = 0, m = hashes.size(); i < m; i += 2) {
-                final var left = hashes.get(i);
-                final var right = i + 1 < m ? hashes.get(i + 1) : EMPTY_HASHES[height];
-                digest.update(left);
-                digest.update(right);
-                result.add(digest.digest());
+            try {
+                for (int i = 0; i < n; i += 2) {
+                    digest.update(hashes, i * HASH_LENGTH, HASH_LENGTH);
+                    if (i + 1 < n) {
+                        digest.update(hashes, (i + 1) * HASH_LENGTH, HASH_LENGTH);
+                    } else {
+                        digest.update(EMPTY_HASHES[height]);
+                    }
+                    digest.digest(result, (i / 2) * HASH_LENGTH, HASH_LENGTH);
+                }
+            } catch (final DigestException e) {
+                throw new IllegalStateException(e);
             }
+            releaseArena(hashes);
             return result;
         }
     }
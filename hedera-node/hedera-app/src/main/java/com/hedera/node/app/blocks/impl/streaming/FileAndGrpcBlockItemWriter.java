@@ -10,7 +10,9 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.internal.network.PendingProof;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.file.FileSystem;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Writes serialized block items to files and streams bidirectionally for the publishBlockStream rpc in BlockStreamService.
@@ -33,7 +35,27 @@ public class FileAndGrpcBlockItemWriter implements BlockItemWriter {
             @NonNull final FileSystem fileSystem,
             @NonNull final BlockBufferService blockBufferService,
             @NonNull final BlockNodeConnectionManager blockNodeConnectionManager) {
-        this.fileBlockItemWriter = new FileBlockItemWriter(configProvider, nodeInfo, fileSystem);
+        this(configProvider, nodeInfo, fileSystem, blockBufferService, blockNodeConnectionManager, null);
+    }
+
+    /**
+     * Construct a new FileAndGrpcBlockItemWriter whose block files are compressed with the given executor, if not
+     * null.
+     *
+     * @param configProvider configuration provider
+     * @param nodeInfo information about the current node
+     * @param fileSystem the file system to use for writing block files
+     * @param blockBufferService the block stream state manager
+     * @param compressionExecutor if not null, the executor to compress block files with
+     */
+    public FileAndGrpcBlockItemWriter(
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final NodeInfo nodeInfo,
+            @NonNull final FileSystem fileSystem,
+            @NonNull final BlockBufferService blockBufferService,
+            @NonNull final BlockNodeConnectionManager blockNodeConnectionManager,
+            @Nullable final ExecutorService compressionExecutor) {
+        this.fileBlockItemWriter = new FileBlockItemWriter(configProvider, nodeInfo, fileSystem, compressionExecutor);
         this.grpcBlockItemWriter = new GrpcBlockItemWriter(blockBufferService, blockNodeConnectionManager);
     }
 
@@ -23,6 +23,7 @@ import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -37,6 +38,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 import java.util.zip.GZIPInputStream;
@@ -75,6 +77,18 @@ public class FileBlockItemWriter implements BlockItemWriter {
      */
     private final UnaryOperator<String> pendingFileName;
 
+    /**
+     * If not null, the executor that compresses block files in parallel, off the thread writing the block items.
+     */
+    @Nullable
+    private final ExecutorService compressionExecutor;
+
+    /** The number of uncompressed bytes per gzip member when compressing in parallel. */
+    private final int compressionChunkSize;
+
+    /** The max number of chunks waiting to be compressed or written when compressing in parallel. */
+    private final int maxPendingCompressionChunks;
+
     /** The file output stream we are writing to, which writes to the configured block file path */
     private WritableStreamingData writableStreamingData;
 
@@ -104,6 +118,24 @@ public class FileBlockItemWriter implements BlockItemWriter {
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo nodeInfo,
             @NonNull final FileSystem fileSystem) {
+        this(configProvider, nodeInfo, fileSystem, null);
+    }
+
+    /**
+     * Construct a new FileBlockItemWriter that compresses block files with the given executor, if not null. The
+     * items are then written as independent gzip members of {@link BlockStreamConfig#compressionChunkSize()} bytes,
+     * which are compressed in parallel and written to the file by a background thread.
+     *
+     * @param configProvider configuration provider
+     * @param nodeInfo information about the current node
+     * @param fileSystem the file system to use for writing block files
+     * @param compressionExecutor if not null, the executor to compress block files with
+     */
+    public FileBlockItemWriter(
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final NodeInfo nodeInfo,
+            @NonNull final FileSystem fileSystem,
+            @Nullable final ExecutorService compressionExecutor) {
         requireNonNull(configProvider, "The supplied argument 'configProvider' cannot be null!");
         requireNonNull(nodeInfo, "The supplied argument 'nodeInfo' cannot be null!");
         requireNonNull(fileSystem, "The supplied argument 'fileSystem' cannot be null!");
@@ -118,6 +150,11 @@ public class FileBlockItemWriter implements BlockItemWriter {
 
         this.completeFileName = name -> name + COMPLETE_BLOCK_EXTENSION + COMPRESSION_ALGORITHM_EXTENSION;
         this.pendingFileName = name -> name + ".pnd" + COMPRESSION_ALGORITHM_EXTENSION;
+
+        this.compressionExecutor = compressionExecutor;
+        this.compressionChunkSize = compressionExecutor == null ? 0 : blockStreamConfig.compressionChunkSize();
+        this.maxPendingCompressionChunks =
+                compressionExecutor == null ? 0 : blockStreamConfig.maxPendingCompressionChunks();
     }
 
     /**
@@ -300,13 +337,24 @@ public class FileBlockItemWriter implements BlockItemWriter {
             }
             out = Files.newOutputStream(blockFilePath);
             out = new BufferedOutputStream(out, 1024 * 1024); // 1 MB
-            out = new GZIPOutputStream(out, 1024 * 256); // 256 KB
-            // By wrapping the GZIPOutputStream in a BufferedOutputStream, the code reduces the number of write
-            // operations to the GZIPOutputStream, and therefore the number of synchronized calls. Instead of
-            // writing each small piece of data immediately to the GZIPOutputStream, it writes the data to the
-            // buffer, and only when the buffer is full, it writes all the data to the GZIPOutputStream in one go.
-            // This can significantly improve the performance when writing many small amounts of data.
-            out = new BufferedOutputStream(out, 1024 * 1024 * 4); // 4 MB
+            if (compressionExecutor != null) {
+                // Chunks are compressed in parallel and written by a background thread; each chunk also buffers
+                // the small writes of the items, so no further buffering is needed.
+                out = new ParallelGzipOutputStream(
+                        out,
+                        compressionExecutor,
+                        compressionChunkSize,
+                        maxPendingCompressionChunks,
+                        "block-file-writer-" + blockNumber);
+            } else {
+                out = new GZIPOutputStream(out, 1024 * 256); // 256 KB
+                // By wrapping the GZIPOutputStream in a BufferedOutputStream, the code reduces the number of write
+                // operations to the GZIPOutputStream, and therefore the number of synchronized calls. Instead of
+                // writing each small piece of data immediately to the GZIPOutputStream, it writes the data to the
+                // buffer, and only when the buffer is full, it writes all the data to the GZIPOutputStream in one go.
+                // This can significantly improve the performance when writing many small amounts of data.
+                out = new BufferedOutputStream(out, 1024 * 1024 * 4); // 4 MB
+            }
 
             this.writableStreamingData = new WritableStreamingData(out);
         } catch (final IOException e) {
@@ -0,0 +1,272 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.blocks.impl.streaming;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An {@link OutputStream} that gzips its contents off the calling thread. The data is cut into chunks of a fixed
+ * size, each chunk is compressed on the given executor as an independent gzip member, and a dedicated writer thread
+ * writes the compressed members to the underlying stream in order. A sequence of gzip members is itself a valid gzip
+ * stream, so the output can be read back with a {@link java.util.zip.GZIPInputStream} or any gzip tool.
+ *
+ * <p>At most {@code maxPendingChunks} chunks may be waiting to be compressed or written; beyond that, writes block
+ * until the writer thread catches up, which applies backpressure to the producer of the data.
+ *
+ * <p>This class is not thread safe, it must be written to by a single thread at a time.
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+
+    /** Marks the end of the chunks in the queue of pending chunks. */
+    private static final Future<byte[]> END_OF_STREAM = CompletableFuture.completedFuture(new byte[0]);
+
+    /** The size of the buffer used by the deflater of a chunk. */
+    private static final int DEFLATER_BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final ExecutorService compressionExecutor;
+    private final BlockingQueue<Future<byte[]>> pendingChunks;
+    private final Thread writerThread;
+
+    /** The chunk being filled by the caller. */
+    private byte[] chunk;
+
+    /** The number of bytes in the chunk being filled. */
+    private int chunkLength;
+
+    /** Whether any chunk has been handed to the executor. */
+    private boolean anyChunkCompressed;
+
+    private boolean closed;
+
+    /** The first error hit by the writer thread, if any. */
+    @Nullable
+    private volatile Throwable writeFailure;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param out the stream to write the compressed data to, closed when this stream is closed
+     * @param compressionExecutor the executor that compresses the chunks
+     * @param chunkSize the number of uncompressed bytes per gzip member
+     * @param maxPendingChunks the max number of chunks waiting to be compressed or written
+     * @param writerThreadName the name of the thread writing to the underlying stream
+     */
+    ParallelGzipOutputStream(
+            @NonNull final OutputStream out,
+            @NonNull final ExecutorService compressionExecutor,
+            final int chunkSize,
+            final int maxPendingChunks,
+            @NonNull final String writerThreadName) {
+        if (chunkSize <= 0 || maxPendingChunks <= 0) {
+            throw new IllegalArgumentException("Chunk size and max pending chunks must be positive");
+        }
+        this.out = requireNonNull(out);
+        this.compressionExecutor = requireNonNull(compressionExecutor);
+        this.chunk = new byte[chunkSize];
+        this.pendingChunks = new ArrayBlockingQueue<>(maxPendingChunks);
+        this.writerThread = Thread.ofPlatform()
+                .name(requireNonNull(writerThreadName))
+                .daemon(true)
+                .start(this::writeChunks);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        chunk[chunkLength++] = (byte) b;
+        if (chunkLength == chunk.length) {
+            submitChunk();
+        }
+    }
+
+    @Override
+    public void write(@NonNull final byte[] bytes, int off, int len) throws IOException {
+        requireNonNull(bytes);
+        if (off < 0 || len < 0 || len > bytes.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        while (len > 0) {
+            final int n = Math.min(len, chunk.length - chunkLength);
+            System.arraycopy(bytes, off, chunk, chunkLength, n);
+            chunkLength += n;
+            off += n;
+            len -= n;
+            if (chunkLength == chunk.length) {
+                submitChunk();
+            }
+        }
+    }
+
+    /**
+     * Does nothing; a partial chunk is only compressed when the stream is closed, since every chunk becomes a
+     * separate gzip member. This matches {@link GZIPOutputStream}, which doesn't flush compressed data by default.
+     */
+    @Override
+    public void flush() {
+        // no-op
+    }
+
+    /**
+     * Compresses the remaining data, waits for all chunks to be written, and closes the underlying stream. The writer
+     * thread is stopped and the underlying stream is closed even if the remaining data can't be compressed.
+     *
+     * @throws IOException if compressing or writing any chunk failed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (out) {
+            boolean lastChunkSubmitted = false;
+            try {
+                // an empty stream still needs one (empty) gzip member to be a valid gzip file
+                if (chunkLength > 0 || !anyChunkCompressed) {
+                    submitChunk();
+                }
+                lastChunkSubmitted = true;
+            } finally {
+                chunk = null;
+                if (!lastChunkSubmitted) {
+                    // the stream is incomplete anyway, so don't wait for chunks which may never be compressed
+                    pendingChunks.forEach(pending -> pending.cancel(false));
+                }
+                stopWriterThread();
+            }
+            rethrowWriteFailure();
+        }
+    }
+
+    /**
+     * Queues the end of the stream and waits for the writer thread to finish. This doesn't give up when the calling
+     * thread is interrupted, as the writer thread would otherwise wait for more chunks forever; the interrupt status
+     * is restored once the writer thread is done.
+     */
+    private void stopWriterThread() {
+        boolean interrupted = false;
+        try {
+            while (writerThread.isAlive()) {
+                try {
+                    // the writer thread keeps taking chunks, so the queue only stays full while the thread is alive
+                    if (pendingChunks.offer(END_OF_STREAM, 100, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            while (true) {
+                try {
+                    writerThread.join();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Hands the current chunk to the executor, blocking while the max number of chunks is pending.
+     */
+    private void submitChunk() throws IOException {
+        final byte[] data = chunk;
+        final int length = chunkLength;
+        final Future<byte[]> compressed;
+        try {
+            compressed = compressionExecutor.submit(() -> compress(data, length));
+        } catch (final RejectedExecutionException e) {
+            throw new IOException("Failed to submit a chunk for compression", e);
+        }
+        anyChunkCompressed = true;
+        try {
+            pendingChunks.put(compressed);
+        } catch (final InterruptedException e) {
+            compressed.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the compression pipeline");
+        }
+        chunkLength = 0;
+        // when closing, the failure is rethrown once the writer thread is done
+        if (!closed) {
+            chunk = new byte[data.length];
+            rethrowWriteFailure();
+        }
+    }
+
+    /**
+     * Runs on the writer thread, writing the compressed chunks in order until the end of the stream. After a failure,
+     * the remaining chunks are still taken from the queue so that the caller never blocks on a full queue.
+     */
+    private void writeChunks() {
+        try {
+            Future<byte[]> next;
+            while ((next = pendingChunks.take()) != END_OF_STREAM) {
+                if (writeFailure != null) {
+                    next.cancel(false);
+                    continue;
+                }
+                try {
+                    out.write(next.get());
+                } catch (final ExecutionException e) {
+                    writeFailure = e.getCause();
+                } catch (final IOException | RuntimeException e) {
+                    writeFailure = e;
+                }
+            }
+        } catch (final InterruptedException e) {
+            writeFailure = e;
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void rethrowWriteFailure() throws IOException {
+        final Throwable failure = writeFailure;
+        if (failure != null) {
+            throw new IOException("Failed to write compressed block data", failure);
+        }
+    }
+
+    /**
+     * Compresses the given data as a standalone gzip member.
+     *
+     * @param data the data to compress
+     * @param length the number of bytes of the data to compress
+     * @return the gzip member
+     */
+    private static byte[] compress(@NonNull final byte[] data, final int length) throws IOException {
+        final var bytes = new ByteArrayOutputStream(Math.max(32, length / 2));
+        try (final var gzip = new GZIPOutputStream(bytes, DEFLATER_BUFFER_SIZE)) {
+            gzip.write(data, 0, length);
+        }
+        return bytes.toByteArray();
+    }
+}
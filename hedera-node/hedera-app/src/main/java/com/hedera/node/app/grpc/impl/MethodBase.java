@@ -12,6 +12,8 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -49,6 +51,12 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
     private static final ThreadLocal<BufferedData> BUFFER_THREAD_LOCAL =
             ThreadLocal.withInitial(() -> BufferedData.allocate(MAX_RESPONSE_SIZE));
 
+    /**
+     * Response buffers for calls answered by {@link #respondWithPooledBuffer(Bytes, StreamObserver)}. The pool only
+     * ever holds as many buffers as there were such calls in progress at once.
+     */
+    private static final Queue<BufferedData> POOLED_BUFFERS = new ConcurrentLinkedQueue<>();
+
     /** The name of the service associated with this method. */
     protected final String serviceName;
 
@@ -113,13 +121,64 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
         }
 
         try {
-            // Prepare the response buffer
-            final var responseBuffer = BUFFER_THREAD_LOCAL.get();
-            responseBuffer.reset();
-
             // Convert the request BufferedData to a Bytes instance without copying the bytes
             final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
 
+            // Answer the call, here or on another thread
+            dispatch(requestBytes, responseObserver);
+        } catch (final Exception e) {
+            fail(e, responseObserver);
+        }
+    }
+
+    /**
+     * Answers a call whose request has been received. By default, the call is answered on the calling thread, using
+     * that thread's response buffer. Implementations that answer some calls on other threads must not use the
+     * {@code requestBuffer} passed to {@link #invoke(BufferedData, StreamObserver)} from those threads, since it may
+     * be released as soon as {@code invoke} returns.
+     *
+     * @param requestBytes the protobuf bytes of the request
+     * @param responseObserver the observer to send the response to
+     */
+    protected void dispatch(
+            @NonNull final Bytes requestBytes, @NonNull final StreamObserver<BufferedData> responseObserver) {
+        respond(requestBytes, BUFFER_THREAD_LOCAL.get(), responseObserver);
+    }
+
+    /**
+     * Answers a call on the calling thread with a pooled response buffer rather than the thread's own. This is meant
+     * for short-lived threads, such as virtual threads, which should not each allocate a response buffer.
+     *
+     * @param requestBytes the protobuf bytes of the request
+     * @param responseObserver the observer to send the response to
+     */
+    protected final void respondWithPooledBuffer(
+            @NonNull final Bytes requestBytes, @NonNull final StreamObserver<BufferedData> responseObserver) {
+        final var pooled = POOLED_BUFFERS.poll();
+        final var responseBuffer = pooled != null ? pooled : BufferedData.allocate(MAX_RESPONSE_SIZE);
+        try {
+            respond(requestBytes, responseBuffer, responseObserver);
+        } finally {
+            // the response has been copied to the transport by now
+            POOLED_BUFFERS.offer(responseBuffer);
+        }
+    }
+
+    /**
+     * Handles the request and sends the response, or an error, to the client.
+     *
+     * @param requestBytes the protobuf bytes of the request
+     * @param responseBuffer the buffer to write the response to
+     * @param responseObserver the observer to send the response to
+     */
+    private void respond(
+            @NonNull final Bytes requestBytes,
+            @NonNull final BufferedData responseBuffer,
+            @NonNull final StreamObserver<BufferedData> responseObserver) {
+        try {
+            // Prepare the response buffer
+            responseBuffer.reset();
+
             // Call the workflow
             handle(requestBytes, responseBuffer);
 
@@ -132,15 +191,19 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
             callsHandledCounter.increment();
             callsHandledSpeedometer.cycle();
         } catch (final Exception e) {
-            // Track the number of times we failed to handle a call
-            if (!(e instanceof StatusRuntimeException)) {
-                logger.error("Unexpected exception while handling a GRPC message", e);
-            }
-            callsFailedCounter.increment();
-            responseObserver.onError(e);
+            fail(e, responseObserver);
         }
     }
 
+    private void fail(@NonNull final Exception e, @NonNull final StreamObserver<BufferedData> responseObserver) {
+        // Track the number of times we failed to handle a call
+        if (!(e instanceof StatusRuntimeException)) {
+            logger.error("Unexpected exception while handling a GRPC message", e);
+        }
+        callsFailedCounter.increment();
+        responseObserver.onError(e);
+    }
+
     /**
      * Called to handle the method invocation. Implementations should <b>only</b> throw a {@link RuntimeException}
      * if a gRPC <b>ERROR</b> is to be returned.
@@ -186,7 +249,12 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
         return metrics.getOrCreate(new SpeedometerMetric.Config("app", name).withDescription(desc));
     }
 
-    private String calculateBaseName() {
+    /**
+     * Computes the base name of the metrics of this method.
+     *
+     * @return the base name
+     */
+    protected final String calculateBaseName() {
         return serviceName.substring("proto.".length()).replace('.', ':') + ":" + methodName;
     }
 }
@@ -7,15 +7,29 @@ import com.hedera.hapi.node.transaction.Query;
 import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.IntegerAccumulator;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BinaryOperator;
 
 /**
  * Handles gRPC duties for processing {@link Query} gRPC calls. A single instance of this class is
  * used by all query threads in the node.
  *
+ * <p>By default, queries are answered on the thread that received them. If an executor is given, queries are instead
+ * answered on that executor, so that expensive queries don't hold up the gRPC thread, and at most a fixed number of
+ * them are answered at once; queries beyond that are rejected with {@link Status#RESOURCE_EXHAUSTED}.
+ *
  * <p>FUTURE WORK: ThreadSafe annotation missing in spotbugs annotations but should be added to
  * class
  */
@@ -26,6 +40,9 @@ public final class QueryMethod extends MethodBase {
     private static final String COUNTER_ANSWERED_DESC_TPL = "number of %s answered";
     private static final String SPEEDOMETER_ANSWERED_NAME_TPL = "%sSub_per_sec";
     private static final String SPEEDOMETER_ANSWERED_DESC_TPL = "number of %s answered per second";
+    private static final String COUNTER_REJECTED_NAME_TPL = "%sRejected";
+    private static final String COUNTER_REJECTED_DESC_TPL = "number of %s rejected because too many were in progress";
+    private static final BinaryOperator<Integer> AVERAGE = (sum, count) -> count == 0 ? 0 : sum / count;
 
     /** The workflow contains all the steps needed for handling the query. */
     private final QueryWorkflow workflow;
@@ -36,6 +53,26 @@ public final class QueryMethod extends MethodBase {
     /** A metric for the calls per second that queries were answered */
     private final SpeedometerMetric queriesAnsweredSpeedometer;
 
+    /** The executor answering the queries, or null if they are answered on the thread receiving them */
+    @Nullable
+    private final Executor executor;
+
+    /** Limits the number of queries being answered by the executor at once */
+    @Nullable
+    private final Semaphore permits;
+
+    /** A metric for the number of times the query was rejected because too many were in progress */
+    @Nullable
+    private final Counter queriesRejectedCounter;
+
+    /** The max time, in microseconds, from receiving a query to answering it on the executor */
+    @Nullable
+    private final IntegerAccumulator asyncLatencyMax;
+
+    /** The average time, in microseconds, from receiving a query to answering it on the executor */
+    @Nullable
+    private final IntegerPairAccumulator<Integer> asyncLatencyAvg;
+
     /**
      * Create a new QueryMethod.
      *
@@ -50,11 +87,85 @@ public final class QueryMethod extends MethodBase {
             @NonNull final QueryWorkflow workflow,
             @NonNull final Metrics metrics,
             final int maxMessageSize) {
+        this(serviceName, methodName, workflow, metrics, maxMessageSize, null, 1);
+    }
+
+    /**
+     * Create a new QueryMethod that answers its queries on the given executor.
+     *
+     * @param serviceName a non-null reference to the service name
+     * @param methodName a non-null reference to the method name
+     * @param workflow a non-null {@link QueryWorkflow}
+     * @param maxMessageSize the maximum message size
+     * @param executor the executor answering the queries, or null to answer them on the thread receiving them
+     * @param maxConcurrentQueries the max number of queries being answered by the executor at once
+     */
+    public QueryMethod(
+            @NonNull final String serviceName,
+            @NonNull final String methodName,
+            @NonNull final QueryWorkflow workflow,
+            @NonNull final Metrics metrics,
+            final int maxMessageSize,
+            @Nullable final Executor executor,
+            final int maxConcurrentQueries) {
         super(serviceName, methodName, metrics, maxMessageSize);
         this.workflow = requireNonNull(workflow);
         this.queriesAnsweredCounter = counter(metrics, COUNTER_ANSWERED_NAME_TPL, COUNTER_ANSWERED_DESC_TPL);
         this.queriesAnsweredSpeedometer =
                 speedometer(metrics, SPEEDOMETER_ANSWERED_NAME_TPL, SPEEDOMETER_ANSWERED_DESC_TPL);
+        this.executor = executor;
+        if (executor == null) {
+            this.permits = null;
+            this.queriesRejectedCounter = null;
+            this.asyncLatencyMax = null;
+            this.asyncLatencyAvg = null;
+        } else {
+            if (maxConcurrentQueries < 1) {
+                throw new IllegalArgumentException("maxConcurrentQueries must be positive");
+            }
+            this.permits = new Semaphore(maxConcurrentQueries);
+            this.queriesRejectedCounter = counter(metrics, COUNTER_REJECTED_NAME_TPL, COUNTER_REJECTED_DESC_TPL);
+            final var baseName = calculateBaseName();
+            final var maxConfig = new IntegerAccumulator.Config("app", baseName + "AsyncLatencyMax")
+                    .withDescription("max time from receiving a " + baseName + " query to answering it")
+                    .withUnit("us");
+            this.asyncLatencyMax = metrics.getOrCreate(maxConfig);
+            final var avgConfig = new IntegerPairAccumulator.Config<>(
+                            "app", baseName + "AsyncLatencyAvg", Integer.class, AVERAGE)
+                    .withDescription("average time from receiving a " + baseName + " query to answering it")
+                    .withUnit("us");
+            this.asyncLatencyAvg = metrics.getOrCreate(avgConfig);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void dispatch(
+            @NonNull final Bytes requestBytes, @NonNull final StreamObserver<BufferedData> responseObserver) {
+        if (executor == null) {
+            super.dispatch(requestBytes, responseObserver);
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            queriesRejectedCounter.increment();
+            throw new StatusRuntimeException(Status.RESOURCE_EXHAUSTED);
+        }
+        final long receivedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                try {
+                    respondWithPooledBuffer(requestBytes, responseObserver);
+                } finally {
+                    permits.release();
+                    final var latency = (int) Math.min(Integer.MAX_VALUE, (System.nanoTime() - receivedAt) / 1_000L);
+                    asyncLatencyMax.update(latency);
+                    asyncLatencyAvg.update(latency, 1);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            permits.release();
+            throw new StatusRuntimeException(Status.UNAVAILABLE.withCause(e));
+        }
     }
 
     /** {@inheritDoc} */
@@ -5,17 +5,30 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
 import io.grpc.MethodDescriptor;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * A thread-safe implementation of a gRPC marshaller which does nothing but pass through byte arrays as {@link
  * BufferedData}s. A single implementation of this class is designed to be used by multiple threads,
  * including by multiple app instances within a single JVM!
+ *
+ * <p>When the gRPC transport hands us a request that is held in a single (typically pooled, direct) Netty buffer, the
+ * buffer is detached from the gRPC stream and the request is parsed as a read-only view of it, without copying any
+ * bytes. Such a request must be given back with {@link #release(BufferedData)} once it has been handled, so the Netty
+ * buffer can be returned to its pool. Any other request is copied into a per-thread buffer as before.
  */
 /*@ThreadSafe*/
 final class DataBufferMarshaller implements MethodDescriptor.Marshaller<BufferedData> {
+    private static final Logger logger = LogManager.getLogger(DataBufferMarshaller.class);
 
     private final int bufferCapacity;
     private final int tooBigMessageSize;
@@ -30,6 +43,21 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
     // the application
     private static final ThreadLocal<BufferedData> BUFFER_THREAD_LOCAL = new ThreadLocal<>();
 
+    /**
+     * Per-thread request parsed without a copy, along with the detached gRPC stream that owns its Netty buffer. gRPC
+     * delivers a request to the listener on the same thread that parsed it, right after parsing it.
+     */
+    @SuppressWarnings("java:S5164") // same as above, there is at most one such request per long-lived thread
+    private static final ThreadLocal<DetachedRequest> DETACHED_THREAD_LOCAL = new ThreadLocal<>();
+
+    /**
+     * A request that is a view of a buffer owned by a detached gRPC stream.
+     *
+     * @param view the read-only view of the request
+     * @param source the stream to close to release the buffer
+     */
+    private record DetachedRequest(@NonNull BufferedData view, @NonNull InputStream source) {}
+
     /** Constructs a new {@link DataBufferMarshaller}. Only called by {@link GrpcServiceBuilder}. */
     DataBufferMarshaller(final int bufferCapacity, final int maxMessageSize) {
         if (bufferCapacity < maxMessageSize) {
@@ -57,6 +85,14 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
         // of the Google protobuf implementation.
         requireNonNull(stream);
 
+        // A request that was never released (e.g. because handling it threw) must not pin its buffer forever
+        releaseDetached(DETACHED_THREAD_LOCAL.get());
+
+        final var view = viewOfSingleBuffer(stream);
+        if (view != null) {
+            return view;
+        }
+
         // Each thread has a single buffer instance that gets reused over and over.
         BufferedData buffer = BUFFER_THREAD_LOCAL.get();
         if (buffer == null) {
@@ -79,4 +115,60 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
         buffer.flip();
         return buffer;
     }
+
+    /**
+     * Releases the Netty buffer of a request returned by {@link #parse(InputStream)}, if it was parsed without a copy.
+     * Must be called once the request has been handled; the request must not be used afterward.
+     *
+     * @param request the request that was handled
+     */
+    void release(@NonNull final BufferedData request) {
+        requireNonNull(request);
+        final var detached = DETACHED_THREAD_LOCAL.get();
+        if (detached != null && detached.view() == request) {
+            releaseDetached(detached);
+        }
+    }
+
+    /**
+     * Returns a read-only view of the request in the given stream if the stream can hand over the single buffer that
+     * holds the whole request, or null if the request has to be copied.
+     */
+    @Nullable
+    private BufferedData viewOfSingleBuffer(@NonNull final InputStream stream) {
+        if (!(stream instanceof HasByteBuffer hasByteBuffer)
+                || !(stream instanceof Detachable detachable)
+                || !hasByteBuffer.byteBufferSupported()) {
+            return null;
+        }
+        try {
+            final int length = stream.available();
+            // Requests that are too big are copied, which truncates them for MethodBase to reject
+            if (length <= 0 || length >= tooBigMessageSize) {
+                return null;
+            }
+            final var buffer = hasByteBuffer.getByteBuffer();
+            if (buffer == null || buffer.remaining() < length) {
+                return null;
+            }
+            // Detaching hands the ownership of the buffer to the returned stream, and leaves its contents untouched
+            final var source = detachable.detach();
+            final var view = BufferedData.wrap(buffer.slice(buffer.position(), length).asReadOnlyBuffer());
+            DETACHED_THREAD_LOCAL.set(new DetachedRequest(view, source));
+            return view;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void releaseDetached(@Nullable final DetachedRequest detached) {
+        if (detached != null) {
+            DETACHED_THREAD_LOCAL.remove();
+            try {
+                detached.source().close();
+            } catch (final IOException e) {
+                logger.warn("Failed to release the buffer of a gRPC request", e);
+            }
+        }
+    }
 }
@@ -13,9 +13,11 @@ import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.JumboTransactionsConfig;
+import com.hedera.node.config.data.NettyConfig;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.MethodDescriptor.MethodType;
@@ -29,6 +31,7 @@ import io.grpc.stub.StreamObserver;
 import java.io.InputStream;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -93,6 +96,13 @@ final class GrpcServiceBuilder {
      */
     private final Set<String> queryMethodNames = new HashSet<>();
 
+    /**
+     * The executor answering the queries of the methods listed in {@link NettyConfig#asyncQueryMethods()}, or null if
+     * all queries are answered on the gRPC thread receiving them.
+     */
+    @Nullable
+    private Executor asyncQueryExecutor;
+
     /**
      * Creates a new builder. Typically only a single builder instance is created per service.
      *
@@ -156,6 +166,18 @@ final class GrpcServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets the executor answering the queries of the methods listed in {@link NettyConfig#asyncQueryMethods()}. If no
+     * executor is set, all queries are answered on the gRPC thread receiving them.
+     *
+     * @param executor The executor answering those queries, or null to answer them on the gRPC thread
+     * @return A reference to the builder.
+     */
+    public @NonNull GrpcServiceBuilder asyncQueryExecutor(@Nullable final Executor executor) {
+        this.asyncQueryExecutor = executor;
+        return this;
+    }
+
     /**
      * Build a grpc {@link ServerServiceDefinition} for each transaction and query method registered with this builder.
      *
@@ -172,6 +194,7 @@ final class GrpcServiceBuilder {
                 .getConfiguration()
                 .getConfigData(HederaConfig.class)
                 .transactionMaxBytes();
+        final var nettyConfig = configProvider.getConfiguration().getConfigData(NettyConfig.class);
 
         final var builder = ServerServiceDefinition.builder(serviceName);
         txMethodNames.forEach(methodName -> {
@@ -190,7 +213,20 @@ final class GrpcServiceBuilder {
         });
         queryMethodNames.forEach(methodName -> {
             logger.debug("Registering gRPC query method {}.{}", serviceName, methodName);
-            final var method = new QueryMethod(serviceName, methodName, queryWorkflow, metrics, messageMaxSize);
+            final QueryMethod method;
+            if (asyncQueryExecutor != null && nettyConfig.asyncQueryMethods().contains(methodName)) {
+                // answer expensive queries off the gRPC thread
+                method = new QueryMethod(
+                        serviceName,
+                        methodName,
+                        queryWorkflow,
+                        metrics,
+                        messageMaxSize,
+                        asyncQueryExecutor,
+                        nettyConfig.asyncQueryMaxConcurrency());
+            } else {
+                method = new QueryMethod(serviceName, methodName, queryWorkflow, metrics, messageMaxSize);
+            }
             addMethod(builder, serviceName, methodName, method, marshaller);
         });
         return builder.build();
@@ -217,7 +253,8 @@ final class GrpcServiceBuilder {
                 .build();
 
         builder.addMethod(
-                ServerMethodDefinition.create(methodDescriptor, (call, ignored) -> new ListenerImpl(call, method)));
+                ServerMethodDefinition.create(
+                        methodDescriptor, (call, ignored) -> new ListenerImpl(call, method, marshallerToUse)));
     }
 
     /**
@@ -234,13 +271,18 @@ final class GrpcServiceBuilder {
     private static final class ListenerImpl extends Listener<BufferedData> implements StreamObserver<BufferedData> {
         private final ServerCall<BufferedData, BufferedData> call;
         private final MethodBase method;
+        private final DataBufferMarshaller marshaller;
 
         private ListenerImpl(
-                @NonNull final ServerCall<BufferedData, BufferedData> call, @NonNull final MethodBase method) {
+                @NonNull final ServerCall<BufferedData, BufferedData> call,
+                @NonNull final MethodBase method,
+                @NonNull final DataBufferMarshaller marshaller) {
             requireNonNull(call);
             requireNonNull(method);
+            requireNonNull(marshaller);
             this.call = call;
             this.method = method;
+            this.marshaller = marshaller;
         }
 
         // ================================================================================================================
@@ -263,7 +305,12 @@ final class GrpcServiceBuilder {
 
         @Override
         public void onMessage(BufferedData requestBuffer) {
-            method.invoke(requestBuffer, this);
+            try {
+                method.invoke(requestBuffer, this);
+            } finally {
+                // The workflows have copied whatever they keep of the request by now
+                marshaller.release(requestBuffer);
+            }
         }
 
         // ================================================================================================================
@@ -40,6 +40,8 @@ import java.net.InetSocketAddress;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -107,6 +109,13 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
      */
     private final GrpcUsageTracker usageTracker;
 
+    /**
+     * Answers the queries of the methods listed in {@link NettyConfig#asyncQueryMethods()} on virtual threads, or null
+     * if there are no such methods. The executor holds no idle threads, so it lives as long as this manager.
+     */
+    @Nullable
+    private final Executor asyncQueryExecutor;
+
     /**
      * Create a new instance.
      *
@@ -131,6 +140,11 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
         requireNonNull(operatorQueryWorkflow);
         requireNonNull(metrics);
 
+        final var nettyConfig = configProvider.getConfiguration().getConfigData(NettyConfig.class);
+        asyncQueryExecutor = nettyConfig.asyncQueryMethods().isEmpty()
+                ? null
+                : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-query-", 0).factory());
+
         final Supplier<Stream<RpcServiceDefinition>> rpcServiceDefinitions =
                 () -> servicesRegistry.registrations().stream()
                         .map(ServicesRegistry.Registration::service)
@@ -449,6 +463,7 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
                     // create builder
                     final var builder = new GrpcServiceBuilder(
                             d.basePath(), ingestWorkflow, queryWorkflow, dataBufferMarshaller, jumboBufferMarshaller);
+                    builder.asyncQueryExecutor(asyncQueryExecutor);
                     // add methods to builder
                     d.methods().stream().filter(methodFilter).forEach(m -> {
                         if (Transaction.class.equals(m.requestType())) {
@@ -15,6 +15,8 @@ import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -24,10 +26,12 @@ import org.hiero.base.crypto.Cryptography;
 import org.hiero.base.crypto.CryptographyProvider;
 import org.hiero.base.crypto.SignatureType;
 import org.hiero.base.crypto.TransactionSignature;
+import org.hiero.base.crypto.VerificationStatus;
 
 /**
  * A concrete implementation of {@link SignatureVerifier} that uses the {@link Cryptography} engine to verify the
- * signatures.
+ * signatures. If a {@link VerifiedSignatureCache} is provided, signatures verified before aren't sent to the engine
+ * again.
  */
 @Singleton
 public final class SignatureVerifierImpl implements SignatureVerifier {
@@ -35,15 +39,31 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
     /** The {@link Cryptography} engine to use for signature verification. */
     private final Cryptography cryptoEngine;
 
-    /** Create a new instance with new {@link Cryptography} engine. */
-    @Inject
+    /** Cache of signatures verified before, or {@code null} if signatures aren't cached. */
+    @Nullable
+    private final VerifiedSignatureCache verifiedSignatureCache;
+
+    /** Create a new instance with new {@link Cryptography} engine, which doesn't cache verified signatures. */
     public SignatureVerifierImpl() {
-        this(CryptographyProvider.getInstance());
+        this(CryptographyProvider.getInstance(), null);
+    }
+
+    /** Create a new instance with new {@link Cryptography} engine and the given verified signature cache. */
+    @Inject
+    public SignatureVerifierImpl(@NonNull final VerifiedSignatureCache verifiedSignatureCache) {
+        this(CryptographyProvider.getInstance(), requireNonNull(verifiedSignatureCache));
     }
 
     /** Create a new instance with the given {@link Cryptography} engine. */
     SignatureVerifierImpl(@NonNull final Cryptography cryptoEngine) {
+        this(cryptoEngine, null);
+    }
+
+    /** Create a new instance with the given {@link Cryptography} engine and verified signature cache. */
+    SignatureVerifierImpl(
+            @NonNull final Cryptography cryptoEngine, @Nullable final VerifiedSignatureCache verifiedSignatureCache) {
         this.cryptoEngine = requireNonNull(cryptoEngine);
+        this.verifiedSignatureCache = verifiedSignatureCache;
     }
 
     @NonNull
@@ -62,6 +82,10 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
 
         // Gather each TransactionSignature to send to the platform and the resulting SignatureVerificationFutures
         final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
+        final var txSigs = new ArrayList<TransactionSignature>(sigs.size());
+        final boolean useCache = verifiedSignatureCache != null && verifiedSignatureCache.isEnabled();
+        final var cacheKeys = useCache ? new ArrayList<Bytes>(sigs.size()) : null;
+        Bytes signedBytesHash = null;
         for (ExpandedSignaturePair sigPair : sigs) {
             final TransactionSignature txSig;
             final var kind = sigPair.sigPair().signature().kind();
@@ -78,10 +102,43 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             } else {
                 throw new IllegalArgumentException("Unsupported signature type: " + kind);
             }
-            cryptoEngine.verifySync(txSig);
             final SignatureVerificationFuture future =
                     new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
             futures.put(sigPair.key(), future);
+            if (useCache) {
+                // ECDSA messages are hashes already, while all ED25519 signatures share the same signed bytes
+                final Bytes messageHash;
+                if (kind == ECDSA_SECP256K1) {
+                    messageHash = txSig.getMessage();
+                } else {
+                    if (signedBytesHash == null) {
+                        signedBytesHash = VerifiedSignatureCache.hashOf(signedBytes);
+                    }
+                    messageHash = signedBytesHash;
+                }
+                final Bytes cacheKey = VerifiedSignatureCache.keyFor(messageHash, txSig);
+                if (verifiedSignatureCache.isVerified(cacheKey)) {
+                    txSig.setSignatureStatus(VerificationStatus.VALID);
+                    continue;
+                }
+                cacheKeys.add(cacheKey);
+            }
+            txSigs.add(txSig);
+        }
+
+        // Verify all signatures in a single batch, so the engine can verify them in parallel
+        if (txSigs.size() == 1) {
+            cryptoEngine.verifySync(txSigs.getFirst());
+        } else if (!txSigs.isEmpty()) {
+            cryptoEngine.verifySync(txSigs);
+        }
+
+        if (useCache) {
+            for (int i = 0; i < txSigs.size(); i++) {
+                if (txSigs.get(i).getSignatureStatus() == VerificationStatus.VALID) {
+                    verifiedSignatureCache.markVerified(cacheKeys.get(i));
+                }
+            }
         }
 
         return futures;
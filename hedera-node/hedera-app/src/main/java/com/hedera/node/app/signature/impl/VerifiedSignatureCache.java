@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.signature.impl;
+
+import static com.hedera.node.app.hapi.utils.CommonUtils.sha384DigestOrThrow;
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import org.hiero.base.crypto.TransactionSignature;
+
+/**
+ * A bounded cache of successfully verified signatures, shared by all transactions. The same payer key often signs
+ * many transactions, and signatures verified in pre-handle are sometimes verified again in handle (for example, if
+ * the node configuration changed in between). Both cases result in verifying the same (key, message, signature)
+ * triple more than once, which this cache avoids.
+ *
+ * <p>Entries are keyed by a SHA-384 digest of the signature type, the message hash, the public key, and the
+ * signature, so the cache doesn't retain messages. Only valid signatures are cached. Invalid signatures are rare in
+ * honest traffic, and not caching them prevents junk signatures from evicting useful entries.
+ *
+ * <p>This class is thread safe.
+ */
+public final class VerifiedSignatureCache {
+
+    private static final String CATEGORY = "app";
+
+    /** The cache, or {@code null} if caching is disabled */
+    @Nullable
+    private final Cache<Bytes, Boolean> cache;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    /**
+     * Create a new cache.
+     *
+     * @param maxSize the max number of signatures to cache. If zero, nothing is cached
+     * @param metrics the metrics to report the cache hits and misses to
+     */
+    public VerifiedSignatureCache(final int maxSize, @NonNull final Metrics metrics) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size must not be negative, got " + maxSize);
+        }
+        requireNonNull(metrics);
+        this.cache = maxSize == 0 ? null : Caffeine.newBuilder().maximumSize(maxSize).build();
+        this.hits = metrics.getOrCreate(new Counter.Config(CATEGORY, "verifiedSigCacheHits")
+                .withDescription("number of signatures found in the verified signature cache"));
+        this.misses = metrics.getOrCreate(new Counter.Config(CATEGORY, "verifiedSigCacheMisses")
+                .withDescription("number of signatures not found in the verified signature cache"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(CATEGORY, "verifiedSigCacheHitRate", Double.class, this::hitRate)
+                .withDescription("fraction of signatures found in the verified signature cache")
+                .withFormat("%,13.4f"));
+    }
+
+    /**
+     * Whether signatures are cached at all. If not, there is no need to compute cache keys.
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Compute the hash of a message, which can be used to compute cache keys for all signatures of the message.
+     *
+     * @param message the message
+     * @return the SHA-384 hash of the message
+     */
+    @NonNull
+    public static Bytes hashOf(@NonNull final Bytes message) {
+        final MessageDigest digest = sha384DigestOrThrow();
+        message.writeTo(digest);
+        return Bytes.wrap(digest.digest());
+    }
+
+    /**
+     * Compute the cache key for a signature.
+     *
+     * @param messageHash the hash of the signed message, see {@link #hashOf(Bytes)}. For signatures of messages which
+     *                    are hashes themselves, the message may be used directly
+     * @param txSig the signature
+     * @return the cache key
+     */
+    @NonNull
+    public static Bytes keyFor(@NonNull final Bytes messageHash, @NonNull final TransactionSignature txSig) {
+        final MessageDigest digest = sha384DigestOrThrow();
+        digest.update((byte) txSig.getSignatureType().ordinal());
+        writeWithLength(messageHash, digest);
+        writeWithLength(txSig.getPublicKey(), digest);
+        writeWithLength(txSig.getSignature(), digest);
+        return Bytes.wrap(digest.digest());
+    }
+
+    /**
+     * Check if a signature with the given key was verified before, and record a cache hit or miss.
+     *
+     * @param key the cache key, see {@link #keyFor(Bytes, TransactionSignature)}
+     * @return true if the signature is known to be valid
+     */
+    public boolean isVerified(@NonNull final Bytes key) {
+        if (cache == null) {
+            return false;
+        }
+        if (cache.getIfPresent(key) != null) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Remember that a signature with the given key is valid.
+     *
+     * @param key the cache key, see {@link #keyFor(Bytes, TransactionSignature)}
+     */
+    public void markVerified(@NonNull final Bytes key) {
+        if (cache != null) {
+            cache.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Get the fraction of lookups, which found the signature in the cache.
+     *
+     * @return the hit rate, or zero if there were no lookups yet
+     */
+    public double hitRate() {
+        final long hitCount = hits.get();
+        final long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private static void writeWithLength(@NonNull final Bytes bytes, @NonNull final MessageDigest digest) {
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(bytes.length()).array());
+        bytes.writeTo(digest);
+    }
+}
@@ -21,22 +21,29 @@ import javax.inject.Singleton;
  * Keeps track of the amount of usage of different TPS throttle categories and gas, and returns whether a given
  * transaction or query should be throttled based on that.
  * Meant to be used in multithreaded context
+ *
+ * <p>The frontend throttle may be split into several stripes, each a {@link ThrottleAccumulator} with an equal
+ * share of the capacity and its own lock, so that gRPC threads don't all contend for a single lock. A thread first
+ * tries the stripe it hashes to, and then the other stripes in turn, so a transaction or query is only throttled if
+ * none of the stripes has capacity for it. The stripes together enforce the configured limits, except that a single
+ * transaction or query can't use more than the capacity of one stripe.
  */
 @Singleton
 public class SynchronizedThrottleAccumulator {
 
     private final InstantSource instantSource;
-    private final ThrottleAccumulator frontendThrottle;
-
-    @NonNull
-    private Instant lastDecisionTime = Instant.EPOCH;
+    private final Stripe[] stripes;
 
     @Inject
     public SynchronizedThrottleAccumulator(
             @NonNull final InstantSource instantSource,
-            @NonNull @IngestThrottle final ThrottleAccumulator frontendThrottle) {
+            @NonNull @IngestThrottle final List<ThrottleAccumulator> frontendThrottles) {
         this.instantSource = requireNonNull(instantSource);
-        this.frontendThrottle = requireNonNull(frontendThrottle, "frontendThrottle must not be null");
+        requireNonNull(frontendThrottles, "frontendThrottles must not be null");
+        if (frontendThrottles.isEmpty()) {
+            throw new IllegalArgumentException("frontendThrottles must not be empty");
+        }
+        this.stripes = frontendThrottles.stream().map(Stripe::new).toArray(Stripe[]::new);
     }
 
     /**
@@ -48,15 +55,25 @@ public class SynchronizedThrottleAccumulator {
      * @param throttleUsages a list to accumulate throttle usages during the decision
      * @return whether the transaction should be throttled
      */
-    public synchronized boolean shouldThrottle(
+    public boolean shouldThrottle(
             @NonNull final TransactionInfo txnInfo,
             @NonNull final State state,
             @NonNull final List<ThrottleUsage> throttleUsages) {
         requireNonNull(txnInfo);
         requireNonNull(state);
         requireNonNull(throttleUsages);
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state, throttleUsages);
+        final var now = instantSource.instant();
+        final int home = homeStripe();
+        for (int i = 0; i < stripes.length; i++) {
+            final var stripe = stripes[(home + i) % stripes.length];
+            final int usagesBefore = throttleUsages.size();
+            if (!stripe.shouldThrottle(txnInfo, now, state, throttleUsages)) {
+                return false;
+            }
+            // usages of a stripe that throttled the transaction have been reclaimed already
+            throttleUsages.subList(usagesBefore, throttleUsages.size()).clear();
+        }
+        return true;
     }
 
     /**
@@ -69,18 +86,67 @@ public class SynchronizedThrottleAccumulator {
      * @param queryPayerId the payer id of the query
      * @return whether the query should be throttled
      */
-    public synchronized boolean shouldThrottle(
+    public boolean shouldThrottle(
             @NonNull final HederaFunctionality queryFunction,
             @NonNull final Query query,
             @NonNull final State state,
             @Nullable AccountID queryPayerId) {
         requireNonNull(query);
         requireNonNull(queryFunction);
-        setDecisionTime(instantSource.instant());
-        return frontendThrottle.checkAndEnforceThrottle(queryFunction, lastDecisionTime, query, state, queryPayerId);
+        final var now = instantSource.instant();
+        final int home = homeStripe();
+        for (int i = 0; i < stripes.length; i++) {
+            final var stripe = stripes[(home + i) % stripes.length];
+            if (!stripe.shouldThrottle(queryFunction, now, query, state, queryPayerId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the stripe the current thread tries first, so that concurrent threads are spread over the
+     * stripes.
+     */
+    private int homeStripe() {
+        return stripes.length == 1 ? 0 : Math.floorMod(Thread.currentThread().threadId(), stripes.length);
     }
 
-    private void setDecisionTime(@NonNull final Instant time) {
-        lastDecisionTime = time.isBefore(lastDecisionTime) ? lastDecisionTime : time;
+    /**
+     * A frontend throttle guarded by its own lock, whose decision time never goes backwards.
+     */
+    private static final class Stripe {
+        private final ThrottleAccumulator frontendThrottle;
+
+        @NonNull
+        private Instant lastDecisionTime = Instant.EPOCH;
+
+        private Stripe(@NonNull final ThrottleAccumulator frontendThrottle) {
+            this.frontendThrottle = requireNonNull(frontendThrottle, "frontendThrottle must not be null");
+        }
+
+        private synchronized boolean shouldThrottle(
+                @NonNull final TransactionInfo txnInfo,
+                @NonNull final Instant now,
+                @NonNull final State state,
+                @NonNull final List<ThrottleUsage> throttleUsages) {
+            setDecisionTime(now);
+            return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state, throttleUsages);
+        }
+
+        private synchronized boolean shouldThrottle(
+                @NonNull final HederaFunctionality queryFunction,
+                @NonNull final Instant now,
+                @NonNull final Query query,
+                @NonNull final State state,
+                @Nullable final AccountID queryPayerId) {
+            setDecisionTime(now);
+            return frontendThrottle.checkAndEnforceThrottle(
+                    queryFunction, lastDecisionTime, query, state, queryPayerId);
+        }
+
+        private void setDecisionTime(@NonNull final Instant time) {
+            lastDecisionTime = time.isBefore(lastDecisionTime) ? lastDecisionTime : time;
+        }
     }
 }
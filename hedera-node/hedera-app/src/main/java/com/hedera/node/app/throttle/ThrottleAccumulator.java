@@ -110,6 +110,7 @@ public class ThrottleAccumulator {
 
     private final Supplier<Configuration> configSupplier;
     private final IntSupplier capacitySplitSource;
+    private final IntSupplier resourceSplitSource;
     private final ThrottleType throttleType;
     private final Verbose verbose;
 
@@ -134,8 +135,30 @@ public class ThrottleAccumulator {
             @NonNull final ThrottleType throttleType,
             @Nullable final ThrottleMetrics throttleMetrics,
             @NonNull final Verbose verbose) {
+        this(capacitySplitSource, () -> 1, configSupplier, throttleType, throttleMetrics, verbose);
+    }
+
+    /**
+     * Creates an accumulator whose gas and bytes throttles only get a share of the configured capacity, for
+     * accumulators that together enforce a single limit.
+     *
+     * @param capacitySplitSource the number of ways to split the capacity of the throttle buckets
+     * @param resourceSplitSource the number of ways to split the capacity of the gas and bytes throttles
+     * @param configSupplier the configuration supplier
+     * @param throttleType the type of throttle
+     * @param throttleMetrics the metrics for the throttles, or null if not needed
+     * @param verbose whether to log the resolved throttles
+     */
+    public ThrottleAccumulator(
+            @NonNull final IntSupplier capacitySplitSource,
+            @NonNull final IntSupplier resourceSplitSource,
+            @NonNull final Supplier<Configuration> configSupplier,
+            @NonNull final ThrottleType throttleType,
+            @Nullable final ThrottleMetrics throttleMetrics,
+            @NonNull final Verbose verbose) {
         this.configSupplier = requireNonNull(configSupplier, "configProvider must not be null");
         this.capacitySplitSource = requireNonNull(capacitySplitSource, "capacitySplitSource must not be null");
+        this.resourceSplitSource = requireNonNull(resourceSplitSource, "resourceSplitSource must not be null");
         this.throttleType = requireNonNull(throttleType, "throttleType must not be null");
         this.verbose = requireNonNull(verbose);
         this.throttleMetrics = throttleMetrics;
@@ -155,6 +178,7 @@ public class ThrottleAccumulator {
             @NonNull final OpsDurationDeterministicThrottle contractOsDurationThrottle) {
         this.configSupplier = requireNonNull(configSupplier, "configProvider must not be null");
         this.capacitySplitSource = requireNonNull(capacitySplitSource, "capacitySplitSource must not be null");
+        this.resourceSplitSource = () -> 1;
         this.throttleType = requireNonNull(throttleType, "throttleType must not be null");
         this.gasThrottle = requireNonNull(gasThrottle, "gasThrottle must not be null");
         this.bytesThrottle = requireNonNull(bytesThrottle, "bytesThrottle must not be null");
@@ -327,6 +351,22 @@ public class ThrottleAccumulator {
         manager.undoClaimedReqsFor(n);
     }
 
+    /**
+     * Leaks the capacity previously used for up to {@code n} transactions of the given function, limited by the
+     * capacity currently used in this throttle's buckets.
+     *
+     * @param n the max number of transactions to leak the capacity for
+     * @param function the function to leak the capacity for
+     * @return the number of transactions whose capacity was leaked, or {@code n} if the function isn't throttled
+     */
+    public int leakCapacityForUpToNOfUnscaled(final int n, @NonNull final HederaFunctionality function) {
+        if (throttleType == NOOP_THROTTLE) {
+            return n;
+        }
+        final var manager = functionReqs.get(function);
+        return manager == null ? n : manager.undoClaimedReqsForUpTo(n);
+    }
+
     /**
      * Leaks the gas amount previously reserved for the given transaction.
      *
@@ -918,7 +958,7 @@ public class ThrottleAccumulator {
     public void applyGasConfig() {
         final var configuration = configSupplier.get();
         final var contractsConfig = configuration.getConfigData(ContractsConfig.class);
-        final var maxGasPerSec = maxGasPerSecOf(contractsConfig);
+        final var maxGasPerSec = maxGasPerSecOf(contractsConfig) / resourceSplitSource.getAsInt();
         if (contractsConfig.throttleThrottleByGas() && maxGasPerSec == 0) {
             log.warn("{} gas throttling enabled, but limited to 0 gas/sec", throttleType.name());
         }
@@ -945,7 +985,7 @@ public class ThrottleAccumulator {
     public void applyBytesConfig() {
         final var configuration = configSupplier.get();
         final var jumboConfig = configuration.getConfigData(JumboTransactionsConfig.class);
-        final var bytesPerSec = jumboConfig.maxBytesPerSec();
+        final var bytesPerSec = jumboConfig.maxBytesPerSec() / resourceSplitSource.getAsInt();
         if (jumboConfig.isEnabled() && bytesPerSec == 0) {
             log.warn("{} jumbo transactions are enabled, but limited to 0 bytes/sec", throttleType.name());
         }
@@ -14,8 +14,11 @@ import com.swirlds.metrics.api.DoubleGauge;
 import com.swirlds.metrics.api.DoubleGauge.Config;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -23,6 +26,10 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * This class maintains all metrics related to a {@link ThrottleAccumulator}.
+ *
+ * <p>If the capacity of the throttles is split across several accumulators (stripes), each stripe has its own
+ * instance, created by {@link #forStripes(Metrics, ThrottleType, int)}. The instances share the gauges, and each gauge
+ * reports the average percent used of the throttle across all stripes.
  */
 public class ThrottleMetrics {
 
@@ -36,6 +43,10 @@ public class ThrottleMetrics {
     private final String nameTemplate;
     private final String descriptionTemplate;
     private final Function<StatsConfig, List<String>> throttlesToSampleSupplier;
+    private final int stripe;
+    private final int stripes;
+    /** The last percent used reported by each stripe, per gauge, shared by all stripes */
+    private final Map<DoubleGauge, double[]> stripePercentsUsed;
     private List<MetricPair> liveMetricPairs = List.of();
     private MetricPair gasThrottleMetricPair;
     private MetricPair opsDurationThrottleMetricPair;
@@ -47,6 +58,15 @@ public class ThrottleMetrics {
      * @param throttleType the type of throttle to maintain metrics for
      */
     public ThrottleMetrics(@NonNull final Metrics metrics, @NonNull final ThrottleType throttleType) {
+        this(metrics, throttleType, 0, 1, new ConcurrentHashMap<>());
+    }
+
+    private ThrottleMetrics(
+            @NonNull final Metrics metrics,
+            @NonNull final ThrottleType throttleType,
+            final int stripe,
+            final int stripes,
+            @NonNull final Map<DoubleGauge, double[]> stripePercentsUsed) {
         this.metrics = requireNonNull(metrics);
         final var typePrefix = requireNonNull(throttleType) == ThrottleType.FRONTEND_THROTTLE ? "HAPI" : "cons";
         this.nameTemplate = typePrefix.toLowerCase() + "%sPercentUsed";
@@ -54,6 +74,30 @@ public class ThrottleMetrics {
         this.throttlesToSampleSupplier = throttleType == ThrottleType.FRONTEND_THROTTLE
                 ? StatsConfig::hapiThrottlesToSample
                 : StatsConfig::consThrottlesToSample;
+        this.stripe = stripe;
+        this.stripes = stripes;
+        this.stripePercentsUsed = stripePercentsUsed;
+    }
+
+    /**
+     * Creates the metrics for throttles whose capacity is split across several stripes.
+     *
+     * @param metrics the {@link Metrics} instance to use for registering metrics
+     * @param throttleType the type of throttle to maintain metrics for
+     * @param stripes the number of stripes
+     * @return one {@link ThrottleMetrics} instance per stripe
+     */
+    public static List<ThrottleMetrics> forStripes(
+            @NonNull final Metrics metrics, @NonNull final ThrottleType throttleType, final int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive, got " + stripes);
+        }
+        final Map<DoubleGauge, double[]> stripePercentsUsed = new ConcurrentHashMap<>();
+        final List<ThrottleMetrics> result = new ArrayList<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            result.add(new ThrottleMetrics(metrics, throttleType, i, stripes, stripePercentsUsed));
+        }
+        return List.copyOf(result);
     }
 
     /**
@@ -127,16 +171,30 @@ public class ThrottleMetrics {
      */
     public void updateAllMetrics() {
         for (final var metricPair : liveMetricPairs) {
-            metricPair.gauge().set(metricPair.throttle().instantaneousPercentUsed());
+            updateMetric(metricPair);
         }
         if (gasThrottleMetricPair != null) {
-            gasThrottleMetricPair.gauge().set(gasThrottleMetricPair.throttle().instantaneousPercentUsed());
+            updateMetric(gasThrottleMetricPair);
         }
         if (opsDurationThrottleMetricPair != null) {
-            opsDurationThrottleMetricPair
-                    .gauge()
-                    .set(opsDurationThrottleMetricPair.throttle().instantaneousPercentUsed());
+            updateMetric(opsDurationThrottleMetricPair);
+        }
+    }
+
+    private void updateMetric(@NonNull final MetricPair metricPair) {
+        final var percentUsed = metricPair.throttle().instantaneousPercentUsed();
+        if (stripes == 1) {
+            metricPair.gauge().set(percentUsed);
+            return;
         }
+        // Every stripe has the same share of the capacity, so the average is the percent used of the whole node
+        final var percentsUsed = stripePercentsUsed.computeIfAbsent(metricPair.gauge(), gauge -> new double[stripes]);
+        percentsUsed[stripe] = percentUsed;
+        double sum = 0;
+        for (final var stripePercentUsed : percentsUsed) {
+            sum += stripePercentUsed;
+        }
+        metricPair.gauge().set(sum / stripes);
     }
 
     private MetricPair setupLiveMetricPair(@NonNull final CongestibleThrottle throttle) {
@@ -153,6 +211,10 @@ public class ThrottleMetrics {
         final var description = String.format(descriptionTemplate, throttleName);
         final var config = new Config("app", name).withDescription(description).withFormat("%,13.2f");
         final var gauge = metrics.getOrCreate(config);
+        if (stripe != 0) {
+            // The gauge is shared by all stripes, and was already logged by the first one
+            return gauge;
+        }
         log.info("Registered {} gauge for '{}' under name '{}'", status, description, name);
         return gauge;
     }
@@ -54,6 +54,28 @@ public class ThrottleReqsManager {
         }
     }
 
+    /**
+     * Like {@link #undoClaimedReqsFor(int)}, but undoes the claimed capacity for at most as many
+     * transactions as the capacity currently used in all buckets allows. This is used when the
+     * capacity may have been claimed in any of several throttles with the same requirements.
+     *
+     * @param nTransactions the max number of transactions to undo
+     * @return the number of transactions whose claimed capacity was undone
+     */
+    public int undoClaimedReqsForUpTo(final int nTransactions) {
+        long undoable = nTransactions;
+        for (final var req : allReqs) {
+            final long unitsPerTxn = req.getRight() * BucketThrottle.capacityUnitsPerTxn();
+            if (unitsPerTxn > 0) {
+                undoable = Math.min(undoable, req.getLeft().used() / unitsPerTxn);
+            }
+        }
+        if (undoable > 0) {
+            undoClaimedReqsFor((int) undoable);
+        }
+        return (int) undoable;
+    }
+
     private boolean allVerboseReqsMetAt(
             Instant now,
             int nTransactions,
@@ -32,6 +32,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -42,21 +43,30 @@ public class ThrottleServiceManager {
     private static final Logger log = LogManager.getLogger(ThrottleServiceManager.class);
 
     private final ThrottleParser throttleParser;
-    private final ThrottleAccumulator ingestThrottle;
+    private final List<ThrottleAccumulator> ingestThrottles;
     private final ThrottleAccumulator backendThrottle;
     private final CongestionMultipliers congestionMultipliers;
 
     @Nullable
     private ThrottleDefinitions activeDefinitions;
 
+    /**
+     * The number of times frontend throttle capacity was reclaimed, used to choose the ingest throttle to reclaim
+     * from first, so reclaims are spread over the ingest throttles
+     */
+    private final AtomicInteger frontendReclaims = new AtomicInteger();
+
     @Inject
     public ThrottleServiceManager(
             @NonNull final ThrottleParser throttleParser,
-            @NonNull @IngestThrottle final ThrottleAccumulator ingestThrottle,
+            @NonNull @IngestThrottle final List<ThrottleAccumulator> ingestThrottles,
             @NonNull @BackendThrottle final ThrottleAccumulator backendThrottle,
             @NonNull final CongestionMultipliers congestionMultipliers) {
         this.throttleParser = throttleParser;
-        this.ingestThrottle = requireNonNull(ingestThrottle);
+        this.ingestThrottles = List.copyOf(ingestThrottles);
+        if (this.ingestThrottles.isEmpty()) {
+            throw new IllegalArgumentException("At least one ingest throttle is required");
+        }
         this.backendThrottle = requireNonNull(backendThrottle);
         this.congestionMultipliers = requireNonNull(congestionMultipliers);
     }
@@ -147,7 +157,7 @@ public class ThrottleServiceManager {
      * Updates all metrics for the throttles.
      */
     public void updateAllMetrics() {
-        ingestThrottle.updateAllMetrics();
+        ingestThrottles.forEach(ThrottleAccumulator::updateAllMetrics);
         backendThrottle.updateAllMetrics();
     }
 
@@ -184,19 +194,19 @@ public class ThrottleServiceManager {
 
     private @NonNull ThrottleParser.ValidatedThrottles rebuildThrottlesFrom(@NonNull final Bytes encoded) {
         final var validatedThrottles = throttleParser.parse(encoded);
-        ingestThrottle.rebuildFor(validatedThrottles.throttleDefinitions());
+        ingestThrottles.forEach(throttle -> throttle.rebuildFor(validatedThrottles.throttleDefinitions()));
         backendThrottle.rebuildFor(validatedThrottles.throttleDefinitions());
         this.activeDefinitions = validatedThrottles.throttleDefinitions();
         return validatedThrottles;
     }
 
     private void applyGasConfig() {
-        ingestThrottle.applyGasConfig();
+        ingestThrottles.forEach(ThrottleAccumulator::applyGasConfig);
         backendThrottle.applyGasConfig();
     }
 
     private void applyBytesConfig() {
-        ingestThrottle.applyBytesConfig();
+        ingestThrottles.forEach(ThrottleAccumulator::applyBytesConfig);
     }
 
     private void applyOpsDurationConfig() {
@@ -246,16 +256,20 @@ public class ThrottleServiceManager {
 
     /**
      * Reclaims the capacity used for throttling the given number of implicit creations or auto associations
-     * on the frontend.
+     * on the frontend. The capacity may have been used in any of the ingest throttles, so it's reclaimed from the
+     * ingest throttles in turn, each one giving back at most the capacity it currently uses, until all of it is
+     * reclaimed. Capacity that has already leaked from all ingest throttles, e.g. because the transaction was
+     * submitted to a different node, isn't reclaimed.
      *
      * @param numCapacity the number of implicit creations or auto associations
      */
     public void reclaimFrontendThrottleCapacity(final int numCapacity, final HederaFunctionality hederaFunctionality) {
-        try {
-            ingestThrottle.leakCapacityForNOfUnscaled(numCapacity, hederaFunctionality);
-        } catch (Exception ignore) {
-            // Ignore if the frontend bucket has already leaked all the capacity
-            // used for throttling the transaction on the frontend
+        final int size = ingestThrottles.size();
+        final int first = Math.floorMod(frontendReclaims.getAndIncrement(), size);
+        int remaining = numCapacity;
+        for (int i = 0; i < size && remaining > 0; i++) {
+            final var ingestThrottle = ingestThrottles.get((first + i) % size);
+            remaining -= ingestThrottle.leakCapacityForUpToNOfUnscaled(remaining, hederaFunctionality);
         }
     }
 
@@ -13,11 +13,13 @@ import com.hedera.node.app.throttle.annotations.GasThrottleMultiplier;
 import com.hedera.node.app.throttle.annotations.IngestThrottle;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.FeesConfig;
+import com.hedera.node.config.data.HederaConfig;
 import com.swirlds.metrics.api.Metrics;
 import dagger.Binds;
 import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.IntSupplier;
 import javax.inject.Singleton;
@@ -32,19 +34,30 @@ public interface ThrottleServiceModule {
     @Provides
     @Singleton
     @IngestThrottle
-    static ThrottleAccumulator provideIngestThrottleAccumulator(
+    static List<ThrottleAccumulator> provideIngestThrottleAccumulators(
             @NonNull final NetworkInfo networkInfo,
             @NonNull final ConfigProvider configProvider,
             @NonNull final Metrics metrics) {
-        final var throttleMetrics = new ThrottleMetrics(metrics, FRONTEND_THROTTLE);
+        final int stripes = configProvider
+                .getConfiguration()
+                .getConfigData(HederaConfig.class)
+                .ingestThrottleStripes();
         final IntSupplier frontendThrottleSplit =
-                () -> networkInfo.addressBook().size();
-        return new ThrottleAccumulator(
-                frontendThrottleSplit,
-                configProvider::getConfiguration,
-                FRONTEND_THROTTLE,
-                throttleMetrics,
-                Verbose.YES);
+                () -> networkInfo.addressBook().size() * stripes;
+        final List<ThrottleMetrics> stripeMetrics = ThrottleMetrics.forStripes(metrics, FRONTEND_THROTTLE, stripes);
+        final List<ThrottleAccumulator> accumulators = new ArrayList<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            // Every stripe reports its share of the load to the shared gauges, but only the first one logs the
+            // resolved throttles, since all stripes have the same share of the capacity
+            accumulators.add(new ThrottleAccumulator(
+                    frontendThrottleSplit,
+                    () -> stripes,
+                    configProvider::getConfiguration,
+                    FRONTEND_THROTTLE,
+                    stripeMetrics.get(i),
+                    i == 0 ? Verbose.YES : Verbose.NO));
+        }
+        return List.copyOf(accumulators);
     }
 
     @Provides
@@ -8,6 +8,7 @@ import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.platform.state.PlatformState;
 import com.hedera.node.app.annotations.NodeSelfId;
 import com.hedera.node.app.metrics.StoreMetricsServiceImpl;
+import com.hedera.node.app.signature.impl.VerifiedSignatureCache;
 import com.hedera.node.app.spi.ids.EntityIdFactory;
 import com.hedera.node.app.spi.info.NetworkInfo;
 import com.hedera.node.app.spi.metrics.StoreMetricsService;
@@ -15,6 +16,7 @@ import com.hedera.node.app.throttle.ThrottleAccumulator;
 import com.hedera.node.app.throttle.ThrottleMetrics;
 import com.hedera.node.app.throttle.annotations.BackendThrottle;
 import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.state.PlatformStateAccessor;
 import com.swirlds.platform.state.service.SnapshotPlatformStateAccessor;
@@ -88,4 +90,13 @@ public interface StandaloneModule {
     static StoreMetricsService provideStoreMetricsService(Metrics metrics) {
         return new StoreMetricsServiceImpl(metrics);
     }
+
+    @Provides
+    @Singleton
+    static VerifiedSignatureCache provideVerifiedSignatureCache(
+            @NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        final var maxSize =
+                configProvider.getConfiguration().getConfigData(CacheConfig.class).verifiedSignaturesMaxSize();
+        return new VerifiedSignatureCache(maxSize, metrics);
+    }
 }
@@ -50,6 +50,32 @@ class ConcurrentStreamingTreeHasherTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 32})
+    void testManyLeavesWithRecycledArenas(final int hashCombineBatchSize) {
+        final var subject = new ConcurrentStreamingTreeHasher(ForkJoinPool.commonPool(), hashCombineBatchSize);
+        final var hash = new byte[HASH_LENGTH];
+        for (int i = 0; i < 10_001; i++) {
+            RANDOM.nextBytes(hash);
+            // the hasher must copy the leaf, since the buffer is reused
+            subject.addLeaf(ByteBuffer.wrap(hash));
+            comparison.addLeaf(ByteBuffer.wrap(hash.clone()));
+            if (i == 5_000) {
+                subject.status();
+            }
+        }
+
+        assertEquals(comparison.rootHash().join(), subject.rootHash().join());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-2, 0, 3})
+    void testInvalidHashCombineBatchSize(final int hashCombineBatchSize) {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new ConcurrentStreamingTreeHasher(ForkJoinPool.commonPool(), hashCombineBatchSize));
+    }
+
     @Test
     void testAddLeafAfterRootHashRequested() {
         final var leaf = ByteBuffer.allocate(48);
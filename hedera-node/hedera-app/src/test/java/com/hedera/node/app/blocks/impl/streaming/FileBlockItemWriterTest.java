@@ -24,6 +24,7 @@ import com.hedera.node.internal.network.PendingProof;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileSystem;
@@ -31,6 +32,7 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.Executors;
 import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -207,6 +209,52 @@ class FileBlockItemWriterTest {
         }
     }
 
+    @Test
+    protected void testWriteItemsCompressedInParallel() throws IOException {
+        when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
+        when(versionedConfiguration.getConfigData(BlockStreamConfig.class)).thenReturn(blockStreamConfig);
+        when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
+        when(blockStreamConfig.compressionChunkSize()).thenReturn(16);
+        when(blockStreamConfig.maxPendingCompressionChunks()).thenReturn(2);
+        when(fileSystem.getPath(anyString())).thenReturn(tempDir);
+
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            FileBlockItemWriter fileBlockItemWriter =
+                    new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, executor);
+
+            // Open a block
+            fileBlockItemWriter.openBlock(1);
+
+            // Write enough items to span several gzip members
+            final var expectedBytes = new ByteArrayOutputStream();
+            for (byte i = 0; i < 20; i++) {
+                final var bytes = new byte[] {i, 2, 3, 4, 5};
+                fileBlockItemWriter.writeItem(bytes);
+                expectedBytes.write(10);
+                expectedBytes.write(bytes.length);
+                expectedBytes.write(bytes);
+            }
+
+            // Close the block
+            fileBlockItemWriter.closeCompleteBlock();
+
+            final Path expectedDirectory = tempDir.resolve("block-0.0.3");
+            final Path expectedBlockFile = expectedDirectory.resolve(BLK_GZ);
+            assertThat(Files.exists(expectedDirectory.resolve(MF))).isTrue();
+
+            // Ungzip the file, which is a sequence of gzip members
+            try (GZIPInputStream gzis = new GZIPInputStream(Files.newInputStream(expectedBlockFile))) {
+                assertArrayEquals(
+                        expectedBytes.toByteArray(),
+                        gzis.readAllBytes(),
+                        "Serialized items were not written correctly");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     protected void testWriteItemBeforeOpen() {
         when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
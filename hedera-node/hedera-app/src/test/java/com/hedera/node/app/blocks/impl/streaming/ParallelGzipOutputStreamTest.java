@@ -0,0 +1,203 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.blocks.impl.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelGzipOutputStreamTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void roundTripsDataSpanningManyChunks() throws IOException {
+        final var data = new byte[100_000];
+        new Random(42).nextBytes(data);
+        // make the data compressible
+        for (int i = 0; i < data.length; i += 2) {
+            data[i] = 7;
+        }
+        final var out = new ByteArrayOutputStream();
+        try (final var subject = new ParallelGzipOutputStream(out, executor, 1000, 3, "test-writer")) {
+            int off = 0;
+            int len = 1;
+            while (off < data.length) {
+                final int n = Math.min(len, data.length - off);
+                subject.write(data, off, n);
+                off += n;
+                len = len * 3 % 2_711;
+            }
+            subject.write(0x2A);
+        }
+
+        final var expected = new byte[data.length + 1];
+        System.arraycopy(data, 0, expected, 0, data.length);
+        expected[data.length] = 0x2A;
+        assertThat(gunzip(out.toByteArray())).isEqualTo(expected);
+        assertThat(out.size()).isLessThan(data.length);
+    }
+
+    @Test
+    void emptyStreamIsValidGzip() throws IOException {
+        final var out = new ByteArrayOutputStream();
+        new ParallelGzipOutputStream(out, executor, 1000, 3, "test-writer").close();
+
+        assertThat(out.size()).isPositive();
+        assertThat(gunzip(out.toByteArray())).isEmpty();
+    }
+
+    @Test
+    void closeIsIdempotentAndWritesAfterCloseFail() throws IOException {
+        final var out = new ByteArrayOutputStream();
+        final var subject = new ParallelGzipOutputStream(out, executor, 10, 1, "test-writer");
+        subject.write(new byte[] {1, 2, 3});
+        subject.close();
+        subject.close();
+        subject.flush();
+
+        assertThat(gunzip(out.toByteArray())).containsExactly(1, 2, 3);
+        assertThatThrownBy(() -> subject.write(4)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void blocksWhenTooManyChunksArePending() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var out = new OutputStream() {
+            @Override
+            public void write(final int b) {
+                // unused
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        final var subject = new ParallelGzipOutputStream(out, executor, 1, 2, "test-writer");
+        final var finished = new AtomicBoolean();
+        final var producer = Thread.ofPlatform().start(() -> {
+            try {
+                // the writer thread holds one chunk and the queue two more, so the fourth write must block
+                for (int i = 0; i < 10; i++) {
+                    subject.write(i);
+                }
+                subject.close();
+                finished.set(true);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        producer.join(200);
+        assertThat(producer.isAlive()).isTrue();
+        assertThat(finished).isFalse();
+
+        release.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(finished).isTrue();
+    }
+
+    @Test
+    void writeFailureIsRethrown() {
+        final var out = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+
+        assertThatThrownBy(() -> {
+                    try (final var subject = new ParallelGzipOutputStream(out, executor, 4, 2, "test-writer")) {
+                        for (int i = 0; i < 100; i++) {
+                            subject.write(i);
+                        }
+                    }
+                })
+                .isInstanceOf(IOException.class)
+                .hasRootCauseMessage("disk full");
+    }
+
+    @Test
+    void closeStillClosesUnderlyingStreamIfCompressionIsRejected() {
+        final var out = new ClosingTrackingOutputStream();
+        final var subject = new ParallelGzipOutputStream(out, executor, 1000, 3, "test-writer");
+        executor.shutdownNow();
+
+        assertThatThrownBy(subject::close).isInstanceOf(IOException.class);
+        assertThat(out.closed).isTrue();
+    }
+
+    @Test
+    void closeStillClosesUnderlyingStreamIfInterrupted() throws IOException {
+        final var out = new ClosingTrackingOutputStream();
+        final var subject = new ParallelGzipOutputStream(out, executor, 1000, 3, "test-writer");
+        subject.write(new byte[] {1, 2, 3});
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(subject::close).isInstanceOf(InterruptedIOException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(out.closed).isTrue();
+    }
+
+    @Test
+    void rejectsNonPositiveSizes() {
+        final var out = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(out, executor, 0, 1, "test-writer"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(out, executor, 1, 0, "test-writer"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class ClosingTrackingOutputStream extends ByteArrayOutputStream {
+        private volatile boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static byte[] gunzip(final byte[] compressed) throws IOException {
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -38,6 +38,7 @@ import com.hedera.node.app.services.ServicesRegistry;
 import com.hedera.node.app.signature.AppSignatureVerifier;
 import com.hedera.node.app.signature.impl.SignatureExpanderImpl;
 import com.hedera.node.app.signature.impl.SignatureVerifierImpl;
+import com.hedera.node.app.signature.impl.VerifiedSignatureCache;
 import com.hedera.node.app.spi.info.NetworkInfo;
 import com.hedera.node.app.spi.info.NodeInfo;
 import com.hedera.node.app.spi.throttle.Throttle;
@@ -165,6 +166,7 @@ class IngestComponentTest {
                 .hintsService(hintsService)
                 .historyService(historyService)
                 .platformStateFacade(platformStateFacade)
+                .verifiedSignatureCache(new VerifiedSignatureCache(0, metrics))
                 .build();
 
         final var state = new FakeState();
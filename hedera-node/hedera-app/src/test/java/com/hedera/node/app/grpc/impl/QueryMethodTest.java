@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.node.app.utils.TestUtils;
 import com.hedera.node.app.workflows.query.QueryWorkflow;
@@ -14,9 +16,13 @@ import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.Metrics;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Queue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -153,6 +159,69 @@ final class QueryMethodTest {
         verify(streamObserver).onError(Mockito.any());
     }
 
+    @Test
+    void asyncQueryIsAnsweredOnExecutor(@Mock final StreamObserver<BufferedData> streamObserver) {
+        // Given a QueryMethod that answers queries on an executor that runs tasks only when told to
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final QueryWorkflow w = (req, res) -> res.writeBytes(req);
+        final var method = new QueryMethod(SERVICE_NAME, METHOD_NAME, w, metrics, maxMessageSize, tasks::add, 2);
+        final var requestBuffer = BufferedData.wrap(new byte[] {1, 2, 3});
+
+        // When the method is invoked, and the request buffer is reused right after
+        method.invoke(requestBuffer, streamObserver);
+        requestBuffer.writeBytes(new byte[] {4, 5, 6});
+
+        // Then the query is not answered on the calling thread
+        verifyNoInteractions(streamObserver);
+        assertThat(counter("Rcv").get()).isEqualTo(1L);
+        assertThat(counter("Hdl").get()).isZero();
+
+        // And when the executor runs the query, the response holds the original request
+        tasks.remove().run();
+        final var expectedResponseBytes = Bytes.wrap(new byte[] {1, 2, 3});
+        verify(streamObserver).onNext(Mockito.argThat(response -> response.getBytes(0, response.length())
+                .equals(expectedResponseBytes)));
+        verify(streamObserver).onCompleted();
+        assertThat(counter("Hdl").get()).isEqualTo(1L);
+        assertThat(counter("Sub").get()).isEqualTo(1L);
+        assertThat(counter("Fail").get()).isZero();
+    }
+
+    @Test
+    void asyncQueriesBeyondMaxConcurrencyAreRejected(
+            @Mock final StreamObserver<BufferedData> first, @Mock final StreamObserver<BufferedData> second) {
+        // Given a QueryMethod that answers at most one query at a time on an executor that runs tasks when told to
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final QueryWorkflow w = (req, res) -> res.writeBytes(req);
+        final var method = new QueryMethod(SERVICE_NAME, METHOD_NAME, w, metrics, maxMessageSize, tasks::add, 1);
+
+        // When a second query arrives while the first is still in progress
+        method.invoke(BufferedData.allocate(10), first);
+        method.invoke(BufferedData.allocate(10), second);
+
+        // Then the second query is rejected
+        verify(second).onError(Mockito.argThat(t -> t instanceof StatusRuntimeException e
+                && e.getStatus().getCode() == Status.Code.RESOURCE_EXHAUSTED));
+        verify(second, never()).onNext(Mockito.any());
+        assertThat(tasks).hasSize(1);
+        assertThat(counter("Rejected").get()).isEqualTo(1L);
+        assertThat(counter("Fail").get()).isEqualTo(1L);
+
+        // And once the first query is answered, another query is accepted again
+        tasks.remove().run();
+        verify(first).onCompleted();
+        method.invoke(BufferedData.allocate(10), second);
+        assertThat(tasks).hasSize(1);
+        assertThat(counter("Rejected").get()).isEqualTo(1L);
+    }
+
+    @Test
+    void asyncQueryWithNonPositiveMaxConcurrencyThrows() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new QueryMethod(SERVICE_NAME, METHOD_NAME, queryWorkflow, metrics, maxMessageSize, r -> {}, 0));
+    }
+
     private Counter counter(String suffix) {
         return (Counter)
                 metrics.getMetric("app", SERVICE_NAME.substring("proto.".length()) + ":" + METHOD_NAME + suffix);
@@ -6,9 +6,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.hedera.node.app.utils.TestUtils;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -144,4 +148,96 @@ final class DataBufferMarshallerTest {
             }
         }
     }
+
+    @Test
+    void parseSingleBufferStreamWithoutCopying() {
+        final var arr = TestUtils.randomBytes(100);
+        final var stream = new SingleBufferStream(ByteBuffer.wrap(arr), arr.length);
+        final var buf = marshaller.parse(stream);
+
+        assertTrue(stream.detached, "the buffer should be detached from the gRPC stream");
+        assertEquals(arr.length, buf.remaining());
+        // the request is a view of the original buffer, not a copy of it
+        arr[0]++;
+        assertEquals(arr[0], buf.getByte(0));
+        for (byte b : arr) {
+            assertEquals(b, buf.readByte());
+        }
+
+        assertFalse(stream.released);
+        marshaller.release(buf);
+        assertTrue(stream.released, "the buffer should be released once the request was handled");
+    }
+
+    @Test
+    void unreleasedRequestIsReleasedByTheNextParse() {
+        final var detachedStream = new SingleBufferStream(ByteBuffer.wrap(TestUtils.randomBytes(100)), 100);
+        final var detachedBuf = marshaller.parse(detachedStream);
+        marshaller.release(marshaller.parse(new ByteArrayInputStream(TestUtils.randomBytes(100))));
+
+        // parsing the second request released the first one, which was never released itself
+        assertTrue(detachedStream.released);
+        assertDoesNotThrow(() -> marshaller.release(detachedBuf));
+    }
+
+    @Test
+    void parseMultiBufferStreamByCopying() {
+        final var arr = TestUtils.randomBytes(100);
+        // the first buffer only has part of the request
+        final var stream = new SingleBufferStream(ByteBuffer.wrap(arr, 0, 50), arr.length);
+        final var buf = marshaller.parse(stream);
+
+        assertFalse(stream.detached);
+        assertEquals(arr.length, buf.remaining());
+        for (byte b : arr) {
+            assertEquals(b, buf.readByte());
+        }
+    }
+
+    @Test
+    void parseSingleBufferStreamThatIsTooBigByCopying() {
+        final var arr = TestUtils.randomBytes(MAX_MESSAGE_SIZE + 100);
+        final var stream = new SingleBufferStream(ByteBuffer.wrap(arr), arr.length);
+        final var buf = marshaller.parse(stream);
+
+        assertFalse(stream.detached);
+        assertThat(buf.length()).isEqualTo(MAX_MESSAGE_SIZE + 1);
+    }
+
+    /**
+     * Mimics the stream of gRPC's Netty transport, which can hand over the buffer holding the next bytes.
+     */
+    private static final class SingleBufferStream extends ByteArrayInputStream implements HasByteBuffer, Detachable {
+        private final ByteBuffer firstBuffer;
+        private boolean detached;
+        private boolean released;
+
+        private SingleBufferStream(@NonNull final ByteBuffer firstBuffer, final int length) {
+            super(firstBuffer.array(), 0, length);
+            this.firstBuffer = firstBuffer;
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return true;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return firstBuffer.duplicate();
+        }
+
+        @Override
+        public InputStream detach() {
+            detached = true;
+            final var detachedStream = new ByteArrayInputStream(buf, pos, count - pos) {
+                @Override
+                public void close() {
+                    released = true;
+                }
+            };
+            pos = count;
+            return detachedStream;
+        }
+    }
 }
@@ -10,7 +10,9 @@ import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -21,6 +23,7 @@ import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.hiero.base.crypto.Cryptography;
@@ -50,7 +53,7 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
     private Cryptography cryptoEngine;
     /** Captures the args sent to the crypto engine. */
     @Captor
-    ArgumentCaptor<TransactionSignature> sigsCaptor;
+    ArgumentCaptor<List<TransactionSignature>> sigsCaptor;
     /** The verifier under test. */
     private SignatureVerifierImpl verifier;
 
@@ -64,7 +67,11 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
     @DisplayName("Null Args are not permitted")
     void failIfConstructorArgsAreNull() {
         //noinspection DataFlowIssue
-        assertThatThrownBy(() -> new SignatureVerifierImpl(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new SignatureVerifierImpl((Cryptography) null))
+                .isInstanceOf(NullPointerException.class);
+        //noinspection DataFlowIssue
+        assertThatThrownBy(() -> new SignatureVerifierImpl((VerifiedSignatureCache) null))
+                .isInstanceOf(NullPointerException.class);
     }
 
     @Test
@@ -111,12 +118,12 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
 
         //noinspection unchecked
         doAnswer((Answer<Void>) invocation -> {
-                    final TransactionSignature signature = invocation.getArgument(0);
-                    signature.setSignatureStatus(VerificationStatus.VALID);
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    signatures.forEach(signature -> signature.setSignatureStatus(VerificationStatus.VALID));
                     return null;
                 })
                 .when(cryptoEngine)
-                .verifySync(any(TransactionSignature.class));
+                .verifySync(anyList());
 
         // When we verify them
         final var map = verifier.verify(signedBytes, sigs);
@@ -132,6 +139,17 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                 .isEqualTo(true);
     }
 
+    @Test
+    @DisplayName("A single signature is verified without a batch")
+    void singleSignature() {
+        final var sigs = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+
+        verifier.verify(signedBytes, sigs);
+
+        verify(cryptoEngine).verifySync(any(TransactionSignature.class));
+        verify(cryptoEngine, never()).verifySync(anyList());
+    }
+
     @ParameterizedTest
     @CsvSource({"RAW", "KECCAK_256_HASH"})
     @DisplayName("Crypto Engine is given array with all the required data")
@@ -150,9 +168,10 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
         // When we verify them
         verifier.verify(signedBytes, sigs, messageType);
 
-        // Then we find the crypto engine was given an array with all the data
-        verify(cryptoEngine, times(3)).verifySync(sigsCaptor.capture());
-        final var txSigs = sigsCaptor.getAllValues();
+        // Then we find the crypto engine was given a single batch with all the data
+        verify(cryptoEngine, times(1)).verifySync(sigsCaptor.capture());
+        final var txSigs = sigsCaptor.getValue();
+        assertThat(txSigs).hasSize(3);
 
         final var itr = sigs.iterator();
         for (int i = 0; i < 3; i++) {
@@ -174,4 +193,83 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                     .isTrue();
         }
     }
+
+    @Test
+    @DisplayName("Signatures verified before are not sent to the crypto engine again")
+    void verifiedSignaturesAreCached() {
+        final var cache = new VerifiedSignatureCache(100, metrics);
+        verifier = new SignatureVerifierImpl(cryptoEngine, cache);
+        final var sigs = new LinkedHashSet<ExpandedSignaturePair>();
+        sigs.add(ecdsaPair(ALICE.keyInfo().publicKey()));
+        sigs.add(ed25519Pair(BOB.keyInfo().publicKey()));
+        //noinspection unchecked
+        doAnswer((Answer<Void>) invocation -> {
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    signatures.forEach(signature -> signature.setSignatureStatus(VerificationStatus.VALID));
+                    return null;
+                })
+                .when(cryptoEngine)
+                .verifySync(anyList());
+
+        // The first time, both signatures are verified by the engine
+        verifier.verify(signedBytes, sigs);
+        verify(cryptoEngine, times(1)).verifySync(anyList());
+        assertThat(cache.hitRate()).isEqualTo(0.0);
+
+        // The second time, both signatures are found in the cache
+        final var map = verifier.verify(signedBytes, sigs);
+        verify(cryptoEngine, times(1)).verifySync(anyList());
+        verify(cryptoEngine, never()).verifySync(any(TransactionSignature.class));
+        assertThat(cache.hitRate()).isEqualTo(0.5);
+        assertThat(map).hasSize(2);
+        assertThat(map.get(BOB.keyInfo().publicKey()))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .extracting("passed")
+                .isEqualTo(true);
+
+        // A different message is not found in the cache
+        verifier.verify(randomBytes(32), sigs);
+        verify(cryptoEngine, times(2)).verifySync(anyList());
+    }
+
+    @Test
+    @DisplayName("Invalid signatures are not cached")
+    void invalidSignaturesAreNotCached() {
+        final var cache = new VerifiedSignatureCache(100, metrics);
+        verifier = new SignatureVerifierImpl(cryptoEngine, cache);
+        final var sigs = Set.of(ecdsaPair(ALICE.keyInfo().publicKey()), ed25519Pair(BOB.keyInfo().publicKey()));
+        //noinspection unchecked
+        doAnswer((Answer<Void>) invocation -> {
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    signatures.forEach(signature -> signature.setSignatureStatus(VerificationStatus.INVALID));
+                    return null;
+                })
+                .when(cryptoEngine)
+                .verifySync(anyList());
+
+        verifier.verify(signedBytes, sigs);
+        final var map = verifier.verify(signedBytes, sigs);
+
+        verify(cryptoEngine, times(2)).verifySync(anyList());
+        assertThat(cache.hitRate()).isEqualTo(0.0);
+        assertThat(map.get(ALICE.keyInfo().publicKey()))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .extracting("passed")
+                .isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("A disabled cache is never consulted")
+    void disabledCache() {
+        final var cache = new VerifiedSignatureCache(0, metrics);
+        verifier = new SignatureVerifierImpl(cryptoEngine, cache);
+        final var sigs = Set.of(ecdsaPair(ALICE.keyInfo().publicKey()), ed25519Pair(BOB.keyInfo().publicKey()));
+
+        verifier.verify(signedBytes, sigs);
+        verifier.verify(signedBytes, sigs);
+
+        verify(cryptoEngine, times(2)).verifySync(anyList());
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.hitRate()).isEqualTo(0.0);
+    }
 }
@@ -1,8 +1,12 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.throttle;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -36,7 +40,7 @@ class SynchronizedThrottleAccumulatorTest {
 
     @BeforeEach
     void setUp() {
-        subject = new SynchronizedThrottleAccumulator(instantSource, throttleAccumulator);
+        subject = new SynchronizedThrottleAccumulator(instantSource, List.of(throttleAccumulator));
     }
 
     @Test
@@ -68,4 +72,78 @@ class SynchronizedThrottleAccumulatorTest {
                 .checkAndEnforceThrottle(
                         eq(HederaFunctionality.CONTRACT_CREATE), any(), eq(query), eq(state), eq(accountID));
     }
+
+    @Test
+    void noStripesAreRejected() {
+        assertThatThrownBy(() -> new SynchronizedThrottleAccumulator(instantSource, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void transactionIsAdmittedByAnyStripeWithCapacity() {
+        // given
+        final var otherStripe = mock(ThrottleAccumulator.class);
+        final var state = mock(State.class);
+        final List<ThrottleUsage> usages = new ArrayList<>();
+        final var leftoverUsage = mock(ThrottleUsage.class);
+        // the other stripe is only tried first by some threads
+        lenient()
+                .when(throttleAccumulator.checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state), eq(usages)))
+                .thenAnswer(invocation -> {
+                    usages.add(leftoverUsage);
+                    return true;
+                });
+        subject = new SynchronizedThrottleAccumulator(instantSource, List.of(throttleAccumulator, otherStripe));
+
+        // when
+        final var shouldThrottle = subject.shouldThrottle(transactionInfo, state, usages);
+
+        // then
+        assertThat(shouldThrottle).isFalse();
+        assertThat(usages).doesNotContain(leftoverUsage);
+        verify(otherStripe, times(1)).checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state), eq(usages));
+    }
+
+    @Test
+    void transactionIsThrottledIfNoStripeHasCapacity() {
+        // given
+        final var otherStripe = mock(ThrottleAccumulator.class);
+        final var state = mock(State.class);
+        final List<ThrottleUsage> usages = new ArrayList<>();
+        given(throttleAccumulator.checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state), eq(usages)))
+                .willReturn(true);
+        given(otherStripe.checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state), eq(usages)))
+                .willReturn(true);
+        subject = new SynchronizedThrottleAccumulator(instantSource, List.of(throttleAccumulator, otherStripe));
+
+        // when
+        final var shouldThrottle = subject.shouldThrottle(transactionInfo, state, usages);
+
+        // then
+        assertThat(shouldThrottle).isTrue();
+        verify(throttleAccumulator, times(1))
+                .checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state), eq(usages));
+        verify(otherStripe, times(1)).checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state), eq(usages));
+    }
+
+    @Test
+    void queryIsThrottledIfNoStripeHasCapacity() {
+        // given
+        final var otherStripe = mock(ThrottleAccumulator.class);
+        final var query = mock(Query.class);
+        final var state = mock(State.class);
+        given(throttleAccumulator.checkAndEnforceThrottle(
+                        eq(HederaFunctionality.CRYPTO_GET_INFO), any(), eq(query), eq(state), eq(null)))
+                .willReturn(true);
+        given(otherStripe.checkAndEnforceThrottle(
+                        eq(HederaFunctionality.CRYPTO_GET_INFO), any(), eq(query), eq(state), eq(null)))
+                .willReturn(true);
+        subject = new SynchronizedThrottleAccumulator(instantSource, List.of(throttleAccumulator, otherStripe));
+
+        // when
+        final var shouldThrottle = subject.shouldThrottle(HederaFunctionality.CRYPTO_GET_INFO, query, state, null);
+
+        // then
+        assertThat(shouldThrottle).isTrue();
+    }
 }
@@ -1586,6 +1586,26 @@ class ThrottleAccumulatorTest {
         assertEquals(42 * oneUsed, fortyTwoUsed);
     }
 
+    @Test
+    void leaksCapacityForUpToNOfManagedLimitedByUsedCapacity() throws IOException, ParseException {
+        subject = new ThrottleAccumulator(
+                () -> CAPACITY_SPLIT,
+                configProvider::getConfiguration,
+                FRONTEND_THROTTLE,
+                throttleMetrics,
+                gasThrottle,
+                bytesThrottle,
+                opsDurationThrottle);
+        final var defs = getThrottleDefs("bootstrap/throttles.json");
+
+        subject.rebuildFor(defs);
+
+        subject.shouldThrottleNOfUnscaled(2, TOKEN_MINT, TIME_INSTANT);
+        assertEquals(2, subject.leakCapacityForUpToNOfUnscaled(5, TOKEN_MINT));
+        assertEquals(0, subject.activeThrottlesFor(TOKEN_MINT).get(0).used());
+        assertEquals(0, subject.leakCapacityForUpToNOfUnscaled(5, TOKEN_MINT));
+    }
+
     @ParameterizedTest
     @CsvSource({
         "FRONTEND_THROTTLE,true,true",
@@ -185,6 +185,37 @@ class ThrottleMetricsTest {
         verify(gauge2).set(-Math.E);
     }
 
+    @Test
+    void updateStripedMetricReportsAverageOfAllStripes(
+            @Mock DeterministicThrottle throttle1, @Mock DeterministicThrottle throttle2, @Mock DoubleGauge gauge) {
+        // given
+        when(throttle1.name()).thenReturn("throttle1");
+        when(throttle1.instantaneousPercentUsed()).thenReturn(10.0);
+        when(throttle2.name()).thenReturn("throttle1");
+        when(throttle2.instantaneousPercentUsed()).thenReturn(30.0);
+        when(metrics.getOrCreate(any(DoubleGauge.Config.class))).thenReturn(gauge);
+        final var configuration = HederaTestConfigBuilder.create()
+                .withValue("stats.hapiThrottlesToSample", "throttle1")
+                .getOrCreateConfig();
+        final var stripeMetrics = ThrottleMetrics.forStripes(metrics, ThrottleType.FRONTEND_THROTTLE, 2);
+        stripeMetrics.get(0).setupThrottleMetrics(List.of(throttle1), configuration);
+        stripeMetrics.get(1).setupThrottleMetrics(List.of(throttle2), configuration);
+
+        // when
+        stripeMetrics.get(0).updateAllMetrics();
+        stripeMetrics.get(1).updateAllMetrics();
+
+        // then
+        verify(gauge).set(5.0);
+        verify(gauge).set(20.0);
+    }
+
+    @Test
+    void forStripesWithInvalidStripes() {
+        assertThatThrownBy(() -> ThrottleMetrics.forStripes(metrics, ThrottleType.FRONTEND_THROTTLE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void updateGasMetricSucceeds(@Mock LeakyBucketDeterministicThrottle gasThrottle, @Mock DoubleGauge gauge) {
         // given
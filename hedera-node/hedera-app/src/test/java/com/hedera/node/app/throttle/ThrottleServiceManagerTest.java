@@ -1,12 +1,14 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.node.app.throttle;
 
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_CREATE;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
 import static com.hedera.node.app.records.BlockRecordService.EPOCH;
 import static com.hedera.node.app.throttle.schemas.V0490CongestionThrottleSchema.CONGESTION_LEVEL_STARTS_STATE_KEY;
 import static com.hedera.node.app.throttle.schemas.V0490CongestionThrottleSchema.THROTTLE_USAGE_SNAPSHOTS_STATE_KEY;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.hapi.node.base.Timestamp;
@@ -56,6 +58,9 @@ class ThrottleServiceManagerTest {
     @Mock
     private ThrottleAccumulator ingestThrottle;
 
+    @Mock
+    private ThrottleAccumulator otherIngestThrottle;
+
     @Mock
     private ThrottleAccumulator backendThrottle;
 
@@ -99,7 +104,8 @@ class ThrottleServiceManagerTest {
 
     @BeforeEach
     void setUp() {
-        subject = new ThrottleServiceManager(throttleParser, ingestThrottle, backendThrottle, congestionMultipliers);
+        subject = new ThrottleServiceManager(
+                throttleParser, List.of(ingestThrottle), backendThrottle, congestionMultipliers);
     }
 
     @Test
@@ -185,6 +191,46 @@ class ThrottleServiceManagerTest {
         verify(backendThrottle).updateAllMetrics();
     }
 
+    @Test
+    void reclaimsFrontendCapacityFromIngestThrottlesUntilAllIsReclaimed() {
+        subject = new ThrottleServiceManager(
+                throttleParser, List.of(ingestThrottle, otherIngestThrottle), backendThrottle, congestionMultipliers);
+        given(ingestThrottle.leakCapacityForUpToNOfUnscaled(3, CRYPTO_CREATE)).willReturn(1);
+        given(otherIngestThrottle.leakCapacityForUpToNOfUnscaled(2, CRYPTO_CREATE))
+                .willReturn(2);
+
+        subject.reclaimFrontendThrottleCapacity(3, CRYPTO_CREATE);
+
+        verify(ingestThrottle).leakCapacityForUpToNOfUnscaled(3, CRYPTO_CREATE);
+        verify(otherIngestThrottle).leakCapacityForUpToNOfUnscaled(2, CRYPTO_CREATE);
+    }
+
+    @Test
+    void startsFrontendCapacityReclaimsFromIngestThrottlesInTurn() {
+        subject = new ThrottleServiceManager(
+                throttleParser, List.of(ingestThrottle, otherIngestThrottle), backendThrottle, congestionMultipliers);
+        given(ingestThrottle.leakCapacityForUpToNOfUnscaled(1, CRYPTO_CREATE)).willReturn(1);
+        given(otherIngestThrottle.leakCapacityForUpToNOfUnscaled(1, CRYPTO_CREATE))
+                .willReturn(1);
+
+        subject.reclaimFrontendThrottleCapacity(1, CRYPTO_CREATE);
+        subject.reclaimFrontendThrottleCapacity(1, CRYPTO_CREATE);
+
+        verify(ingestThrottle).leakCapacityForUpToNOfUnscaled(1, CRYPTO_CREATE);
+        verify(otherIngestThrottle).leakCapacityForUpToNOfUnscaled(1, CRYPTO_CREATE);
+    }
+
+    @Test
+    void stopsReclaimingFrontendCapacityOnceReclaimed() {
+        subject = new ThrottleServiceManager(
+                throttleParser, List.of(ingestThrottle, otherIngestThrottle), backendThrottle, congestionMultipliers);
+        given(ingestThrottle.leakCapacityForUpToNOfUnscaled(2, CRYPTO_CREATE)).willReturn(2);
+
+        subject.reclaimFrontendThrottleCapacity(2, CRYPTO_CREATE);
+
+        verify(otherIngestThrottle, never()).leakCapacityForUpToNOfUnscaled(2, CRYPTO_CREATE);
+    }
+
     private Instant[] asNullTerminatedInstants(Timestamp timestamp) {
         return new Instant[] {Instant.ofEpochSecond(timestamp.seconds(), timestamp.nanos()), null};
     }
@@ -20,6 +20,12 @@ import java.time.Duration;
  * @param blockPeriod the block period
  * @param blockItemBatchSize the number of items to send in a batch to block nodes
  * @param receiptEntriesBatchSize the maximum number of receipts to accumulate in a {@link com.hedera.hapi.node.state.recordcache.TransactionReceiptEntries} wrapper before writing a queue state changes item to the block stream
+ * @param workerLoopSleepDuration the sleep duration of the block stream worker loop
+ * @param compressionThreads if positive, the number of threads compressing block files in parallel off the thread
+ * that writes block items; if zero, block files are compressed inline by the writing thread
+ * @param compressionChunkSize the number of uncompressed bytes compressed as one gzip member of a block file
+ * @param maxPendingCompressionChunks the max number of chunks of a block file waiting to be compressed or written,
+ * beyond which writing block items blocks
  */
 @ConfigData("blockStream")
 public record BlockStreamConfig(
@@ -31,7 +37,10 @@ public record BlockStreamConfig(
         @ConfigProperty(defaultValue = "2s") @Min(0) @NetworkProperty Duration blockPeriod,
         @ConfigProperty(defaultValue = "256") @Min(0) @NetworkProperty int blockItemBatchSize,
         @ConfigProperty(defaultValue = "8192") @Min(1) @NetworkProperty int receiptEntriesBatchSize,
-        @ConfigProperty(defaultValue = "10ms") @Min(1) @NodeProperty Duration workerLoopSleepDuration) {
+        @ConfigProperty(defaultValue = "10ms") @Min(1) @NodeProperty Duration workerLoopSleepDuration,
+        @ConfigProperty(defaultValue = "0") @Min(0) @NodeProperty int compressionThreads,
+        @ConfigProperty(defaultValue = "1048576") @Min(1) @NodeProperty int compressionChunkSize,
+        @ConfigProperty(defaultValue = "16") @Min(1) @NodeProperty int maxPendingCompressionChunks) {
 
     /**
      * Whether to stream to block nodes.
@@ -2,10 +2,22 @@
 package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
+/**
+ * Configuration for caches used by the node.
+ *
+ * @param recordsTtl the time to live of records in the record cache, seconds
+ * @param warmThreads the number of threads to warm up the state caches
+ * @param verifiedSignaturesMaxSize the max number of verified signatures to remember across transactions, so
+ *        the same (key, message, signature) triple isn't verified again. Zero disables the cache
+ */
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
-        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads) {}
+        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads,
+        @ConfigProperty(value = "verifiedSignatures.maxSize", defaultValue = "100000") @Min(0) @NodeProperty
+                int verifiedSignaturesMaxSize) {}
@@ -6,6 +6,7 @@ import com.hedera.node.config.NodeProperty;
 import com.hedera.node.config.types.Profile;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
 /**
  * @param throttleTransactionQueueSize Stop accepting new non-system transactions into the transaction queue if it
@@ -13,6 +14,14 @@ import com.swirlds.config.api.ConfigProperty;
  * @param maxTransactionBytesPerEvent  the maximum number of bytes that a single event may contain, not including the
  *                                     event headers. if a single transaction exceeds this limit, then the event will
  *                                     contain the single transaction only
+ * @param throttleTransactionQueueBytes Stop accepting new non-system transactions into the transaction queue if the
+ *                                     total size of the queued transactions would exceed this many bytes, zero or
+ *                                     negative for no limit
+ * @param ingestThrottleStripes        the number of independently locked stripes the ingest throttle is split into,
+ *                                     each with an equal share of the throttle capacity, to reduce lock contention
+ *                                     between gRPC threads. Each stripe must still be able to admit the largest
+ *                                     single transaction or query, so a stripe's share of every throttle bucket,
+ *                                     the gas limit and the bytes limit must not be smaller than that.
  */
 @ConfigData("hedera")
 public record HederaConfig(
@@ -51,4 +60,8 @@ public record HederaConfig(
         @ConfigProperty(value = "transaction.throttleTransactionQueueSize", defaultValue = "100000") @NodeProperty
                 int throttleTransactionQueueSize,
         @ConfigProperty(value = "transaction.maxTransactionBytesPerEvent", defaultValue = "2621440") @NetworkProperty
-                int maxTransactionBytesPerEvent) {}
+                int maxTransactionBytesPerEvent,
+        @ConfigProperty(value = "transaction.throttleTransactionQueueBytes", defaultValue = "0") @NodeProperty
+                long throttleTransactionQueueBytes,
+        @ConfigProperty(value = "ingestThrottle.stripes", defaultValue = "1") @Min(1) @NodeProperty
+                int ingestThrottleStripes) {}
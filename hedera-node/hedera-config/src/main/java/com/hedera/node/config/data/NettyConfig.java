@@ -4,6 +4,7 @@ package com.hedera.node.config.data;
 import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import java.util.Set;
 
 /**
  *
@@ -19,6 +20,11 @@ import com.swirlds.config.api.ConfigProperty;
  * @param terminationTimeout The timeout, *in seconds*, to wait for the servers to terminate.
  * @param tlsCrtPath
  * @param tlsKeyPath
+ * @param asyncQueryMethods the names of the gRPC query methods (e.g. {@code getAccountRecords}) that are answered on
+ *                          virtual threads instead of the Netty event loop, so that expensive queries don't stall other
+ *                          calls on the same event loop; all other queries are answered inline
+ * @param asyncQueryMaxConcurrency the max number of queries of each of the {@code asyncQueryMethods} being answered at
+ *                                 once; queries beyond that are rejected with {@code RESOURCE_EXHAUSTED}
  */
 @ConfigData("netty")
 public record NettyConfig(
@@ -37,7 +43,9 @@ public record NettyConfig(
         @ConfigProperty(defaultValue = "1000") @NodeProperty long startRetryIntervalMs,
         @ConfigProperty(defaultValue = "5") @NodeProperty long terminationTimeout,
         @ConfigProperty(value = "tlsCrt.path", defaultValue = "hedera.crt") @NodeProperty String tlsCrtPath,
-        @ConfigProperty(value = "tlsKey.path", defaultValue = "hedera.key") @NodeProperty String tlsKeyPath) {
+        @ConfigProperty(value = "tlsKey.path", defaultValue = "hedera.key") @NodeProperty String tlsKeyPath,
+        @ConfigProperty(defaultValue = "") @NodeProperty Set<String> asyncQueryMethods,
+        @ConfigProperty(defaultValue = "32") @NodeProperty int asyncQueryMaxConcurrency) {
     public NettyConfig {
         if (startRetries < 0) {
             throw new IllegalArgumentException("startRetries must be non-negative.");
@@ -50,5 +58,9 @@ public record NettyConfig(
         if (terminationTimeout < 0) {
             throw new IllegalArgumentException("terminationTimeout must be non-negative");
         }
+
+        if (asyncQueryMaxConcurrency < 1) {
+            throw new IllegalArgumentException("asyncQueryMaxConcurrency must be positive");
+        }
     }
 }
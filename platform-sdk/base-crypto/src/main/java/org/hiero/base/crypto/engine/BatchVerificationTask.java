@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.base.crypto.engine;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import org.hiero.base.crypto.TransactionSignature;
+
+/**
+ * A fork/join task to verify a batch of signatures in parallel. The batch is split in halves recursively,
+ * until sub-batches are small enough to be verified on a single thread. Sub-batches are verified using
+ * work stealing, so threads which complete their sub-batches early help verifying other sub-batches.
+ *
+ * <p>If the task is invoked from a fork/join pool thread, for example, from a parallel stream, sub-batches
+ * are forked to the same pool. Otherwise, they are forked to the {@link java.util.concurrent.ForkJoinPool#commonPool()
+ * common pool}, while the calling thread verifies signatures, too.
+ */
+final class BatchVerificationTask extends RecursiveTask<Boolean> {
+
+    /**
+     * Batches of this size or smaller are verified on a single thread. A single signature check takes tens of
+     * microseconds, which is much greater than the cost to fork a task, so batches are split all the way down
+     * to a few signatures.
+     */
+    static final int SEQUENTIAL_THRESHOLD = 2;
+
+    private final List<TransactionSignature> signatures;
+
+    private final int from;
+
+    private final int to;
+
+    private final Predicate<TransactionSignature> verifier;
+
+    /**
+     * Create a task to verify signatures in the given range of the list.
+     *
+     * @param signatures the signatures to verify
+     * @param from       the index of the first signature to verify, inclusive
+     * @param to         the index of the last signature to verify, exclusive
+     * @param verifier   verifies a single signature and sets its status, returns true if the signature is valid
+     */
+    BatchVerificationTask(
+            @NonNull final List<TransactionSignature> signatures,
+            final int from,
+            final int to,
+            @NonNull final Predicate<TransactionSignature> verifier) {
+        this.signatures = Objects.requireNonNull(signatures);
+        this.from = from;
+        this.to = to;
+        this.verifier = Objects.requireNonNull(verifier);
+    }
+
+    /**
+     * Verify all signatures in the given list on the current thread.
+     *
+     * @param signatures the signatures to verify
+     * @param from       the index of the first signature to verify, inclusive
+     * @param to         the index of the last signature to verify, exclusive
+     * @param verifier   verifies a single signature and sets its status
+     * @return true if all the signatures are valid; otherwise false
+     */
+    static boolean verifySequentially(
+            @NonNull final List<TransactionSignature> signatures,
+            final int from,
+            final int to,
+            @NonNull final Predicate<TransactionSignature> verifier) {
+        boolean allValid = true;
+        for (int i = from; i < to; i++) {
+            // All signatures are verified, even if some of them are invalid, since every signature gets a status
+            if (!verifier.test(signatures.get(i))) {
+                allValid = false;
+            }
+        }
+        return allValid;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Boolean compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            return verifySequentially(signatures, from, to, verifier);
+        }
+        final int middle = (from + to) >>> 1;
+        final BatchVerificationTask left = new BatchVerificationTask(signatures, from, middle, verifier);
+        final BatchVerificationTask right = new BatchVerificationTask(signatures, middle, to, verifier);
+        left.fork();
+        final boolean rightValid = right.compute();
+        final boolean leftValid = left.join();
+        return leftValid && rightValid;
+    }
+}
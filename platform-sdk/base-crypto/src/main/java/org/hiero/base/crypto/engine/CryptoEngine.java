@@ -139,25 +139,19 @@ public class CryptoEngine implements Cryptography {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Signatures are verified in parallel using fork/join work stealing, see {@link BatchVerificationTask}. Callers
+     * are encouraged to verify as many signatures as possible in a single call. Small lists are verified on the
+     * calling thread. Every signature in the list gets its status set, even if some other signatures are invalid.
      */
     @Override
     public boolean verifySync(@NonNull final List<TransactionSignature> signatures) {
-        boolean finalOutcome = true;
-
-        OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider;
-        for (final TransactionSignature signature : signatures) {
-            if (signature.getSignatureType() == SignatureType.ECDSA_SECP256K1) {
-                provider = ecdsaSecp256k1VerificationProvider;
-            } else {
-                provider = ed25519VerificationProvider;
-            }
-
-            if (!verifySyncInternal(signature, provider)) {
-                finalOutcome = false;
-            }
+        Objects.requireNonNull(signatures, "signatures must not be null");
+        final int size = signatures.size();
+        if (size <= BatchVerificationTask.SEQUENTIAL_THRESHOLD) {
+            return BatchVerificationTask.verifySequentially(signatures, 0, size, this::verifySync);
         }
-
-        return finalOutcome;
+        return new BatchVerificationTask(signatures, 0, size, this::verifySync).invoke();
     }
 
     /**
@@ -8,10 +8,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -169,4 +172,36 @@ class CryptographyTests {
         final TransactionSignature signature = ecdsaSignaturePool.next();
         assertTrue(CRYPTOGRAPHY.verifySync(signature), "Should be a valid signature");
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 10, 101, 1_000})
+    void verifySyncBatch(final int count) {
+        ed25519SignaturePool = new SignaturePool(cryptoConfig.computeCpuDigestThreadCount() * PARALLELISM, 100, true);
+        ecdsaSignaturePool = new EcdsaSignedTxnPool(cryptoConfig.computeCpuDigestThreadCount() * PARALLELISM, 64);
+        final List<TransactionSignature> signatures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            signatures.add((i % 2 == 0) ? ed25519SignaturePool.next() : ecdsaSignaturePool.next());
+        }
+        assertTrue(CRYPTOGRAPHY.verifySync(signatures), "All signatures should be valid");
+        for (final TransactionSignature signature : signatures) {
+            assertEquals(VerificationStatus.VALID, signature.getSignatureStatus(), "Signature should be valid");
+        }
+
+        // Corrupt the last signature. It must be reported as invalid, while all others are still verified
+        final TransactionSignature last = signatures.getLast();
+        final byte[] corrupted = last.getSignature().toByteArray();
+        corrupted[0] ^= 1;
+        signatures.set(
+                count - 1,
+                new TransactionSignature(
+                        last.getMessage(), last.getPublicKey(), Bytes.wrap(corrupted), last.getSignatureType()));
+        assertFalse(CRYPTOGRAPHY.verifySync(signatures), "A batch with an invalid signature should fail");
+        for (int i = 0; i < count - 1; i++) {
+            assertEquals(VerificationStatus.VALID, signatures.get(i).getSignatureStatus(), "Signature should be valid");
+        }
+        assertEquals(
+                VerificationStatus.INVALID,
+                signatures.getLast().getSignatureStatus(),
+                "Corrupted signature should be invalid");
+    }
 }
@@ -11,6 +11,7 @@ import static org.hiero.base.io.streams.SerializableStreamConstants.VERSION_BYTE
 
 import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -262,4 +263,19 @@ public class SerializableDataOutputStream extends AugmentedDataOutputStream {
         codec.write(record, writableSequentialData);
         return recordSize + Integer.BYTES;
     }
+
+    /**
+     * Write a PBJ record that has already been serialized, in the same format as
+     * {@link #writePbjRecord(Object, Codec)}
+     *
+     * @param recordBytes the serialized record
+     * @throws IOException thrown if any IO problems occur
+     * @return the length in bytes that were written
+     */
+    public long writePbjRecord(@NonNull final Bytes recordBytes) throws IOException {
+        final int recordSize = Math.toIntExact(recordBytes.length());
+        writeInt(recordSize);
+        recordBytes.writeTo(this);
+        return recordSize + Integer.BYTES;
+    }
 }
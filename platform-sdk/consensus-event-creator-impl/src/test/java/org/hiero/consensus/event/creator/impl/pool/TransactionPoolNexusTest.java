@@ -2,13 +2,19 @@
 package org.hiero.consensus.event.creator.impl.pool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.common.test.fixtures.Randotron;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hiero.consensus.model.status.PlatformStatus;
 import org.hiero.consensus.transaction.TransactionLimits;
 import org.hiero.consensus.transaction.TransactionPoolNexus;
@@ -94,4 +100,107 @@ class TransactionPoolNexusTest {
         assertNotNull(thirdBatch);
         assertTrue(thirdBatch.isEmpty());
     }
+
+    @Test
+    void testPriorityTransactionsFirst() {
+        final Bytes app = Bytes.wrap(new byte[] {1});
+        final Bytes priority = Bytes.wrap(new byte[] {2});
+        assertTrue(nexus.submitApplicationTransaction(app));
+        nexus.submitPriorityTransaction(priority);
+        assertTrue(nexus.hasBufferedSignatureTransactions());
+
+        assertEquals(List.of(priority, app), nexus.getTransactionsForEvent());
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+    }
+
+    @Test
+    void testQueueSizeThrottle() {
+        final TransactionLimits txConfig = new TransactionLimits(TX_MAX_BYTES, MAX_TX_BYTES_PER_EVENT);
+        final TransactionPoolNexus smallNexus = new TransactionPoolNexus(txConfig, 10, new NoOpMetrics());
+        smallNexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+
+        int accepted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (smallNexus.submitApplicationTransaction(Bytes.wrap(new byte[] {(byte) i}))) {
+                accepted++;
+            }
+        }
+        assertEquals(11, accepted);
+
+        // priority transactions are never rejected
+        smallNexus.submitPriorityTransaction(Bytes.wrap(new byte[] {1}));
+        assertEquals(12, smallNexus.getTransactionsForEvent().size());
+
+        // once the queue is drained, new transactions are accepted again
+        assertTrue(smallNexus.submitApplicationTransaction(Bytes.wrap(new byte[] {1})));
+    }
+
+    @Test
+    void testQueueBytesThrottle() {
+        // an event fits two transactions of the max size
+        final TransactionLimits txConfig = new TransactionLimits(TX_MAX_BYTES, 2 * TX_MAX_BYTES + 1);
+        final TransactionPoolNexus smallNexus =
+                new TransactionPoolNexus(txConfig, TX_QUEUE_SIZE, 3 * TX_MAX_BYTES, new NoOpMetrics());
+        smallNexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+
+        final Bytes tx = Bytes.wrap(new byte[TX_MAX_BYTES]);
+        assertTrue(smallNexus.submitApplicationTransaction(tx));
+        assertTrue(smallNexus.submitApplicationTransaction(tx));
+        assertTrue(smallNexus.submitApplicationTransaction(tx));
+        assertFalse(smallNexus.submitApplicationTransaction(tx));
+
+        // draining an event frees bytes for new transactions
+        assertEquals(2, smallNexus.getTransactionsForEvent().size());
+        assertTrue(smallNexus.submitApplicationTransaction(tx));
+        assertEquals(2, smallNexus.getTransactionsForEvent().size());
+    }
+
+    @Test
+    void testClearWhenBehind() {
+        assertTrue(nexus.submitApplicationTransaction(Bytes.wrap(new byte[] {1})));
+        nexus.submitPriorityTransaction(Bytes.wrap(new byte[] {2}));
+
+        nexus.updatePlatformStatus(PlatformStatus.BEHIND);
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+        assertTrue(nexus.getTransactionsForEvent().isEmpty());
+        assertFalse(nexus.submitApplicationTransaction(Bytes.wrap(new byte[] {1})));
+    }
+
+    @Test
+    void testConcurrentSubmission() throws InterruptedException {
+        final int threadCount = 8;
+        final int transactionsPerThread = 10_000;
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        final AtomicInteger rejected = new AtomicInteger();
+        for (int thread = 0; thread < threadCount; thread++) {
+            final int threadId = thread;
+            new Thread(() -> {
+                        for (int i = 0; i < transactionsPerThread; i++) {
+                            final Bytes tx = Bytes.wrap(new byte[] {
+                                (byte) threadId, (byte) (i >>> 16), (byte) (i >>> 8), (byte) i
+                            });
+                            if (!nexus.submitApplicationTransaction(tx)) {
+                                rejected.incrementAndGet();
+                            }
+                        }
+                        done.countDown();
+                    })
+                    .start();
+        }
+
+        // drain while the transactions are being submitted
+        final List<Bytes> received = new ArrayList<>();
+        while (done.getCount() > 0) {
+            received.addAll(nexus.getTransactionsForEvent());
+        }
+        List<Bytes> batch;
+        while (!(batch = nexus.getTransactionsForEvent()).isEmpty()) {
+            received.addAll(batch);
+        }
+
+        assertEquals(0, rejected.get());
+        assertEquals(threadCount * transactionsPerThread, received.size());
+        final Set<Bytes> unique = new HashSet<>(received);
+        assertEquals(received.size(), unique.size());
+    }
 }
@@ -71,7 +71,7 @@ public class CesEvent extends AbstractSerializableHashable
         Objects.requireNonNull(out);
         Objects.requireNonNull(platformEvent);
 
-        out.writePbjRecord(platformEvent.getGossipEvent(), GossipEvent.PROTOBUF);
+        out.writePbjRecord(platformEvent.getSerializedGossipEvent());
 
         // some fields used to be part of the stream but are no longer used
         // in order to maintain compatibility with older versions of the stream, we write a constant in their place
@@ -35,6 +35,11 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
     private final GossipEvent gossipEvent;
     /** Metadata for an event that can be derived from a GossipEvent */
     private final EventMetadata metadata;
+    /**
+     * The serialized {@link #gossipEvent}, or {@code null} if it hasn't been serialized yet. The gossip event is
+     * immutable, so once serialized, the same bytes are sent to every peer.
+     */
+    private volatile Bytes serializedGossipEvent;
     /** The time this event was received via gossip */
     private Instant timeReceived;
 
@@ -112,13 +117,22 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
 
     /**
      * Create a copy of this event while populating only the data received via gossip. Consensus data will not be
-     * copied.
+     * copied. The serialized bytes and transaction hashes are derived from the gossiped data, so they are shared with
+     * the copy if they have already been computed.
      *
      * @return a copy of this event
      */
     public @NonNull PlatformEvent copyGossipedData() {
         final PlatformEvent platformEvent = new PlatformEvent(gossipEvent);
         platformEvent.setHash(getHash());
+        platformEvent.serializedGossipEvent = serializedGossipEvent;
+        final List<TransactionWrapper> transactions = metadata.getTransactions();
+        final List<TransactionWrapper> copiedTransactions = platformEvent.metadata.getTransactions();
+        for (int i = 0; i < transactions.size(); i++) {
+            if (transactions.get(i).hasHash()) {
+                copiedTransactions.get(i).setHash(transactions.get(i).getHash());
+            }
+        }
         return platformEvent;
     }
 
@@ -129,6 +143,22 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
         return gossipEvent;
     }
 
+    /**
+     * Get the gossip event serialized with {@link GossipEvent#PROTOBUF}. The event is serialized the first time this
+     * method is called, and the bytes are cached for subsequent calls. This method is thread safe, in the rare case
+     * two threads serialize the event at the same time, both get equal bytes.
+     *
+     * @return the serialized gossip event
+     */
+    public @NonNull Bytes getSerializedGossipEvent() {
+        Bytes bytes = serializedGossipEvent;
+        if (bytes == null) {
+            bytes = GossipEvent.PROTOBUF.toBytes(gossipEvent);
+            serializedGossipEvent = bytes;
+        }
+        return bytes;
+    }
+
     /**
      * {{ @inheritDoc }}
      */
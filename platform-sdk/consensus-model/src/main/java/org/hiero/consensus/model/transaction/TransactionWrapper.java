@@ -118,6 +118,14 @@ public non-sealed class TransactionWrapper implements ConsensusTransaction {
         this.hash = Objects.requireNonNull(hash, "hash should not be null");
     }
 
+    /**
+     * Check if the hash of the transaction has been set
+     * @return true if the transaction has been hashed
+     */
+    public boolean hasHash() {
+        return hash != null;
+    }
+
     /**
      * Get the hash of the transaction
      * @return the hash of the transaction
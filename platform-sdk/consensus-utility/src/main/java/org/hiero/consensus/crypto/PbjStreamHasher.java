@@ -72,6 +72,12 @@ public class PbjStreamHasher implements EventHasher {
                 EventDescriptor.PROTOBUF.write(parent, eventStream);
             }
             for (final TransactionWrapper transaction : transactions) {
+                if (transaction.hasHash()) {
+                    // the transaction hash is cached, e.g. when the event was created from an already hashed
+                    // unsigned event, or copied from an already hashed event
+                    eventStream.writeBytes(transaction.getHash());
+                    continue;
+                }
                 transactionStream.writeBytes(Objects.requireNonNull(transaction.getApplicationTransaction()));
                 processTransactionHash(transaction);
             }
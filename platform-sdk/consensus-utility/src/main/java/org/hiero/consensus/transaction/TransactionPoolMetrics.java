@@ -4,7 +4,9 @@ package org.hiero.consensus.transaction;
 import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.function.Supplier;
@@ -30,21 +32,48 @@ public class TransactionPoolMetrics {
                     "Cycled when a platform transaction is submitted (platform transactions are always accepted).");
     private final SpeedometerMetric submittedPlatformTransactions;
 
+    private static final RunningAverageMetric.Config APP_TRANSACTION_WAIT_CONFIG = new RunningAverageMetric.Config(
+                    PLATFORM_CATEGORY, "appTransactionPoolWait")
+            .withDescription("The time an app transaction waits in the transaction pool before it is put in an event.")
+            .withUnit("microseconds");
+    private final RunningAverageMetric appTransactionWait;
+
+    private static final LongAccumulator.Config APP_TRANSACTION_MAX_WAIT_CONFIG = new LongAccumulator.Config(
+                    PLATFORM_CATEGORY, "appTransactionPoolMaxWait")
+            .withInitialValue(0)
+            .withAccumulator(Math::max)
+            .withDescription("The longest time an app transaction waited in the transaction pool before it was put "
+                    + "in an event, since the last time this metric was reported.")
+            .withUnit("microseconds");
+    private final LongAccumulator appTransactionMaxWait;
+
+    private static final RunningAverageMetric.Config PRIORITY_TRANSACTION_WAIT_CONFIG =
+            new RunningAverageMetric.Config(PLATFORM_CATEGORY, "priorityTransactionPoolWait")
+                    .withDescription(
+                            "The time a priority transaction waits in the transaction pool before it is put in an event.")
+                    .withUnit("microseconds");
+    private final RunningAverageMetric priorityTransactionWait;
+
     /**
      * Create metrics for the transaction pool.
      *
      * @param metrics                             the metrics instance to use
      * @param getBufferedTransactionCount         a supplier for the number of buffered transactions
      * @param getPriorityBufferedTransactionCount a supplier for the number of priority buffered transactions
+     * @param getBufferedTransactionBytes         a supplier for the number of bytes of all buffered transactions
      */
     public TransactionPoolMetrics(
             @NonNull final Metrics metrics,
             @NonNull final Supplier<Integer> getBufferedTransactionCount,
-            @NonNull final Supplier<Integer> getPriorityBufferedTransactionCount) {
+            @NonNull final Supplier<Integer> getPriorityBufferedTransactionCount,
+            @NonNull final Supplier<Long> getBufferedTransactionBytes) {
 
         acceptedAppTransactions = metrics.getOrCreate(ACCEPTED_APP_TRANSACTIONS_CONFIG);
         rejectedAppTransactions = metrics.getOrCreate(REJECTED_APP_TRANSACTIONS_CONFIG);
         submittedPlatformTransactions = metrics.getOrCreate(SUBMITTED_PLATFORM_TRANSACTIONS_CONFIG);
+        appTransactionWait = metrics.getOrCreate(APP_TRANSACTION_WAIT_CONFIG);
+        appTransactionMaxWait = metrics.getOrCreate(APP_TRANSACTION_MAX_WAIT_CONFIG);
+        priorityTransactionWait = metrics.getOrCreate(PRIORITY_TRANSACTION_WAIT_CONFIG);
 
         metrics.getOrCreate(new FunctionGauge.Config<>(
                         PLATFORM_CATEGORY, "bufferedTransactions", Integer.class, getBufferedTransactionCount)
@@ -57,6 +86,10 @@ public class TransactionPoolMetrics {
                         getPriorityBufferedTransactionCount)
                 .withDescription("The number of priority transactions waiting to be inserted into an event.")
                 .withUnit("count"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        PLATFORM_CATEGORY, "bufferedTransactionBytes", Long.class, getBufferedTransactionBytes)
+                .withDescription("The number of bytes of all transactions waiting to be inserted into an event.")
+                .withUnit("bytes"));
     }
 
     /**
@@ -79,4 +112,24 @@ public class TransactionPoolMetrics {
     public void recordSubmittedPlatformTransaction() {
         submittedPlatformTransactions.cycle();
     }
+
+    /**
+     * Record the time an app transaction waited in the pool before it was put in an event.
+     *
+     * @param waitNanos the wait time in nanoseconds
+     */
+    public void recordAppTransactionWait(final long waitNanos) {
+        final long waitMicros = waitNanos / 1_000;
+        appTransactionWait.update(waitMicros);
+        appTransactionMaxWait.update(waitMicros);
+    }
+
+    /**
+     * Record the time a priority transaction waited in the pool before it was put in an event.
+     *
+     * @param waitNanos the wait time in nanoseconds
+     */
+    public void recordPriorityTransactionWait(final long waitNanos) {
+        priorityTransactionWait.update(waitNanos / 1_000);
+    }
 }
@@ -4,35 +4,53 @@ package org.hiero.consensus.transaction;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.hiero.consensus.model.status.PlatformStatus;
 import org.hiero.consensus.model.transaction.EventTransactionSupplier;
 
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ *
+ * <p>Transactions are submitted by many ingest threads and removed by the event creator. Application transactions are
+ * buffered in a lock-free {@link TransactionRingBuffer}, so submitting threads never wait for each other or for the
+ * event creator. Only the methods that remove transactions are synchronized, which serializes the consumers.
  */
 public class TransactionPoolNexus implements EventTransactionSupplier {
     /**
-     * A list of transactions created by this node waiting to be put into a self-event.
+     * The maximum number of slots of the ring buffer for application transactions. The buffer is sized to hold
+     * {@link #throttleTransactionQueueSize} transactions, up to this limit.
      */
-    private final Queue<Bytes> bufferedTransactions = new LinkedList<>();
+    private static final int MAX_BUFFER_CAPACITY = 1 << 24;
 
     /**
-     * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
-     * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
+     * Transactions created by this node waiting to be put into a self-event.
      */
-    private final Queue<Bytes> priorityBufferedTransactions = new LinkedList<>();
+    private final TransactionRingBuffer bufferedTransactions;
+
+    /**
+     * High-priority transactions created by this node waiting to be put into a self-event. Transactions in this queue
+     * are always inserted into an event before transactions waiting in {@link #bufferedTransactions}. Priority
+     * transactions are never rejected, so this queue is unbounded.
+     */
+    private final Queue<PriorityTransaction> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
      * The number of buffered signature transactions waiting to be put into events.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final AtomicInteger bufferedSignatureTransactionCount = new AtomicInteger();
+
+    /**
+     * The total number of bytes of all buffered transactions, including priority transactions.
+     */
+    private final AtomicLong bufferedTransactionBytes = new AtomicLong();
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -45,6 +63,12 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
      */
     private final int throttleTransactionQueueSize;
 
+    /**
+     * The maximum desired number of bytes in the transaction queue. If accepting a new app transaction would exceed
+     * this, then it is rejected. Zero or negative for no limit.
+     */
+    private final long throttleTransactionQueueBytes;
+
     /**
      * Metrics for the transaction pool.
      */
@@ -58,7 +82,15 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
     /**
      * The current status of the platform.
      */
-    private PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+    private volatile PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+
+    /**
+     * A priority transaction and the time it was submitted.
+     *
+     * @param transaction    the transaction
+     * @param submittedNanos the {@link System#nanoTime()} when the transaction was submitted
+     */
+    private record PriorityTransaction(@NonNull Bytes transaction, long submittedNanos) {}
 
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
@@ -72,11 +104,35 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
             @NonNull final TransactionLimits transactionLimits,
             final int throttleTransactionQueueSize,
             @NonNull final Metrics metrics) {
+        this(transactionLimits, throttleTransactionQueueSize, 0, metrics);
+    }
+
+    /**
+     * Creates a new transaction pool for transactions waiting to be put in an event.
+     *
+     * @param transactionLimits             the configuration to use
+     * @param throttleTransactionQueueSize  the maximum number of transactions that can be buffered before new
+     *                                      application transactions are rejected
+     * @param throttleTransactionQueueBytes the maximum number of bytes of transactions that can be buffered before new
+     *                                      application transactions are rejected, zero or negative for no limit
+     * @param metrics                       the metrics to use
+     */
+    public TransactionPoolNexus(
+            @NonNull final TransactionLimits transactionLimits,
+            final int throttleTransactionQueueSize,
+            final long throttleTransactionQueueBytes,
+            @NonNull final Metrics metrics) {
         maxTransactionBytesPerEvent = transactionLimits.maxTransactionBytesPerEvent();
         this.throttleTransactionQueueSize = throttleTransactionQueueSize;
+        this.throttleTransactionQueueBytes = throttleTransactionQueueBytes;
+        bufferedTransactions = new TransactionRingBuffer(
+                (int) Math.min(MAX_BUFFER_CAPACITY, Math.max(1L, throttleTransactionQueueSize + 1L)));
 
         transactionPoolMetrics = new TransactionPoolMetrics(
-                metrics, this::getBufferedTransactionCount, this::getPriorityBufferedTransactionCount);
+                metrics,
+                this::getBufferedTransactionCount,
+                this::getPriorityBufferedTransactionCount,
+                bufferedTransactionBytes::get);
 
         maximumTransactionSize = transactionLimits.transactionMaxBytes();
     }
@@ -92,7 +148,7 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
      * @param appTransaction the transaction to submit
      * @return true if the transaction passed all validity checks and was accepted by the consumer
      */
-    public synchronized boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
+    public boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
         if (platformStatus != PlatformStatus.ACTIVE) {
             return false;
         }
@@ -115,7 +171,7 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
      *
      * @param transaction the transaction to submit
      */
-    public synchronized void submitPriorityTransaction(@NonNull final Bytes transaction) {
+    public void submitPriorityTransaction(@NonNull final Bytes transaction) {
         submitTransaction(transaction, true);
     }
 
@@ -129,30 +185,35 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    private synchronized boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
+    private boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
         Objects.requireNonNull(transaction);
-
-        // Always submit system transactions. If it's not a system transaction, then only submit it if we
-        // don't violate queue size capacity restrictions.
-        if (!priority
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
-            transactionPoolMetrics.recordRejectedAppTransaction();
-            return false;
-        }
+        final long now = System.nanoTime();
 
         if (priority) {
-            bufferedSignatureTransactionCount++;
+            // Always submit system transactions.
+            bufferedTransactionBytes.addAndGet(transaction.length());
+            bufferedSignatureTransactionCount.incrementAndGet();
+            priorityBufferedTransactions.add(new PriorityTransaction(transaction, now));
             transactionPoolMetrics.recordSubmittedPlatformTransaction();
-        } else {
-            transactionPoolMetrics.recordAcceptedAppTransaction();
+            return true;
         }
 
-        if (priority) {
-            priorityBufferedTransactions.add(transaction);
-        } else {
-            bufferedTransactions.add(transaction);
+        // If it's not a system transaction, then only submit it if we don't violate queue size capacity restrictions.
+        // Concurrent submissions may overshoot the limits by a few transactions, which is harmless.
+        if ((bufferedTransactions.size() + bufferedSignatureTransactionCount.get()) > throttleTransactionQueueSize
+                || (throttleTransactionQueueBytes > 0
+                        && bufferedTransactionBytes.get() + transaction.length() > throttleTransactionQueueBytes)) {
+            transactionPoolMetrics.recordRejectedAppTransaction();
+            return false;
         }
 
+        bufferedTransactionBytes.addAndGet(transaction.length());
+        if (!bufferedTransactions.offer(transaction, now)) {
+            bufferedTransactionBytes.addAndGet(-transaction.length());
+            transactionPoolMetrics.recordRejectedAppTransaction();
+            return false;
+        }
+        transactionPoolMetrics.recordAcceptedAppTransaction();
         return true;
     }
 
@@ -161,69 +222,54 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
      *
      * @param platformStatus the new platform status
      */
-    public synchronized void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
+    public void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
         this.platformStatus = platformStatus;
         if (platformStatus == PlatformStatus.BEHIND) {
             clear();
         }
     }
 
-    /**
-     * Get the next transaction that should be inserted into an event, or null if there is no available transaction.
-     *
-     * @param currentEventSize the current size in bytes of the event being constructed
-     * @return the next transaction, or null if no transaction is available
-     */
-    @Nullable
-    private Bytes getNextTransaction(final long currentEventSize) {
-        final long maxSize = maxTransactionBytesPerEvent - currentEventSize;
-
-        if (maxSize <= 0) {
-            // the event is at capacity
-            return null;
-        }
-
-        if (!priorityBufferedTransactions.isEmpty()
-                && priorityBufferedTransactions.peek().length() <= maxSize) {
-            bufferedSignatureTransactionCount--;
-            return priorityBufferedTransactions.poll();
-        }
-
-        if (!bufferedTransactions.isEmpty() && bufferedTransactions.peek().length() <= maxSize) {
-            return bufferedTransactions.poll();
-        }
-
-        return null;
-    }
-
     /**
      * Removes as many transactions from the list waiting to be in an event that can fit (FIFO ordering), and returns
      * them as an array, along with a boolean indicating if the array of transactions returned contains a freeze state
      * signature transaction.
+     *
+     * <p>Priority transactions are returned first. Transactions are returned in FIFO order, and the first transaction
+     * that doesn't fit in the maximum number of transaction bytes per event ends the selection, so that transactions
+     * are not reordered.
      */
     @NonNull
     @Override
     public synchronized List<Bytes> getTransactionsForEvent() {
         // Early return due to no transactions waiting
-        if (bufferedTransactions.isEmpty() && priorityBufferedTransactions.isEmpty()) {
+        if (bufferedTransactions.peek() == null && priorityBufferedTransactions.isEmpty()) {
             return Collections.emptyList();
         }
 
-        final List<Bytes> selectedTrans = new LinkedList<>();
+        final List<Bytes> selectedTrans = new ArrayList<>();
+        final long now = System.nanoTime();
         long currEventSize = 0;
 
-        while (true) {
-            final Bytes transaction = getNextTransaction(currEventSize);
-
-            if (transaction == null) {
-                // No transaction of suitable size is available
-                break;
-            }
+        PriorityTransaction priorityTransaction;
+        while ((priorityTransaction = priorityBufferedTransactions.peek()) != null
+                && priorityTransaction.transaction().length() <= maxTransactionBytesPerEvent - currEventSize) {
+            priorityBufferedTransactions.poll();
+            bufferedSignatureTransactionCount.decrementAndGet();
+            currEventSize += priorityTransaction.transaction().length();
+            selectedTrans.add(priorityTransaction.transaction());
+            transactionPoolMetrics.recordPriorityTransactionWait(now - priorityTransaction.submittedNanos());
+        }
 
+        Bytes transaction;
+        while ((transaction = bufferedTransactions.peek()) != null
+                && transaction.length() <= maxTransactionBytesPerEvent - currEventSize) {
+            final long submittedNanos = bufferedTransactions.remove();
             currEventSize += transaction.length();
             selectedTrans.add(transaction);
+            transactionPoolMetrics.recordAppTransactionWait(now - submittedNanos);
         }
 
+        bufferedTransactionBytes.addAndGet(-currEventSize);
         return selectedTrans;
     }
 
@@ -232,8 +278,8 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
+    public boolean hasBufferedSignatureTransactions() {
+        return bufferedSignatureTransactionCount.get() > 0;
     }
 
     /**
@@ -241,7 +287,7 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getBufferedTransactionCount() {
+    private int getBufferedTransactionCount() {
         return bufferedTransactions.size();
     }
 
@@ -250,16 +296,25 @@ public class TransactionPoolNexus implements EventTransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    private int getPriorityBufferedTransactionCount() {
+        return bufferedSignatureTransactionCount.get();
     }
 
     /**
      * Clear all the transactions
      */
     synchronized void clear() {
-        bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+        long removedBytes = 0;
+        Bytes transaction;
+        while ((transaction = bufferedTransactions.peek()) != null) {
+            bufferedTransactions.remove();
+            removedBytes += transaction.length();
+        }
+        PriorityTransaction priorityTransaction;
+        while ((priorityTransaction = priorityBufferedTransactions.poll()) != null) {
+            bufferedSignatureTransactionCount.decrementAndGet();
+            removedBytes += priorityTransaction.transaction().length();
+        }
+        bufferedTransactionBytes.addAndGet(-removedBytes);
     }
 }
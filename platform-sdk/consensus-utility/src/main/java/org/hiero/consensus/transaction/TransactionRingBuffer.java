@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.transaction;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, multi-producer single-consumer ring buffer of transactions. Producers never block: a producer claims a
+ * slot by incrementing the tail, writes the transaction, and then publishes the slot by advancing its sequence number.
+ * A slot can be reused once the consumer has advanced its sequence number past the head.
+ *
+ * <p>{@link #offer(Bytes, long)} may be called by any number of threads concurrently. All other methods that modify
+ * the buffer must be called by a single consumer at a time.
+ */
+final class TransactionRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    /**
+     * The sequence number of each slot. A slot at position {@code p} is free if its sequence number is {@code p}, and
+     * holds a published transaction if its sequence number is {@code p + 1}.
+     */
+    private final AtomicLongArray sequences;
+    /** The transactions, published by {@link #sequences} */
+    private final Bytes[] transactions;
+    /** The {@link System#nanoTime()} when each transaction was offered, published by {@link #sequences} */
+    private final long[] offerTimes;
+    /** The position of the next slot to be claimed by a producer */
+    private final AtomicLong tail = new AtomicLong();
+    /** The position of the next slot to be consumed, only modified by the consumer */
+    private volatile long head = 0;
+
+    /**
+     * Create a new ring buffer.
+     *
+     * @param minimumCapacity the minimum number of transactions the buffer can hold, rounded up to a power of 2
+     */
+    TransactionRingBuffer(final int minimumCapacity) {
+        if (minimumCapacity <= 0 || minimumCapacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, got " + minimumCapacity);
+        }
+        capacity = minimumCapacity == 1 ? 1 : Integer.highestOneBit(minimumCapacity - 1) << 1;
+        mask = capacity - 1;
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        transactions = new Bytes[capacity];
+        offerTimes = new long[capacity];
+    }
+
+    /**
+     * Add a transaction to the buffer. Thread safe.
+     *
+     * @param transaction   the transaction
+     * @param offerTimeNanos the {@link System#nanoTime()} when the transaction was submitted
+     * @return true if the transaction was added, false if the buffer is full
+     */
+    boolean offer(@NonNull final Bytes transaction, final long offerTimeNanos) {
+        Objects.requireNonNull(transaction);
+        while (true) {
+            final long position = tail.get();
+            final int index = (int) position & mask;
+            final long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    transactions[index] = transaction;
+                    offerTimes[index] = offerTimeNanos;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // the slot has not been consumed since the last time around the ring
+                return false;
+            }
+            // else another producer claimed this slot, try again with the new tail
+        }
+    }
+
+    /**
+     * Get the transaction at the head of the buffer without removing it. Must only be called by the consumer.
+     *
+     * @return the transaction, or null if the buffer is empty or the next transaction is still being written
+     */
+    @Nullable
+    Bytes peek() {
+        final long position = head;
+        final int index = (int) position & mask;
+        if (sequences.getAcquire(index) != position + 1) {
+            return null;
+        }
+        return transactions[index];
+    }
+
+    /**
+     * Remove the transaction at the head of the buffer. Must only be called by the consumer, after {@link #peek()}
+     * returned a transaction.
+     *
+     * @return the {@link System#nanoTime()} when the removed transaction was offered
+     */
+    long remove() {
+        final long position = head;
+        final int index = (int) position & mask;
+        final long offerTime = offerTimes[index];
+        transactions[index] = null;
+        sequences.setRelease(index, position + capacity);
+        head = position + 1;
+        return offerTime;
+    }
+
+    /**
+     * Get the number of transactions in the buffer, including transactions that are still being written. Thread safe,
+     * but the value may be stale by the time it is used.
+     *
+     * @return the number of transactions
+     */
+    int size() {
+        final long currentHead = head;
+        return (int) Math.max(0, Math.min(capacity, tail.get() - currentHead));
+    }
+
+    /**
+     * Get the maximum number of transactions the buffer can hold.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return capacity;
+    }
+}
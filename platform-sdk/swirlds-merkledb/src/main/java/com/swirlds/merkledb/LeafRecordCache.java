@@ -0,0 +1,441 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * A concurrent, size-bounded cache of virtual leaf records used by {@link MerkleDbDataSource}.
+ *
+ * <p>Records may be cached by leaf key, by leaf path, or both. Key and path entries share the
+ * same memory budget, which is configured in bytes rather than in number of entries. Entries
+ * cached by key may have no value, they are used to store key to path mappings only, including
+ * negative lookup results (key not found, path is {@link MerkleDbDataSource#INVALID_PATH}).
+ *
+ * <p>The cache is split into a number of independently locked shards to reduce contention
+ * between reader threads. Within a shard, entries are evicted using the CLOCK algorithm. A new
+ * entry is only admitted to a full shard, if it's been requested more often recently than the
+ * eviction victim, according to a small per-shard frequency sketch (TinyLFU admission). This
+ * prevents hot entries from being pushed out of the cache by one-off reads, for example, during
+ * full table scans.
+ *
+ * <p>The cache doesn't know anything about data source flushes. It's data source's responsibility
+ * to invalidate cache entries for all keys and paths updated during flushes.
+ */
+final class LeafRecordCache {
+
+    /**
+     * Approximate heap overhead of a single cache entry, in bytes. Includes the entry object
+     * itself, the corresponding hash map node, the leaf record object, and key / value
+     * {@link Bytes} wrappers. Used to calculate entry weights.
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    /** Estimated average entry weight, used to size frequency sketches */
+    private static final int ESTIMATED_AVERAGE_ENTRY_BYTES = 256;
+
+    /** Number of frequency sketch counters per expected cache entry, to keep hash collisions low */
+    private static final int SKETCH_COUNTERS_PER_ENTRY = 8;
+
+    /** Max number of frequency sketch counters in a single shard */
+    private static final int MAX_SKETCH_COUNTERS = 1 << 24;
+
+    /** Cache shards. The number of shards is always a power of two */
+    private final Shard[] shards;
+
+    /** Shard index mask, the number of shards minus one */
+    private final int shardMask;
+
+    /** Number of entries evicted from the cache because of the size limit */
+    private final LongAdder evictions = new LongAdder();
+
+    /** Called with the number of evicted entries every time some entries are evicted */
+    private final LongConsumer evictionListener;
+
+    /**
+     * Creates a new leaf record cache.
+     *
+     * @param maxSizeInBytes max cache size, in bytes
+     * @param numShards requested number of cache shards, rounded up to a power of two
+     * @param evictionListener a listener to notify about evicted entries
+     */
+    LeafRecordCache(final long maxSizeInBytes, final int numShards, @NonNull final LongConsumer evictionListener) {
+        if (maxSizeInBytes <= 0) {
+            throw new IllegalArgumentException("Leaf record cache size must be positive: " + maxSizeInBytes);
+        }
+        if (numShards <= 0) {
+            throw new IllegalArgumentException("Number of leaf record cache shards must be positive: " + numShards);
+        }
+        this.evictionListener = evictionListener;
+        final int shardCount = ceilingPowerOfTwo(numShards);
+        shardMask = shardCount - 1;
+        shards = new Shard[shardCount];
+        final long maxShardSizeInBytes = Math.max(1, maxSizeInBytes / shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(maxShardSizeInBytes);
+        }
+    }
+
+    /**
+     * Looks up a leaf record by key.
+     *
+     * @param keyBytes leaf key
+     * @return a cached record, possibly without a value, or null if the key isn't cached
+     */
+    @Nullable
+    VirtualLeafBytes<?> getByKey(@NonNull final Bytes keyBytes) {
+        return get(keyBytes, keyBytes.hashCode());
+    }
+
+    /**
+     * Looks up a leaf record by path.
+     *
+     * @param path leaf path
+     * @return a cached record, or null if the path isn't cached
+     */
+    @Nullable
+    VirtualLeafBytes<?> getByPath(final long path) {
+        return get(path, Long.hashCode(path));
+    }
+
+    /**
+     * Caches a leaf record by its key. The record may have no value, if only key to path mapping
+     * needs to be cached.
+     *
+     * @param leafBytes leaf record to cache
+     */
+    void putByKey(@NonNull final VirtualLeafBytes<?> leafBytes) {
+        final Bytes keyBytes = leafBytes.keyBytes();
+        put(keyBytes, keyBytes.hashCode(), leafBytes);
+    }
+
+    /**
+     * Caches a leaf record by its path. The record must have a value.
+     *
+     * @param leafBytes leaf record to cache
+     */
+    void putByPath(@NonNull final VirtualLeafBytes<?> leafBytes) {
+        assert leafBytes.valueBytes() != null;
+        final long path = leafBytes.path();
+        put(path, Long.hashCode(path), leafBytes);
+    }
+
+    /**
+     * Removes a leaf record with the given key from the cache, if present.
+     *
+     * @param keyBytes leaf key
+     */
+    void invalidateKey(@NonNull final Bytes keyBytes) {
+        final int hash = spread(keyBytes.hashCode());
+        shards[hash & shardMask].remove(keyBytes);
+    }
+
+    /**
+     * Removes a leaf record with the given path from the cache, if present.
+     *
+     * @param path leaf path
+     */
+    void invalidatePath(final long path) {
+        final int hash = spread(Long.hashCode(path));
+        shards[hash & shardMask].remove(path);
+    }
+
+    /** Number of evicted entries since the cache was created. */
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    /** Total weight of all entries currently in the cache, in bytes. */
+    long getSizeInBytes() {
+        long size = 0;
+        for (final Shard shard : shards) {
+            size += shard.getWeightedSize();
+        }
+        return size;
+    }
+
+    /** Number of entries currently in the cache. */
+    int getEntryCount() {
+        int count = 0;
+        for (final Shard shard : shards) {
+            count += shard.getEntryCount();
+        }
+        return count;
+    }
+
+    @Nullable
+    private VirtualLeafBytes<?> get(@NonNull final Object key, final int keyHashCode) {
+        final int hash = spread(keyHashCode);
+        return shards[hash & shardMask].get(key, hash);
+    }
+
+    private void put(@NonNull final Object key, final int keyHashCode, @NonNull final VirtualLeafBytes<?> leafBytes) {
+        final int hash = spread(keyHashCode);
+        final int evicted = shards[hash & shardMask].put(key, hash, leafBytes, weigh(key, leafBytes));
+        if (evicted > 0) {
+            evictions.add(evicted);
+            evictionListener.accept(evicted);
+        }
+    }
+
+    /**
+     * Estimates heap usage of a cache entry.
+     */
+    static int weigh(@NonNull final Object key, @NonNull final VirtualLeafBytes<?> leafBytes) {
+        final Bytes valueBytes = leafBytes.valueBytes();
+        final long weight = ENTRY_OVERHEAD_BYTES
+                + leafBytes.keyBytes().length()
+                + (valueBytes != null ? valueBytes.length() : 0)
+                + (key instanceof Long ? Long.BYTES * 2 : 0);
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    /**
+     * Spreads hash code bits, so both shard selection (lower bits) and frequency sketch indices
+     * are well distributed even for sequential keys like leaf paths.
+     */
+    private static int spread(final int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int ceilingPowerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /** Cache entry. All fields are guarded by the owning shard lock. */
+    private static final class Node {
+        final Object key;
+        final int hash;
+        VirtualLeafBytes<?> value;
+        int weight;
+        boolean referenced;
+        Node prev;
+        Node next;
+
+        Node(final Object key, final int hash, final VirtualLeafBytes<?> value, final int weight) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A single cache shard. Entries are kept in a hash map for lookups, and in a circular doubly
+     * linked list for CLOCK eviction. All methods are synchronized on the shard.
+     */
+    private static final class Shard {
+
+        private final long maxWeightedSize;
+
+        private final Map<Object, Node> entries = new HashMap<>();
+
+        private final FrequencySketch sketch;
+
+        /** CLOCK hand, the next eviction candidate. Null if the shard is empty */
+        private Node hand;
+
+        private long weightedSize;
+
+        Shard(final long maxWeightedSize) {
+            this.maxWeightedSize = maxWeightedSize;
+            final long estimatedEntries = Math.max(16, maxWeightedSize / ESTIMATED_AVERAGE_ENTRY_BYTES);
+            sketch = new FrequencySketch((int) Math.min(MAX_SKETCH_COUNTERS, estimatedEntries * SKETCH_COUNTERS_PER_ENTRY));
+        }
+
+        synchronized VirtualLeafBytes<?> get(final Object key, final int hash) {
+            sketch.increment(hash);
+            final Node node = entries.get(key);
+            if (node == null) {
+                return null;
+            }
+            node.referenced = true;
+            return node.value;
+        }
+
+        /**
+         * Puts an entry to this shard.
+         *
+         * @return number of entries evicted to free space for the new entry
+         */
+        synchronized int put(final Object key, final int hash, final VirtualLeafBytes<?> value, final int weight) {
+            if (weight > maxWeightedSize) {
+                return 0;
+            }
+            final Node existing = entries.get(key);
+            if (existing != null) {
+                weightedSize += weight - existing.weight;
+                existing.value = value;
+                existing.weight = weight;
+                existing.referenced = true;
+                return evictWhileOverflown(existing);
+            }
+            int evicted = 0;
+            while (weightedSize + weight > maxWeightedSize) {
+                final Node victim = findVictim();
+                // TinyLFU admission: don't evict an entry that is used more often than the candidate
+                if (sketch.frequency(hash) < sketch.frequency(victim.hash)) {
+                    // The victim gets another chance, so it isn't a victim again on the next put
+                    victim.referenced = true;
+                    return evicted;
+                }
+                unlink(victim);
+                evicted++;
+            }
+            final Node node = new Node(key, hash, value, weight);
+            entries.put(key, node);
+            link(node);
+            weightedSize += weight;
+            return evicted;
+        }
+
+        synchronized void remove(final Object key) {
+            final Node node = entries.get(key);
+            if (node != null) {
+                unlink(node);
+            }
+        }
+
+        synchronized long getWeightedSize() {
+            return weightedSize;
+        }
+
+        synchronized int getEntryCount() {
+            return entries.size();
+        }
+
+        /**
+         * Evicts entries until the shard size is within the limit, after an existing entry
+         * was updated with a heavier value. The updated entry itself is never evicted.
+         */
+        private int evictWhileOverflown(final Node updated) {
+            int evicted = 0;
+            while (weightedSize > maxWeightedSize && entries.size() > 1) {
+                final Node victim = findVictim();
+                if (victim == updated) {
+                    // Skip the updated entry, the hand will move past it on the next iteration
+                    updated.referenced = true;
+                    continue;
+                }
+                unlink(victim);
+                evicted++;
+            }
+            return evicted;
+        }
+
+        /**
+         * Advances CLOCK hand until an entry, which hasn't been referenced since the last time
+         * the hand passed it, is found. Referenced flags of all skipped entries are cleared.
+         */
+        private Node findVictim() {
+            assert hand != null;
+            while (hand.referenced) {
+                hand.referenced = false;
+                hand = hand.next;
+            }
+            return hand;
+        }
+
+        /** Inserts a new node right before the hand, i.e. as the last entry to be checked. */
+        private void link(final Node node) {
+            if (hand == null) {
+                node.prev = node;
+                node.next = node;
+                hand = node;
+            } else {
+                node.next = hand;
+                node.prev = hand.prev;
+                hand.prev.next = node;
+                hand.prev = node;
+            }
+        }
+
+        private void unlink(final Node node) {
+            entries.remove(node.key);
+            weightedSize -= node.weight;
+            if (node.next == node) {
+                hand = null;
+            } else {
+                node.prev.next = node.next;
+                node.next.prev = node.prev;
+                if (hand == node) {
+                    hand = node.next;
+                }
+            }
+            node.prev = null;
+            node.next = null;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters used to estimate access frequencies of cache keys.
+     * Counters are periodically halved, so the sketch reflects recent accesses only. Not thread
+     * safe, the owning shard provides synchronization.
+     */
+    private static final class FrequencySketch {
+
+        private static final int MAX_COUNTER = 15;
+
+        /** Hash seeds for the four counter indices */
+        private static final int[] SEEDS = {0x97CB3127, 0xC2B2AE3D, 0x27D4EB2F, 0x165667B1};
+
+        /** Counters, each in the range from 0 to {@link #MAX_COUNTER} */
+        private final byte[] counters;
+
+        private final int mask;
+
+        /** Number of increments after which all counters are halved */
+        private final int sampleSize;
+
+        private int increments;
+
+        FrequencySketch(final int numCounters) {
+            final int size = ceilingPowerOfTwo(Math.max(16, numCounters));
+            counters = new byte[size];
+            mask = size - 1;
+            sampleSize = size * 10;
+        }
+
+        void increment(final int hash) {
+            boolean added = false;
+            for (final int seed : SEEDS) {
+                final int index = index(hash, seed);
+                if (counters[index] < MAX_COUNTER) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && (++increments >= sampleSize)) {
+                reset();
+            }
+        }
+
+        int frequency(final int hash) {
+            int frequency = MAX_COUNTER;
+            for (final int seed : SEEDS) {
+                frequency = Math.min(frequency, counters[index(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int index(final int hash, final int seed) {
+            int h = (hash ^ seed) * 0x85EBCA6B;
+            h ^= h >>> 13;
+            return h & mask;
+        }
+
+        private void reset() {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = (byte) (counters[i] >>> 1);
+            }
+            increments /= 2;
+        }
+    }
+}
@@ -9,17 +9,18 @@ import static java.util.Objects.requireNonNull;
 
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.CompactionIoThrottle;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.nio.channels.ClosedByInterruptException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,7 +31,12 @@ import org.apache.logging.log4j.Logger;
  * and keep them disabled until they are explicitly enabled again.
  * The compaction tasks are executed in a background thread pool.
  * The number of threads in the pool is defined by {@link MerkleDbConfig#compactionThreads()} property.
- *
+ * <p>
+ * The thread pool is shared by all data sources. When there are more compaction tasks than threads,
+ * pending tasks are prioritized by estimated garbage ratio of the corresponding data file collections,
+ * see {@link DataFileCompactor#getGarbageRatio()}. Compactions are also subject to node-wide I/O budget
+ * enforced by {@link CompactionIoThrottle}, and are paused while data source snapshots are taken and,
+ * if enabled by {@link MerkleDbConfig#compactionPausedDuringFlush()}, while data is flushed to disk.
  */
 class MerkleDbCompactionCoordinator {
 
@@ -39,6 +45,9 @@ class MerkleDbCompactionCoordinator {
     // Timeout to wait for all currently running compaction tasks to stop during compactor shutdown
     private static final long SHUTDOWN_TIMEOUT_MILLIS = 60_000;
 
+    // Sequence number of the next compaction task. Used to run tasks with equal priorities in FIFO order
+    private static final AtomicLong TASK_SEQUENCE = new AtomicLong();
+
     /**
      * An executor service to run compaction tasks. Accessed using {@link #getCompactionExecutor(MerkleDbConfig)}.
      */
@@ -60,7 +69,7 @@ class MerkleDbCompactionCoordinator {
                     merkleDbConfig.compactionThreads(),
                     50L,
                     TimeUnit.MILLISECONDS,
-                    new LinkedBlockingQueue<>(),
+                    new PriorityBlockingQueue<>(),
                     new ThreadConfiguration(getStaticThreadManager())
                             .setThreadGroup(new ThreadGroup("Compaction"))
                             .setComponent(MERKLEDB_COMPONENT)
@@ -78,18 +87,35 @@ class MerkleDbCompactionCoordinator {
     // A map of compactors by task names. Synchronized on this
     final Map<String, DataFileCompactor> compactorsByName = new HashMap<>(16);
 
+    // Number of compaction tasks of this data source waiting in the shared executor queue. Synchronized on this
+    private int queuedTasks = 0;
+
     @NonNull
     private final MerkleDbConfig merkleDbConfig;
 
+    @NonNull
+    private final MerkleDbStatisticsUpdater statisticsUpdater;
+
+    // Compaction I/O budget shared by all compactions in the node
+    @NonNull
+    private final CompactionIoThrottle ioThrottle;
+
     /**
      * Creates a new instance of {@link MerkleDbCompactionCoordinator}.
      * @param tableName the name of the table
      * @param merkleDbConfig platform config for MerkleDbDataSource
+     * @param statisticsUpdater statistics updater to report compaction metrics
      */
-    public MerkleDbCompactionCoordinator(@NonNull String tableName, @NonNull MerkleDbConfig merkleDbConfig) {
+    public MerkleDbCompactionCoordinator(
+            @NonNull String tableName,
+            @NonNull MerkleDbConfig merkleDbConfig,
+            @NonNull MerkleDbStatisticsUpdater statisticsUpdater) {
         requireNonNull(tableName);
         requireNonNull(merkleDbConfig);
+        requireNonNull(statisticsUpdater);
         this.merkleDbConfig = merkleDbConfig;
+        this.statisticsUpdater = statisticsUpdater;
+        this.ioThrottle = CompactionIoThrottle.getInstance(merkleDbConfig);
     }
 
     /**
@@ -106,6 +132,8 @@ class MerkleDbCompactionCoordinator {
      * #resumeCompaction()}} is called.
      */
     synchronized void pauseCompaction() throws IOException {
+        // Pause compactions of all other data sources, too, so they don't compete with the snapshot for disk I/O
+        ioThrottle.pause();
         for (final DataFileCompactor compactor : compactorsByName.values()) {
             compactor.pauseCompaction();
         }
@@ -115,8 +143,33 @@ class MerkleDbCompactionCoordinator {
      * Resumes previously stopped data file collection compaction.
      */
     synchronized void resumeCompaction() throws IOException {
-        for (final DataFileCompactor compactor : compactorsByName.values()) {
-            compactor.resumeCompaction();
+        try {
+            for (final DataFileCompactor compactor : compactorsByName.values()) {
+                compactor.resumeCompaction();
+            }
+        } finally {
+            ioThrottle.resume();
+        }
+    }
+
+    /**
+     * Pauses all compactions in the node while this data source is flushing data to disk, if
+     * enabled by {@link MerkleDbConfig#compactionPausedDuringFlush()}. Unlike {@link #pauseCompaction()},
+     * this method doesn't make data files read only. Compaction threads just stop copying data items
+     * until {@link #resumeCompactionAfterFlush()} is called.
+     */
+    void pauseCompactionForFlush() {
+        if (merkleDbConfig.compactionPausedDuringFlush()) {
+            ioThrottle.pause();
+        }
+    }
+
+    /**
+     * Resumes compactions previously paused with {@link #pauseCompactionForFlush()}.
+     */
+    void resumeCompactionAfterFlush() {
+        if (merkleDbConfig.compactionPausedDuringFlush()) {
+            ioThrottle.resume();
         }
     }
 
@@ -170,8 +223,10 @@ class MerkleDbCompactionCoordinator {
         }
         compactorsByName.put(key, compactor);
         final ExecutorService executor = getCompactionExecutor(merkleDbConfig);
-        final CompactionTask task = new CompactionTask(key, compactor);
-        executor.submit(task);
+        final CompactionTask task = new CompactionTask(key, compactor, compactor.getGarbageRatio());
+        // Tasks must be executed rather than submitted, since the executor queue needs comparable tasks
+        executor.execute(task);
+        statisticsUpdater.setCompactionQueueDepth(++queuedTasks);
     }
 
     /**
@@ -189,9 +244,10 @@ class MerkleDbCompactionCoordinator {
     }
 
     /**
-     * A helper class representing a task to run compaction for a specific storage type.
+     * A helper class representing a task to run compaction for a specific storage type. Tasks are
+     * ordered by estimated garbage ratio, higher ratios first, and then by submission order.
      */
-    private class CompactionTask implements Callable<Boolean> {
+    private class CompactionTask implements Runnable, Comparable<CompactionTask> {
 
         // Task ID
         private final String id;
@@ -199,15 +255,32 @@ class MerkleDbCompactionCoordinator {
         // Compactor to run
         private final DataFileCompactor compactor;
 
-        public CompactionTask(@NonNull String id, @NonNull DataFileCompactor compactor) {
+        // Estimated garbage ratio of the data file collection to compact at task creation time
+        private final double garbageRatio;
+
+        // Task sequence number
+        private final long sequence;
+
+        public CompactionTask(@NonNull String id, @NonNull DataFileCompactor compactor, double garbageRatio) {
             this.id = id;
             this.compactor = compactor;
+            this.garbageRatio = garbageRatio;
+            this.sequence = TASK_SEQUENCE.getAndIncrement();
+        }
+
+        @Override
+        public int compareTo(@NonNull final CompactionTask other) {
+            final int byGarbageRatio = Double.compare(other.garbageRatio, garbageRatio);
+            return (byGarbageRatio != 0) ? byGarbageRatio : Long.compare(sequence, other.sequence);
         }
 
         @Override
-        public Boolean call() {
+        public void run() {
+            synchronized (MerkleDbCompactionCoordinator.this) {
+                statisticsUpdater.setCompactionQueueDepth(--queuedTasks);
+            }
             try {
-                return compactor.compact();
+                compactor.compact();
             } catch (final InterruptedException | ClosedByInterruptException e) {
                 logger.info(MERKLE_DB.getMarker(), "Interrupted while compacting, this is allowed");
             } catch (Exception e) {
@@ -215,12 +288,12 @@ class MerkleDbCompactionCoordinator {
                 // will stop all future merges from happening
                 logger.error(EXCEPTION.getMarker(), "[{}] Compaction failed", id, e);
             } finally {
+                statisticsUpdater.countCompactionThrottledTimeMs(compactor.getThrottledTimeMs());
                 synchronized (MerkleDbCompactionCoordinator.this) {
                     compactorsByName.remove(id);
                     MerkleDbCompactionCoordinator.this.notifyAll();
                 }
             }
-            return false;
         }
     }
 }
@@ -52,6 +52,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
@@ -68,6 +69,15 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     /** Count of open database instances */
     private static final LongAdder COUNT_OF_OPEN_DATABASES = new LongAdder();
 
+    /**
+     * Permits to snapshot data source stores, shared by all data sources. Null, if the number of
+     * stores to snapshot in parallel is not limited. Accessed using {@link #getSnapshotWritePermits}.
+     */
+    private static Semaphore snapshotWritePermits = null;
+
+    /** Whether {@link #snapshotWritePermits} is initialized */
+    private static boolean snapshotWritePermitsInitialized = false;
+
     /** Data source metadata fields */
     private static final FieldDefinition FIELD_DSMETADATA_MINVALIDKEY =
             new FieldDefinition("minValidKey", FieldType.UINT64, false, true, false, 1);
@@ -129,18 +139,11 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     private final MemoryIndexDiskKeyValueStore pathToKeyValue;
 
     /**
-     * Cache size for reading virtual leaf records. Initialized in data source creation time from
-     * MerkleDb settings. If the value is zero, leaf records cache isn't used.
+     * Virtual leaf records cache. Records are cached by key (including key to path mappings
+     * without values, and negative lookup results) and by path. Null, if the cache is disabled
+     * in MerkleDb settings.
      */
-    private final int leafRecordCacheSize;
-
-    /**
-     * Virtual leaf records cache. It's a simple array indexed by leaf keys % cache size. Cache
-     * eviction is not needed, as array size is fixed and can be configured in MerkleDb settings.
-     * Index conflicts are resolved in a very straightforward way: whatever entry is read last, it's
-     * put to the cache.
-     */
-    private final VirtualLeafBytes[] leafRecordCache;
+    private final LeafRecordCache leafRecordCache;
 
     /** Thread pool storing internal records */
     private final ExecutorService storeHashesExecutor;
@@ -154,6 +157,13 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     /** Flag for if a snapshot is in progress */
     private final AtomicBoolean snapshotInProgress = new AtomicBoolean(false);
 
+    /** Max number of index delta files to write in snapshots, zero to always write full indices */
+    private final int indexSnapshotMaxDeltaFiles;
+
+    /** Node-wide permits to snapshot stores, or null if not limited */
+    @Nullable
+    private final Semaphore snapshotPermits;
+
     /** The range of valid leaf paths for data currently stored by this data source. */
     private volatile KeyRange validLeafPathRange = INVALID_KEY_RANGE;
 
@@ -210,6 +220,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 .setExceptionHandler(
                         (t, ex) -> logger.error(EXCEPTION.getMarker(), "Uncaught exception during snapshots", ex))
                 .buildFactory());
+        indexSnapshotMaxDeltaFiles = merkleDbConfig.indexSnapshotMaxDeltaFiles();
+        snapshotPermits = getSnapshotWritePermits(merkleDbConfig);
 
         final Path storageDir = database.getTableDir(tableName, tableId);
         dbPaths = new MerkleDbPaths(storageDir);
@@ -357,15 +369,20 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             }
         }
 
-        // Leaf records cache
-        leafRecordCacheSize = merkleDbConfig.leafRecordCacheSize();
-        leafRecordCache = (leafRecordCacheSize > 0) ? new VirtualLeafBytes[leafRecordCacheSize] : null;
-
         // Stats
         statisticsUpdater = new MerkleDbStatisticsUpdater(merkleDbConfig, tableName);
 
+        // Leaf records cache
+        final long leafRecordCacheBytes = merkleDbConfig.leafRecordCacheBytes();
+        leafRecordCache = (leafRecordCacheBytes > 0)
+                ? new LeafRecordCache(
+                        leafRecordCacheBytes,
+                        merkleDbConfig.leafRecordCacheShards(),
+                        evicted -> statisticsUpdater.countLeafCacheEvictions(evicted))
+                : null;
+
         // File compactions
-        compactionCoordinator = new MerkleDbCompactionCoordinator(tableName, merkleDbConfig);
+        compactionCoordinator = new MerkleDbCompactionCoordinator(tableName, merkleDbConfig, statisticsUpdater);
         if (compactionEnabled) {
             enableBackgroundCompaction();
         }
@@ -461,6 +478,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             @NonNull final Stream<VirtualLeafBytes> leafRecordsToDelete,
             final boolean isReconnectContext)
             throws IOException {
+        compactionCoordinator.pauseCompactionForFlush();
         try {
             validLeafPathRange = new KeyRange(firstLeafPath, lastLeafPath);
             final CountDownLatch countDownLatch = new CountDownLatch(lastLeafPath > 0 ? 2 : 1);
@@ -515,12 +533,15 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 Thread.currentThread().interrupt();
             }
         } finally {
+            compactionCoordinator.resumeCompactionAfterFlush();
             // Report total size on disk as sum of all store files. All metadata and other helper files
             // are considered small enough to be ignored. If/when we decide to use on-disk long lists
             // for indices, they should be added here
             statisticsUpdater.updateStoreFileStats(this);
             // update off-heap stats
             statisticsUpdater.updateOffHeapStats(this);
+            // update leaf cache stats
+            statisticsUpdater.updateLeafCacheStats(this);
         }
     }
 
@@ -535,21 +556,15 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     @Override
     public VirtualLeafBytes<?> loadLeafRecord(final Bytes keyBytes) throws IOException {
         requireNonNull(keyBytes);
-        final int keyHashCode = keyBytes.hashCode();
 
         final long path;
         VirtualLeafBytes<?> cached = null;
-        int cacheIndex = -1;
         if (leafRecordCache != null) {
-            cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-            // No synchronization is needed here. Java guarantees (JLS 17.7) that reference writes
-            // are atomic, so we will never get corrupted objects from the array. The object may
-            // be overwritten in the cache in a different thread in parallel, but it isn't a
-            // problem as cached entry key is checked below anyway
-            cached = leafRecordCache[cacheIndex];
+            cached = leafRecordCache.getByKey(keyBytes);
         }
-        // If an entry is found in the cache, and entry key is the one requested
-        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+        // If an entry is found in the cache
+        if (cached != null) {
+            statisticsUpdater.countLeafCacheHits();
             // Some cache entries contain just key and path, but no value. If the value is there,
             // just return the cached entry. If not, at least make use of the path
             if (cached.valueBytes() != null) {
@@ -559,7 +574,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             path = cached.path();
         } else {
             // Cache miss
-            cached = null;
+            if (leafRecordCache != null) {
+                statisticsUpdater.countLeafCacheMisses();
+            }
             statisticsUpdater.countLeafKeyReads();
             path = keyToPath.get(keyBytes, INVALID_PATH);
         }
@@ -568,7 +585,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (path == INVALID_PATH) {
             // Cache the result if not already cached
             if (leafRecordCache != null && cached == null) {
-                leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, null);
+                leafRecordCache.putByKey(new VirtualLeafBytes(path, keyBytes, null));
             }
             return null;
         }
@@ -580,14 +597,18 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             return null;
         }
 
-        statisticsUpdater.countLeafReads();
-        // Go ahead and lookup the value.
-        VirtualLeafBytes<?> leafBytes = VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        // The record may have been cached by path, e.g. during a reconnect or an iteration
+        // over leaves, even if it isn't cached by key
+        VirtualLeafBytes<?> leafBytes = (leafRecordCache != null) ? leafRecordCache.getByPath(path) : null;
+        if (leafBytes == null) {
+            statisticsUpdater.countLeafReads();
+            // Go ahead and lookup the value.
+            leafBytes = VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        }
         assert leafBytes != null && leafBytes.keyBytes().equals(keyBytes);
 
         if (leafRecordCache != null) {
-            // No synchronization is needed here, see the comment above
-            leafRecordCache[cacheIndex] = leafBytes;
+            leafRecordCache.putByKey(leafBytes);
         }
 
         return leafBytes;
@@ -611,8 +632,20 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (!leafPathRange.withinRange(path)) {
             return null;
         }
+        if (leafRecordCache != null) {
+            final VirtualLeafBytes<?> cached = leafRecordCache.getByPath(path);
+            if (cached != null) {
+                statisticsUpdater.countLeafCacheHits();
+                return cached;
+            }
+            statisticsUpdater.countLeafCacheMisses();
+        }
         statisticsUpdater.countLeafReads();
-        return VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        final VirtualLeafBytes<?> leafBytes = VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        if ((leafRecordCache != null) && (leafBytes != null)) {
+            leafRecordCache.putByPath(leafBytes);
+        }
+        return leafBytes;
     }
 
     /**
@@ -625,18 +658,16 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     @Override
     public long findKey(final Bytes keyBytes) throws IOException {
         requireNonNull(keyBytes);
-        final int keyHashCode = keyBytes.hashCode();
 
         // Check the cache first
-        int cacheIndex = -1;
         if (leafRecordCache != null) {
-            cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-            // No synchronization is needed here. See the comment in loadLeafRecord(key) above
-            final VirtualLeafBytes<?> cached = leafRecordCache[cacheIndex];
-            if (cached != null && keyBytes.equals(cached.keyBytes())) {
+            final VirtualLeafBytes<?> cached = leafRecordCache.getByKey(keyBytes);
+            if (cached != null) {
+                statisticsUpdater.countLeafCacheHits();
                 // Cached path may be a valid path or INVALID_PATH, both are legal here
                 return cached.path();
             }
+            statisticsUpdater.countLeafCacheMisses();
         }
 
         statisticsUpdater.countLeafKeyReads();
@@ -644,7 +675,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         if (leafRecordCache != null) {
             // Path may be INVALID_PATH here. Still needs to be cached (negative result)
-            leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, null);
+            leafRecordCache.putByKey(new VirtualLeafBytes(path, keyBytes, null));
         }
 
         return path;
@@ -799,11 +830,13 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 final CountDownLatch countDownLatch = new CountDownLatch(7);
                 // write all data stores
                 runWithSnapshotExecutor(true, countDownLatch, "pathToDiskLocationInternalNodes", () -> {
-                    pathToDiskLocationInternalNodes.writeToFile(snapshotDbPaths.pathToDiskLocationInternalNodesFile);
+                    pathToDiskLocationInternalNodes.writeToFile(
+                            snapshotDbPaths.pathToDiskLocationInternalNodesFile, indexSnapshotMaxDeltaFiles);
                     return true;
                 });
                 runWithSnapshotExecutor(true, countDownLatch, "pathToDiskLocationLeafNodes", () -> {
-                    pathToDiskLocationLeafNodes.writeToFile(snapshotDbPaths.pathToDiskLocationLeafNodesFile);
+                    pathToDiskLocationLeafNodes.writeToFile(
+                            snapshotDbPaths.pathToDiskLocationLeafNodesFile, indexSnapshotMaxDeltaFiles);
                     return true;
                 });
                 runWithSnapshotExecutor(hashStoreRam != null, countDownLatch, "internalHashStoreRam", () -> {
@@ -1029,6 +1062,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             final Callable<Object> runnable) {
         if (shouldRun) {
             snapshotExecutor.submit(() -> {
+                if (snapshotPermits != null) {
+                    snapshotPermits.acquireUninterruptibly();
+                }
                 final long START = System.currentTimeMillis();
                 try {
                     runnable.call();
@@ -1045,6 +1081,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                     logger.error(EXCEPTION.getMarker(), "[{}] Snapshot {} failed", tableName, taskName, t);
                     throw t;
                 } finally {
+                    if (snapshotPermits != null) {
+                        snapshotPermits.release();
+                    }
                     countDownLatch.countDown();
                 }
             });
@@ -1053,6 +1092,23 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
     }
 
+    /**
+     * Returns permits to snapshot data source stores, shared by all data sources in the node. The
+     * permits are created using the config provided by the first caller.
+     *
+     * @param merkleDbConfig MerkleDb config
+     * @return snapshot permits, or null if the number of stores to snapshot in parallel is not limited
+     */
+    @Nullable
+    private static synchronized Semaphore getSnapshotWritePermits(@NonNull final MerkleDbConfig merkleDbConfig) {
+        if (!snapshotWritePermitsInitialized) {
+            final int maxConcurrentWrites = merkleDbConfig.snapshotMaxConcurrentWrites();
+            snapshotWritePermits = maxConcurrentWrites > 0 ? new Semaphore(maxConcurrentWrites) : null;
+            snapshotWritePermitsInitialized = true;
+        }
+        return snapshotWritePermits;
+    }
+
     /**
      * Write all hashes to hashStore
      */
@@ -1146,8 +1202,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             }
             statisticsUpdater.countFlushLeavesWritten();
 
-            // cache the record
-            invalidateReadCache(leafBytes.keyBytes());
+            // invalidate the record in the cache
+            invalidateReadCache(leafBytes.keyBytes(), path);
         }
 
         // Iterate over leaf records to delete
@@ -1173,7 +1229,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             // inserted at path X then the record is just updated to new leaf's data.
 
             // delete the record from the cache
-            invalidateReadCache(leafBytes.keyBytes());
+            invalidateReadCache(leafBytes.keyBytes(), path);
         }
 
         // end writing
@@ -1245,27 +1301,20 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     }
 
     /**
-     * Invalidates the given key in virtual leaf record cache, if the cache is enabled.
+     * Invalidates the given key and path in virtual leaf record cache, if the cache is enabled.
      * <p>
-     * If the key is deleted, it's still updated in the cache. It means no record with the given
-     * key exists in the data source, so further lookups for the key are skipped.
-     * <p>
-     * Cache index is calculated as the key's hash code % cache size. The cache is only updated,
-     * if the current record at this index has the given key. If the key is different, no update is
-     * performed.
+     * Both the key and the path must be invalidated. The key may be moved to a different path,
+     * or deleted, and a different leaf may be stored at the path.
      *
      * @param keyBytes virtual key
+     * @param path virtual path
      */
-    private void invalidateReadCache(final Bytes keyBytes) {
+    private void invalidateReadCache(final Bytes keyBytes, final long path) {
         if (leafRecordCache == null) {
             return;
         }
-        final int keyHashCode = keyBytes.hashCode();
-        final int cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-        final VirtualLeafBytes<?> cached = leafRecordCache[cacheIndex];
-        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
-            leafRecordCache[cacheIndex] = null;
-        }
+        leafRecordCache.invalidateKey(keyBytes);
+        leafRecordCache.invalidatePath(path);
     }
 
     public void runHashStoreCompaction() {
@@ -1296,6 +1345,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         return pathToKeyValue;
     }
 
+    LeafRecordCache getLeafRecordCache() {
+        return leafRecordCache;
+    }
+
     MerkleDbCompactionCoordinator getCompactionCoordinator() {
         return compactionCoordinator;
     }
@@ -24,6 +24,8 @@ public class MerkleDbStatistics {
     private static final String FILES_PREFIX = "files_";
     /** Prefix for all metrics related to store read queries */
     private static final String READS_PREFIX = "reads_";
+    /** Prefix for all metrics related to leaf records cache */
+    private static final String CACHE_PREFIX = "cache_";
     /** Prefix for all metrics related to data flushing */
     private static final String FLUSHES_PREFIX = "flushes_";
     /** Prefix for compaction related metrics */
@@ -44,6 +46,15 @@ public class MerkleDbStatistics {
     /** Leaf keys - reads / s */
     private LongAccumulator leafKeyReads;
 
+    /** Leaf records cache - hits / s */
+    private LongAccumulator leafCacheHits;
+    /** Leaf records cache - misses / s */
+    private LongAccumulator leafCacheMisses;
+    /** Leaf records cache - evictions / s */
+    private LongAccumulator leafCacheEvictions;
+    /** Leaf records cache - total size in Mb */
+    private IntegerGauge leafCacheSizeMb;
+
     /** Hashes store - file count */
     private IntegerGauge hashesStoreFileCount;
     /** Hashes store - total file size in Mb */
@@ -88,6 +99,10 @@ public class MerkleDbStatistics {
 
     /** Leaf keys store - cumulative file size by compaction level in Mb */
     private final List<DoubleAccumulator> leafKeysStoreFileSizeByLevelMbList;
+    /** Compactions - number of compaction tasks waiting for a thread, in all data sources */
+    private IntegerGauge compactionQueueDepth;
+    /** Compactions - time throttled or paused because of compaction I/O budget, ms */
+    private LongAccumulator compactionThrottledTimeMs;
     /** Off-heap usage in MB of hashes store index */
     private IntegerGauge offHeapHashesIndexMb;
     /** Off-heap usage in MB of leaves store index */
@@ -161,6 +176,18 @@ public class MerkleDbStatistics {
         leafKeyReads = buildLongAccumulator(
                 metrics, DS_PREFIX + READS_PREFIX + "leafKeys_" + label, "Number of leaf key reads, " + label);
 
+        // Leaf records cache
+        leafCacheHits = buildLongAccumulator(
+                metrics, DS_PREFIX + CACHE_PREFIX + "leafHits_" + label, "Number of leaf cache hits, " + label);
+        leafCacheMisses = buildLongAccumulator(
+                metrics, DS_PREFIX + CACHE_PREFIX + "leafMisses_" + label, "Number of leaf cache misses, " + label);
+        leafCacheEvictions = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + CACHE_PREFIX + "leafEvictions_" + label,
+                "Number of leaf cache evictions, " + label);
+        leafCacheSizeMb = buildIntegerGauge(
+                metrics, DS_PREFIX + CACHE_PREFIX + "leafSizeMb_" + label, "Leaf cache size, " + label + ", Mb");
+
         // File counts and sizes
         hashesStoreFileCount = metrics.getOrCreate(
                 new IntegerGauge.Config(STAT_CATEGORY, DS_PREFIX + FILES_PREFIX + "hashesStoreFileCount_" + label)
@@ -264,6 +291,15 @@ public class MerkleDbStatistics {
                     "Total space taken by files of level %s, leaf keys store, %s, Mb".formatted(level, label)));
         }
 
+        compactionQueueDepth = buildIntegerGauge(
+                metrics,
+                DS_PREFIX + COMPACTIONS_PREFIX + "queueDepth_" + label,
+                "Number of compaction tasks waiting to be run, " + label);
+        compactionThrottledTimeMs = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + COMPACTIONS_PREFIX + "throttledTimeMs_" + label,
+                "Compactions time throttled or paused because of compaction I/O budget, " + label + ", ms");
+
         // Off-heap usage
         offHeapHashesIndexMb = metrics.getOrCreate(
                 new IntegerGauge.Config(STAT_CATEGORY, DS_PREFIX + OFFHEAP_PREFIX + "hashesIndexMb_" + label)
@@ -309,6 +345,48 @@ public class MerkleDbStatistics {
         }
     }
 
+    /**
+     * Increments {@link #leafCacheHits} stat by 1
+     */
+    public void countLeafCacheHits() {
+        if (leafCacheHits != null) {
+            leafCacheHits.update(1);
+        }
+    }
+
+    /**
+     * Increments {@link #leafCacheMisses} stat by 1
+     */
+    public void countLeafCacheMisses() {
+        if (leafCacheMisses != null) {
+            leafCacheMisses.update(1);
+        }
+    }
+
+    /**
+     * Increments {@link #leafCacheEvictions} stat by the given value
+     *
+     * @param value
+     * 		the number of evicted cache entries
+     */
+    public void countLeafCacheEvictions(final long value) {
+        if (leafCacheEvictions != null) {
+            leafCacheEvictions.update(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leafCacheSizeMb} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setLeafCacheSizeMb(final int value) {
+        if (leafCacheSizeMb != null) {
+            leafCacheSizeMb.set(value);
+        }
+    }
+
     /**
      * Set the current value for the {@link #hashesStoreFileCount} stat
      *
@@ -568,6 +646,28 @@ public class MerkleDbStatistics {
         leafKeysStoreFileSizeByLevelMbList.get(compactionLevel).update(value);
     }
 
+    /**
+     * Set the current value for the {@link #compactionQueueDepth} stat
+     *
+     * @param value the value to set
+     */
+    public void setCompactionQueueDepth(final int value) {
+        if (compactionQueueDepth != null) {
+            compactionQueueDepth.set(value);
+        }
+    }
+
+    /**
+     * Increments {@link #compactionThrottledTimeMs} stat by the given value
+     *
+     * @param value the time compactions were throttled, in ms
+     */
+    public void countCompactionThrottledTimeMs(final long value) {
+        if (compactionThrottledTimeMs != null) {
+            compactionThrottledTimeMs.update(value);
+        }
+    }
+
     /**
      * Set the current value for the {@link #offHeapLeavesIndexMb} stat
      *
@@ -152,6 +152,29 @@ public class MerkleDbStatisticsUpdater {
         statistics.countHashReads();
     }
 
+    /** Updates statistics with number of leaf cache hits. */
+    void countLeafCacheHits() {
+        statistics.countLeafCacheHits();
+    }
+
+    /** Updates statistics with number of leaf cache misses. */
+    void countLeafCacheMisses() {
+        statistics.countLeafCacheMisses();
+    }
+
+    /** Updates statistics with number of entries evicted from leaf cache. */
+    void countLeafCacheEvictions(final long evicted) {
+        statistics.countLeafCacheEvictions(evicted);
+    }
+
+    /** Updates statistics with leaf cache size. No-op if leaf cache is disabled. */
+    void updateLeafCacheStats(final MerkleDbDataSource dataSource) {
+        final LeafRecordCache leafRecordCache = dataSource.getLeafRecordCache();
+        if (leafRecordCache != null) {
+            statistics.setLeafCacheSizeMb((int) (leafRecordCache.getSizeInBytes() * BYTES_TO_MEBIBYTES));
+        }
+    }
+
     /** Increments count of leaves written during a flush*/
     void countFlushLeavesWritten() {
         statistics.countFlushLeavesWritten(1);
@@ -223,4 +246,12 @@ public class MerkleDbStatisticsUpdater {
     void setLeavesStoreFileSizeByLevelMb(Integer compactionType, Double savedSpace) {
         statistics.setLeavesStoreFileSizeByLevelMb(compactionType, savedSpace);
     }
+
+    void setCompactionQueueDepth(final int queueDepth) {
+        statistics.setCompactionQueueDepth(queueDepth);
+    }
+
+    void countCompactionThrottledTimeMs(final long throttledTimeMs) {
+        statistics.countCompactionThrottledTimeMs(throttledTimeMs);
+    }
 }
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BooleanSupplier;
 import java.util.stream.LongStream;
@@ -84,6 +85,24 @@ public abstract class AbstractLongList<C> implements LongList {
     /** The number for bytes to read for file header, v3 */
     protected static final int FILE_HEADER_SIZE_V3 = VERSION_METADATA_SIZE + FORMAT_METADATA_SIZE_V3;
 
+    /** Delta file names are built from the full index file name, this suffix, and delta number starting from 1 */
+    public static final String DELTA_FILE_SUFFIX = "_delta_";
+
+    /** The version number for format of index delta files */
+    private static final int DELTA_FILE_FORMAT_VERSION = 1;
+
+    /** The number of bytes in delta file header: version, page shift, min/max valid index, size, page count */
+    private static final int DELTA_FILE_HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 4;
+
+    /** Min size of a page in index delta files, as a power of two. Pages are 4K longs or larger */
+    private static final int MIN_DELTA_PAGE_SHIFT = 12;
+
+    /** Max number of pages to track, it limits the size of the dirty page bit set to 512Kb */
+    private static final long MAX_DELTA_PAGES = 1L << 22;
+
+    /** Max number of longs to buffer when delta files are written or read */
+    private static final int DELTA_BUFFER_LONGS = 1 << 16;
+
     /**
      * The number of longs to store in each allocated buffer. Must be a positive integer. If the
      * value is small, then we will end up allocating a very large number of buffers. If the value
@@ -130,6 +149,18 @@ public abstract class AbstractLongList<C> implements LongList {
      */
     protected final long reservedBufferSize;
 
+    /**
+     * List pages modified since this list was last written to or loaded from a file. Used to write
+     * index delta files instead of full index files, see {@link #writeToFile(Path, int)}.
+     */
+    private final DirtyPages dirtyPages;
+
+    /**
+     * The last snapshot of this list: the full index file and the number of delta files on top of
+     * it. Null, if this list has never been written to or loaded from a file.
+     */
+    private volatile SnapshotFiles lastSnapshotFiles = null;
+
     /**
      * Create a new long list with the specified capacity. Number of longs per chunk and
      * reserved buffer size are read from the provided configuration.
@@ -143,6 +174,7 @@ public abstract class AbstractLongList<C> implements LongList {
         this.capacity = capacity;
         this.longsPerChunk = merkleDbConfig.longListChunkSize();
         this.reservedBufferSize = merkleDbConfig.longListReservedBufferSize();
+        this.dirtyPages = new DirtyPages(capacity);
 
         chunkList = new AtomicReferenceArray<>(calculateNumberOfChunks(capacity));
         // multiplyExact throws exception if we overflow and int
@@ -164,6 +196,7 @@ public abstract class AbstractLongList<C> implements LongList {
         checkLongsPerChunk(longsPerChunk);
         this.longsPerChunk = longsPerChunk;
         this.reservedBufferSize = reservedBufferSize;
+        this.dirtyPages = new DirtyPages(capacity);
 
         chunkList = new AtomicReferenceArray<>(calculateNumberOfChunks(capacity));
         // multiplyExact throws exception if we overflow and int
@@ -191,6 +224,7 @@ public abstract class AbstractLongList<C> implements LongList {
         this.longsPerChunk = merkleDbConfig.longListChunkSize();
         this.memoryChunkSize = longsPerChunk * Long.BYTES;
         this.reservedBufferSize = merkleDbConfig.longListReservedBufferSize();
+        this.dirtyPages = new DirtyPages(capacity);
 
         chunkList = new AtomicReferenceArray<>(calculateNumberOfChunks(this.capacity));
         loadFromFile(file, configuration);
@@ -222,6 +256,7 @@ public abstract class AbstractLongList<C> implements LongList {
         this.memoryChunkSize = longsPerChunk * Long.BYTES;
         this.capacity = capacity;
         this.reservedBufferSize = reservedBufferSize;
+        this.dirtyPages = new DirtyPages(capacity);
 
         chunkList = new AtomicReferenceArray<>(calculateNumberOfChunks(this.capacity));
         loadFromFile(path, configuration);
@@ -286,6 +321,95 @@ public abstract class AbstractLongList<C> implements LongList {
 
             readBodyFromFileChannelOnInit(file.getFileName().toString(), fileChannel, configuration);
         }
+        lastSnapshotFiles = new SnapshotFiles(file, 0, Files.size(file), 0);
+    }
+
+    /**
+     * Applies index delta files, if any, written next to the given full index file by {@link
+     * #writeToFile(Path, int)}. Must be called by subclass constructors that load lists from files,
+     * after the list is loaded from the full index file. It can't be called from this class
+     * constructors, since subclass fields needed to create new chunks aren't initialized yet.
+     *
+     * @param file the full index file this list was loaded from
+     * @throws IOException if a delta file can't be read
+     */
+    protected final void loadDeltaFiles(@NonNull final Path file) throws IOException {
+        int deltaCount = 0;
+        long deltaBytes = 0;
+        Path deltaFile;
+        while (Files.exists(deltaFile = deltaFile(file, deltaCount + 1))) {
+            loadDeltaFile(deltaFile);
+            deltaCount++;
+            deltaBytes += Files.size(deltaFile);
+        }
+        if (deltaCount > 0) {
+            dirtyPages.clear();
+            lastSnapshotFiles = new SnapshotFiles(file, deltaCount, Files.size(file), deltaBytes);
+        }
+    }
+
+    private void loadDeltaFile(final Path deltaFile) throws IOException {
+        try (final FileChannel fileChannel = FileChannel.open(deltaFile, StandardOpenOption.READ)) {
+            final ByteBuffer header = readFromFileChannel(fileChannel, DELTA_FILE_HEADER_SIZE);
+            final int formatVersion = header.getInt();
+            if (formatVersion != DELTA_FILE_FORMAT_VERSION) {
+                throw new IOException("Index delta file format version is not supported. File format version ["
+                        + formatVersion + "], the latest supported version is [" + DELTA_FILE_FORMAT_VERSION + "].");
+            }
+            final int pageShift = header.getInt();
+            final long deltaMinValidIndex = header.getLong();
+            final long deltaMaxValidIndex = header.getLong();
+            final long deltaSize = header.getLong();
+            final long pageCount = header.getLong();
+            if ((deltaSize > capacity) || (deltaMaxValidIndex >= capacity)) {
+                throw new IllegalArgumentException("Failed to read index delta from file, size=" + deltaSize
+                        + ", maxValidIndex=" + deltaMaxValidIndex + ", capacity=" + capacity);
+            }
+            // Make sure all chunks are considered when the valid range is updated below
+            maxValidIndex.set(capacity - 1);
+            final long pageSize = 1L << pageShift;
+            final ByteBuffer buffer = ByteBuffer.allocate(toIntExact(min(pageSize, DELTA_BUFFER_LONGS) * Long.BYTES));
+            for (long p = 0; p < pageCount; p++) {
+                final long page = readFromFileChannel(fileChannel, Long.BYTES).getLong();
+                final long firstIndex = page << pageShift;
+                final long lastIndex = min(firstIndex + pageSize, capacity);
+                for (long index = firstIndex; index < lastIndex; ) {
+                    buffer.clear();
+                    buffer.limit(toIntExact(min(lastIndex - index, buffer.capacity() / Long.BYTES) * Long.BYTES));
+                    if (MerkleDbFileUtils.completelyRead(fileChannel, buffer) != buffer.limit()) {
+                        throw new IOException("Failed to read index delta page " + page + " from " + deltaFile);
+                    }
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        final long value = buffer.getLong();
+                        final int chunkIndex = toIntExact(index / longsPerChunk);
+                        final int subIndex = toIntExact(index % longsPerChunk);
+                        if (value != IMPERMISSIBLE_VALUE) {
+                            putToChunk(createOrGetChunk(index), subIndex, value);
+                        } else {
+                            final C chunk = chunkList.get(chunkIndex);
+                            if (chunk != null) {
+                                putToChunk(chunk, subIndex, IMPERMISSIBLE_VALUE);
+                            }
+                        }
+                        index++;
+                    }
+                }
+            }
+            size.set(deltaSize);
+            updateValidRange(deltaMinValidIndex, deltaMaxValidIndex);
+        }
+    }
+
+    /**
+     * Returns the path to the delta file with the given number for the given full index file.
+     *
+     * @param file full index file
+     * @param deltaNumber delta file number, starting from 1
+     * @return delta file path
+     */
+    static Path deltaFile(final Path file, final int deltaNumber) {
+        return file.resolveSibling(file.getFileName().toString() + DELTA_FILE_SUFFIX + deltaNumber);
     }
 
     /**
@@ -438,6 +562,7 @@ public abstract class AbstractLongList<C> implements LongList {
         final C chunk = createOrGetChunk(index);
         final int subIndex = toIntExact(index % longsPerChunk);
         putToChunk(chunk, subIndex, value);
+        dirtyPages.mark(index);
     }
 
     /**
@@ -475,6 +600,7 @@ public abstract class AbstractLongList<C> implements LongList {
         if (result) {
             // update the size if necessary
             size.getAndUpdate(oldSize -> index >= oldSize ? (index + 1) : oldSize);
+            dirtyPages.mark(index);
         }
         return result;
     }
@@ -550,17 +676,127 @@ public abstract class AbstractLongList<C> implements LongList {
      */
     @Override
     public void writeToFile(final Path file) throws IOException {
-        try (final FileChannel fc = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-            // write header
-            writeHeader(fc);
-            if (size() > 0) {
-                // write data
-                writeLongsData(fc);
+        // Pages modified from now on will be included into the next delta file
+        final long[] pages = dirtyPages.takeAll();
+        try {
+            try (final FileChannel fc =
+                    FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                // the file didn't exist, so any delta files next to it are leftovers and must not be loaded
+                deleteDeltaFiles(file);
+                // write header
+                writeHeader(fc);
+                if (size() > 0) {
+                    // write data
+                    writeLongsData(fc);
+                }
+                fc.force(true);
+            }
+            lastSnapshotFiles = new SnapshotFiles(file, 0, Files.size(file), 0);
+        } catch (final IOException | RuntimeException e) {
+            dirtyPages.restore(pages);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This implementation hard links the full index file and delta files of the last snapshot
+     * of this list, and writes a new delta file with all list pages modified since then. A page is
+     * a range of 4K or more consecutive list indices. A full index file is written instead, if
+     * there was no previous snapshot, or its files can't be linked (e.g. they are already
+     * deleted), or there are already {@code maxDeltaFiles} delta files, or the total size of
+     * delta files would exceed half the size of the full index file.
+     */
+    @Override
+    public void writeToFile(@NonNull final Path file, final int maxDeltaFiles) throws IOException {
+        final SnapshotFiles last = lastSnapshotFiles;
+        if ((maxDeltaFiles <= 0) || (last == null) || (last.deltaCount() >= maxDeltaFiles)) {
+            writeToFile(file);
+            return;
+        }
+        final long[] pages = dirtyPages.takeAll();
+        long pageCount = 0;
+        for (final long word : pages) {
+            pageCount += Long.bitCount(word);
+        }
+        final long deltaBytes = DELTA_FILE_HEADER_SIZE + pageCount * (Long.BYTES + (Long.BYTES << dirtyPages.pageShift));
+        if (last.deltaBytes() + deltaBytes > last.baseBytes() / 2) {
+            // too many changes since the last full index file, deltas would cost more than they save
+            dirtyPages.restore(pages);
+            writeToFile(file);
+            return;
+        }
+        final List<Path> createdFiles = new ArrayList<>();
+        try {
+            createdFiles.add(Files.createLink(file, last.file()));
+            for (int i = 1; i <= last.deltaCount(); i++) {
+                createdFiles.add(Files.createLink(deltaFile(file, i), deltaFile(last.file(), i)));
+            }
+            // the full index file didn't exist, so the delta file may only be a leftover, if it exists
+            final Path deltaFile = deltaFile(file, last.deltaCount() + 1);
+            createdFiles.add(deltaFile);
+            writeDeltaFile(deltaFile, pages, pageCount);
+            lastSnapshotFiles = new SnapshotFiles(
+                    file, last.deltaCount() + 1, last.baseBytes(), last.deltaBytes() + Files.size(deltaFile));
+        } catch (final IOException e) {
+            // the last snapshot may be deleted already, fall back to a full index file
+            for (final Path createdFile : createdFiles) {
+                Files.deleteIfExists(createdFile);
+            }
+            dirtyPages.restore(pages);
+            writeToFile(file);
+        }
+    }
+
+    private void writeDeltaFile(final Path deltaFile, final long[] pages, final long pageCount) throws IOException {
+        final int pageShift = dirtyPages.pageShift;
+        final long pageSize = 1L << pageShift;
+        try (final FileChannel fc =
+                FileChannel.open(deltaFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(DELTA_FILE_HEADER_SIZE);
+            header.putInt(DELTA_FILE_FORMAT_VERSION);
+            header.putInt(pageShift);
+            header.putLong(minValidIndex.get());
+            header.putLong(maxValidIndex.get());
+            header.putLong(size.get());
+            header.putLong(pageCount);
+            header.flip();
+            MerkleDbFileUtils.completelyWrite(fc, header);
+            // every buffer starts with a page index, followed by up to DELTA_BUFFER_LONGS page values
+            final ByteBuffer buffer =
+                    ByteBuffer.allocate(toIntExact((min(pageSize, DELTA_BUFFER_LONGS) + 1) * Long.BYTES));
+            for (int word = 0; word < pages.length; word++) {
+                long bits = pages[word];
+                while (bits != 0) {
+                    final long page = ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    buffer.clear();
+                    buffer.putLong(page);
+                    final long firstIndex = page << pageShift;
+                    final long lastIndex = min(firstIndex + pageSize, capacity);
+                    for (long index = firstIndex; index < lastIndex; index++) {
+                        if (!buffer.hasRemaining()) {
+                            buffer.flip();
+                            MerkleDbFileUtils.completelyWrite(fc, buffer);
+                            buffer.clear();
+                        }
+                        buffer.putLong(get(index));
+                    }
+                    buffer.flip();
+                    MerkleDbFileUtils.completelyWrite(fc, buffer);
+                }
             }
             fc.force(true);
         }
     }
 
+    private static void deleteDeltaFiles(final Path file) throws IOException {
+        for (int i = 1; Files.deleteIfExists(deltaFile(file, i)); i++) {
+            // keep deleting until there are no more delta files
+        }
+    }
+
     /**
      * Write or rewrite header in file
      *
@@ -857,4 +1093,73 @@ public abstract class AbstractLongList<C> implements LongList {
             throw new IllegalArgumentException(MAX_CHUNKS_EXCEEDED_MSG.formatted(MAX_NUM_CHUNKS));
         }
     }
+
+    /**
+     * The last snapshot of a long list.
+     *
+     * @param file the full index file
+     * @param deltaCount the number of delta files next to the full index file
+     * @param baseBytes the size of the full index file
+     * @param deltaBytes the total size of all delta files
+     */
+    private record SnapshotFiles(Path file, int deltaCount, long baseBytes, long deltaBytes) {}
+
+    /**
+     * A concurrent bit set of long list pages. A page is a range of {@code 1 << pageShift}
+     * consecutive list indices. Page size depends on list capacity, it's chosen to keep the number
+     * of pages below {@link #MAX_DELTA_PAGES}.
+     */
+    private static final class DirtyPages {
+
+        private final int pageShift;
+
+        private final AtomicLongArray bits;
+
+        DirtyPages(final long capacity) {
+            int shift = MIN_DELTA_PAGE_SHIFT;
+            while (((capacity - 1) >>> shift) >= MAX_DELTA_PAGES) {
+                shift++;
+            }
+            pageShift = shift;
+            final long pageCount = ((capacity - 1) >>> shift) + 1;
+            bits = new AtomicLongArray(toIntExact((pageCount + Long.SIZE - 1) / Long.SIZE));
+        }
+
+        void mark(final long index) {
+            final long page = index >>> pageShift;
+            final int word = toIntExact(page / Long.SIZE);
+            final long mask = 1L << (page % Long.SIZE);
+            long value = bits.get(word);
+            // most puts are to pages that are already marked, check the bit before CAS
+            while ((value & mask) == 0) {
+                final long witness = bits.compareAndExchange(word, value, value | mask);
+                if (witness == value) {
+                    return;
+                }
+                value = witness;
+            }
+        }
+
+        long[] takeAll() {
+            final long[] result = new long[bits.length()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = bits.getAndSet(i, 0);
+            }
+            return result;
+        }
+
+        void restore(final long[] pages) {
+            for (int i = 0; i < pages.length; i++) {
+                if (pages[i] != 0) {
+                    bits.accumulateAndGet(i, pages[i], (a, b) -> a | b);
+                }
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, 0);
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@
 package com.swirlds.merkledb.collections;
 
 import com.swirlds.merkledb.files.DataFileCommon;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -103,6 +104,24 @@ public interface LongList extends CASableLongIndex, Closeable {
      */
     void writeToFile(Path file) throws IOException;
 
+    /**
+     * Write this LongList into a file, possibly incrementally. Implementations may write only the
+     * changes since the last time this list was written to or loaded from a file, as a delta file
+     * next to the given file, and reuse (hard link) the files of the previous snapshot. Lists
+     * loaded from the given file later must produce the same data as this list has now.
+     *
+     * <p>The default implementation always writes the full list using {@link #writeToFile(Path)}.
+     *
+     * @param file The file to write into, it should not exist but its parent directory should exist
+     *             and be writable.
+     * @param maxDeltaFiles The max number of delta files to have next to the file. If zero, the full
+     *                      list is written
+     * @throws IOException If there was a problem creating or writing to the file.
+     */
+    default void writeToFile(@NonNull final Path file, final int maxDeltaFiles) throws IOException {
+        writeToFile(file);
+    }
+
     /**
      * Updates min and max valid indexes in this list. If both values are -1, this indicates
      * the list is empty.
@@ -127,6 +127,7 @@ public class LongListDisk extends AbstractLongList<Long> {
         if (tempFile == null) {
             throw new IllegalStateException("The temp file is not initialized");
         }
+        loadDeltaFiles(file);
     }
 
     /**
@@ -157,6 +158,7 @@ public class LongListDisk extends AbstractLongList<Long> {
         if (tempFile == null) {
             throw new IllegalStateException("The temp file is not initialized");
         }
+        loadDeltaFiles(path);
     }
 
     private void initFileChannel(final Configuration configuration) {
@@ -80,6 +80,7 @@ public final class LongListHeap extends AbstractLongList<AtomicLongArray> {
     public LongListHeap(@NonNull final Path file, final long capacity, @NonNull final Configuration configuration)
             throws IOException {
         super(file, capacity, configuration);
+        loadDeltaFiles(file);
     }
 
     /**
@@ -105,6 +106,7 @@ public final class LongListHeap extends AbstractLongList<AtomicLongArray> {
             final Configuration configuration)
             throws IOException {
         super(path, longsPerChunk, capacity, reservedBufferSize, configuration);
+        loadDeltaFiles(path);
     }
 
     /**
@@ -77,6 +77,7 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
     public LongListOffHeap(@NonNull final Path file, final long capacity, @NonNull final Configuration configuration)
             throws IOException {
         super(file, capacity, configuration);
+        loadDeltaFiles(file);
     }
 
     /**
@@ -102,6 +103,7 @@ public final class LongListOffHeap extends AbstractLongList<ByteBuffer> implemen
             @NonNull final Configuration configuration)
             throws IOException {
         super(path, longsPerChunk, capacity, reservedBufferSize, configuration);
+        loadDeltaFiles(path);
     }
 
     /** {@inheritDoc} */
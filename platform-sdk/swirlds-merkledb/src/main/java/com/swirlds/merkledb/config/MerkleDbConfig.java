@@ -61,13 +61,51 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  * @param numHalfDiskHashMapFlushThreads
  *      Number of threads to use for half disk hash map background flushing. If set to a negative value, the number of
  *      threads to use is calculated based on {@link #percentHalfDiskHashMapFlushThreads}
- * @param leafRecordCacheSize
- *      Cache size in bytes for reading virtual leaf records. Initialized in data source creation time from MerkleDb config.
- *      If the value is zero, leaf records cache isn't used.
+ * @param leafRecordCacheBytes
+ *      Max estimated heap size, in bytes, of the virtual leaf records cache in every data source. Initialized in data
+ *      source creation time from MerkleDb config. If the value is zero, leaf records cache isn't used. The default
+ *      holds about as many records as the 1048576 slots of the former direct-mapped cache, at an estimated average
+ *      of 256 bytes per cache entry.
+ * @param leafRecordCacheShards
+ *      Number of independently locked shards in virtual leaf records cache. Rounded up to a power of two.
  * @param maxFileChannelsPerFileReader
  *     Maximum number of file channels per file reader.
  * @param maxThreadsPerFileChannel
  *    Maximum number of threads per file channel.
+ * @param batchReadThreads
+ *    Max number of threads per data file collection to issue concurrent file reads for batch data item reads. The
+ *    threads are started on demand, stopped when idle, and shut down when the data file collection is closed.
+ * @param compactionReadBatchSize
+ *    Number of data items compaction reads from compacted files in a single batch, concurrently and sorted by file
+ *    offset, before they are written to the new file. If set to 1, data items are read one at a time.
+ * @param dataFileMmapReadsEnabled
+ *      Indicates whether completed data files should be memory mapped for reading. When enabled, data items are
+ *      returned as slices of mapped file regions rather than copied from file channels into buffers.
+ * @param dataFileMmapMaxCompactionLevel
+ *      Maximum compaction level of data files to memory map, when {@link #dataFileMmapReadsEnabled} is true. Files
+ *      at higher (older) compaction levels are read using file channels. This makes it possible to map only the
+ *      newest, usually the hottest, data files.
+ * @param compactionMaxWriteMbPerSecond
+ *      Max number of megabytes per second all background compactions in the node may write. If zero, compaction
+ *      write throughput is not limited.
+ * @param compactionMaxIops
+ *      Max number of data items per second all background compactions in the node may copy. Every data item copy
+ *      is a random read from a compacted file. If zero, compaction I/O operations are not limited.
+ * @param compactionPausedDuringFlush
+ *      Indicates whether all background compactions should be paused while any data source is flushing data to
+ *      disk. Compactions are always paused while data source snapshots are taken.
+ * @param percentDeadItemsToCompactFile
+ *      Percentage, from 0.0 to 100.0, of data items in a data file that are no longer referenced from the index,
+ *      above which the file is compacted regardless of its compaction level. Files with the highest percentages
+ *      of dead items are compacted first. If zero, files are selected for compactions by compaction levels only.
+ * @param indexSnapshotMaxDeltaFiles
+ *      Max number of delta files to write for path and bucket indices in data source snapshots, before the
+ *      full indices are written again. A delta file contains only index pages modified since the previous
+ *      snapshot, while the full index file and older delta files are hard linked from the previous snapshot.
+ *      If zero, full indices are written in every snapshot.
+ * @param snapshotMaxConcurrentWrites
+ *      Max number of data source stores (indices, data file collections, metadata) to snapshot in parallel
+ *      across all data sources in the node. If zero, all stores of a data source are snapshot in parallel.
  */
 @ConfigData("merkleDb")
 public record MerkleDbConfig(
@@ -90,9 +128,20 @@ public record MerkleDbConfig(
         @ConfigProperty(defaultValue = "") String tablesToRepairHdhm,
         @ConfigProperty(defaultValue = "75.0") double percentHalfDiskHashMapFlushThreads,
         @ConfigProperty(defaultValue = "-1") int numHalfDiskHashMapFlushThreads,
-        @ConfigProperty(defaultValue = "1048576") int leafRecordCacheSize,
+        @Min(0) @ConfigProperty(defaultValue = "268435456") long leafRecordCacheBytes,
+        @Min(1) @ConfigProperty(defaultValue = "64") int leafRecordCacheShards,
         @Min(1) @ConfigProperty(defaultValue = "8") int maxFileChannelsPerFileReader,
-        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel) {
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel,
+        @Min(1) @ConfigProperty(defaultValue = "16") int batchReadThreads,
+        @Min(1) @ConfigProperty(defaultValue = "256") int compactionReadBatchSize,
+        @ConfigProperty(defaultValue = "false") boolean dataFileMmapReadsEnabled,
+        @Min(0) @ConfigProperty(defaultValue = "5") int dataFileMmapMaxCompactionLevel,
+        @Min(0) @ConfigProperty(defaultValue = "0") int compactionMaxWriteMbPerSecond,
+        @Min(0) @ConfigProperty(defaultValue = "0") int compactionMaxIops,
+        @ConfigProperty(defaultValue = "true") boolean compactionPausedDuringFlush,
+        @ConfigProperty(defaultValue = "50.0") double percentDeadItemsToCompactFile,
+        @Min(0) @ConfigProperty(defaultValue = "0") int indexSnapshotMaxDeltaFiles,
+        @Min(0) @ConfigProperty(defaultValue = "0") int snapshotMaxConcurrentWrites) {
 
     static double UNIT_FRACTION_PERCENT = 100.0;
 
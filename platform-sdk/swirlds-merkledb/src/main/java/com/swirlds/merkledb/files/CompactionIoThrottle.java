@@ -0,0 +1,193 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.base.units.UnitConstants;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * I/O budget for background compactions, shared by all data file compactors in the node. The
+ * budget is defined by two limits: max number of bytes written per second, and max number of
+ * I/O operations (data item copies, each one is a random read from a compacted file and a write
+ * to the new file) per second. Both limits are enforced using token buckets, which are refilled
+ * continuously and can hold up to one second worth of budget. A limit of zero means unlimited.
+ *
+ * <p>Compactors call {@link #acquire(long, int, BooleanSupplier)} after every data item is copied.
+ * If the budget is exceeded, the call blocks until the buckets are refilled. Compactions can
+ * also be paused entirely, e.g. while a data source snapshot or flush is in progress, using
+ * {@link #pause()} and {@link #resume()}. Compactors never hold any locks while they are
+ * throttled or paused, so snapshots and flushes are never blocked by this class.
+ */
+public final class CompactionIoThrottle {
+
+    /**
+     * Max time to wait in a single iteration in {@link #acquire(long, int, BooleanSupplier)}. After
+     * every iteration, the wait condition provided by the caller is checked.
+     */
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * A throttle shared by all compactors. Accessed using {@link #getInstance(MerkleDbConfig)}.
+     */
+    private static CompactionIoThrottle instance = null;
+
+    /**
+     * Returns a compaction I/O throttle shared by all data file compactors. The throttle is created
+     * using the config provided by the first caller. Subsequent calls reuse the same throttle,
+     * regardless of any new configurations provided.
+     *
+     * @param merkleDbConfig MerkleDb config
+     * @return the shared compaction I/O throttle
+     */
+    public static synchronized CompactionIoThrottle getInstance(@NonNull final MerkleDbConfig merkleDbConfig) {
+        requireNonNull(merkleDbConfig);
+        if (instance == null) {
+            instance = new CompactionIoThrottle(
+                    (long) merkleDbConfig.compactionMaxWriteMbPerSecond() * UnitConstants.MEBIBYTES_TO_BYTES,
+                    merkleDbConfig.compactionMaxIops());
+        }
+        return instance;
+    }
+
+    /** Max bytes to write per second, or zero if unlimited */
+    private final long maxBytesPerSecond;
+
+    /** Max I/O operations per second, or zero if unlimited */
+    private final long maxOpsPerSecond;
+
+    /** Bytes budget currently available. May be negative. Synchronized on this */
+    private double availableBytes;
+
+    /** I/O operations budget currently available. May be negative. Synchronized on this */
+    private double availableOps;
+
+    /** The last time the buckets were refilled. Synchronized on this */
+    private long lastRefillNanos;
+
+    /** Number of pending calls to {@link #pause()}. Updated under synchronization on this */
+    private volatile int pauseCount = 0;
+
+    /** Total time spent by all compactors waiting for this throttle */
+    private final LongAdder throttledNanos = new LongAdder();
+
+    /**
+     * Creates a new compaction I/O throttle.
+     *
+     * @param maxBytesPerSecond max bytes to write per second, zero for unlimited
+     * @param maxOpsPerSecond max I/O operations per second, zero for unlimited
+     */
+    CompactionIoThrottle(final long maxBytesPerSecond, final long maxOpsPerSecond) {
+        if ((maxBytesPerSecond < 0) || (maxOpsPerSecond < 0)) {
+            throw new IllegalArgumentException("Compaction I/O limits must not be negative");
+        }
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.maxOpsPerSecond = maxOpsPerSecond;
+        availableBytes = maxBytesPerSecond;
+        availableOps = maxOpsPerSecond;
+        lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Charges the given number of bytes and I/O operations to the budget. If the budget is
+     * exhausted, or if compactions are paused, this method blocks until the budget is available
+     * and compactions are resumed, or until the provided condition becomes false.
+     *
+     * @param bytes number of bytes written
+     * @param ops number of I/O operations performed
+     * @param keepWaiting condition to check while waiting, e.g. to handle compaction interrupts
+     * @return time spent waiting, in nanoseconds
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public long acquire(final long bytes, final int ops, @NonNull final BooleanSupplier keepWaiting)
+            throws InterruptedException {
+        if ((maxBytesPerSecond == 0) && (maxOpsPerSecond == 0) && (pauseCount == 0)) {
+            return 0;
+        }
+        synchronized (this) {
+            final long start = System.nanoTime();
+            refill(start);
+            availableBytes -= bytes;
+            availableOps -= ops;
+            long now = start;
+            while (keepWaiting.getAsBoolean()) {
+                final long waitNanos = (pauseCount > 0)
+                        ? MAX_WAIT_NANOS
+                        : Math.max(
+                                deficitNanos(availableBytes, maxBytesPerSecond),
+                                deficitNanos(availableOps, maxOpsPerSecond));
+                if (waitNanos <= 0) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, Math.min(waitNanos, MAX_WAIT_NANOS));
+                now = System.nanoTime();
+                refill(now);
+            }
+            final long waited = now - start;
+            if (waited > 0) {
+                throttledNanos.add(waited);
+            }
+            return waited;
+        }
+    }
+
+    /**
+     * Pauses all compactions. Compactors will be blocked in {@link #acquire(long, int,
+     * BooleanSupplier)} until {@link #resume()} is called. Calls to this method may be nested, each
+     * call must be balanced with a call to {@link #resume()}.
+     */
+    public synchronized void pause() {
+        pauseCount++;
+    }
+
+    /**
+     * Resumes compactions previously paused with {@link #pause()}.
+     */
+    public synchronized void resume() {
+        if (pauseCount > 0) {
+            pauseCount--;
+        }
+        notifyAll();
+    }
+
+    /**
+     * @return true if compactions are currently paused
+     */
+    public boolean isPaused() {
+        return pauseCount > 0;
+    }
+
+    /**
+     * @return total time spent by all compactors waiting for this throttle, in nanoseconds
+     */
+    public long getThrottledNanos() {
+        return throttledNanos.sum();
+    }
+
+    // Must be called under synchronization on this
+    private void refill(final long now) {
+        final long elapsedNanos = now - lastRefillNanos;
+        if (elapsedNanos <= 0) {
+            return;
+        }
+        lastRefillNanos = now;
+        if (maxBytesPerSecond > 0) {
+            availableBytes =
+                    Math.min(maxBytesPerSecond, availableBytes + (double) maxBytesPerSecond * elapsedNanos / 1e9);
+        }
+        if (maxOpsPerSecond > 0) {
+            availableOps = Math.min(maxOpsPerSecond, availableOps + (double) maxOpsPerSecond * elapsedNanos / 1e9);
+        }
+    }
+
+    private static long deficitNanos(final double available, final long maxPerSecond) {
+        if ((maxPerSecond == 0) || (available >= 0)) {
+            return 0;
+        }
+        return (long) Math.ceil(-available * 1e9 / maxPerSecond);
+    }
+}
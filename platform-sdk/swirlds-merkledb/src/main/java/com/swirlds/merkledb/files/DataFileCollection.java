@@ -2,9 +2,12 @@
 package com.swirlds.merkledb.files;
 
 import static com.hedera.pbj.runtime.ProtoParserTools.TAG_FIELD_OFFSET;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.MERKLE_DB;
 import static com.swirlds.merkledb.KeyRange.INVALID_KEY_RANGE;
+import static com.swirlds.merkledb.MerkleDb.MERKLEDB_COMPONENT;
+import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_ITEMS;
 import static com.swirlds.merkledb.files.DataFileCommon.FILE_EXTENSION;
 import static com.swirlds.merkledb.files.DataFileCommon.byteOffsetFromDataLocation;
 import static com.swirlds.merkledb.files.DataFileCommon.fileIndexFromDataLocation;
@@ -19,6 +22,7 @@ import com.hedera.pbj.runtime.io.WritableSequentialData;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.merkledb.FileStatisticAware;
 import com.swirlds.merkledb.KeyRange;
 import com.swirlds.merkledb.Snapshotable;
@@ -41,8 +45,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -89,6 +100,9 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
     /** The number of times to retry index based reads */
     private static final int NUM_OF_READ_RETRIES = 5;
 
+    /** How long idle batch read threads are kept before they are stopped */
+    private static final long BATCH_READ_THREAD_KEEP_ALIVE_SECONDS = 30;
+
     /** File collection metadata fields */
     private static final FieldDefinition FIELD_FILECOLLECTION_MINVALIDKEY =
             new FieldDefinition("minValidKey", FieldType.UINT64, false, true, false, 1);
@@ -96,6 +110,15 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
     private static final FieldDefinition FIELD_FILECOLLECTION_MAXVALIDKEY =
             new FieldDefinition("maxValidKey", FieldType.UINT64, false, true, false, 2);
 
+    private static final FieldDefinition FIELD_FILECOLLECTION_DEADITEMS =
+            new FieldDefinition("deadItems", FieldType.MESSAGE, true, true, false, 3);
+
+    private static final FieldDefinition FIELD_DEADITEMS_FILEINDEX =
+            new FieldDefinition("fileIndex", FieldType.UINT32, false, true, false, 1);
+
+    private static final FieldDefinition FIELD_DEADITEMS_COUNT =
+            new FieldDefinition("count", FieldType.UINT64, false, true, false, 2);
+
     private final MerkleDbConfig dbConfig;
 
     /** The directory to store data files */
@@ -117,6 +140,11 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
     /** The range of valid data item keys for data currently stored by this data file collection. */
     private volatile KeyRange validKeyRange = INVALID_KEY_RANGE;
 
+    /** Number of data items stored using {@link #storeDataItem(Consumer, int)} since this collection was created */
+    private final AtomicLong storedDataItemsCount = new AtomicLong();
+    /** Total size of data items, in file bytes, stored since this collection was created */
+    private final AtomicLong storedDataItemsBytes = new AtomicLong();
+
     /**
      * The list of current files in this data file collection. The files are added to this list
      * during flushes in {@link #endWriting()}, after the file is completely written. They
@@ -155,6 +183,13 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
     private final ConcurrentSkipListSet<Integer> setOfNewFileIndexes =
             logger.isTraceEnabled() ? new ConcurrentSkipListSet<>() : null;
 
+    /**
+     * Executor to run file reads for {@link #readDataItems(long[])}. Its threads are started on demand
+     * and stopped when idle, so collections that don't read in batches don't hold any threads. The
+     * executor is shut down when this collection is closed.
+     */
+    private final ThreadPoolExecutor batchReadExecutor;
+
     /**
      * Construct a new DataFileCollection.
      *
@@ -246,6 +281,19 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         this.storeName = storeName;
         this.legacyStoreName = legacyStoreName;
         this.indexedObjectListConstructor = indexedObjectListConstructor;
+        this.batchReadExecutor = new ThreadPoolExecutor(
+                dbConfig.batchReadThreads(),
+                dbConfig.batchReadThreads(),
+                BATCH_READ_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent(MERKLEDB_COMPONENT)
+                        .setThreadName("Batch read " + storeName)
+                        .setExceptionHandler((t, ex) -> logger.error(
+                                EXCEPTION.getMarker(), "[{}] Uncaught exception during batch read", storeName, ex))
+                        .buildFactory());
+        batchReadExecutor.allowCoreThreadTimeOut(true);
 
         // check if exists, if so open existing files
         if (Files.exists(storeDir)) {
@@ -324,11 +372,16 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         // calling startSnapshot causes the metadata file to be written
         saveMetadata(storeDir);
         // close all files
-        final ImmutableIndexedObjectList<DataFileReader> fileList = dataFiles.getAndSet(null);
-        if (fileList != null) {
-            for (final DataFileReader file : (Iterable<DataFileReader>) fileList.stream()::iterator) {
-                file.close();
+        try {
+            final ImmutableIndexedObjectList<DataFileReader> fileList = dataFiles.getAndSet(null);
+            if (fileList != null) {
+                for (final DataFileReader file : (Iterable<DataFileReader>) fileList.stream()::iterator) {
+                    file.close();
+                }
             }
+        } finally {
+            // Batch reads still in flight fail, as their file channels are closed above
+            batchReadExecutor.shutdown();
         }
     }
 
@@ -362,7 +415,10 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         if (currentDataFileForWriting == null) {
             throw new IOException("Tried to put data " + dataItem + " when we never started writing.");
         }
-        return currentDataFileForWriting.storeDataItem(dataItem);
+        final int dataItemSize = Math.toIntExact(dataItem.remaining());
+        final long dataLocation = currentDataFileForWriting.storeDataItem(dataItem);
+        countStoredDataItem(dataItemSize);
+        return dataLocation;
     }
 
     /**
@@ -379,7 +435,26 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         if (currentDataFileForWriting == null) {
             throw new IOException("Tried to put data " + dataItemWriter + " when we never started writing.");
         }
-        return currentDataFileForWriting.storeDataItem(dataItemWriter, dataItemSize);
+        final long dataLocation = currentDataFileForWriting.storeDataItem(dataItemWriter, dataItemSize);
+        countStoredDataItem(dataItemSize);
+        return dataLocation;
+    }
+
+    private void countStoredDataItem(final int dataItemSize) {
+        storedDataItemsCount.incrementAndGet();
+        storedDataItemsBytes.addAndGet(ProtoWriterTools.sizeOfDelimited(FIELD_DATAFILE_ITEMS, dataItemSize));
+    }
+
+    /**
+     * Returns the average size of data items stored in this collection, in file bytes, including
+     * data item tags and sizes. Only data items stored since this collection was created are taken
+     * into account. If no data items have been stored yet, this method returns zero.
+     *
+     * @return average stored data item size in bytes, or zero if unknown
+     */
+    public double getAverageStoredDataItemSize() {
+        final long count = storedDataItemsCount.get();
+        return (count == 0) ? 0 : (double) storedDataItemsBytes.get() / count;
     }
 
     /**
@@ -402,10 +477,32 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
             final DataFileMetadata metadata = dataReader.getMetadata();
             setOfNewFileIndexes.remove(metadata.getIndex());
         }
+        dataReader.setItemsCount(dataWriter.getItemsCount());
         dataReader.setFileCompleted();
         return dataReader;
     }
 
+    /**
+     * Notifies this file collection that a data item at the given location is no longer referenced
+     * from the index, for example, because the index entry was updated to point to a newer data
+     * item. Dead data items are counted per data file, and files with the highest ratios of dead
+     * data items are compacted first, see {@link DataFileCompactor}.
+     *
+     * <p>If the location is {@link DataFileCommon#NON_EXISTENT_DATA_LOCATION}, or the file with the
+     * given index doesn't exist (e.g. it has been compacted and deleted), this method is no-op.
+     *
+     * @param dataLocation the location of the data item that is no longer referenced
+     */
+    public void dataItemRemoved(final long dataLocation) {
+        if (dataLocation == DataFileCommon.NON_EXISTENT_DATA_LOCATION) {
+            return;
+        }
+        final DataFileReader file = getDataFile(fileIndexFromDataLocation(dataLocation));
+        if (file != null) {
+            file.incrementDeadItemsCount();
+        }
+    }
+
     /**
      * Sets the current key range for this file collection.
      *
@@ -479,6 +576,63 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         return (file != null) ? file.readDataItem(dataLocation) : null;
     }
 
+    /**
+     * Read multiple data items at the given locations (file index + offset). Reads are issued
+     * to all files at once in data location order, i.e. sorted by file and then by offset in the
+     * file, and executed concurrently. This method returns when all reads are complete.
+     *
+     * <p>Results are returned in the same order as the provided data locations. If a data item
+     * file is already closed, the corresponding result is {@code null}, the same way as it would
+     * be for {@link #readDataItem(long)}. Any other read error is thrown, there are no retries.
+     *
+     * <p>Unlike {@link #readDataItem(long)}, the returned data items are not backed by a shared
+     * thread local buffer, so all of them can be used after this method returns.
+     *
+     * @param dataLocations Data item locations, which combine file index and offset
+     * @return Data item bytes for the data locations, in the same order
+     * @throws IOException If there was a problem reading any of the data items
+     */
+    public BufferedData[] readDataItems(@NonNull final long[] dataLocations) throws IOException {
+        final int count = dataLocations.length;
+        final BufferedData[] result = new BufferedData[count];
+        if (count == 0) {
+            return result;
+        }
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> Long.compare(dataLocations[i1], dataLocations[i2]));
+        final CompletableFuture<BufferedData>[] futures = new CompletableFuture[count];
+        for (final int i : order) {
+            final DataFileReader file = readerForDataLocation(dataLocations[i]);
+            if (file != null) {
+                futures[i] = file.readDataItemAsync(dataLocations[i], batchReadExecutor);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            if (futures[i] == null) {
+                continue;
+            }
+            try {
+                result[i] = futures[i].get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading data items", e);
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException ioe) {
+                    throw ioe;
+                }
+                throw new IOException(
+                        "Failed to read data item at location "
+                                + DataFileCommon.dataLocationToString(dataLocations[i]),
+                        cause);
+            }
+        }
+        return result;
+    }
+
     /**
      * Read a data item from any file that has finished being written. Uses a LongList that maps
      * key-&gt;dataLocation, this allows for multiple retries going back to the index each time. The
@@ -690,6 +844,23 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
                 ProtoWriterTools.writeTag(out, FIELD_FILECOLLECTION_MAXVALIDKEY);
                 out.writeVarLong(keyRange.getMaxValidKey(), false);
             }
+            for (final DataFileReader file : getAllCompletedFiles()) {
+                final int fileIndex = file.getIndex();
+                final long deadItemsCount = file.getDeadItemsCount();
+                if (deadItemsCount == 0) {
+                    continue;
+                }
+                final int size = ProtoWriterTools.sizeOfTag(FIELD_DEADITEMS_FILEINDEX)
+                        + ProtoWriterTools.sizeOfVarInt32(fileIndex)
+                        + ProtoWriterTools.sizeOfTag(FIELD_DEADITEMS_COUNT)
+                        + ProtoWriterTools.sizeOfVarInt64(deadItemsCount);
+                ProtoWriterTools.writeDelimited(out, FIELD_FILECOLLECTION_DEADITEMS, size, o -> {
+                    ProtoWriterTools.writeTag(o, FIELD_DEADITEMS_FILEINDEX);
+                    o.writeVarInt(fileIndex, false);
+                    ProtoWriterTools.writeTag(o, FIELD_DEADITEMS_COUNT);
+                    o.writeVarLong(deadItemsCount, false);
+                });
+            }
             fileOut.flush();
         }
     }
@@ -736,7 +907,7 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         }
     }
 
-    private boolean loadMetadata() throws IOException {
+    private boolean loadMetadata(final DataFileReader[] dataFileReaders) throws IOException {
         boolean loadedLegacyMetadata = false;
         Path metadataFile = storeDir.resolve(storeName + METADATA_FILENAME_SUFFIX);
         if (!Files.exists(metadataFile)) {
@@ -756,6 +927,34 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
                     minValidKey = in.readVarLong(false);
                 } else if (fieldNum == FIELD_FILECOLLECTION_MAXVALIDKEY.number()) {
                     maxValidKey = in.readVarLong(false);
+                } else if (fieldNum == FIELD_FILECOLLECTION_DEADITEMS.number()) {
+                    final int size = in.readVarInt(false);
+                    final long oldLimit = in.limit();
+                    in.limit(in.position() + size);
+                    int fileIndex = 0;
+                    long deadItemsCount = 0;
+                    try {
+                        while (in.hasRemaining()) {
+                            final int deadItemsTag = in.readVarInt(false);
+                            final int deadItemsFieldNum = deadItemsTag >> TAG_FIELD_OFFSET;
+                            if (deadItemsFieldNum == FIELD_DEADITEMS_FILEINDEX.number()) {
+                                fileIndex = in.readVarInt(false);
+                            } else if (deadItemsFieldNum == FIELD_DEADITEMS_COUNT.number()) {
+                                deadItemsCount = in.readVarLong(false);
+                            } else {
+                                throw new IllegalArgumentException("Unknown dead items field: " + deadItemsFieldNum);
+                            }
+                        }
+                    } finally {
+                        in.limit(oldLimit);
+                    }
+                    // Dead items counts may be stored for files that no longer exist, just ignore them
+                    for (final DataFileReader dataFileReader : dataFileReaders) {
+                        if (dataFileReader.getIndex() == fileIndex) {
+                            dataFileReader.setDeadItemsCount(deadItemsCount);
+                            break;
+                        }
+                    }
                 } else {
                     throw new IllegalArgumentException("Unknown file collection metadata field: " + fieldNum);
                 }
@@ -776,7 +975,7 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
                 dataFileReaders.length,
                 storeName);
         // read metadata
-        if (!loadMetadata()) {
+        if (!loadMetadata(dataFileReaders)) {
             logger.warn(
                     EXCEPTION.getMarker(),
                     "Loading existing set of data files but no metadata file was found in [{}]",
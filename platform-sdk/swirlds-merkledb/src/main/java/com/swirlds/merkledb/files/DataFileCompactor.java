@@ -18,9 +18,14 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -47,6 +52,8 @@ public class DataFileCompactor {
      */
     public static final int INITIAL_COMPACTION_LEVEL = 0;
 
+    private static final double UNIT_FRACTION_PERCENT = 100.0;
+
     private final MerkleDbConfig dbConfig;
 
     /**
@@ -139,6 +146,18 @@ public class DataFileCompactor {
      */
     private volatile boolean interruptFlag = false;
 
+    /**
+     * I/O budget shared by all compactions in the node. Data items are copied by this compactor
+     * no faster than allowed by this throttle.
+     */
+    private final CompactionIoThrottle ioThrottle;
+
+    /**
+     * Total time this compactor has been throttled or paused by {@link #ioThrottle}, in nanos.
+     * This field is only updated on the compaction thread.
+     */
+    private long throttledNanos = 0;
+
     /**
      * @param dbConfig                       MerkleDb config
      * @param storeName                      name of the store to compact
@@ -166,6 +185,7 @@ public class DataFileCompactor {
         this.reportSavedSpaceMetricFunction = reportSavedSpaceMetricFunction;
         this.reportFileSizeByLevelMetricFunction = reportFileSizeByLevelMetricFunction;
         this.updateTotalStatsFunction = updateTotalStatsFunction;
+        this.ioThrottle = CompactionIoThrottle.getInstance(dbConfig);
     }
 
     /**
@@ -190,7 +210,27 @@ public class DataFileCompactor {
             logger.debug(MERKLE_DB.getMarker(), "No files were available for merging [{}]", storeName);
             return Collections.emptyList();
         }
+        return compactPlannedFiles(index, filesToCompact, targetCompactionLevel);
+    }
 
+    /**
+     * Compacts all files in compactionPlan. Unlike {@link #compactFiles(CASableLongIndex, List, int)},
+     * this method doesn't check the number of files to compact, as compaction plans may contain fewer
+     * files than {@link #getMinNumberOfFilesToCompact()}, if they are selected because of high ratios
+     * of dead data items.
+     *
+     * @param index          index to update during compaction
+     * @param filesToCompact list of files to compact, must not be empty
+     * @param targetCompactionLevel target compaction level
+     * @return list of files created during the compaction
+     * @throws IOException          If there was a problem with the compaction
+     * @throws InterruptedException If the compaction thread was interrupted
+     */
+    private List<Path> compactPlannedFiles(
+            final CASableLongIndex index,
+            final List<? extends DataFileReader> filesToCompact,
+            final int targetCompactionLevel)
+            throws IOException, InterruptedException {
         interruptFlag = false;
 
         // create a merge time stamp, this timestamp is the newest time of the set of files we are
@@ -228,7 +268,8 @@ public class DataFileCompactor {
         boolean allDataItemsProcessed = false;
         try {
             final KeyRange keyRange = dataFileCollection.getValidKeyRange();
-            allDataItemsProcessed = index.forEach(
+            final CopyBatch batch = new CopyBatch(dbConfig.compactionReadBatchSize());
+            final boolean allDataItemsVisited = index.forEach(
                     (path, dataLocation) -> {
                         if (!keyRange.withinRange(path)) {
                             return;
@@ -237,36 +278,19 @@ public class DataFileCompactor {
                         if ((fileIndex < firstIndexInc) || (fileIndex >= lastIndexExc)) {
                             return;
                         }
-                        final DataFileReader reader = readers[fileIndex - firstIndexInc];
-                        if (reader == null) {
+                        if (readers[fileIndex - firstIndexInc] == null) {
                             return;
                         }
-                        final long fileOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
-                        // Take the lock. If a snapshot is started in a different thread, this call
-                        // will block until the snapshot is done. The current file will be flushed,
-                        // and current data file writer and reader will point to a new file
-                        snapshotCompactionLock.lock();
-                        try {
-                            final DataFileWriter newFileWriter = currentWriter.get();
-                            final BufferedData itemBytes = reader.readDataItem(fileOffset);
-                            assert itemBytes != null;
-                            long newLocation = newFileWriter.storeDataItem(itemBytes);
-                            // update the index
-                            index.putIfEqual(path, dataLocation, newLocation);
-                        } catch (final IOException z) {
-                            logger.error(
-                                    EXCEPTION.getMarker(),
-                                    "[{}] Failed to copy data item {} / {}",
-                                    storeName,
-                                    fileIndex,
-                                    fileOffset,
-                                    z);
-                            throw z;
-                        } finally {
-                            snapshotCompactionLock.unlock();
+                        batch.add(path, dataLocation);
+                        if (batch.isFull()) {
+                            copyDataItems(index, batch);
                         }
                     },
                     this::notInterrupted);
+            // Copy the last, partially filled batch. Files can only be deleted below, if all data
+            // items in them are copied
+            copyDataItems(index, batch);
+            allDataItemsProcessed = allDataItemsVisited;
         } finally {
             // Even if the thread is interrupted, make sure the new compacted file is properly closed
             // and is included to future compactions
@@ -294,6 +318,104 @@ public class DataFileCompactor {
         return newCompactedFiles;
     }
 
+    /**
+     * Copies a batch of data items from compacted files to the current compaction file. All data
+     * items in the batch are read concurrently using {@link DataFileCollection#readDataItems(long[])}
+     * first, then written one by one. The batch is cleared after the copy.
+     *
+     * @param index index to update with the new data item locations
+     * @param batch the data items to copy
+     * @throws IOException If a data item can't be read or written
+     * @throws InterruptedException If the thread is interrupted while throttled
+     */
+    private void copyDataItems(final CASableLongIndex index, final CopyBatch batch)
+            throws IOException, InterruptedException {
+        if (batch.size == 0) {
+            return;
+        }
+        final long[] dataLocations = batch.dataLocations();
+        // Compacted files are only closed by this compactor, after all data items are copied, so
+        // all reads are expected to return data items. Reads don't need the snapshot lock, only
+        // writes to the current compaction file do
+        final BufferedData[] items;
+        try {
+            items = dataFileCollection.readDataItems(dataLocations);
+        } catch (final IOException z) {
+            logger.error(EXCEPTION.getMarker(), "[{}] Failed to read {} data items to copy", storeName, batch.size, z);
+            throw z;
+        }
+        for (int i = 0; i < batch.size; i++) {
+            final long path = batch.paths[i];
+            final long dataLocation = dataLocations[i];
+            final BufferedData itemBytes = items[i];
+            if (itemBytes == null) {
+                throw new IOException("Compacted file was closed while reading data item "
+                        + DataFileCommon.dataLocationToString(dataLocation) + " in store " + storeName);
+            }
+            final long itemSize = itemBytes.remaining();
+            // Take the lock. If a snapshot is started in a different thread, this call
+            // will block until the snapshot is done. The current file will be flushed,
+            // and current data file writer and reader will point to a new file
+            snapshotCompactionLock.lock();
+            try {
+                final DataFileWriter newFileWriter = currentWriter.get();
+                long newLocation = newFileWriter.storeDataItem(itemBytes);
+                // update the index. If the index entry has been changed in parallel, the
+                // copied data item is garbage, otherwise the original item is
+                if (index.putIfEqual(path, dataLocation, newLocation)) {
+                    dataFileCollection.dataItemRemoved(dataLocation);
+                } else {
+                    dataFileCollection.dataItemRemoved(newLocation);
+                }
+            } catch (final IOException z) {
+                logger.error(
+                        EXCEPTION.getMarker(),
+                        "[{}] Failed to copy data item {} / {}",
+                        storeName,
+                        DataFileCommon.fileIndexFromDataLocation(dataLocation),
+                        DataFileCommon.byteOffsetFromDataLocation(dataLocation),
+                        z);
+                throw z;
+            } finally {
+                snapshotCompactionLock.unlock();
+            }
+            // Charge the copied item to the compaction I/O budget. It must be done without
+            // holding the snapshot lock, so snapshots are never blocked by throttling
+            throttledNanos += ioThrottle.acquire(itemSize, 1, this::notInterrupted);
+        }
+        batch.size = 0;
+    }
+
+    /**
+     * Paths and data locations of data items to copy in a single batch. Primitive arrays are used
+     * instead of collections to avoid boxing.
+     */
+    private static final class CopyBatch {
+        final long[] paths;
+        final long[] dataLocations;
+        int size = 0;
+
+        CopyBatch(final int capacity) {
+            paths = new long[capacity];
+            dataLocations = new long[capacity];
+        }
+
+        void add(final long path, final long dataLocation) {
+            paths[size] = path;
+            dataLocations[size] = dataLocation;
+            size++;
+        }
+
+        boolean isFull() {
+            return size == paths.length;
+        }
+
+        /** Returns the data locations in this batch, as an array of exactly {@link #size} elements */
+        long[] dataLocations() {
+            return isFull() ? dataLocations : Arrays.copyOf(dataLocations, size);
+        }
+    }
+
     // visible for testing
     int getMinNumberOfFilesToCompact() {
         return dbConfig.minNumberOfFilesInCompaction();
@@ -332,9 +454,11 @@ public class DataFileCompactor {
      * @throws IOException If an I/O error occurs
      */
     private void finishCurrentCompactionFile() throws IOException {
-        currentWriter.get().close();
+        final DataFileWriter writer = currentWriter.get();
+        writer.close();
         currentWriter.set(null);
         // Now include the file in future compactions
+        currentReader.get().setItemsCount(writer.getItemsCount());
         currentReader.get().setFileCompleted();
         logger.info(
                 MERKLE_DB.getMarker(),
@@ -423,6 +547,49 @@ public class DataFileCompactor {
         return !interruptFlag;
     }
 
+    /**
+     * @return total time this compactor has been throttled or paused because of compaction I/O
+     *      budget, in milliseconds
+     */
+    public long getThrottledTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(throttledNanos);
+    }
+
+    /**
+     * Estimates the ratio of garbage, i.e. data items that are no longer referenced from the index,
+     * in the data file collection to compact. If dead data items are tracked for completed data
+     * files, the estimate is based on their dead items ratios and sizes. Otherwise, it's based on
+     * the total size of completed data files, the number of live data items in the collection, which
+     * is the size of the valid key range, and the average data item size.
+     *
+     * <p>This method is used to prioritize compactions. Compactors with higher garbage ratios should
+     * be run first.
+     *
+     * @return the estimated garbage ratio, from 0.0 to 1.0, or 0.0 if it can't be estimated
+     */
+    public double getGarbageRatio() {
+        long trackedBytes = 0;
+        double deadBytes = 0;
+        for (final DataFileReader file : dataFileCollection.getAllCompletedFiles()) {
+            if (file.getItemsCount() > 0) {
+                trackedBytes += file.getSize();
+                deadBytes += file.getSize() * file.getDeadItemsRatio();
+            }
+        }
+        if (trackedBytes > 0) {
+            return deadBytes / trackedBytes;
+        }
+        final long totalBytes = dataFileCollection.getFilesSizeStatistics().getSum();
+        final double averageItemSize = dataFileCollection.getAverageStoredDataItemSize();
+        final KeyRange keyRange = dataFileCollection.getValidKeyRange();
+        if ((totalBytes == 0) || (averageItemSize == 0) || (keyRange.getMinValidKey() < 0)) {
+            return 0.0;
+        }
+        final long liveItems = keyRange.getMaxValidKey() - keyRange.getMinValidKey() + 1;
+        final double liveBytes = liveItems * averageItemSize;
+        return Math.max(0.0, 1.0 - liveBytes / totalBytes);
+    }
+
     /**
      * @return true if compaction is currently running, false otherwise.
      */
@@ -440,8 +607,11 @@ public class DataFileCompactor {
     public boolean compact() throws IOException, InterruptedException {
         final List<DataFileReader> completedFiles = dataFileCollection.getAllCompletedFiles();
         reportFileSizeByLevel(completedFiles);
-        final List<DataFileReader> filesToCompact =
-                compactionPlan(completedFiles, getMinNumberOfFilesToCompact(), dbConfig.maxCompactionLevel());
+        final List<DataFileReader> filesToCompact = compactionPlan(
+                completedFiles,
+                getMinNumberOfFilesToCompact(),
+                dbConfig.maxCompactionLevel(),
+                dbConfig.percentDeadItemsToCompactFile() / UNIT_FRACTION_PERCENT);
         if (filesToCompact.isEmpty()) {
             logger.debug(MERKLE_DB.getMarker(), "[{}] No need to compact, as the compaction plan is empty", storeName);
             return false;
@@ -450,7 +620,7 @@ public class DataFileCompactor {
         final int filesCount = filesToCompact.size();
         logger.info(MERKLE_DB.getMarker(), "[{}] Starting compaction", storeName);
 
-        final int targetCompactionLevel = getTargetCompactionLevel(filesToCompact, filesCount);
+        final int targetCompactionLevel = getTargetCompactionLevel(filesToCompact);
 
         final long start = System.currentTimeMillis();
 
@@ -462,7 +632,7 @@ public class DataFileCompactor {
                 filesCount,
                 formatSizeBytes(filesToCompactSize));
 
-        final List<Path> newFilesCreated = compactFiles(index, filesToCompact, targetCompactionLevel);
+        final List<Path> newFilesCreated = compactPlannedFiles(index, filesToCompact, targetCompactionLevel);
 
         final long end = System.currentTimeMillis();
         final long tookMillis = end - start;
@@ -521,45 +691,81 @@ public class DataFileCompactor {
      *  - To ensure a reasonably predictable frequency for full compactions, even for data that changes infrequently.
      *  - We maintain metrics for each level, and there should be a cap on the number of these metrics.
      */
-    private int getTargetCompactionLevel(List<? extends DataFileReader> filesToCompact, int filesCount) {
-        int highestExistingCompactionLevel =
-                filesToCompact.get(filesCount - 1).getMetadata().getCompactionLevel();
+    private int getTargetCompactionLevel(List<? extends DataFileReader> filesToCompact) {
+        // Files with many dead items may be added to the plan in any order, so the highest level isn't
+        // necessarily the level of the last file
+        final int highestExistingCompactionLevel = filesToCompact.stream()
+                .mapToInt(r -> r.getMetadata().getCompactionLevel())
+                .max()
+                .orElse(INITIAL_COMPACTION_LEVEL);
 
         return Math.min(highestExistingCompactionLevel + 1, dbConfig.maxCompactionLevel());
     }
 
+    /**
+     * This method creates a compaction plan (a set of files to be compacted) based on compaction levels only.
+     * See {@link #compactionPlan(List, int, int, double)} for details.
+     * @return filter creating a compaction plan
+     */
+    static List<DataFileReader> compactionPlan(
+            List<DataFileReader> dataFileReaders, int minNumberOfFilesToCompact, int maxCompactionLevel) {
+        return compactionPlan(dataFileReaders, minNumberOfFilesToCompact, maxCompactionLevel, 0.0);
+    }
+
     /**
      * This method creates a compaction plan (a set of files to be compacted). The plan is organized by compaction levels
-     * in ascending order. If there are not enough files to compact, then no files are compacted and the plan will be empty.
+     * in ascending order. If there are not enough files to compact, then no files are compacted by levels.
      * If the current level doesn't reach minNumberOfFilesToCompact threshold,
      * then this level and the levels above it are not included in the plan.
+     * <p>
+     * In addition to that, all files with dead data items ratios at or above the given threshold are added to the
+     * plan, regardless of their compaction levels, in the order of dead items ratios, highest first. Compacting such
+     * files reclaims the most disk space for the least amount of data copied. Such files are compacted even if there
+     * are not enough files to compact by levels.
+     * @param deadItemsRatioThreshold dead data items ratio, from 0.0 to 1.0, to include a file into the plan, or
+     *                                zero to select files by compaction levels only
      * @return filter creating a compaction plan
      */
     static List<DataFileReader> compactionPlan(
-            List<DataFileReader> dataFileReaders, int minNumberOfFilesToCompact, int maxCompactionLevel) {
+            List<DataFileReader> dataFileReaders,
+            int minNumberOfFilesToCompact,
+            int maxCompactionLevel,
+            double deadItemsRatioThreshold) {
         if (dataFileReaders.isEmpty()) {
             return dataFileReaders;
         }
 
+        final List<DataFileReader> readersToCompact = new ArrayList<>();
+
         final Map<Integer, List<DataFileReader>> readersByLevel = getReadersByLevel(dataFileReaders);
 
         final List<DataFileReader> nonCompactedReaders = readersByLevel.get(INITIAL_COMPACTION_LEVEL);
-        if (nonCompactedReaders == null || nonCompactedReaders.size() < minNumberOfFilesToCompact) {
-            return Collections.emptyList();
-        }
-
-        // we always compact files from level 0 if we have enough files
-        final List<DataFileReader> readersToCompact = new ArrayList<>(nonCompactedReaders);
+        if (nonCompactedReaders != null && nonCompactedReaders.size() >= minNumberOfFilesToCompact) {
+            // we always compact files from level 0 if we have enough files
+            readersToCompact.addAll(nonCompactedReaders);
 
-        for (int i = 1; i <= maxCompactionLevel; i++) {
-            final List<DataFileReader> readers = readersByLevel.get(i);
-            // Presumably, one file comes from the compaction of the previous level.
-            // If, counting this file in, it still doesn't have enough, then it stops collecting.
-            if (readers == null || readers.size() < minNumberOfFilesToCompact - 1) {
-                break;
+            for (int i = 1; i <= maxCompactionLevel; i++) {
+                final List<DataFileReader> readers = readersByLevel.get(i);
+                // Presumably, one file comes from the compaction of the previous level.
+                // If, counting this file in, it still doesn't have enough, then it stops collecting.
+                if (readers == null || readers.size() < minNumberOfFilesToCompact - 1) {
+                    break;
+                }
+                readersToCompact.addAll(readers);
             }
-            readersToCompact.addAll(readers);
         }
+
+        if (deadItemsRatioThreshold > 0) {
+            final Set<DataFileReader> plannedReaders = Collections.newSetFromMap(new IdentityHashMap<>());
+            plannedReaders.addAll(readersToCompact);
+            dataFileReaders.stream()
+                    .filter(r -> !plannedReaders.contains(r))
+                    .filter(r -> r.getDeadItemsRatio() >= deadItemsRatioThreshold)
+                    .sorted(Comparator.comparingDouble(DataFileReader::getDeadItemsRatio)
+                            .reversed())
+                    .forEach(readersToCompact::add);
+        }
+
         return readersToCompact;
     }
 
@@ -35,7 +35,6 @@ public final class DataFileMetadata {
     private static final FieldDefinition FIELD_CREATION_NANOS =
             new FieldDefinition("creationDateNanos", FieldType.UINT32, false, false, false, 3);
 
-    @Deprecated
     private static final FieldDefinition FIELD_ITEMS_COUNT =
             new FieldDefinition("itemsCount", FieldType.FIXED64, false, false, false, 4);
 
@@ -61,7 +60,14 @@ public final class DataFileMetadata {
     private final byte compactionLevel;
 
     /**
-     * Create a new metadata with complete set of data
+     * The number of data items in this file, or zero if unknown. Files that are still being written
+     * to always have zero items in their metadata. Data items count is used to estimate how much
+     * of the file is garbage, see {@link DataFileReader#getDeadItemsRatio()}.
+     */
+    private final long itemsCount;
+
+    /**
+     * Create a new metadata with complete set of data, but unknown number of data items
      *
      * @param index The file index, in a data file collection
      * @param creationDate The creation data of this file, this is critical as it is used when
@@ -69,11 +75,27 @@ public final class DataFileMetadata {
      * @param compactionLevel The level of compaction this file has. See {@link DataFileCompactor}
      */
     public DataFileMetadata(final int index, final Instant creationDate, final int compactionLevel) {
+        this(index, creationDate, compactionLevel, 0);
+    }
+
+    /**
+     * Create a new metadata with complete set of data
+     *
+     * @param index The file index, in a data file collection
+     * @param creationDate The creation data of this file, this is critical as it is used when
+     *     merging two files to know which files data is newer.
+     * @param compactionLevel The level of compaction this file has. See {@link DataFileCompactor}
+     * @param itemsCount The number of data items in the file, or zero if unknown
+     */
+    public DataFileMetadata(
+            final int index, final Instant creationDate, final int compactionLevel, final long itemsCount) {
         assert compactionLevel >= 0 && compactionLevel < MAX_COMPACTION_LEVEL;
+        assert itemsCount >= 0;
 
         this.index = index;
         this.creationDate = creationDate;
         this.compactionLevel = (byte) compactionLevel;
+        this.itemsCount = itemsCount;
     }
 
     /**
@@ -88,6 +110,7 @@ public final class DataFileMetadata {
         long creationSeconds = 0;
         int creationNanos = 0;
         byte compactionLevel = 0;
+        long itemsCount = 0;
 
         // Read values from the file, skipping all data items
         try (final ReadableStreamingData in = new ReadableStreamingData(file)) {
@@ -109,7 +132,7 @@ public final class DataFileMetadata {
                             } else if (metadataFieldNum == FIELD_CREATION_NANOS.number()) {
                                 creationNanos = in.readVarInt(false);
                             } else if (metadataFieldNum == FIELD_ITEMS_COUNT.number()) {
-                                in.readLong(); // data items count is not used
+                                itemsCount = in.readLong();
                             } else if (metadataFieldNum == FIELD_ITEM_VERSION.number()) {
                                 in.readVarLong(false); // this field is no longer used
                             } else if (metadataFieldNum == FIELD_COMPACTION_LEVEL.number()) {
@@ -142,7 +165,8 @@ public final class DataFileMetadata {
             throw new IllegalArgumentException("No metadata found in file: " + file);
         }
 
-        return new DataFileMetadata(index, Instant.ofEpochSecond(creationSeconds, creationNanos), compactionLevel);
+        return new DataFileMetadata(
+                index, Instant.ofEpochSecond(creationSeconds, creationNanos), compactionLevel, itemsCount);
     }
 
     <T extends WritableSequentialData> void writeTo(final T out) {
@@ -150,7 +174,9 @@ public final class DataFileMetadata {
     }
 
     /**
-     * Write metadata fields to the file.
+     * Write metadata fields to the file. Data items count is always written, even if it's zero, as
+     * a fixed size field. It makes the metadata size independent of the count, so the metadata can
+     * be overwritten in place when the file is fully written, see {@link DataFileWriter#close()}.
      */
     private <T extends WritableSequentialData> void writeFields(final T out) {
         if (getIndex() != 0) {
@@ -169,6 +195,9 @@ public final class DataFileMetadata {
             ProtoWriterTools.writeTag(out, FIELD_COMPACTION_LEVEL);
             out.writeVarInt(compactionLevel, false);
         }
+
+        ProtoWriterTools.writeTag(out, FIELD_ITEMS_COUNT);
+        out.writeLong(itemsCount);
     }
 
     /** Get the files index, out of a set of data files */
@@ -202,6 +231,9 @@ public final class DataFileMetadata {
             size += ProtoWriterTools.sizeOfTag(FIELD_COMPACTION_LEVEL, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
             size += ProtoWriterTools.sizeOfVarInt32(compactionLevel);
         }
+
+        size += ProtoWriterTools.sizeOfTag(FIELD_ITEMS_COUNT, ProtoConstants.WIRE_TYPE_FIXED_64_BIT);
+        size += Long.BYTES;
         return size;
     }
 
@@ -209,6 +241,11 @@ public final class DataFileMetadata {
         return compactionLevel;
     }
 
+    /** Get the number of data items in the file, or zero if unknown */
+    public long getItemsCount() {
+        return itemsCount;
+    }
+
     /** toString for debugging */
     @Override
     public String toString() {
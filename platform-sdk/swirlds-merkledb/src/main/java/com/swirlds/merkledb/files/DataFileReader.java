@@ -2,6 +2,7 @@
 package com.swirlds.merkledb.files;
 
 import static com.hedera.pbj.runtime.ProtoParserTools.TAG_FIELD_OFFSET;
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_ITEMS;
 
 import com.hedera.pbj.runtime.ProtoConstants;
@@ -14,17 +15,27 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.CompletionHandler;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * The aim for a DataFileReader is to facilitate fast highly concurrent random reading of items from
@@ -57,9 +68,30 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  */
 public final class DataFileReader implements AutoCloseable, Comparable<DataFileReader>, IndexedObject {
 
+    private static final Logger logger = LogManager.getLogger(DataFileReader.class);
+
     private static final ThreadLocal<ByteBuffer> BUFFER_CACHE = new ThreadLocal<>();
     private static final ThreadLocal<BufferedData> BUFFEREDDATA_CACHE = new ThreadLocal<>();
 
+    /**
+     * Buffer size to read data item tag and size. If the whole item is small and fits into this
+     * buffer, there is no need to make an extra file read
+     */
+    private static final int PRE_READ_BUF_SIZE = 2048;
+
+    /**
+     * Max size of a single memory mapped region of a data file. Files larger than this are mapped
+     * using multiple regions.
+     */
+    static final long MAPPED_REGION_SIZE = 1L << 30;
+
+    /**
+     * Memory mapped regions overlap by this number of bytes, so a data item that starts close to
+     * the end of a region can still be read from the mapping. Data items that don't fit into the
+     * region they start in are read using file channels.
+     */
+    static final int MAPPED_REGION_OVERLAP = 1 << 20;
+
     private final MerkleDbConfig dbConfig;
 
     /** Max number of file channels to use for reading */
@@ -88,6 +120,27 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
     /** Number of file channels currently in use by all threads working with this data file reader */
     private final AtomicInteger fileChannelsInUse = new AtomicInteger(0);
 
+    /**
+     * Asynchronous file channel used for batch reads, opened on the first batch read. Reads are
+     * executed on the batch read executor of the file collection this reader belongs to, so many
+     * reads from the same or different files may be in flight at the same time.
+     */
+    private final AtomicReference<AsynchronousFileChannel> asyncFileChannel = new AtomicReference<>();
+
+    /**
+     * Memory mapped regions of this file, or null if the file isn't mapped. Files are only mapped
+     * when they are completed, if enabled in MerkleDb config. Region {@code i} covers file bytes
+     * from {@code i * MAPPED_REGION_SIZE} (inclusive) to {@code (i + 1) * MAPPED_REGION_SIZE +
+     * MAPPED_REGION_OVERLAP} (exclusive), or to the end of the file.
+     *
+     * <p>Data items read from mapped regions are returned as slices of the regions, without
+     * copying. Such slices may be used by callers after this reader is closed, e.g. when the file
+     * is compacted in parallel, so the regions are never unmapped explicitly. Instead, the
+     * reference to the regions is cleared, when the reader is closed, and the regions are unmapped
+     * by GC once the last slice is no longer referenced.
+     */
+    private volatile MappedByteBuffer[] mappedRegions = null;
+
     /** Indicates whether this file reader is open */
     private final AtomicBoolean open = new AtomicBoolean(true);
     /** The path to the file on disk */
@@ -104,6 +157,22 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     private final AtomicLong fileSizeBytes = new AtomicLong(0);
 
+    /**
+     * The number of data items in this file, or zero if unknown. For existing files, it's read
+     * from file metadata. For newly created files, it's set in {@link #setItemsCount(long)} right
+     * after the file is fully written.
+     */
+    private volatile long itemsCount;
+
+    /**
+     * The number of data items in this file, which are no longer referenced from the index. Data
+     * items become dead, when their index entries are updated to point to newer data items in other
+     * files, see {@link DataFileCollection#dataItemRemoved(long)}. This is an estimate. In rare
+     * cases, for example, when index entries are updated in parallel with compactions, the same
+     * data item may be counted more than once.
+     */
+    private final AtomicLong deadItemsCount = new AtomicLong(0);
+
     /**
      * Open an existing data file, reading the metadata from the file
      *
@@ -132,6 +201,7 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         }
         this.path = path;
         this.metadata = metadata;
+        this.itemsCount = metadata.getItemsCount();
         openNewFileChannel(0);
     }
 
@@ -158,6 +228,105 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         } finally {
             fileCompleted.set(true);
         }
+        if (dbConfig.dataFileMmapReadsEnabled()
+                && (metadata.getCompactionLevel() <= dbConfig.dataFileMmapMaxCompactionLevel())) {
+            mapFile();
+        }
+    }
+
+    /**
+     * Sets the number of data items in this file. This method is called for newly created files
+     * right after they are fully written, since metadata provided to the constructor doesn't have
+     * data items count yet.
+     *
+     * @param itemsCount the number of data items in the file
+     */
+    void setItemsCount(final long itemsCount) {
+        this.itemsCount = itemsCount;
+    }
+
+    /**
+     * Get the number of data items in this file, or zero if unknown.
+     *
+     * @return data items count
+     */
+    public long getItemsCount() {
+        return itemsCount;
+    }
+
+    /**
+     * Increments the number of data items in this file that are no longer referenced from the index.
+     */
+    void incrementDeadItemsCount() {
+        deadItemsCount.incrementAndGet();
+    }
+
+    /**
+     * Sets the number of data items in this file that are no longer referenced from the index. This
+     * method is used to restore the count, when a data file collection is loaded from disk.
+     *
+     * @param count dead data items count
+     */
+    void setDeadItemsCount(final long count) {
+        deadItemsCount.set(count);
+    }
+
+    /**
+     * Get the number of data items in this file that are no longer referenced from the index.
+     *
+     * @return dead data items count
+     */
+    public long getDeadItemsCount() {
+        return deadItemsCount.get();
+    }
+
+    /**
+     * Get the ratio of data items in this file that are no longer referenced from the index. The
+     * higher the ratio, the more disk space can be reclaimed, and the less data is copied, when
+     * this file is compacted.
+     *
+     * @return dead data items ratio, from 0.0 to 1.0, or 0.0 if data items count is unknown
+     */
+    public double getDeadItemsRatio() {
+        final long count = itemsCount;
+        if (count <= 0) {
+            return 0.0;
+        }
+        return Math.min(1.0, (double) deadItemsCount.get() / count);
+    }
+
+    /**
+     * Memory maps this completed data file for reading. If the file can't be mapped, for example,
+     * because of OS limits on the number of mappings, a warning is logged, and the file is read
+     * using file channels.
+     */
+    private void mapFile() {
+        final long fileSize = getSize();
+        final int regionCount = Math.toIntExact((fileSize + MAPPED_REGION_SIZE - 1) / MAPPED_REGION_SIZE);
+        final MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+        try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int i = 0; i < regionCount; i++) {
+                final long regionStart = i * MAPPED_REGION_SIZE;
+                final long regionSize = Math.min(MAPPED_REGION_SIZE + MAPPED_REGION_OVERLAP, fileSize - regionStart);
+                regions[i] = fileChannel.map(MapMode.READ_ONLY, regionStart, regionSize);
+            }
+        } catch (final IOException e) {
+            logger.warn(EXCEPTION.getMarker(), "Failed to memory map data file {}, using file channels", path, e);
+            return;
+        }
+        // The reader may be closed in parallel. If so, the regions will be unmapped by GC
+        if (isOpen()) {
+            mappedRegions = regions;
+        }
+    }
+
+    /**
+     * Returns whether this file is memory mapped for reading.
+     *
+     * @return true if the file is memory mapped
+     */
+    boolean isMapped() {
+        return mappedRegions != null;
     }
 
     /**
@@ -202,6 +371,10 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
     /**
      * Read data item from file at dataLocation.
      *
+     * <p>If this file is memory mapped, the returned data item is a read-only slice of the
+     * mapped file region. Otherwise it's backed by a thread local buffer, which is reused on
+     * the next read from the same thread.
+     *
      * @param dataLocation data item location, which combines data file index and offset in the file
      * @return deserialized data item
      * @throws IOException If there was a problem reading from data file
@@ -209,9 +382,104 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     public BufferedData readDataItem(final long dataLocation) throws IOException {
         final long byteOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
+        final MappedByteBuffer[] regions = mappedRegions;
+        if (regions != null) {
+            final BufferedData dataItem = readMapped(regions, byteOffset);
+            if (dataItem != null) {
+                return dataItem;
+            }
+        }
         return read(byteOffset);
     }
 
+    /**
+     * Read data item from file at dataLocation asynchronously. Unlike {@link #readDataItem(long)},
+     * the returned data item is not backed by a reused thread local buffer, so it can be safely
+     * used after other reads are issued from the same thread.
+     *
+     * <p>If this data file reader is closed before or while the data item is read, the returned
+     * future is completed with null, the same way as {@link #readDataItem(long)} returns null in
+     * this case. All other read errors complete the future exceptionally.
+     *
+     * @param dataLocation data item location, which combines data file index and offset in the file
+     * @param executor the executor to run file reads on. The first call opens an asynchronous file
+     *     channel bound to this executor, so all calls must provide the same executor
+     * @return a future completed with the data item, or null if the file is closed
+     */
+    CompletableFuture<BufferedData> readDataItemAsync(final long dataLocation, final ExecutorService executor) {
+        final long byteOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
+        final CompletableFuture<BufferedData> result = new CompletableFuture<>();
+        final MappedByteBuffer[] regions = mappedRegions;
+        if (regions != null) {
+            // Slices of mapped regions are not reused, no need to read them asynchronously
+            try {
+                final BufferedData dataItem = readMapped(regions, byteOffset);
+                if (dataItem != null) {
+                    result.complete(dataItem);
+                    return result;
+                }
+            } catch (final IOException e) {
+                result.completeExceptionally(e);
+                return result;
+            }
+        }
+        final AsynchronousFileChannel fileChannel;
+        try {
+            fileChannel = getAsyncFileChannel(executor);
+        } catch (final IOException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        if (fileChannel == null) {
+            // The reader is closed
+            result.complete(null);
+            return result;
+        }
+        final ByteBuffer headerBB = ByteBuffer.allocate(PRE_READ_BUF_SIZE);
+        readFullyAsync(fileChannel, headerBB, byteOffset).whenComplete((headerBytesRead, headerEx) -> {
+            if (headerEx != null) {
+                completeAsyncRead(result, headerEx);
+                return;
+            }
+            try {
+                final long expectedBytes = Math.min(PRE_READ_BUF_SIZE, getSize() - byteOffset);
+                if (isFileCompleted() && (headerBytesRead != expectedBytes)) {
+                    throw new IOException("Failed to read all bytes: toread=" + expectedBytes + " read="
+                            + headerBytesRead + " file=" + getIndex() + " off=" + byteOffset);
+                }
+                final BufferedData headerBuf = BufferedData.wrap(headerBB.array());
+                final int tag = headerBuf.getVarInt(0, false);
+                checkDataItemTag(tag, byteOffset);
+                final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
+                final int size = headerBuf.getVarInt(sizeOfTag, false);
+                final int sizeOfSize = ProtoWriterTools.sizeOfUnsignedVarInt32(size);
+                // Check if the whole data item is already read in the header
+                if (headerBytesRead >= sizeOfTag + sizeOfSize + size) {
+                    headerBuf.position(sizeOfTag + sizeOfSize);
+                    headerBuf.limit(sizeOfTag + sizeOfSize + size);
+                    result.complete(headerBuf);
+                    return;
+                }
+                // Otherwise read it separately
+                final ByteBuffer itemBB = ByteBuffer.allocate(size);
+                readFullyAsync(fileChannel, itemBB, byteOffset + sizeOfTag + sizeOfSize)
+                        .whenComplete((itemBytesRead, itemEx) -> {
+                            if (itemEx != null) {
+                                completeAsyncRead(result, itemEx);
+                            } else if (itemBytesRead != size) {
+                                result.completeExceptionally(new IOException("Failed to read all bytes: toread=" + size
+                                        + " read=" + itemBytesRead + " file=" + getIndex() + " off=" + byteOffset));
+                            } else {
+                                result.complete(BufferedData.wrap(itemBB.array()));
+                            }
+                        });
+            } catch (final Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
     /**
      * Get the size of this file in bytes. This method should only be called for files available to
      * merging (compaction), i.e. after they are fully written.
@@ -283,6 +551,8 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         if (!open.compareAndSet(true, false)) {
             return;
         }
+        // Mapped regions are unmapped by GC, when no longer referenced by data items read from them
+        mappedRegions = null;
 
         for (int i = 0; i < maxFileChannels; i++) {
             final FileChannel fileChannel = fileChannels.getAndSet(i, null);
@@ -290,6 +560,10 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
                 fileChannel.close();
             }
         }
+        final AsynchronousFileChannel asyncChannel = asyncFileChannel.getAndSet(null);
+        if (asyncChannel != null) {
+            asyncChannel.close();
+        }
     }
 
     // =================================================================================================================
@@ -372,6 +646,153 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         fileChannelsInUse.decrementAndGet();
     }
 
+    /**
+     * Returns an asynchronous file channel to read data, opening it if needed. This method is
+     * safe to call from multiple threads.
+     *
+     * @param executor the executor to bind the channel to, if it's opened by this call
+     * @return the asynchronous file channel, or null if this reader is closed
+     * @throws IOException if an I/O error occurs
+     */
+    private AsynchronousFileChannel getAsyncFileChannel(final ExecutorService executor) throws IOException {
+        AsynchronousFileChannel fileChannel = asyncFileChannel.get();
+        if (fileChannel != null) {
+            return fileChannel;
+        }
+        if (!isOpen()) {
+            return null;
+        }
+        fileChannel = AsynchronousFileChannel.open(path, Set.of(StandardOpenOption.READ), executor);
+        if (!asyncFileChannel.compareAndSet(null, fileChannel)) {
+            fileChannel.close();
+            return asyncFileChannel.get();
+        }
+        // The reader may have been closed in parallel, make sure the new channel isn't leaked
+        if (!isOpen() && asyncFileChannel.compareAndSet(fileChannel, null)) {
+            fileChannel.close();
+            return null;
+        }
+        return fileChannel;
+    }
+
+    /**
+     * Reads bytes from an asynchronous file channel, starting at the given position, until the
+     * buffer is full or the end of file is reached.
+     *
+     * @return a future completed with the total number of bytes read
+     */
+    private static CompletableFuture<Integer> readFullyAsync(
+            final AsynchronousFileChannel fileChannel, final ByteBuffer buffer, final long position) {
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        readFullyAsync(fileChannel, buffer, position, 0, future);
+        return future;
+    }
+
+    private static void readFullyAsync(
+            final AsynchronousFileChannel fileChannel,
+            final ByteBuffer buffer,
+            final long position,
+            final int bytesReadSoFar,
+            final CompletableFuture<Integer> future) {
+        try {
+            fileChannel.read(buffer, position, null, new CompletionHandler<Integer, Void>() {
+                @Override
+                public void completed(final Integer bytesRead, final Void attachment) {
+                    if ((bytesRead < 0) || !buffer.hasRemaining()) {
+                        future.complete(bytesReadSoFar + Math.max(0, bytesRead));
+                    } else {
+                        readFullyAsync(
+                                fileChannel, buffer, position + bytesRead, bytesReadSoFar + bytesRead, future);
+                    }
+                }
+
+                @Override
+                public void failed(final Throwable e, final Void attachment) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (final Exception e) {
+            // E.g. RejectedExecutionException, if the executor is shut down
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Completes an asynchronous read result future after a failed file read. If the file channel
+     * was closed, because this reader was closed, the result is null, so the caller can handle it
+     * the same way as a closed file in {@link #readDataItem(long)}. Otherwise the result is
+     * completed exceptionally.
+     */
+    private void completeAsyncRead(final CompletableFuture<BufferedData> result, final Throwable e) {
+        if ((e instanceof ClosedChannelException) && !isOpen()) {
+            result.complete(null);
+        } else {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Reads a data item from memory mapped file regions. The returned data item is a slice of a
+     * mapped region, no data is copied. If the data item doesn't fit into the region it starts in,
+     * this method returns null, and the item should be read using a file channel instead.
+     *
+     * @param regions Memory mapped file regions
+     * @param byteOffsetInFile Data item offset in the file
+     * @return Data item bytes, or null if the item can't be read from the regions
+     * @throws IOException If the data at the offset is not a data item
+     */
+    private BufferedData readMapped(final MappedByteBuffer[] regions, final long byteOffsetInFile)
+            throws IOException {
+        final int regionIndex = (int) (byteOffsetInFile / MAPPED_REGION_SIZE);
+        if (regionIndex >= regions.length) {
+            throw new IOException("Data item offset out of file bounds: file=" + getIndex() + " off="
+                    + byteOffsetInFile + " size=" + getSize());
+        }
+        final MappedByteBuffer region = regions[regionIndex];
+        final int offsetInRegion = (int) (byteOffsetInFile % MAPPED_REGION_SIZE);
+        final int regionLimit = region.limit();
+        // Data item tag and size are two varints, 5 bytes max each
+        if (offsetInRegion + 2 * Integer.BYTES + 2 > regionLimit) {
+            return null;
+        }
+        final int tag = getVarInt(region, offsetInRegion);
+        checkDataItemTag(tag, byteOffsetInFile);
+        final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
+        final int size = getVarInt(region, offsetInRegion + sizeOfTag);
+        final int sizeOfSize = ProtoWriterTools.sizeOfUnsignedVarInt32(size);
+        final int dataStart = offsetInRegion + sizeOfTag + sizeOfSize;
+        if ((size < 0) || (dataStart + size > regionLimit)) {
+            return null;
+        }
+        // Absolute slice doesn't change the region position, so it's safe to call from multiple threads
+        return BufferedData.wrap(region.slice(dataStart, size));
+    }
+
+    /**
+     * Reads an unsigned varint from a byte buffer at the given index, without changing the buffer
+     * position. The caller must make sure the buffer has at least 5 bytes after the index.
+     */
+    private static int getVarInt(final ByteBuffer buffer, final int index) throws IOException {
+        int result = 0;
+        for (int i = 0; i < 5; i++) {
+            final byte b = buffer.get(index + i);
+            result |= (b & 0x7F) << (i * 7);
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint at index " + index);
+    }
+
+    private void checkDataItemTag(final int tag, final long byteOffsetInFile) throws IOException {
+        if (tag
+                != ((FIELD_DATAFILE_ITEMS.number() << TAG_FIELD_OFFSET)
+                        | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
+            throw new IOException(
+                    "Unknown data item tag: tag=" + tag + " file=" + getIndex() + " off=" + byteOffsetInFile);
+        }
+    }
+
     /**
      * Read bytesToRead bytes of data from the file starting at byteOffsetInFile unless we reach the
      * end of file. If we reach the end of file then returned buffer's limit will be set to the
@@ -384,9 +805,6 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      * @throws ClosedChannelException if the file was closed
      */
     private BufferedData read(final long byteOffsetInFile) throws IOException {
-        // Buffer size to read data item tag and size. If the whole item is small and
-        // fits into this buffer, there is no need to make an extra file read
-        final int PRE_READ_BUF_SIZE = 2048;
         ByteBuffer readBB = BUFFER_CACHE.get();
         BufferedData readBuf = BUFFEREDDATA_CACHE.get();
         if (readBuf == null) {
@@ -418,12 +836,7 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
                 // Then read the tag and size from the read buffer, since it's wrapped over the byte buffer
                 readBuf.reset();
                 final int tag = readBuf.getVarInt(0, false); // tag
-                if (tag
-                        != ((FIELD_DATAFILE_ITEMS.number() << TAG_FIELD_OFFSET)
-                                | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
-                    throw new IOException(
-                            "Unknown data item tag: tag=" + tag + " file=" + getIndex() + " off=" + byteOffsetInFile);
-                }
+                checkDataItemTag(tag, byteOffsetInFile);
                 final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
                 final int size = readBuf.getVarInt(sizeOfTag, false);
                 final int sizeOfSize = ProtoWriterTools.sizeOfUnsignedVarInt32(size);
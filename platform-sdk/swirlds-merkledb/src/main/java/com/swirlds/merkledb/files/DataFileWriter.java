@@ -41,6 +41,11 @@ public final class DataFileWriter implements AutoCloseable {
      */
     private static final int DEFAULT_BUF_SIZE = PAGE_SIZE * KIBIBYTES_TO_BYTES * 16;
 
+    /**
+     * Max size of the file header, in bytes
+     */
+    private static final int MAX_HEADER_SIZE = 1024;
+
     private static final String ERROR_DATA_ITEM_TOO_LARGE =
             "Data item is too large to write to a data file. Increase data file mapped byte buffer size";
 
@@ -62,11 +67,20 @@ public final class DataFileWriter implements AutoCloseable {
 
     private final FileChannel fileChannel;
 
-    /** File metadata */
-    private final DataFileMetadata metadata;
+    /**
+     * File metadata. When the file is closed, the metadata is replaced with a new instance with
+     * the final data items count
+     */
+    private DataFileMetadata metadata;
+
+    /** The number of data items written to the file so far */
+    private long itemsCount = 0;
 
     private final long dataBufferSize;
 
+    /** Size of the file header, in bytes. Data items are written right after the header */
+    private final long headerSize;
+
     private boolean closed = false;
 
     /**
@@ -109,8 +123,8 @@ public final class DataFileWriter implements AutoCloseable {
         fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
         metadata = new DataFileMetadata(index, creationTime, compactionLevel);
 
-        bufferPositionInFile = writeHeader();
-        moveWritingBuffer(bufferPositionInFile);
+        headerSize = writeHeader(MAX_HEADER_SIZE);
+        moveWritingBuffer(headerSize);
     }
 
     /**
@@ -130,8 +144,8 @@ public final class DataFileWriter implements AutoCloseable {
         dataBuffer = BufferedData.wrap(mappedDataBuffer);
     }
 
-    private long writeHeader() throws IOException {
-        final MappedByteBuffer headerMappedBuffer = fileChannel.map(MapMode.READ_WRITE, 0, 1024);
+    private long writeHeader(final long mapSize) throws IOException {
+        final MappedByteBuffer headerMappedBuffer = fileChannel.map(MapMode.READ_WRITE, 0, mapSize);
         final BufferedData headerBuffer = BufferedData.wrap(headerMappedBuffer);
         try {
             metadata.writeTo(headerBuffer);
@@ -151,14 +165,24 @@ public final class DataFileWriter implements AutoCloseable {
     }
 
     /**
-     * Get file metadata for the written file.
+     * Get file metadata for the written file. Until the file is closed, data items count in the
+     * returned metadata is zero.
      *
      * @return data file metadata
      */
-    public DataFileMetadata getMetadata() {
+    public synchronized DataFileMetadata getMetadata() {
         return metadata;
     }
 
+    /**
+     * Get the number of data items written to the file so far.
+     *
+     * @return data items count
+     */
+    public synchronized long getItemsCount() {
+        return itemsCount;
+    }
+
     /**
      * Store data item in file returning location it was stored at.
      *
@@ -206,6 +230,7 @@ public final class DataFileWriter implements AutoCloseable {
             throw new IOException("Estimated size / written bytes mismatch: expected=" + sizeToWrite + " written="
                     + (getCurrentFilePosition() - fileOffset));
         }
+        itemsCount++;
 
         // return the offset where we wrote the data
         return DataFileCommon.dataLocation(metadata.getIndex(), fileOffset);
@@ -229,6 +254,14 @@ public final class DataFileWriter implements AutoCloseable {
         fileChannel.truncate(totalFileSize);
         bufferPositionInFile = totalFileSize;
 
+        // update the header with the final data items count. Metadata size doesn't depend on the
+        // count, so data items aren't affected
+        metadata = new DataFileMetadata(
+                metadata.getIndex(), metadata.getCreationDate(), metadata.getCompactionLevel(), itemsCount);
+        if (writeHeader(headerSize) != headerSize) {
+            throw new IOException("Data file header size changed when updating data items count");
+        }
+
         fileChannel.close();
         closed = true;
     }
@@ -109,7 +109,10 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
             throws IOException {
         final long dataLocation = fileCollection.storeDataItem(dataItemWriter, dataItemSize);
         // store data location in index
+        final long oldDataLocation = index.get(key);
         index.put(key, dataLocation);
+        // the previous data item for the key, if any, is now garbage
+        fileCollection.dataItemRemoved(oldDataLocation);
     }
 
     /**
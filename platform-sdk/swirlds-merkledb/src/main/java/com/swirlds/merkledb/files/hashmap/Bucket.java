@@ -15,6 +15,7 @@ import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,6 +25,13 @@ import org.apache.logging.log4j.Logger;
  * of bucket entries. Entries contain key hash codes (as a single bucket may contain keys
  * with different hash codes), values, and full serialized key bytes.
  *
+ * <p>In addition to serialized bucket data, every bucket maintains an in-memory index of its
+ * entries: a packed array of entry key hash codes and a parallel array of entry offsets in
+ * bucket data. The index is built when a bucket is read, and kept up to date as entries are
+ * added or removed. Key lookups scan the packed hash code array first, and only parse entries
+ * with matching hash codes, rather than parsing every entry in the bucket. The index isn't
+ * serialized, bucket format on disk is not affected.
+ *
  * <p>This class is not fully thread safe. Buckets may be updated in one thread and then
  * accessed from different threads, this use case is supported. However, buckets aren't
  * designed to be updated concurrently from multiple threads.
@@ -76,6 +84,9 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
     private static final int METADATA_SIZE =
             ProtoWriterTools.sizeOfTag(FIELD_BUCKET_INDEX, ProtoConstants.WIRE_TYPE_FIXED_32_BIT) + Integer.BYTES;
 
+    /** Initial capacity of entry index arrays, grows as needed */
+    private static final int INITIAL_ENTRY_INDEX_CAPACITY = 16;
+
     /**
      * Bucket pool this bucket is managed by, optional. If not null, the bucket is
      * released back to the pool on close.
@@ -88,6 +99,18 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
 
     private int entryCount = 0;
 
+    /**
+     * Key hash codes of all entries in this bucket, in the same order as entries are stored in
+     * {@link #bucketData}. Only the first {@link #entryCount} elements are used.
+     */
+    private int[] entryHashCodes = new int[INITIAL_ENTRY_INDEX_CAPACITY];
+
+    /**
+     * Offsets of all entries in this bucket in {@link #bucketData}, parallel to {@link
+     * #entryHashCodes}. An offset points to the entry field tag, not to the entry data.
+     */
+    private long[] entryOffsets = new long[INITIAL_ENTRY_INDEX_CAPACITY];
+
     /**
      * Create a new bucket with the default size.
      */
@@ -240,7 +263,7 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
                 }
                 bucketData.position(0); // limit() doesn't work if the new limit is less than the current pos
                 bucketData.limit(result.entryOffset() + remainderSize);
-                entryCount--;
+                removeFromEntryIndex(result.entryIndex(), result.entrySize());
             } else {
                 // entry not found, nothing to delete
             }
@@ -259,7 +282,7 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
             }
             // add a new entry
             writeNewEntry(keyHashCode, value, key);
-            checkLargestBucket(++entryCount);
+            checkLargestBucket(entryCount);
         }
     }
 
@@ -274,6 +297,7 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
                         + ProtoWriterTools.sizeOfDelimited(FIELD_BUCKETENTRY_KEYBYTES, keySize);
         final int totalSize = ProtoWriterTools.sizeOfDelimited(FIELD_BUCKET_ENTRIES, entrySize);
         setSize(Math.toIntExact(entryOffset + totalSize), true);
+        addToEntryIndex(hashCode, entryOffset);
         bucketData.position(entryOffset);
         ProtoWriterTools.writeDelimited(bucketData, FIELD_BUCKET_ENTRIES, entrySize, out -> {
             ProtoWriterTools.writeTag(out, FIELD_BUCKETENTRY_HASHCODE);
@@ -301,8 +325,12 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
                 bucketData.skip(Integer.BYTES);
             } else if (fieldNum == FIELD_BUCKET_ENTRIES.number()) {
                 final int entryBytesSize = bucketData.readVarInt(false);
-                bucketData.skip(entryBytesSize);
-                entryCount++;
+                final long nextEntryOffset = bucketData.position() + entryBytesSize;
+                bucketData.limit(nextEntryOffset);
+                final int entryHashCode = readBucketEntryHashCode(bucketData);
+                bucketData.limit(size);
+                bucketData.position(nextEntryOffset);
+                addToEntryIndex(entryHashCode, fieldOffset);
             } else {
                 logger.error(
                         MERKLE_DB.getMarker(),
@@ -364,6 +392,8 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
         bucketData.resetPosition();
         long srcIndex = 0;
         long dstIndex = 0;
+        // Entry index is rebuilt from scratch, only retained entries are added
+        entryCount = 0;
         while (bucketData.hasRemaining()) {
             final long fieldOffset = bucketData.position();
             final int tag = bucketData.readVarInt(false);
@@ -383,6 +413,7 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
                 bucketData.limit(oldLimit);
                 if ((entryHashCode & expectedMask) == expectedIndex) {
                     copyBucketDataBytes(srcIndex, dstIndex, entryLenWithTag);
+                    addToEntryIndex(entryHashCode, dstIndex);
                     dstIndex += entryLenWithTag;
                 }
                 srcIndex += entryLenWithTag;
@@ -421,68 +452,115 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
     // Private API
 
     private FindResult findEntry(final int keyHashCode, final Bytes key) {
-        bucketData.resetPosition();
-        while (bucketData.hasRemaining()) {
-            final long fieldOffset = bucketData.position();
-            final int tag = bucketData.readVarInt(false);
-            final int fieldNum = tag >> TAG_FIELD_OFFSET;
-            if (fieldNum == FIELD_BUCKET_INDEX.number()) {
-                bucketData.skip(Integer.BYTES);
-            } else if (fieldNum == FIELD_BUCKET_ENTRIES.number()) {
-                final int entrySize = bucketData.readVarInt(false);
-                final long nextEntryOffset = bucketData.position() + entrySize;
-                final long oldLimit = bucketData.limit();
-                bucketData.limit(nextEntryOffset);
-                try {
-                    int entryHashCode = -1;
-                    long entryValueOffset = -1;
-                    long entryValue = 0;
-                    long entryKeyBytesOffset = -1;
-                    int entryKeyBytesSize = -1;
-                    while (bucketData.hasRemaining()) {
-                        final int entryTag = bucketData.readVarInt(false);
-                        final int entryFieldNum = entryTag >> TAG_FIELD_OFFSET;
-                        if (entryFieldNum == FIELD_BUCKETENTRY_HASHCODE.number()) {
-                            entryHashCode = bucketData.readInt();
-                            if (entryHashCode != keyHashCode) {
-                                break;
-                            }
-                        } else if (entryFieldNum == FIELD_BUCKETENTRY_VALUE.number()) {
-                            entryValueOffset = bucketData.position();
-                            entryValue = bucketData.readLong();
-                        } else if (entryFieldNum == FIELD_BUCKETENTRY_KEYBYTES.number()) {
-                            entryKeyBytesSize = bucketData.readVarInt(false);
-                            entryKeyBytesOffset = bucketData.position();
-                            bucketData.skip(entryKeyBytesSize);
-                        } else {
-                            throw new IllegalArgumentException("Unknown bucket entry field: " + entryFieldNum);
-                        }
-                    }
-                    if (entryHashCode == keyHashCode) {
-                        if ((entryValueOffset == -1) || (entryKeyBytesOffset == -1)) {
-                            logger.warn(MERKLE_DB.getMarker(), "Broken bucket entry");
-                        } else {
-                            if (keyEquals(entryKeyBytesOffset, entryKeyBytesSize, key)) {
-                                return new FindResult(
-                                        true,
-                                        fieldOffset,
-                                        Math.toIntExact(nextEntryOffset - fieldOffset),
-                                        entryValueOffset,
-                                        entryValue);
-                            }
-                        }
-                    }
-                } finally {
-                    bucketData.limit(oldLimit);
-                    bucketData.position(nextEntryOffset);
+        // Scan the packed hash code array first. It's much cheaper than parsing entries, and
+        // most entries in a bucket have hash codes different from the one requested
+        final int[] hashCodes = entryHashCodes;
+        final int count = entryCount;
+        for (int i = 0; i < count; i++) {
+            if (hashCodes[i] == keyHashCode) {
+                final FindResult result = matchEntry(i, key);
+                if (result != null) {
+                    return result;
                 }
-            } else {
-                throw new IllegalArgumentException("Unknown bucket field: " + fieldNum);
             }
         }
         return FindResult.NOT_FOUND;
     }
 
+    /**
+     * Parses the entry with the given index in the entry index and checks if its key is equal
+     * to the given key. Entry hash code is assumed to be already checked by the caller.
+     *
+     * @param entryIndex entry index, from 0 to {@link #entryCount} - 1
+     * @param key the key to check
+     * @return lookup result if the entry key is equal to the given key, or null otherwise
+     */
+    private FindResult matchEntry(final int entryIndex, final Bytes key) {
+        final long fieldOffset = entryOffsets[entryIndex];
+        bucketData.position(fieldOffset);
+        final int tag = bucketData.readVarInt(false);
+        assert (tag >> TAG_FIELD_OFFSET) == FIELD_BUCKET_ENTRIES.number();
+        final int entrySize = bucketData.readVarInt(false);
+        final long nextEntryOffset = bucketData.position() + entrySize;
+        final long oldLimit = bucketData.limit();
+        bucketData.limit(nextEntryOffset);
+        try {
+            long entryValueOffset = -1;
+            long entryValue = 0;
+            long entryKeyBytesOffset = -1;
+            int entryKeyBytesSize = -1;
+            while (bucketData.hasRemaining()) {
+                final int entryTag = bucketData.readVarInt(false);
+                final int entryFieldNum = entryTag >> TAG_FIELD_OFFSET;
+                if (entryFieldNum == FIELD_BUCKETENTRY_HASHCODE.number()) {
+                    bucketData.skip(Integer.BYTES);
+                } else if (entryFieldNum == FIELD_BUCKETENTRY_VALUE.number()) {
+                    entryValueOffset = bucketData.position();
+                    entryValue = bucketData.readLong();
+                } else if (entryFieldNum == FIELD_BUCKETENTRY_KEYBYTES.number()) {
+                    entryKeyBytesSize = bucketData.readVarInt(false);
+                    entryKeyBytesOffset = bucketData.position();
+                    bucketData.skip(entryKeyBytesSize);
+                } else {
+                    throw new IllegalArgumentException("Unknown bucket entry field: " + entryFieldNum);
+                }
+            }
+            if ((entryValueOffset == -1) || (entryKeyBytesOffset == -1)) {
+                logger.warn(MERKLE_DB.getMarker(), "Broken bucket entry");
+                return null;
+            }
+            if (!keyEquals(entryKeyBytesOffset, entryKeyBytesSize, key)) {
+                return null;
+            }
+            return new FindResult(
+                    true,
+                    entryIndex,
+                    fieldOffset,
+                    Math.toIntExact(nextEntryOffset - fieldOffset),
+                    entryValueOffset,
+                    entryValue);
+        } finally {
+            bucketData.limit(oldLimit);
+        }
+    }
+
+    /**
+     * Appends an entry to the entry index.
+     *
+     * @param hashCode entry key hash code
+     * @param entryOffset entry offset in bucket data
+     */
+    private void addToEntryIndex(final int hashCode, final long entryOffset) {
+        if (entryCount == entryHashCodes.length) {
+            final int newCapacity = entryHashCodes.length * 2;
+            entryHashCodes = Arrays.copyOf(entryHashCodes, newCapacity);
+            entryOffsets = Arrays.copyOf(entryOffsets, newCapacity);
+        }
+        entryHashCodes[entryCount] = hashCode;
+        entryOffsets[entryCount] = entryOffset;
+        entryCount++;
+    }
+
+    /**
+     * Removes an entry from the entry index. All entries after the removed one are expected to
+     * be already shifted in bucket data by the removed entry size, their offsets are updated
+     * accordingly.
+     *
+     * @param entryIndex index of the entry to remove
+     * @param entrySize size of the removed entry in bucket data, including entry tag
+     */
+    private void removeFromEntryIndex(final int entryIndex, final int entrySize) {
+        final int tail = entryCount - entryIndex - 1;
+        if (tail > 0) {
+            System.arraycopy(entryHashCodes, entryIndex + 1, entryHashCodes, entryIndex, tail);
+            System.arraycopy(entryOffsets, entryIndex + 1, entryOffsets, entryIndex, tail);
+            for (int i = entryIndex; i < entryIndex + tail; i++) {
+                entryOffsets[i] -= entrySize;
+            }
+        }
+        entryCount--;
+    }
+
     private boolean keyEquals(final long pos, final int size, final Bytes key) {
         if (size != key.length()) {
             return false;
@@ -505,12 +583,14 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
 
     /**
      * Simple record for entry lookup results. If an entry is found, "found" is set to true,
-     * "entryOffset" is the entry offset in bytes in the bucket buffer, entrySize is the size of entry in
-     * bytes, and "entryValue" is the entry value. If no entity is found, "found" is false, "entryOffset"
-     * and "entrySize" are -1, and "entryValue" is undefined.
+     * "entryIndex" is the entry index in the bucket entry index, "entryOffset" is the entry offset
+     * in bytes in the bucket buffer, entrySize is the size of entry in bytes, and "entryValue" is
+     * the entry value. If no entity is found, "found" is false, "entryIndex", "entryOffset" and
+     * "entrySize" are -1, and "entryValue" is undefined.
      */
-    private record FindResult(boolean found, long entryOffset, int entrySize, long entryValueOffset, long entryValue) {
+    private record FindResult(
+            boolean found, int entryIndex, long entryOffset, int entrySize, long entryValueOffset, long entryValue) {
 
-        static FindResult NOT_FOUND = new FindResult(false, -1, -1, -1, -1);
+        static FindResult NOT_FOUND = new FindResult(false, -1, -1, -1, -1, -1);
     }
 }
@@ -77,6 +77,9 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
      */
     private final int goodAverageBucketEntryCount;
 
+    /** Max number of bucket index delta files to write in snapshots, zero to always write full index */
+    private final int indexSnapshotMaxDeltaFiles;
+
     /** The limit on the number of concurrent read tasks in {@code endWriting()} */
     private static final int MAX_IN_FLIGHT = 1024;
 
@@ -209,6 +212,7 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         this.config = requireNonNull(configuration);
         final MerkleDbConfig merkleDbConfig = this.config.getConfigData(MerkleDbConfig.class);
         this.goodAverageBucketEntryCount = merkleDbConfig.goodAverageBucketEntryCount();
+        this.indexSnapshotMaxDeltaFiles = merkleDbConfig.indexSnapshotMaxDeltaFiles();
         // Max number of keys is limited by merkleDbConfig.maxNumberOfKeys. Number of buckets is,
         // on average, GOOD_AVERAGE_BUCKET_ENTRY_COUNT times smaller than the number of keys. To
         // be on the safe side, double that amount and use as a hard limit for bucket index size
@@ -424,7 +428,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         // create snapshot directory if needed
         Files.createDirectories(snapshotDirectory);
         // write index to file
-        bucketIndexToBucketLocation.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX));
+        bucketIndexToBucketLocation.writeToFile(
+                snapshotDirectory.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX), indexSnapshotMaxDeltaFiles);
         // snapshot files
         fileCollection.snapshot(snapshotDirectory);
         // write metadata
@@ -806,6 +811,7 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         protected boolean onExecute() throws IOException {
             try (bucket) {
                 final int bucketIndex = bucket.getBucketIndex();
+                final long oldBucketLocation = bucketIndexToBucketLocation.get(bucketIndex);
                 if (bucket.isEmpty()) {
                     // bucket is missing or empty, remove it from the index
                     bucketIndexToBucketLocation.remove(bucketIndex);
@@ -815,6 +821,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
                     // update bucketIndexToBucketLocation
                     bucketIndexToBucketLocation.put(bucketIndex, bucketLocation);
                 }
+                // the previous version of the bucket, if any, is now garbage
+                fileCollection.dataItemRemoved(oldBucketLocation);
                 return true;
             } finally {
                 // Let the current submit task know that a bucket is fully processed, and
@@ -920,7 +928,10 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
 
         bucketIndexToBucketLocation.updateValidRange(0, newSize - 1);
         // This straightforward loop works fast enough for now. If in the future it needs to be
-        // even faster, let's consider copying index batches and/or parallel index updates
+        // even faster, let's consider copying index batches and/or parallel index updates. Note that
+        // after this loop, every bucket data item is referenced from two buckets, so it will be counted
+        // as dead twice, when both buckets are updated. This is acceptable, since dead items counts are
+        // only used as estimates to prioritize compactions
         for (int i = 0; i < oldSize; i++) {
             final long value = bucketIndexToBucketLocation.get(i);
             if (value != DataFileCommon.NON_EXISTENT_DATA_LOCATION) {
@@ -0,0 +1,144 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LeafRecordCacheTest {
+
+    private static Bytes key(final int i) {
+        return Bytes.wrap("key" + i);
+    }
+
+    private static VirtualLeafBytes<?> leaf(final int i) {
+        return new VirtualLeafBytes<>(i, key(i), Bytes.wrap("value" + i));
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LeafRecordCache(0, 1, n -> {}));
+        assertThrows(IllegalArgumentException.class, () -> new LeafRecordCache(1024, 0, n -> {}));
+    }
+
+    @Test
+    void putAndGetByKeyAndPath() {
+        final LeafRecordCache cache = new LeafRecordCache(1024 * 1024, 4, n -> {});
+        final VirtualLeafBytes<?> leaf = leaf(1);
+        assertNull(cache.getByKey(key(1)));
+        assertNull(cache.getByPath(1));
+
+        cache.putByKey(leaf);
+        assertSame(leaf, cache.getByKey(key(1)));
+        assertNull(cache.getByPath(1), "Record cached by key must not be returned by path");
+
+        cache.putByPath(leaf);
+        assertSame(leaf, cache.getByPath(1));
+        assertEquals(2, cache.getEntryCount());
+    }
+
+    @Test
+    void negativeLookupsAreCached() {
+        final LeafRecordCache cache = new LeafRecordCache(1024 * 1024, 4, n -> {});
+        cache.putByKey(new VirtualLeafBytes<>(MerkleDbDataSource.INVALID_PATH, key(1), null));
+        final VirtualLeafBytes<?> cached = cache.getByKey(key(1));
+        assertNotNull(cached);
+        assertEquals(MerkleDbDataSource.INVALID_PATH, cached.path());
+        assertNull(cached.valueBytes());
+    }
+
+    @Test
+    void invalidation() {
+        final LeafRecordCache cache = new LeafRecordCache(1024 * 1024, 4, n -> {});
+        cache.putByKey(leaf(1));
+        cache.putByPath(leaf(1));
+        cache.putByKey(leaf(2));
+
+        cache.invalidateKey(key(1));
+        assertNull(cache.getByKey(key(1)));
+        assertNotNull(cache.getByPath(1));
+        assertNotNull(cache.getByKey(key(2)));
+
+        cache.invalidatePath(1);
+        assertNull(cache.getByPath(1));
+        assertEquals(1, cache.getEntryCount());
+
+        // No-op for missing entries
+        cache.invalidateKey(key(3));
+        cache.invalidatePath(3);
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    void updateReplacesEntry() {
+        final LeafRecordCache cache = new LeafRecordCache(1024 * 1024, 1, n -> {});
+        cache.putByKey(new VirtualLeafBytes<>(1, key(1), null));
+        final long sizeWithoutValue = cache.getSizeInBytes();
+        final VirtualLeafBytes<?> leaf = leaf(1);
+        cache.putByKey(leaf);
+        assertSame(leaf, cache.getByKey(key(1)));
+        assertEquals(1, cache.getEntryCount());
+        assertTrue(cache.getSizeInBytes() > sizeWithoutValue);
+    }
+
+    @Test
+    void sizeIsBoundedInBytes() {
+        final long maxSize = 64 * 1024;
+        final AtomicLong evicted = new AtomicLong();
+        final LeafRecordCache cache = new LeafRecordCache(maxSize, 4, evicted::addAndGet);
+        for (int i = 0; i < 10_000; i++) {
+            // Every key is requested twice, so it's always admitted
+            cache.getByKey(key(i));
+            cache.getByKey(key(i));
+            cache.putByKey(leaf(i));
+            assertTrue(cache.getSizeInBytes() <= maxSize);
+        }
+        assertTrue(evicted.get() > 0);
+        assertEquals(evicted.get(), cache.getEvictions());
+        final int expectedMaxEntries = (int) (maxSize / LeafRecordCache.weigh(key(0), leaf(0)));
+        assertTrue(cache.getEntryCount() <= expectedMaxEntries);
+    }
+
+    @Test
+    void entryLargerThanShardIsNotCached() {
+        final LeafRecordCache cache = new LeafRecordCache(LeafRecordCache.ENTRY_OVERHEAD_BYTES, 1, n -> {});
+        cache.putByKey(leaf(1));
+        assertNull(cache.getByKey(key(1)));
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    void hotEntriesSurviveScan() {
+        final int entryWeight = LeafRecordCache.weigh(key(0), leaf(0));
+        final LeafRecordCache cache = new LeafRecordCache(entryWeight * 100L, 1, n -> {});
+        // Make the first 50 keys hot
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.getByKey(key(i)) == null) {
+                    cache.putByKey(leaf(i));
+                }
+            }
+        }
+        // Scan through many keys, each requested just once
+        for (int i = 1000; i < 1300; i++) {
+            if (cache.getByKey(key(i)) == null) {
+                cache.putByKey(leaf(i));
+            }
+        }
+        int hotHits = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.getByKey(key(i)) != null) {
+                hotHits++;
+            }
+        }
+        assertTrue(hotHits >= 45, "Most of hot entries should still be cached, but only " + hotHits + " are");
+    }
+}
@@ -9,6 +9,7 @@ import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.apache.commons.lang3.RandomUtils.nextBoolean;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.verification.VerificationMode;
@@ -52,7 +54,10 @@ class MerkleDbCompactionCoordinatorTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        coordinator = new MerkleDbCompactionCoordinator("test", CONFIGURATION.getConfigData(MerkleDbConfig.class));
+        coordinator = new MerkleDbCompactionCoordinator(
+                "test",
+                CONFIGURATION.getConfigData(MerkleDbConfig.class),
+                new MerkleDbStatisticsUpdater(CONFIGURATION.getConfigData(MerkleDbConfig.class), "test"));
         coordinator.enableBackgroundCompaction();
     }
 
@@ -193,7 +198,10 @@ class MerkleDbCompactionCoordinatorTest {
     @Test
     void testCompactionWithNullNullables() throws IOException, InterruptedException {
         String table = randomAlphabetic(7);
-        coordinator = new MerkleDbCompactionCoordinator(table, CONFIGURATION.getConfigData(MerkleDbConfig.class));
+        coordinator = new MerkleDbCompactionCoordinator(
+                table,
+                CONFIGURATION.getConfigData(MerkleDbConfig.class),
+                new MerkleDbStatisticsUpdater(CONFIGURATION.getConfigData(MerkleDbConfig.class), table));
         coordinator.enableBackgroundCompaction();
 
         testCompaction(
@@ -233,6 +241,32 @@ class MerkleDbCompactionCoordinatorTest {
                 "Unexpected mock state");
     }
 
+    @Test
+    void testQueueDepthCountsOnlyOwnTasks() throws IOException, InterruptedException {
+        final MerkleDbCompactionCoordinator other = new MerkleDbCompactionCoordinator(
+                "other", CONFIGURATION.getConfigData(MerkleDbConfig.class), statisticsUpdater);
+        other.enableBackgroundCompaction();
+        CountDownLatch compactLatch = new CountDownLatch(1);
+        CountDownLatch testLatch = new CountDownLatch(1);
+        AtomicBoolean compactLatchAwaitResult = new AtomicBoolean(false);
+        initCompactorMock(hashStoreDisk, true, testLatch, compactLatch, compactLatchAwaitResult);
+        // a task of another data source in the shared executor
+        initCompactorMock(objectKeyToPath, true, new CountDownLatch(1), compactLatch, new AtomicBoolean());
+        coordinator.compactIfNotRunningYet("keyToPath", objectKeyToPath);
+
+        other.compactIfNotRunningYet("hashStoreDisk", hashStoreDisk);
+        assertTrue(await(testLatch), "Test latch wasn't released");
+        compactLatch.countDown();
+        assertEventuallyTrue(compactLatchAwaitResult::get, Duration.ofSeconds(1), "Compaction latch wasn't released");
+        other.stopAndDisableBackgroundCompaction();
+
+        // the task is counted when submitted, and no longer counted when started
+        final InOrder inOrder = inOrder(statisticsUpdater);
+        inOrder.verify(statisticsUpdater).setCompactionQueueDepth(1);
+        inOrder.verify(statisticsUpdater).setCompactionQueueDepth(0);
+        verify(statisticsUpdater, never()).setCompactionQueueDepth(2);
+    }
+
     private void stopAndDisableCompaction() {
         assertTrue(coordinator.isCompactionEnabled(), "Compaction is supposed to be enabled");
         coordinator.stopAndDisableBackgroundCompaction();
@@ -69,6 +69,10 @@ class MerkleDbStatisticsTest {
         assertDoesNotThrow(statistics::countHashReads);
         assertDoesNotThrow(statistics::countLeafReads);
         assertDoesNotThrow(statistics::countLeafKeyReads);
+        assertDoesNotThrow(statistics::countLeafCacheHits);
+        assertDoesNotThrow(statistics::countLeafCacheMisses);
+        assertDoesNotThrow(() -> statistics.countLeafCacheEvictions(42));
+        assertDoesNotThrow(() -> statistics.setLeafCacheSizeMb(31415));
         assertDoesNotThrow(() -> statistics.setHashesStoreFileCount(42));
         assertDoesNotThrow(() -> statistics.setHashesStoreFileSizeMb(31415));
         assertDoesNotThrow(() -> statistics.setLeafKeysStoreFileCount(42));
@@ -85,6 +89,8 @@ class MerkleDbStatisticsTest {
         assertDoesNotThrow(() -> statistics.setLeafKeysStoreCompactionTimeMs(compactionLevel, 314));
         assertDoesNotThrow(() -> statistics.setLeafKeysStoreCompactionSavedSpaceMb(compactionLevel, Math.PI));
         assertDoesNotThrow(() -> statistics.setLeafKeysStoreFileSizeByLevelMb(compactionLevel, Math.PI));
+        assertDoesNotThrow(() -> statistics.setCompactionQueueDepth(42));
+        assertDoesNotThrow(() -> statistics.countCompactionThrottledTimeMs(314));
         assertDoesNotThrow(() -> statistics.setOffHeapHashesIndexMb(42));
         assertDoesNotThrow(() -> statistics.setOffHeapLeavesIndexMb(42));
         assertDoesNotThrow(() -> statistics.setOffHeapObjectKeyBucketsIndexMb(42));
@@ -387,6 +387,100 @@ abstract class AbstractLongListTest<T extends AbstractLongList<?>> {
     }
 
     // SAMPLE_SIZE should be 10K for this test
+    @Test
+    void testIncrementalWriteToFile(@TempDir final Path tempDir) throws IOException {
+        final long capacity = 1024 * 1024;
+        final int count = 100_000;
+        try (final LongList longList = createLongList(1000, capacity, 0)) {
+            longList.updateValidRange(0, count - 1);
+            for (int i = 0; i < count; i++) {
+                longList.put(i, i + 1);
+            }
+            // No previous snapshot, full index file is written
+            final Path file1 = Files.createDirectory(tempDir.resolve("s1")).resolve("index.ll");
+            longList.writeToFile(file1, 2);
+            assertFalse(Files.exists(AbstractLongList.deltaFile(file1, 1)), "No delta file expected");
+
+            // A few changes, a delta file is written next to the linked full index file
+            longList.put(10, 7);
+            longList.remove(5000);
+            longList.updateValidRange(100, count + 100);
+            longList.put(count + 50, 3);
+            final Path file2 = Files.createDirectory(tempDir.resolve("s2")).resolve("index.ll");
+            longList.writeToFile(file2, 2);
+            assertTrue(Files.isSameFile(file1, file2), "Full index file should be linked");
+            assertTrue(Files.exists(AbstractLongList.deltaFile(file2, 1)), "Delta file expected");
+            try (final LongList loaded = createLongList(file2, 1000, capacity, 0)) {
+                checkSameData(longList, loaded, count + 200);
+            }
+
+            // One more delta file
+            assertTrue(longList.putIfEqual(count - 1, count, 11));
+            final Path file3 = Files.createDirectory(tempDir.resolve("s3")).resolve("index.ll");
+            longList.writeToFile(file3, 2);
+            assertTrue(Files.exists(AbstractLongList.deltaFile(file3, 1)), "Delta file expected");
+            assertTrue(Files.exists(AbstractLongList.deltaFile(file3, 2)), "Delta file expected");
+            try (final LongList loaded = createLongList(file3, 1000, capacity, 0)) {
+                checkSameData(longList, loaded, count + 200);
+
+                // Lists loaded with delta files can be written incrementally, too
+                loaded.put(200, 9);
+                final Path file4 = Files.createDirectory(tempDir.resolve("s4")).resolve("index.ll");
+                // Max number of delta files is reached, full index file is written
+                loaded.writeToFile(file4, 2);
+                assertFalse(Files.exists(AbstractLongList.deltaFile(file4, 1)), "No delta file expected");
+                try (final LongList reloaded = createLongList(file4, 1000, capacity, 0)) {
+                    checkSameData(loaded, reloaded, count + 200);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testIncrementalWriteToFileFallsBackToFullWrite(@TempDir final Path tempDir) throws IOException {
+        final long capacity = 1024 * 1024;
+        final int count = 100_000;
+        try (final LongList longList = createLongList(1000, capacity, 0)) {
+            longList.updateValidRange(0, count - 1);
+            for (int i = 0; i < count; i++) {
+                longList.put(i, i + 1);
+            }
+            final Path file1 = Files.createDirectory(tempDir.resolve("s1")).resolve("index.ll");
+            longList.writeToFile(file1, 8);
+
+            // The previous snapshot is deleted, full index file is written
+            Files.delete(file1);
+            longList.put(10, 7);
+            final Path file2 = Files.createDirectory(tempDir.resolve("s2")).resolve("index.ll");
+            longList.writeToFile(file2, 8);
+            assertFalse(Files.exists(AbstractLongList.deltaFile(file2, 1)), "No delta file expected");
+            try (final LongList loaded = createLongList(file2, 1000, capacity, 0)) {
+                checkSameData(longList, loaded, count);
+            }
+
+            // Most of the list is changed, full index file is written
+            for (int i = 0; i < count; i += 1000) {
+                longList.put(i, i + 2);
+            }
+            final Path file3 = Files.createDirectory(tempDir.resolve("s3")).resolve("index.ll");
+            longList.writeToFile(file3, 8);
+            assertFalse(Files.isSameFile(file2, file3), "Full index file should not be linked");
+            assertFalse(Files.exists(AbstractLongList.deltaFile(file3, 1)), "No delta file expected");
+            try (final LongList loaded = createLongList(file3, 1000, capacity, 0)) {
+                checkSameData(longList, loaded, count);
+            }
+        }
+    }
+
+    private static void checkSameData(final LongList expected, final LongList actual, final long maxIndex) {
+        assertEquals(expected.size(), actual.size(), "Sizes should match");
+        assertEquals(expected.getMinValidIndex(), actual.getMinValidIndex(), "Min valid indices should match");
+        assertEquals(expected.getMaxValidIndex(), actual.getMaxValidIndex(), "Max valid indices should match");
+        for (long i = 0; i < maxIndex; i++) {
+            assertEquals(expected.get(i), actual.get(i), "Values at index " + i + " should match");
+        }
+    }
+
     @Test
     void testBackwardCompatibilityHalfEmpty_10K() throws URISyntaxException, IOException {
         // Load a pre-existing file representing a half-empty LongList
@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class CompactionIoThrottleTest {
+
+    @Test
+    void negativeLimitsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CompactionIoThrottle(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CompactionIoThrottle(0, -1));
+    }
+
+    @Test
+    void unlimitedThrottleNeverWaits() throws InterruptedException {
+        final CompactionIoThrottle throttle = new CompactionIoThrottle(0, 0);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, throttle.acquire(1024 * 1024, 1, () -> true), "Unlimited throttle must not wait");
+        }
+        assertEquals(0, throttle.getThrottledNanos());
+    }
+
+    @Test
+    void bytesBudgetIsEnforced() throws InterruptedException {
+        // 1Mb per second, the initial budget is 1Mb
+        final CompactionIoThrottle throttle = new CompactionIoThrottle(1024 * 1024, 0);
+        final long start = System.nanoTime();
+        // 1.25Mb total, the last 256Kb should take about 250ms
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire(256 * 1024, 1, () -> true);
+        }
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= 200, "Throttle must wait when the budget is exceeded, waited " + elapsedMs + "ms");
+        assertTrue(throttle.getThrottledNanos() > 0);
+    }
+
+    @Test
+    void opsBudgetIsEnforced() throws InterruptedException {
+        // 100 ops per second, the initial budget is 100 ops
+        final CompactionIoThrottle throttle = new CompactionIoThrottle(0, 100);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 125; i++) {
+            throttle.acquire(0, 1, () -> true);
+        }
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= 200, "Throttle must wait when the budget is exceeded, waited " + elapsedMs + "ms");
+    }
+
+    @Test
+    void pauseBlocksUntilResumed() throws InterruptedException {
+        final CompactionIoThrottle throttle = new CompactionIoThrottle(0, 0);
+        throttle.pause();
+        throttle.pause();
+        assertTrue(throttle.isPaused());
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean acquired = new AtomicBoolean(false);
+        final Thread thread = new Thread(() -> {
+            try {
+                started.countDown();
+                throttle.acquire(1, 1, () -> true);
+                acquired.set(true);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        assertFalse(acquired.get(), "Acquire must block while paused");
+        throttle.resume();
+        Thread.sleep(200);
+        assertFalse(acquired.get(), "Nested pauses must all be resumed");
+        throttle.resume();
+        thread.join(1000);
+        assertTrue(acquired.get(), "Acquire must complete after resume");
+        assertFalse(throttle.isPaused());
+    }
+
+    @Test
+    void waitingStopsWhenConditionIsFalse() throws InterruptedException {
+        final CompactionIoThrottle throttle = new CompactionIoThrottle(0, 0);
+        throttle.pause();
+        final long start = System.nanoTime();
+        throttle.acquire(1, 1, () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 150);
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs < 1000, "Waiting must stop when the condition is false");
+        throttle.resume();
+    }
+}
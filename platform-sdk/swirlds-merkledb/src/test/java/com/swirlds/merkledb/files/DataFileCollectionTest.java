@@ -174,6 +174,38 @@ class DataFileCollectionTest {
         checkData(fileCollectionMap.get(testType), storedOffsetsMap.get(testType), testType, 0, 1000, 10_000);
     }
 
+    @Order(3)
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void batchRead1000(final FilesTestType testType) throws IOException {
+        final DataFileCollection fileCollection = fileCollectionMap.get(testType);
+        final LongListHeap storedOffsets = storedOffsetsMap.get(testType);
+        // Keys in reverse order, so reads from different files are mixed and have to be sorted
+        final long[] dataLocations = new long[1000];
+        for (int i = 0; i < 1000; i++) {
+            dataLocations[i] = storedOffsets.get(999 - i);
+        }
+        final BufferedData[] dataItems = fileCollection.readDataItems(dataLocations);
+        assertEquals(dataLocations.length, dataItems.length, "Batch read should return a result for every location");
+        for (int i = 0; i < 1000; i++) {
+            final int key = 999 - i;
+            final BufferedData dataItem = dataItems[i];
+            assertNotNull(dataItem, "Data item should be read for key " + key);
+            final long[] dataItemLongs = new long[Math.toIntExact(dataItem.remaining() / Long.BYTES)];
+            for (int j = 0; j < dataItemLongs.length; j++) {
+                dataItemLongs[j] = dataItem.readLong();
+            }
+            final long[] expected = (testType == FilesTestType.fixed)
+                    ? new long[] {key, key + 10_000}
+                    : getVariableSizeDataForI(key, 10_000);
+            assertEquals(
+                    Arrays.toString(expected),
+                    Arrays.toString(dataItemLongs),
+                    "Batch read data item should match single read for key " + key);
+        }
+        assertEquals(0, fileCollection.readDataItems(new long[0]).length, "Empty batch read");
+    }
+
     @Order(4)
     @ParameterizedTest
     @EnumSource(FilesTestType.class)
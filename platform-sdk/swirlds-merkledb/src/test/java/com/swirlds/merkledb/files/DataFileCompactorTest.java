@@ -136,6 +136,43 @@ class DataFileCompactorTest {
         assertEquals(initialLevel3, result.get(2));
     }
 
+    @Test
+    void testCompactionPlanDeadItems_notEnoughInitialLevelReaders() {
+        when(firstLevel1.getDeadItemsRatio()).thenReturn(0.6);
+        when(firstLevel2.getDeadItemsRatio()).thenReturn(0.2);
+        when(secondLevel1.getDeadItemsRatio()).thenReturn(0.9);
+        List<? extends DataFileReader> result = compactionPlan(
+                Arrays.asList(initialLevel1, firstLevel1, firstLevel2, secondLevel1, secondLevel2), 3, 5, 0.5);
+        assertEquals(2, result.size());
+        assertEquals(secondLevel1, result.get(0));
+        assertEquals(firstLevel1, result.get(1));
+    }
+
+    @Test
+    void testCompactionPlanDeadItems_addedAfterLevels() {
+        when(initialLevel1.getDeadItemsRatio()).thenReturn(0.7);
+        when(secondLevel2.getDeadItemsRatio()).thenReturn(0.5);
+        List<? extends DataFileReader> result = compactionPlan(
+                Arrays.asList(initialLevel1, initialLevel2, initialLevel3, firstLevel1, secondLevel1, secondLevel2),
+                3,
+                5,
+                0.5);
+        assertEquals(4, result.size());
+        assertEquals(initialLevel1, result.get(0));
+        assertEquals(initialLevel2, result.get(1));
+        assertEquals(initialLevel3, result.get(2));
+        assertEquals(secondLevel2, result.get(3));
+    }
+
+    @Test
+    void testCompactionPlanDeadItems_disabled() {
+        when(firstLevel1.getDeadItemsRatio()).thenReturn(1.0);
+        assertEquals(
+                0,
+                compactionPlan(Arrays.asList(initialLevel1, firstLevel1), 3, 5, 0.0)
+                        .size());
+    }
+
     @Test
     void testCompactionPlanMultiLevel_noInitialLevelFiles() {
         List<? extends DataFileReader> result =
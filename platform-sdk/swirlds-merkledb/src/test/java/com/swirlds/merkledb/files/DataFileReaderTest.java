@@ -4,9 +4,14 @@ package com.swirlds.merkledb.files;
 import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -123,4 +128,51 @@ class DataFileReaderTest {
         assertEquals(1, dataFileReader.leaseFileChannel());
         assertEquals(2, dataFileReader.leaseFileChannel());
     }
+
+    @Test
+    void testMemoryMappedReads() throws IOException {
+        final MerkleDbConfig mmapConfig = ConfigurationBuilder.create()
+                .withConfigDataTypes(MerkleDbConfig.class)
+                .withSources(new SimpleConfigSource("merkleDb.dataFileMmapReadsEnabled", true))
+                .build()
+                .getConfigData(MerkleDbConfig.class);
+        final Path dir = Files.createTempDirectory("file-reader-mmap");
+        final DataFileWriter writer = new DataFileWriter("test", dir, 1, Instant.now(), 0, 1024);
+        final int itemCount = 100;
+        final long[] dataLocations = new long[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            // Items of different sizes, some larger than the writer buffer
+            final byte[] bytes = new byte[i * 20];
+            for (int j = 0; j < bytes.length; j++) {
+                bytes[j] = (byte) (i + j);
+            }
+            dataLocations[i] = writer.storeDataItem(BufferedData.wrap(bytes));
+        }
+        writer.close();
+
+        final DataFileReader mappedReader = new DataFileReader(mmapConfig, writer.getPath(), writer.getMetadata());
+        final DataFileReader channelReader = new DataFileReader(dbConfig, writer.getPath(), writer.getMetadata());
+        try {
+            assertFalse(mappedReader.isMapped(), "Files must not be mapped before they are completed");
+            mappedReader.setFileCompleted();
+            channelReader.setFileCompleted();
+            assertTrue(mappedReader.isMapped(), "Completed file must be mapped, if enabled in config");
+            assertFalse(channelReader.isMapped(), "Files must not be mapped by default");
+            for (int i = 0; i < itemCount; i++) {
+                final BufferedData mapped = mappedReader.readDataItem(dataLocations[i]);
+                final BufferedData read = channelReader.readDataItem(dataLocations[i]);
+                assertEquals(read.remaining(), mapped.remaining(), "Mapped data item size must match");
+                final byte[] mappedBytes = new byte[Math.toIntExact(mapped.remaining())];
+                mapped.readBytes(mappedBytes);
+                final byte[] readBytes = new byte[Math.toIntExact(read.remaining())];
+                read.readBytes(readBytes);
+                assertArrayEquals(readBytes, mappedBytes, "Mapped data item must be equal to the item from channel");
+            }
+        } finally {
+            channelReader.close();
+            mappedReader.close();
+        }
+        assertFalse(mappedReader.isMapped(), "Closed reader must release mapped regions");
+        assertNull(mappedReader.readDataItem(dataLocations[0]), "Closed reader must not return data");
+    }
 }
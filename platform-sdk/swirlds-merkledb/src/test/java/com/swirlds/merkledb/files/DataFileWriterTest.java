@@ -95,6 +95,24 @@ class DataFileWriterTest {
         verifyFileSize(bytesData.length);
     }
 
+    @Test
+    public void itemsCountIsWrittenToHeader() throws IOException {
+        BufferedData data = BufferedData.wrap("test".getBytes());
+        for (int i = 0; i < 10; i++) {
+            dataFileWriter.storeDataItem(data);
+            data.flip();
+        }
+        assertEquals(0, dataFileWriter.getMetadata().getItemsCount(), "Items count is only set on close");
+        assertEquals(10, dataFileWriter.getItemsCount());
+
+        dataFileWriter.close();
+        assertEquals(10, dataFileWriter.getMetadata().getItemsCount());
+        final DataFileMetadata metadata = DataFileMetadata.readFromFile(dataFileWriter.getPath());
+        assertEquals(10, metadata.getItemsCount(), "Items count should be read from the file header");
+        assertEquals(dataFileWriter.getMetadata(), metadata);
+        verifyFileSize("test".length() * 10);
+    }
+
     private void verifyFileSize(int dataLength) throws IOException {
         int fileSize = (int) Files.size(dataFileWriter.getPath());
         int dataSize = ProtoWriterTools.sizeOfDelimited(FIELD_DATAFILE_ITEMS, dataLength);
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -299,4 +300,42 @@ class MemoryIndexDiskKeyValueStoreTest {
         deleteDirectoryAndContents(tempDir);
         deleteDirectoryAndContents(tempSnapshotDir);
     }
+
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void deadItemsAreCountedAndRestored(final FilesTestType testType) throws Exception {
+        final Path tempDir = testDirectory.resolve("DeadItemsTest");
+        final String storeName = "deadItemsTest";
+        final MerkleDbConfig dbConfig = CONFIGURATION.getConfigData(MerkleDbConfig.class);
+        final LongListOffHeap index = new LongListOffHeap(1024, 1_000_000, 256);
+        final MemoryIndexDiskKeyValueStore store =
+                new MemoryIndexDiskKeyValueStore(dbConfig, tempDir, storeName, null, null, index);
+        writeBatch(testType, store, 0, 100, 100, 1234);
+        // overwrite 60 data items out of 100 in the first file
+        writeBatch(testType, store, 0, 60, 100, 5678);
+        final List<DataFileReader> files = store.getFileCollection().getAllCompletedFiles();
+        assertEquals(2, files.size());
+        assertEquals(100, files.get(0).getItemsCount());
+        assertEquals(60, files.get(0).getDeadItemsCount());
+        assertEquals(0.6, files.get(0).getDeadItemsRatio(), 0.0001);
+        assertEquals(60, files.get(1).getItemsCount());
+        assertEquals(0, files.get(1).getDeadItemsCount());
+
+        final Path snapshotDir = testDirectory.resolve("DeadItemsTestSnapshot");
+        store.snapshot(snapshotDir);
+        store.close();
+        index.close();
+
+        final LongListOffHeap snapshotIndex = new LongListOffHeap(1024, 1_000_000, 256);
+        final MemoryIndexDiskKeyValueStore storeFromSnapshot =
+                new MemoryIndexDiskKeyValueStore(dbConfig, snapshotDir, storeName, null, null, snapshotIndex);
+        final List<DataFileReader> restoredFiles =
+                storeFromSnapshot.getFileCollection().getAllCompletedFiles();
+        assertEquals(2, restoredFiles.size());
+        assertEquals(100, restoredFiles.get(0).getItemsCount(), "Items count should be read from file header");
+        assertEquals(60, restoredFiles.get(0).getDeadItemsCount(), "Dead items count should be restored");
+        assertEquals(0, restoredFiles.get(1).getDeadItemsCount());
+        storeFromSnapshot.close();
+        snapshotIndex.close();
+    }
 }
@@ -311,6 +311,89 @@ class BucketTest {
         }
     }
 
+    @Test
+    void sameHashCodeDifferentKeysTest() throws IOException {
+        // Let's pretend all keys have the same hash code
+        final int hashCode = 111;
+        final Bytes[] keys = new Bytes[10];
+        try (final Bucket bucket = new Bucket()) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = Bytes.wrap(new byte[] {1, 2, (byte) i});
+                bucket.putValue(keys[i], hashCode, i + 100);
+            }
+            // Add an entry with a different hash code in the middle
+            final Bytes otherKey = Bytes.wrap(new byte[] {1, 2, 3});
+            bucket.putValue(otherKey, hashCode + 1, 99);
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(i + 100, bucket.findValue(hashCode, keys[i], -1));
+            }
+            // Key is the same, but hash code is different
+            assertEquals(99, bucket.findValue(hashCode + 1, otherKey, -1));
+            assertEquals(-1, bucket.findValue(hashCode + 1, keys[3], -1));
+            // Delete some entries with the same hash code and check the rest are still there
+            bucket.putValue(keys[0], hashCode, INVALID_VALUE);
+            bucket.putValue(keys[5], hashCode, INVALID_VALUE);
+            assertEquals(keys.length - 1, bucket.getBucketEntryCount());
+            for (int i = 0; i < keys.length; i++) {
+                final long expected = (i == 0 || i == 5) ? -1 : i + 100;
+                assertEquals(expected, bucket.findValue(hashCode, keys[i], -1));
+            }
+            assertEquals(99, bucket.findValue(hashCode + 1, otherKey, -1));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(KeyType.class)
+    void findAfterReadFromTest(final KeyType keyType) throws IOException {
+        final Bytes[] testKeys = new Bytes[40];
+        final Bucket bucket = new Bucket();
+        for (int i = 0; i < testKeys.length; i++) {
+            testKeys[i] = keyType.keyConstructor.apply((long) (i + 10));
+            bucket.putValue(testKeys[i], testKeys[i].hashCode(), keyType.getKeyAsLong(testKeys[i]) + 100);
+        }
+        final BufferedData buf = BufferedData.allocate(bucket.sizeInBytes());
+        bucket.writeTo(buf);
+        buf.flip();
+        final Bucket bucket2 = new Bucket();
+        bucket2.readFrom(buf);
+        assertEquals(testKeys.length, bucket2.getBucketEntryCount());
+        for (final Bytes key : testKeys) {
+            checkKey(keyType, bucket2, key);
+        }
+        // Update and delete after read, the entry index must stay consistent with bucket data
+        bucket2.putValue(testKeys[0], testKeys[0].hashCode(), INVALID_VALUE);
+        bucket2.putValue(testKeys[20], testKeys[20].hashCode(), INVALID_VALUE);
+        for (int i = 0; i < testKeys.length; i++) {
+            if (i == 0 || i == 20) {
+                assertEquals(-1, bucket2.findValue(testKeys[i].hashCode(), testKeys[i], -1));
+            } else {
+                checkKey(keyType, bucket2, testKeys[i]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(KeyType.class)
+    void findAfterSanitizeTest(final KeyType keyType) throws IOException {
+        final Bytes[] testKeys = new Bytes[40];
+        final Bucket bucket = new Bucket();
+        for (int i = 0; i < testKeys.length; i++) {
+            testKeys[i] = keyType.keyConstructor.apply((long) (i + 10));
+            bucket.putValue(testKeys[i], testKeys[i].hashCode(), keyType.getKeyAsLong(testKeys[i]) + 100);
+        }
+        bucket.sanitize(1, 1);
+        int retained = 0;
+        for (final Bytes key : testKeys) {
+            if ((key.hashCode() & 1) == 1) {
+                checkKey(keyType, bucket, key);
+                retained++;
+            } else {
+                assertEquals(-1, bucket.findValue(key.hashCode(), key, -1));
+            }
+        }
+        assertEquals(retained, bucket.getBucketEntryCount());
+    }
+
     private void checkKey(KeyType keyType, Bucket bucket, Bytes key) {
         var findResult =
                 assertDoesNotThrow(() -> bucket.findValue(key.hashCode(), key, -1), "No exception should be thrown");
@@ -4,8 +4,10 @@ package com.swirlds.platform.core.jmh;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.test.fixtures.WeightGenerators;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.platform.Consensus;
 import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.consensus.ConsensusConfig_;
 import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.metrics.NoOpConsensusMetrics;
 import com.swirlds.platform.test.fixtures.event.emitter.EventEmitterBuilder;
@@ -31,7 +33,7 @@ import org.openjdk.jmh.infra.Blackhole;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 3, time = 10)
 public class ConsensusBenchmark {
-    @Param({"39"})
+    @Param({"39", "64", "100"})
     public int numNodes;
 
     @Param({"100000"})
@@ -40,13 +42,19 @@ public class ConsensusBenchmark {
     @Param({"0"})
     public long seed;
 
+    @Param({"false", "true"})
+    public boolean bitsetStronglySeen;
+
     private List<EventImpl> events;
     private Consensus consensus;
 
     @Setup(Level.Iteration)
     public void setup() {
-        final PlatformContext platformContext =
-                TestPlatformContextBuilder.create().build();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(ConsensusConfig_.BITSET_STRONGLY_SEEN, bitsetStronglySeen)
+                        .getOrCreateConfig())
+                .build();
         final StandardEventEmitter emitter = EventEmitterBuilder.newBuilder()
                 .setRandomSeed(seed)
                 .setNumNodes(numNodes)
@@ -72,6 +80,10 @@ public class ConsensusBenchmark {
            Results on a M1 Max MacBook Pro:
            Benchmark                              (numEvents)  (numNodes)  (seed)  Mode  Cnt   Score    Error  Units
            ConsensusBenchmark.calculateConsensus       100000          39       0  avgt    3  27.551 ± 11.690  ms/op
+
+           With more nodes, the cost of calculating strongly seen witnesses grows with the square of the number of
+           nodes for every event. Compare the results of bitsetStronglySeen=false and bitsetStronglySeen=true for 64
+           and 100 nodes to see the gain of visiting every intermediate event once.
         */
     }
 }
@@ -24,6 +24,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 @State(Scope.Benchmark)
@@ -32,7 +33,7 @@ import org.openjdk.jmh.annotations.Warmup;
 @Measurement(iterations = 3, time = 10)
 public class PcesWriterBenchmark {
 
-    @Param({"OUTPUT_STREAM", "FILE_CHANNEL", "FILE_CHANNEL_SYNC"})
+    @Param({"OUTPUT_STREAM", "FILE_CHANNEL", "FILE_CHANNEL_SYNC", "GROUP_COMMIT"})
     public PcesFileWriterType pcesFileWriterType;
 
     private PlatformEvent event;
@@ -91,4 +92,27 @@ public class PcesWriterBenchmark {
         mutableFile.writeEvent(event);
         mutableFile.sync();
     }
+
+    /**
+     * Multiple threads write events and wait for them to be durable. Writers other than {@code GROUP_COMMIT} aren't
+     * thread safe, so each thread writes and syncs under a lock. With {@code GROUP_COMMIT}, only writes are done under
+     * the lock, while concurrent syncs are shared.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(8)
+    public void writeEventAndSyncConcurrently() throws IOException {
+        if (pcesFileWriterType == PcesFileWriterType.GROUP_COMMIT) {
+            synchronized (mutableFile) {
+                mutableFile.writeEvent(event);
+            }
+            mutableFile.sync();
+        } else {
+            synchronized (mutableFile) {
+                mutableFile.writeEvent(event);
+                mutableFile.sync();
+            }
+        }
+    }
 }
@@ -356,6 +356,9 @@ public class ConsensusImpl implements Consensus {
                 // The only exception to this the DeGen value. This needs to be recalculated on every round, and all
                 // descendants of decided judges will base their DeGen on them.
                 DeGen.calculateDeGen(insertedEvent);
+                // The memoized firstSee values point to witnesses of rounds that are decided now, which are no
+                // longer relevant for consensus, so they must be recalculated.
+                insertedEvent.initFirstSee(0);
                 continue;
             }
 
@@ -1069,6 +1072,10 @@ public class ConsensusImpl implements Consensus {
         final long prop = parentRound(op); // parent round of other parent of x
 
         x.initStronglySeeP(numMembers);
+        if (config.bitsetStronglySeen()) {
+            stronglySeePForAllMembers(x, numMembers, sp, op, prx, prsp, prop);
+            return x.getStronglySeeP((int) m);
+        }
         for (int mm = 0; mm < numMembers; mm++) {
             if (stronglySeeP(sp, mm) != null && prx == prsp) {
                 x.setStronglySeeP(mm, stronglySeeP(sp, mm));
@@ -1099,6 +1106,108 @@ public class ConsensusImpl implements Consensus {
         return x.getStronglySeeP((int) m);
     }
 
+    /**
+     * Calculate stronglySeeP(x, m) for all members m at once, and memoize the results. The results are the same as
+     * calculated by {@link #stronglySeeP(EventImpl, long)}, but the loops are inverted. Instead of walking all the
+     * intermediates for every member, the members whose canonical witness may be strongly seen are tracked in a
+     * bitset, and every intermediate is visited once. The witnesses seen through an intermediate are memoized on the
+     * intermediate, so they are shared by all events that see it. A member is removed from the bitset as soon as a
+     * supermajority of intermediates is found for it.
+     *
+     * @param x          the event being queried, its stronglySeeP array must be initialized
+     * @param numMembers the number of members
+     * @param sp         the self parent of x
+     * @param op         the other parent of x
+     * @param prx        the parent round of x
+     * @param prsp       the parent round of the self parent of x
+     * @param prop       the parent round of the other parent of x
+     */
+    private void stronglySeePForAllMembers(
+            @NonNull final EventImpl x,
+            final int numMembers,
+            @Nullable final EventImpl sp,
+            @Nullable final EventImpl op,
+            final long prx,
+            final long prsp,
+            final long prop) {
+        // the canonical witness by mm that is seen by x thru someone else, for members in the candidates bitset
+        final EventImpl[] canonical = new EventImpl[numMembers];
+        final long[] candidates = new long[(numMembers + Long.SIZE - 1) / Long.SIZE];
+        int candidateCount = 0;
+        for (int mm = 0; mm < numMembers; mm++) {
+            if (stronglySeeP(sp, mm) != null && prx == prsp) {
+                x.setStronglySeeP(mm, stronglySeeP(sp, mm));
+            } else if (stronglySeeP(op, mm) != null && prx == prop) {
+                x.setStronglySeeP(mm, stronglySeeP(op, mm));
+            } else {
+                final EventImpl st = seeThru(x, mm, mm);
+                // ignore if the canonical is in the wrong round, or doesn't exist
+                if (st != null && round(st) == prx) {
+                    canonical[mm] = st;
+                    candidates[mm / Long.SIZE] |= 1L << (mm % Long.SIZE);
+                    candidateCount++;
+                }
+            }
+        }
+
+        final long[] weights = new long[numMembers];
+        for (int m3 = 0; m3 < numMembers && candidateCount > 0; m3++) {
+            final long m3Weight = getWeight(m3);
+            if (m3Weight == 0) {
+                continue;
+            }
+            // x sees itself as the last event by its creator, so its witnesses are not memoized, see seeThru()
+            final boolean selfIntermediate = creatorIndexEquals(x, m3);
+            final EventImpl intermediate = lastSee(x, m3);
+            final boolean memoized = !selfIntermediate && memoizeFirstSee(intermediate, numMembers);
+            for (int word = 0; word < candidates.length; word++) {
+                long bits = candidates[word];
+                while (bits != 0) {
+                    final int mm = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    final EventImpl seen;
+                    if (selfIntermediate) {
+                        seen = seeThru(x, mm, m3);
+                    } else {
+                        seen = memoized ? intermediate.getFirstSee(mm) : null;
+                    }
+                    // only count intermediates that see the canonical witness
+                    if (seen != canonical[mm]) {
+                        continue;
+                    }
+                    weights[mm] += m3Weight;
+                    if (Threshold.SUPER_MAJORITY.isSatisfiedBy(weights[mm], rosterTotalWeight)) {
+                        // strongly see supermajority of intermediates
+                        x.setStronglySeeP(mm, canonical[mm]);
+                        candidates[word] &= ~(1L << (mm % Long.SIZE));
+                        candidateCount--;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Memoize firstSee(z, m) for all members m, unless already memoized.
+     *
+     * @param z          the event
+     * @param numMembers the number of members
+     * @return true if the values are memoized, false if z is null or not relevant for consensus, so firstSee(z, m) is
+     *     null for all m
+     */
+    private boolean memoizeFirstSee(@Nullable final EventImpl z, final int numMembers) {
+        if (z == null || notRelevantForConsensus(z)) {
+            return false;
+        }
+        if (z.sizeFirstSee() == 0) {
+            z.initFirstSee(numMembers);
+            for (int mm = 0; mm < numMembers; mm++) {
+                z.setFirstSee(mm, firstSee(z, mm));
+            }
+        }
+        return true;
+    }
+
     /**
      * The round-created for event x (first round is 1), or 0 if x is null (function from
      * SWIRLDS-TR-2020-01). It also stores the round number with x.setRoundCreated(). This result is
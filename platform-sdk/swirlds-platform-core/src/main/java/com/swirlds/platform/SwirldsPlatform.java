@@ -383,8 +383,10 @@ public class SwirldsPlatform implements Platform {
     private void replayPreconsensusEvents() {
         platformWiring.getStatusActionSubmitter().submitStatusAction(new StartedReplayingEventsAction());
 
-        final IOIterator<PlatformEvent> iterator =
-                initialPcesFiles.getEventIterator(pcesReplayLowerBound, startingRound);
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        final IOIterator<PlatformEvent> iterator = pcesConfig.parallelReplay()
+                ? initialPcesFiles.getParallelEventIterator(pcesReplayLowerBound, startingRound, pcesConfig)
+                : initialPcesFiles.getEventIterator(pcesReplayLowerBound, startingRound);
 
         logger.info(STARTUP.getMarker(), "replaying preconsensus event stream starting at {}", pcesReplayLowerBound);
 
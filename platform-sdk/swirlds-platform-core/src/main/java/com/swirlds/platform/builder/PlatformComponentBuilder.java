@@ -31,8 +31,11 @@ import com.swirlds.platform.event.preconsensus.PcesFileManager;
 import com.swirlds.platform.event.preconsensus.PcesUtilities;
 import com.swirlds.platform.event.stream.ConsensusEventStream;
 import com.swirlds.platform.event.stream.DefaultConsensusEventStream;
+import com.swirlds.platform.event.validation.BatchEventSignatureValidator;
+import com.swirlds.platform.event.validation.DefaultBatchEventSignatureValidator;
 import com.swirlds.platform.event.validation.DefaultEventSignatureValidator;
 import com.swirlds.platform.event.validation.DefaultInternalEventValidator;
+import com.swirlds.platform.event.validation.EventSignatureValidationConfig;
 import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.DefaultTransactionHandler;
@@ -105,6 +108,7 @@ public class PlatformComponentBuilder {
     private InternalEventValidator internalEventValidator;
     private EventDeduplicator eventDeduplicator;
     private EventSignatureValidator eventSignatureValidator;
+    private BatchEventSignatureValidator batchEventSignatureValidator;
     private SelfEventSigner selfEventSigner;
     private StateGarbageCollector stateGarbageCollector;
     private OrphanBuffer orphanBuffer;
@@ -343,6 +347,43 @@ public class PlatformComponentBuilder {
         return eventSignatureValidator;
     }
 
+    /**
+     * Provide a batch event signature validator in place of the platform's default batch event signature validator.
+     *
+     * @param batchEventSignatureValidator the batch event signature validator to use
+     * @return this builder
+     */
+    @NonNull
+    public PlatformComponentBuilder withBatchEventSignatureValidator(
+            @NonNull final BatchEventSignatureValidator batchEventSignatureValidator) {
+        throwIfAlreadyUsed();
+        if (this.batchEventSignatureValidator != null) {
+            throw new IllegalStateException("Batch event signature validator has already been set");
+        }
+        this.batchEventSignatureValidator = Objects.requireNonNull(batchEventSignatureValidator);
+
+        return this;
+    }
+
+    /**
+     * Build the batch event signature validator if it has not yet been built. If one has been provided via
+     * {@link #withBatchEventSignatureValidator(BatchEventSignatureValidator)}, that validator will be used. If this
+     * method is called more than once, only the first call will build the batch event signature validator. Otherwise,
+     * the default batch validator will be created, verifying the signature of each event with the validator returned
+     * by {@link #buildEventSignatureValidator()}.
+     */
+    @NonNull
+    public BatchEventSignatureValidator buildBatchEventSignatureValidator() {
+        if (batchEventSignatureValidator == null) {
+            final EventSignatureValidationConfig config = blocks.platformContext()
+                    .getConfiguration()
+                    .getConfigData(EventSignatureValidationConfig.class);
+            batchEventSignatureValidator = new DefaultBatchEventSignatureValidator(
+                    buildEventSignatureValidator(), config.batchSize(), config.threadCount());
+        }
+        return batchEventSignatureValidator;
+    }
+
     /**
      * Provide a state garbage collector in place of the platform's default state garbage collector.
      *
@@ -17,6 +17,7 @@ import com.swirlds.logging.api.internal.configuration.InternalLoggingConfig;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.platform.consensus.ConsensusConfig;
 import com.swirlds.platform.event.preconsensus.PcesConfig;
+import com.swirlds.platform.event.validation.EventSignatureValidationConfig;
 import com.swirlds.platform.gossip.ProtocolConfig;
 import com.swirlds.platform.gossip.config.GossipConfig;
 import com.swirlds.platform.gossip.config.NetworkEndpoint;
@@ -58,6 +59,7 @@ public class PlatformConfigurationExtension implements ConfigurationExtension {
                 CryptoConfig.class,
                 EventConfig.class,
                 EventCreationConfig.class,
+                EventSignatureValidationConfig.class,
                 MerkleDbConfig.class,
                 MetricsConfig.class,
                 OSHealthCheckConfig.class,
@@ -15,9 +15,14 @@ import com.swirlds.config.api.ConfigProperty;
  *                         and never have their transactions handled.
  * @param roundsExpired    Events this many rounds old are expired, and can be deleted from memory
  * @param coinFreq         a coin round happens every coinFreq rounds during an election (every other one is all true)
+ * @param bitsetStronglySeen if true, strongly seen witnesses are calculated for all creators at once, by tracking the
+ *                         candidate witnesses in a bitset and visiting every intermediate event once, instead of
+ *                         walking the intermediates separately for every creator. The result is the same, but the
+ *                         cost grows slower with the size of the roster
  */
 @ConfigData("consensus")
 public record ConsensusConfig(
         @ConfigProperty(defaultValue = "26") int roundsNonAncient,
         @ConfigProperty(defaultValue = "1000") int roundsExpired,
-        @ConfigProperty(defaultValue = "12") int coinFreq) {}
+        @ConfigProperty(defaultValue = "12") int coinFreq,
+        @ConfigProperty(defaultValue = "false") boolean bitsetStronglySeen) {}
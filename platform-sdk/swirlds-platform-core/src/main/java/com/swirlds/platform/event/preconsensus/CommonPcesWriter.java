@@ -104,6 +104,11 @@ public class CommonPcesWriter {
      */
     private final PcesFileWriterType pcesFileWriterType;
 
+    /**
+     * The PCES config, used to configure file writers
+     */
+    private final PcesConfig pcesConfig;
+
     /**
      * Constructor
      *
@@ -115,7 +120,7 @@ public class CommonPcesWriter {
         Objects.requireNonNull(platformContext, "platformContext is required");
         this.fileManager = Objects.requireNonNull(fileManager, "fileManager is required");
 
-        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
 
         previousSpan = pcesConfig.bootstrapSpan();
         bootstrapSpanOverlapFactor = pcesConfig.bootstrapSpanOverlapFactor();
@@ -266,7 +271,7 @@ public class CommonPcesWriter {
 
             currentMutableFile = fileManager
                     .getNextFileDescriptor(nonAncientBoundary, upperBound)
-                    .getMutableFile(pcesFileWriterType);
+                    .getMutableFile(pcesFileWriterType, pcesConfig, fileManager.getMetrics());
         }
 
         return fileClosed;
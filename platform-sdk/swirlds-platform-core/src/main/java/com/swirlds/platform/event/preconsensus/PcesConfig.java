@@ -56,7 +56,9 @@ import java.time.Duration;
  *                                             com.swirlds.common.config.StateCommonConfig#savedStateDirectory()}.
  * @param replayQueueSize                      the size of the queue used for holding preconsensus events that are
  *                                             waiting to be replayed
- * @param replayHashPoolSize                   the number of threads used for hashing events during replay
+ * @param replayHashPoolSize                   the number of threads used for hashing events during replay. With
+ *                                             {@link #parallelReplay}, the number of threads used to parse and hash
+ *                                             events read from PCES files
  * @param copyRecentStreamToStateSnapshots     if true, then copy recent PCES files into the saved state snapshot
  *                                             directories every time we take a state snapshot. The files copied are
  *                                             guaranteed to contain all non-ancient events w.r.t. the state snapshot.
@@ -76,6 +78,17 @@ import java.time.Duration;
  *                                             PCES)
  * @param pcesFileWriterType                   type of pces writer to be used in default environment (Linux for now, Mac has its override at {@link #macPcesFileWriterType}
  * @param macPcesFileWriterType                override for pcesFileWriterType to be used on Mac, as FileChannel is 150x slower there
+ * @param groupCommitMaxLatency                the max time an event may be kept in memory before it is written to the
+ *                                             file (applies only to the {@link PcesFileWriterType#GROUP_COMMIT} writer)
+ * @param groupCommitMaxBytes                  the max number of bytes to collect before they are written to the file
+ *                                             in a single write (applies only to the
+ *                                             {@link PcesFileWriterType#GROUP_COMMIT} writer)
+ * @param parallelReplay                       if true, then PCES files are memory mapped at startup, and events are
+ *                                             parsed and hashed in parallel before they are replayed
+ * @param parallelReplayBatchSize              the number of events parsed and hashed in a single task during parallel
+ *                                             replay
+ * @param parallelReplayMaxPendingBatches      the max number of batches parsed and hashed ahead of the replay during
+ *                                             parallel replay
  */
 @ConfigData("event.preconsensus")
 public record PcesConfig(
@@ -101,4 +114,9 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency,
         @ConfigProperty(defaultValue = "EVERY_SELF_EVENT") FileSyncOption inlinePcesSyncOption,
         @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType pcesFileWriterType,
-        @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType macPcesFileWriterType) {}
+        @ConfigProperty(defaultValue = "OUTPUT_STREAM") PcesFileWriterType macPcesFileWriterType,
+        @ConfigProperty(defaultValue = "2ms") Duration groupCommitMaxLatency,
+        @Min(1) @ConfigProperty(defaultValue = "1048576") int groupCommitMaxBytes,
+        @ConfigProperty(defaultValue = "false") boolean parallelReplay,
+        @Min(1) @ConfigProperty(defaultValue = "256") int parallelReplayBatchSize,
+        @Min(1) @ConfigProperty(defaultValue = "64") int parallelReplayMaxPendingBatches) {}
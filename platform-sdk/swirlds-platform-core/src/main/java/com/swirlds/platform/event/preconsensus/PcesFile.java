@@ -314,6 +314,24 @@ public final class PcesFile implements Comparable<PcesFile> {
         return new PcesMutableFile(this, pcesFileWriterType);
     }
 
+    /**
+     * Get an object that can be used to write events to this file. Throws if there already exists a file on disk with
+     * the same path.
+     *
+     * @param pcesFileWriterType the type of writer to use
+     * @param config the PCES config used to configure the writer, or {@code null} to use default settings
+     * @param metrics the PCES metrics the writer reports to, or {@code null} if metrics aren't reported
+     * @return a writer for this file
+     */
+    @NonNull
+    public PcesMutableFile getMutableFile(
+            @NonNull final PcesFileWriterType pcesFileWriterType,
+            @Nullable final PcesConfig config,
+            @Nullable final PcesMetrics metrics)
+            throws IOException {
+        return new PcesMutableFile(this, pcesFileWriterType, config, metrics);
+    }
+
     /**
      * Delete a file (permanently). Automatically deletes parent directories if empty up until the root directory is
      * reached, which is never deleted.
@@ -1,9 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
-import com.hedera.hapi.platform.event.GossipEvent;
-import com.hedera.pbj.runtime.io.WritableSequentialData;
-import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -14,6 +12,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import org.hiero.base.utility.MemoryUtils;
+import org.hiero.consensus.model.event.PlatformEvent;
 
 /**
  * Writes preconsensus events to a file using a {@link FileChannel}.
@@ -25,8 +24,6 @@ public class PcesFileChannelWriter implements PcesFileWriter {
     private final FileChannel channel;
     /** The buffer used to hold data being written to the file */
     private ByteBuffer buffer;
-    /** Wraps a ByteBuffer so that the protobuf codec can write to it */
-    private WritableSequentialData writableSequentialData;
     /** Tracks the size of the file in bytes */
     private int fileSize;
     /**
@@ -53,7 +50,6 @@ public class PcesFileChannelWriter implements PcesFileWriter {
         allOpenOptions.addAll(extraOpenOptions);
         this.channel = FileChannel.open(filePath, allOpenOptions.toArray(OpenOption[]::new));
         this.buffer = ByteBuffer.allocateDirect(BUFFER_CAPACITY);
-        this.writableSequentialData = BufferedData.wrap(buffer);
     }
 
     @Override
@@ -63,16 +59,16 @@ public class PcesFileChannelWriter implements PcesFileWriter {
     }
 
     @Override
-    public long writeEvent(@NonNull final GossipEvent event) throws IOException {
-        final int size = GossipEvent.PROTOBUF.measureRecord(event);
-        final boolean expandBuffer = size > buffer.capacity();
+    public long writeEvent(@NonNull final PlatformEvent event) throws IOException {
+        final Bytes bytes = event.getSerializedGossipEvent();
+        final int size = Math.toIntExact(bytes.length());
+        final boolean expandBuffer = Integer.BYTES + size > buffer.capacity();
         if (expandBuffer) {
             MemoryUtils.closeDirectByteBuffer(buffer);
-            buffer = ByteBuffer.allocateDirect(size);
-            writableSequentialData = BufferedData.wrap(buffer);
+            buffer = ByteBuffer.allocateDirect(Integer.BYTES + size);
         }
         buffer.putInt(size);
-        GossipEvent.PROTOBUF.write(event, writableSequentialData);
+        bytes.writeTo(buffer);
         flipWriteClear();
         return size;
     }
@@ -268,6 +268,16 @@ public class PcesFileManager {
         updateFileSizeMetrics();
     }
 
+    /**
+     * Get the PCES metrics, which file writers report to.
+     *
+     * @return the PCES metrics
+     */
+    @NonNull
+    PcesMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Update metrics with the latest data on file size.
      */
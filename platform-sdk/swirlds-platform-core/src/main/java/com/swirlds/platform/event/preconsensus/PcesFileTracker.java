@@ -149,6 +149,28 @@ public class PcesFileTracker {
         return new PcesMultiFileIterator(lowerBound, getFileIterator(lowerBound, startingRound));
     }
 
+    /**
+     * Get an iterator that walks over all events starting with a specified lower bound, like
+     * {@link #getEventIterator(long, long)}, but parses and hashes events in parallel.
+     * <p>
+     * Note: this method only works at system startup time, using this iterator after startup has undefined behavior.
+     *
+     * @param lowerBound    the desired event lower bound, see {@link #getEventIterator(long, long)}
+     * @param startingRound the round to start iterating from
+     * @param config        the PCES config with parallel replay settings
+     * @return an iterator that walks over events, which must be closed if not fully iterated
+     */
+    @NonNull
+    public PcesParallelMultiFileIterator getParallelEventIterator(
+            final long lowerBound, final long startingRound, @NonNull final PcesConfig config) {
+        return new PcesParallelMultiFileIterator(
+                lowerBound,
+                getFileIterator(lowerBound, startingRound),
+                config.replayHashPoolSize(),
+                config.parallelReplayBatchSize(),
+                config.parallelReplayMaxPendingBatches());
+    }
+
     /**
      * Get an iterator that walks over all event files currently being tracked, in order.
      * <p>
@@ -1,9 +1,9 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
-import com.hedera.hapi.platform.event.GossipEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import org.hiero.consensus.model.event.PlatformEvent;
 
 /**
  * Interface for writing events to a file.
@@ -18,12 +18,13 @@ public interface PcesFileWriter {
     void writeVersion(final int version) throws IOException;
 
     /**
-     * Write an event to the file.
+     * Write an event to the file. The serialized bytes cached by the event are written, so an event that has already
+     * been serialized (e.g. to be gossiped) is not serialized again.
      *
      * @param event the event to write
      * @return the length of the written data
      */
-    long writeEvent(@NonNull final GossipEvent event) throws IOException;
+    long writeEvent(@NonNull final PlatformEvent event) throws IOException;
 
     /**
      * Flush the file.
@@ -2,6 +2,7 @@
 package com.swirlds.platform.event.preconsensus;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -13,20 +14,41 @@ import java.util.List;
 public enum PcesFileWriterType {
     OUTPUT_STREAM,
     FILE_CHANNEL,
-    FILE_CHANNEL_SYNC;
+    FILE_CHANNEL_SYNC,
+    GROUP_COMMIT;
 
     /**
-     * Creates the right instance of the PcesFileWriter for the type represented by this enum
+     * Creates the right instance of the PcesFileWriter for the type represented by this enum, with default settings
      *
      * @param path the path to the file to write to
      * @return the writer for writing PCES files
      * @throws IOException in case of error when creating the writer
      */
     public PcesFileWriter createWriter(@NonNull final Path path) throws IOException {
+        return createWriter(path, null, null);
+    }
+
+    /**
+     * Creates the right instance of the PcesFileWriter for the type represented by this enum
+     *
+     * @param path    the path to the file to write to
+     * @param config  the PCES config, or {@code null} to use default settings
+     * @param metrics the PCES metrics to report to, or {@code null} if metrics aren't reported
+     * @return the writer for writing PCES files
+     * @throws IOException in case of error when creating the writer
+     */
+    public PcesFileWriter createWriter(
+            @NonNull final Path path, @Nullable final PcesConfig config, @Nullable final PcesMetrics metrics)
+            throws IOException {
         return switch (this) {
             case OUTPUT_STREAM -> new PcesOutputStreamFileWriter(path);
             case FILE_CHANNEL -> new PcesFileChannelWriter(path);
             case FILE_CHANNEL_SYNC -> new PcesFileChannelWriter(path, List.of(StandardOpenOption.DSYNC));
+            case GROUP_COMMIT ->
+                config == null
+                        ? new PcesGroupCommitFileWriter(path)
+                        : new PcesGroupCommitFileWriter(
+                                path, config.groupCommitMaxLatency(), config.groupCommitMaxBytes(), metrics);
         };
     }
 }
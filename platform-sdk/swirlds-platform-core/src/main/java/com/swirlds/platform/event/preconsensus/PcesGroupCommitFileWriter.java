@@ -0,0 +1,342 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.hiero.consensus.model.event.PlatformEvent;
+
+/**
+ * Writes preconsensus events to a file using group commits. Instead of one {@code write} system call per event,
+ * events are collected for a short window and then written to the file using a single vectored write. The window
+ * ends when the collected events reach {@code maxBytes}, when the oldest collected event is older than
+ * {@code maxLatency}, or when the file is flushed, synced, or closed. Groups that are still open when their max latency
+ * expires are written by a background thread, so events are not kept in memory longer than that even if no more
+ * events are written. If such a background write fails, the failure is thrown by the next call to this writer. The
+ * background thread is shared by all open writers, and stopped when the last open writer is closed.
+ *
+ * <p>Syncs are shared, too. If multiple threads call {@link #sync()} while the file is being synced, they wait for
+ * the ongoing sync to complete, and then a single sync is performed for all of them. If the data of a waiting thread
+ * was already covered by a sync completed in the meantime, the thread doesn't sync the file at all.
+ *
+ * <p>Similar to {@link PcesOutputStreamFileWriter}, events are kept in memory until they are written to the file, so
+ * they are only guaranteed to be durable after {@link #sync()} or {@link #close()}. This class is thread safe.
+ */
+public class PcesGroupCommitFileWriter implements PcesFileWriter {
+
+    /** Max latency used if no config is provided */
+    static final Duration DEFAULT_MAX_LATENCY = Duration.ofMillis(2);
+
+    /** Max number of bytes to collect used if no config is provided */
+    static final int DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    /**
+     * Writes groups whose max latency expired, shared by all open group commit writers. Created when the first writer
+     * is opened and shut down when the last open writer is closed. Guarded by the class lock
+     */
+    @Nullable
+    private static ScheduledThreadPoolExecutor flushScheduler = null;
+
+    /** The number of open group commit writers, which use the flush scheduler. Guarded by the class lock */
+    private static int openWriters = 0;
+
+    /** The file channel for writing events */
+    private final FileChannel channel;
+
+    /** Max time an event may be kept in memory before it's written to the file, nanoseconds */
+    private final long maxLatencyNanos;
+
+    /** Max number of bytes to collect before they are written to the file */
+    private final int maxBytes;
+
+    /** The metrics to report writes and syncs to, or {@code null} if not reported */
+    @Nullable
+    private final PcesMetrics metrics;
+
+    /** Serialized events, which are not written to the file yet. Guarded by {@code this} */
+    private final List<ByteBuffer> pending = new ArrayList<>();
+
+    /** The total size of the pending buffers. Guarded by {@code this} */
+    private int pendingBytes = 0;
+
+    /** When the oldest pending buffer was added, {@link System#nanoTime()}. Guarded by {@code this} */
+    private long oldestPendingNanos = 0;
+
+    /** Tracks the size of the file in bytes, including pending data. Guarded by {@code this} */
+    private long fileSize = 0;
+
+    /** The number of bytes written to the file channel. Guarded by {@code this} */
+    private long writtenSize = 0;
+
+    /** Writes the pending buffers once their max latency expires, or {@code null}. Guarded by {@code this} */
+    @Nullable
+    private ScheduledFuture<?> scheduledWrite = null;
+
+    /** The failure of the last background write, if not thrown yet. Guarded by {@code this} */
+    @Nullable
+    private IOException backgroundWriteFailure = null;
+
+    /** The scheduler to write groups whose max latency expired, released when this writer is closed */
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /** Whether this writer has been closed. Guarded by {@code this} */
+    private boolean closed = false;
+
+    /** Only one thread syncs the file at a time, the others wait on this lock */
+    private final Object syncLock = new Object();
+
+    /** The number of bytes known to be synced to disk. Guarded by {@link #syncLock} */
+    private long syncedSize = 0;
+
+    /** The number of sync requests not covered by a started sync yet. Guarded by {@code this} */
+    private int syncRequests = 0;
+
+    /** The number of syncs started so far, to tell if a sync request was covered by one. Guarded by {@code this} */
+    private long syncsStarted = 0;
+
+    /**
+     * Create a new writer with default max latency and max bytes, which doesn't report metrics.
+     *
+     * @param filePath the path to the file to write to
+     * @throws IOException if an error occurs while opening the file
+     */
+    public PcesGroupCommitFileWriter(@NonNull final Path filePath) throws IOException {
+        this(filePath, DEFAULT_MAX_LATENCY, DEFAULT_MAX_BYTES, null);
+    }
+
+    /**
+     * Create a new writer.
+     *
+     * @param filePath   the path to the file to write to
+     * @param maxLatency max time an event may be kept in memory before it's written to the file
+     * @param maxBytes   max number of bytes to collect before they are written to the file
+     * @param metrics    the metrics to report writes and syncs to, or {@code null} if not reported
+     * @throws IOException if an error occurs while opening the file
+     */
+    public PcesGroupCommitFileWriter(
+            @NonNull final Path filePath,
+            @NonNull final Duration maxLatency,
+            final int maxBytes,
+            @Nullable final PcesMetrics metrics)
+            throws IOException {
+        Objects.requireNonNull(filePath);
+        Objects.requireNonNull(maxLatency);
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive, got " + maxBytes);
+        }
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.maxBytes = maxBytes;
+        this.metrics = metrics;
+        this.channel = FileChannel.open(filePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.scheduler = acquireFlushScheduler();
+    }
+
+    /**
+     * Returns the scheduler to write groups whose max latency expired, creating it if no other writer is open. Every
+     * call must be paired with a call to {@link #releaseFlushScheduler()}.
+     */
+    private static synchronized ScheduledThreadPoolExecutor acquireFlushScheduler() {
+        openWriters++;
+        if (flushScheduler == null) {
+            flushScheduler = new ScheduledThreadPoolExecutor(
+                    1,
+                    new ThreadConfiguration(getStaticThreadManager())
+                            .setComponent("platform")
+                            .setThreadName("pces-group-commit")
+                            .buildFactory());
+            // Most scheduled writes are cancelled, because the group is complete before the max latency expires
+            flushScheduler.setRemoveOnCancelPolicy(true);
+        }
+        return flushScheduler;
+    }
+
+    /**
+     * Releases the scheduler acquired by {@link #acquireFlushScheduler()}, and shuts it down if no other writer is
+     * open. Closed writers have no pending groups, so there are no scheduled writes left to run at that point.
+     */
+    private static synchronized void releaseFlushScheduler() {
+        openWriters--;
+        if (openWriters == 0 && flushScheduler != null) {
+            flushScheduler.shutdownNow();
+            flushScheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized void writeVersion(final int version) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+        buffer.putInt(version);
+        addPending(buffer);
+    }
+
+    @Override
+    public synchronized long writeEvent(@NonNull final PlatformEvent event) throws IOException {
+        final Bytes bytes = event.getSerializedGossipEvent();
+        final int size = Math.toIntExact(bytes.length());
+        final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + size);
+        buffer.putInt(size);
+        bytes.writeTo(buffer);
+        addPending(buffer);
+        return size;
+    }
+
+    /**
+     * Add a filled buffer to the pending buffers, and write all pending buffers to the file if the group is complete.
+     *
+     * @param buffer the buffer, with its position at the end of the data
+     */
+    private void addPending(@NonNull final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        final long now = System.nanoTime();
+        final boolean newGroup = pending.isEmpty();
+        if (newGroup) {
+            oldestPendingNanos = now;
+        }
+        pending.add(buffer);
+        pendingBytes += buffer.remaining();
+        fileSize += buffer.remaining();
+        if (pendingBytes >= maxBytes || now - oldestPendingNanos >= maxLatencyNanos) {
+            writePending();
+        } else if (newGroup) {
+            scheduledWrite = scheduler.schedule(this::writeExpired, maxLatencyNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Runs on the flush scheduler when the max latency of a group expires, and writes the group if it's still pending.
+     */
+    private synchronized void writeExpired() {
+        if (!channel.isOpen() || pending.isEmpty() || System.nanoTime() - oldestPendingNanos < maxLatencyNanos) {
+            // The group was written in the meantime, possibly followed by a new group with its own scheduled write
+            return;
+        }
+        try {
+            writePending();
+        } catch (final IOException e) {
+            backgroundWriteFailure = e;
+        }
+    }
+
+    /**
+     * Throws the failure of a background write, if any.
+     */
+    private void rethrowBackgroundWriteFailure() throws IOException {
+        final IOException failure = backgroundWriteFailure;
+        if (failure != null) {
+            backgroundWriteFailure = null;
+            throw new IOException("Failed to write events to file", failure);
+        }
+    }
+
+    /**
+     * Write all pending buffers to the file using a single vectored write, if possible.
+     */
+    private void writePending() throws IOException {
+        rethrowBackgroundWriteFailure();
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+            scheduledWrite = null;
+        }
+        final ByteBuffer[] buffers = pending.toArray(ByteBuffer[]::new);
+        long remaining = pendingBytes;
+        while (remaining > 0) {
+            final long written = channel.write(buffers);
+            if (written < 0) {
+                throw new IOException("Failed to write data to file. Wrote " + (pendingBytes - remaining)
+                        + " bytes out of " + pendingBytes);
+            }
+            remaining -= written;
+        }
+        if (metrics != null) {
+            metrics.reportGroupCommitWrite(pending.size(), pendingBytes, System.nanoTime() - oldestPendingNanos);
+        }
+        writtenSize += pendingBytes;
+        pending.clear();
+        pendingBytes = 0;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        writePending();
+    }
+
+    @Override
+    public void sync() throws IOException {
+        final long requestedSize;
+        final long syncsStartedBefore;
+        synchronized (this) {
+            writePending();
+            requestedSize = writtenSize;
+            syncRequests++;
+            syncsStartedBefore = syncsStarted;
+        }
+        synchronized (syncLock) {
+            if (syncedSize >= requestedSize) {
+                // Another thread synced the data, either while this thread was waiting or before it requested a sync
+                synchronized (this) {
+                    if (syncsStarted == syncsStartedBefore) {
+                        // No sync started after this request, so the request wasn't covered by any sync
+                        syncRequests--;
+                    }
+                }
+                return;
+            }
+            // Sync everything written so far, so threads waiting for the lock don't need to sync again
+            final long sizeToSync;
+            final int requests;
+            synchronized (this) {
+                writePending();
+                sizeToSync = writtenSize;
+                requests = syncRequests;
+                syncRequests = 0;
+                syncsStarted++;
+            }
+            final long start = System.nanoTime();
+            channel.force(false);
+            if (metrics != null) {
+                metrics.reportGroupCommitSync(System.nanoTime() - start, requests);
+            }
+            syncedSize = sizeToSync;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writePending();
+        } finally {
+            try {
+                channel.close();
+            } finally {
+                releaseFlushScheduler();
+            }
+        }
+    }
+
+    @Override
+    public synchronized long fileSize() {
+        return fileSize;
+    }
+}
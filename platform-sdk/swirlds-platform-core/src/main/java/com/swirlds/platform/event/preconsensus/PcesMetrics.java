@@ -1,9 +1,13 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
+import static com.swirlds.common.metrics.IntegerPairAccumulator.AVERAGE;
+
+import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.LongGauge;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -69,6 +73,52 @@ public class PcesMetrics {
             .withDescription("The age of the oldest preconsensus event file, in seconds.");
     private final LongGauge preconsensusEventFileOldestSeconds;
 
+    private static final IntegerPairAccumulator.Config<Double> PCES_GROUP_COMMIT_EVENTS_PER_WRITE_CONFIG =
+            new IntegerPairAccumulator.Config<>(CATEGORY, "pcesGroupCommitEventsPerWrite", Double.class, AVERAGE)
+                    .withDescription("The average number of events written to a PCES file in a single group commit");
+    private final IntegerPairAccumulator<Double> pcesGroupCommitEventsPerWrite;
+
+    private static final IntegerPairAccumulator.Config<Double> PCES_GROUP_COMMIT_BYTES_PER_WRITE_CONFIG =
+            new IntegerPairAccumulator.Config<>(CATEGORY, "pcesGroupCommitBytesPerWrite", Double.class, AVERAGE)
+                    .withDescription("The average number of bytes written to a PCES file in a single group commit");
+    private final IntegerPairAccumulator<Double> pcesGroupCommitBytesPerWrite;
+
+    private static final IntegerPairAccumulator.Config<Double> PCES_GROUP_COMMIT_WRITE_LATENCY_CONFIG =
+            new IntegerPairAccumulator.Config<>(CATEGORY, "pcesGroupCommitWriteLatency", Double.class, AVERAGE)
+                    .withUnit("microseconds")
+                    .withDescription("The average time the oldest event of a group commit is kept in memory "
+                            + "before it is written to a PCES file");
+    private final IntegerPairAccumulator<Double> pcesGroupCommitWriteLatency;
+
+    private static final LongAccumulator.Config PCES_GROUP_COMMIT_MAX_WRITE_LATENCY_CONFIG = new LongAccumulator.Config(
+                    CATEGORY, "pcesGroupCommitMaxWriteLatency")
+            .withUnit("microseconds")
+            .withInitialValue(0)
+            .withAccumulator(Math::max)
+            .withDescription("The max time the oldest event of a group commit is kept in memory "
+                    + "before it is written to a PCES file");
+    private final LongAccumulator pcesGroupCommitMaxWriteLatency;
+
+    private static final IntegerPairAccumulator.Config<Double> PCES_GROUP_COMMIT_SYNC_DURATION_CONFIG =
+            new IntegerPairAccumulator.Config<>(CATEGORY, "pcesGroupCommitSyncDuration", Double.class, AVERAGE)
+                    .withUnit("microseconds")
+                    .withDescription("The average time it takes to sync a PCES file written with group commits");
+    private final IntegerPairAccumulator<Double> pcesGroupCommitSyncDuration;
+
+    private static final LongAccumulator.Config PCES_GROUP_COMMIT_MAX_SYNC_DURATION_CONFIG = new LongAccumulator.Config(
+                    CATEGORY, "pcesGroupCommitMaxSyncDuration")
+            .withUnit("microseconds")
+            .withInitialValue(0)
+            .withAccumulator(Math::max)
+            .withDescription("The max time it takes to sync a PCES file written with group commits");
+    private final LongAccumulator pcesGroupCommitMaxSyncDuration;
+
+    private static final IntegerPairAccumulator.Config<Double> PCES_GROUP_COMMIT_SYNC_REQUESTS_PER_SYNC_CONFIG =
+            new IntegerPairAccumulator.Config<>(
+                            CATEGORY, "pcesGroupCommitSyncRequestsPerSync", Double.class, AVERAGE)
+                    .withDescription("The average number of sync requests served by a single PCES file sync");
+    private final IntegerPairAccumulator<Double> pcesGroupCommitSyncRequestsPerSync;
+
     /**
      * Construct preconsensus event metrics.
      *
@@ -86,6 +136,13 @@ public class PcesMetrics {
         preconsensusEventFileYoungestIdentifier =
                 metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_YOUNGEST_IDENTIFIER_CONFIG);
         preconsensusEventFileOldestSeconds = metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_OLDEST_SECONDS_CONFIG);
+        pcesGroupCommitEventsPerWrite = metrics.getOrCreate(PCES_GROUP_COMMIT_EVENTS_PER_WRITE_CONFIG);
+        pcesGroupCommitBytesPerWrite = metrics.getOrCreate(PCES_GROUP_COMMIT_BYTES_PER_WRITE_CONFIG);
+        pcesGroupCommitWriteLatency = metrics.getOrCreate(PCES_GROUP_COMMIT_WRITE_LATENCY_CONFIG);
+        pcesGroupCommitMaxWriteLatency = metrics.getOrCreate(PCES_GROUP_COMMIT_MAX_WRITE_LATENCY_CONFIG);
+        pcesGroupCommitSyncDuration = metrics.getOrCreate(PCES_GROUP_COMMIT_SYNC_DURATION_CONFIG);
+        pcesGroupCommitMaxSyncDuration = metrics.getOrCreate(PCES_GROUP_COMMIT_MAX_SYNC_DURATION_CONFIG);
+        pcesGroupCommitSyncRequestsPerSync = metrics.getOrCreate(PCES_GROUP_COMMIT_SYNC_REQUESTS_PER_SYNC_CONFIG);
     }
 
     /**
@@ -150,4 +207,32 @@ public class PcesMetrics {
     public LongGauge getPreconsensusEventFileOldestSeconds() {
         return preconsensusEventFileOldestSeconds;
     }
+
+    /**
+     * Report a group commit write of a PCES file.
+     *
+     * @param eventCount    the number of events written, including the file version, if written
+     * @param bytes         the number of bytes written
+     * @param latencyNanos  the time the oldest written event was kept in memory, in nanoseconds
+     */
+    public void reportGroupCommitWrite(final int eventCount, final int bytes, final long latencyNanos) {
+        final long latencyMicros = latencyNanos / 1_000;
+        pcesGroupCommitEventsPerWrite.update(eventCount, 1);
+        pcesGroupCommitBytesPerWrite.update(bytes, 1);
+        pcesGroupCommitWriteLatency.update((int) Math.min(latencyMicros, Integer.MAX_VALUE), 1);
+        pcesGroupCommitMaxWriteLatency.update(latencyMicros);
+    }
+
+    /**
+     * Report a sync of a PCES file written with group commits.
+     *
+     * @param durationNanos the time it took to sync the file, in nanoseconds
+     * @param requests      the number of sync requests served by the sync
+     */
+    public void reportGroupCommitSync(final long durationNanos, final int requests) {
+        final long durationMicros = durationNanos / 1_000;
+        pcesGroupCommitSyncDuration.update((int) Math.min(durationMicros, Integer.MAX_VALUE), 1);
+        pcesGroupCommitMaxSyncDuration.update(durationMicros);
+        pcesGroupCommitSyncRequestsPerSync.update(requests, 1);
+    }
 }
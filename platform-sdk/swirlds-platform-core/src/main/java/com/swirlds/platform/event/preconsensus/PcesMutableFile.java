@@ -2,6 +2,7 @@
 package com.swirlds.platform.event.preconsensus;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
@@ -32,6 +33,23 @@ public class PcesMutableFile {
      */
     PcesMutableFile(@NonNull final PcesFile descriptor, final @NonNull PcesFileWriterType pcesFileWriterType)
             throws IOException {
+        this(descriptor, pcesFileWriterType, null, null);
+    }
+
+    /**
+     * Create a new preconsensus event file that can be written to.
+     *
+     * @param descriptor a description of the file
+     * @param pcesFileWriterType the type of writer
+     * @param config the PCES config used to configure the writer, or {@code null} to use default settings
+     * @param metrics the PCES metrics the writer reports to, or {@code null} if metrics aren't reported
+     */
+    PcesMutableFile(
+            @NonNull final PcesFile descriptor,
+            final @NonNull PcesFileWriterType pcesFileWriterType,
+            @Nullable final PcesConfig config,
+            @Nullable final PcesMetrics metrics)
+            throws IOException {
         if (Files.exists(descriptor.getPath())) {
             throw new IOException("File " + descriptor.getPath() + " already exists");
         }
@@ -39,7 +57,7 @@ public class PcesMutableFile {
         Files.createDirectories(descriptor.getPath().getParent());
 
         this.descriptor = descriptor;
-        this.writer = pcesFileWriterType.createWriter(descriptor.getPath());
+        this.writer = pcesFileWriterType.createWriter(descriptor.getPath(), config, metrics);
         writer.writeVersion(PcesFileVersion.currentVersionNumber());
         highestAncientIdentifierInFile = descriptor.getLowerBound();
     }
@@ -64,7 +82,7 @@ public class PcesMutableFile {
             throw new IllegalStateException("Cannot write event " + event.getHash() + " with ancient indicator "
                     + event.getBirthRound() + " to file " + descriptor);
         }
-        long size = writer.writeEvent(event.getGossipEvent());
+        long size = writer.writeEvent(event);
         highestAncientIdentifierInFile = Math.max(highestAncientIdentifierInFile, event.getBirthRound());
         return size;
     }
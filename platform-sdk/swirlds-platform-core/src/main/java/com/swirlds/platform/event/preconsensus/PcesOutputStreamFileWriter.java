@@ -1,7 +1,6 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
-import com.hedera.hapi.platform.event.GossipEvent;
 import com.swirlds.common.io.extendable.ExtendableOutputStream;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -12,6 +11,7 @@ import java.io.IOException;
 import java.io.SyncFailedException;
 import java.nio.file.Path;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
+import org.hiero.consensus.model.event.PlatformEvent;
 
 /**
  * Writes events to a file using an output stream.
@@ -44,8 +44,8 @@ public class PcesOutputStreamFileWriter implements PcesFileWriter {
     }
 
     @Override
-    public long writeEvent(@NonNull final GossipEvent event) throws IOException {
-        return out.writePbjRecord(event, GossipEvent.PROTOBUF);
+    public long writeEvent(@NonNull final PlatformEvent event) throws IOException {
+        return out.writePbjRecord(event.getSerializedGossipEvent());
     }
 
     @Override
@@ -0,0 +1,414 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hiero.consensus.crypto.PbjStreamHasher;
+import org.hiero.consensus.model.event.PlatformEvent;
+
+/**
+ * Iterates over events from a sequence of preconsensus event files, like {@link PcesMultiFileIterator}, but parses
+ * and hashes events in parallel.
+ *
+ * <p>Files are memory mapped and scanned for event boundaries on the thread calling this iterator, which is cheap,
+ * since only event lengths are read. Events are then split into batches, and every batch is parsed and hashed on a
+ * worker thread. Batches are returned in the same order as they are read from the files. Up to
+ * {@code maxPendingBatches} batches are in progress at any time, so the next file is scanned and its first batches
+ * are parsed while events from the current file are still being returned.
+ *
+ * <p>Returned events are hashed. Like {@link PcesMultiFileIterator}, if a file ends with a partial event, the remaining
+ * events in the file are skipped, and the file is counted as truncated. If an event can be parsed, but is malformed,
+ * an {@link IOException} is thrown after the events preceding it are returned.
+ *
+ * <p>This class is not thread safe. Worker threads are stopped when the iterator is exhausted or closed.
+ */
+public class PcesParallelMultiFileIterator implements IOIterator<PlatformEvent> {
+
+    private final Iterator<PcesFile> fileIterator;
+    private final long lowerBound;
+    private final int batchSize;
+    private final int maxPendingBatches;
+    private final ExecutorService executor;
+
+    /** Batches being parsed and hashed, in file order */
+    private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+
+    /** The last file being scanned for batches, or {@code null} if no file is opened yet */
+    private MappedFile scannedFile;
+
+    /** Events of the current batch not returned yet */
+    private Iterator<PlatformEvent> currentBatch = Collections.emptyIterator();
+
+    /** Thrown once {@link #currentBatch} is exhausted, if the batch ended with a malformed event */
+    @Nullable
+    private IOException malformedEvent;
+
+    private PlatformEvent next;
+    private int truncatedFileCount = 0;
+    private boolean closed = false;
+
+    /**
+     * Create an iterator that walks over events in a series of event files.
+     *
+     * @param lowerBound        the minimum ancient indicator of events to return, events with lower ancient indicators
+     *                          are not returned
+     * @param fileIterator      an iterator that walks over event files
+     * @param threadCount       the number of threads to parse and hash events
+     * @param batchSize         the max number of events parsed and hashed in a single task
+     * @param maxPendingBatches the max number of batches being parsed and hashed at the same time
+     */
+    public PcesParallelMultiFileIterator(
+            final long lowerBound,
+            @NonNull final Iterator<PcesFile> fileIterator,
+            final int threadCount,
+            final int batchSize,
+            final int maxPendingBatches) {
+        if (threadCount <= 0 || batchSize <= 0 || maxPendingBatches <= 0) {
+            throw new IllegalArgumentException("Thread count, batch size, and max pending batches must be positive");
+        }
+        this.fileIterator = Objects.requireNonNull(fileIterator);
+        this.lowerBound = lowerBound;
+        this.batchSize = batchSize;
+        this.maxPendingBatches = maxPendingBatches;
+        this.executor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("platform")
+                        .setThreadName("pces-replay")
+                        .buildFactory());
+    }
+
+    /**
+     * Submit new batches until the max number of pending batches is reached, or there are no more events.
+     */
+    private void submitBatches() throws IOException {
+        while (pendingBatches.size() < maxPendingBatches) {
+            if (scannedFile == null || scannedFile.isEndSubmitted()) {
+                if (!fileIterator.hasNext()) {
+                    return;
+                }
+                scannedFile = MappedFile.open(fileIterator.next());
+            } else if (scannedFile.isScanned()) {
+                pendingBatches.addLast(new PendingBatch(scannedFile, null));
+                scannedFile.markEndSubmitted();
+            } else {
+                final List<ByteBuffer> records = scannedFile.nextRecords(batchSize);
+                if (!records.isEmpty()) {
+                    final Future<BatchResult> future = executor.submit(() -> parseAndHash(records));
+                    pendingBatches.addLast(new PendingBatch(scannedFile, future));
+                }
+            }
+        }
+    }
+
+    /**
+     * Parse and hash a batch of events. Runs on a worker thread.
+     *
+     * @param records the serialized events
+     * @return the parsed events with ancient indicators not less than the lower bound, and whether all events were
+     * parsed successfully
+     */
+    @NonNull
+    private BatchResult parseAndHash(@NonNull final List<ByteBuffer> records) {
+        final PbjStreamHasher hasher = new PbjStreamHasher();
+        final List<PlatformEvent> events = new ArrayList<>(records.size());
+        for (final ByteBuffer record : records) {
+            final PlatformEvent event;
+            try {
+                event = new PlatformEvent(GossipEvent.PROTOBUF.parse(BufferedData.wrap(record)));
+            } catch (final NullPointerException e) {
+                // The PlatformEvent constructor can throw this if the event is malformed.
+                return new BatchResult(
+                        events, false, new IOException("GossipEvent read from the file is malformed", e));
+            } catch (final Exception e) {
+                // The event can't be parsed, the rest of the file can't be trusted
+                return new BatchResult(events, false, null);
+            }
+            if (event.getBirthRound() >= lowerBound) {
+                hasher.hashEvent(event);
+                events.add(event);
+            }
+        }
+        return new BatchResult(events, true, null);
+    }
+
+    /**
+     * Find the next event that should be returned.
+     */
+    private void findNext() throws IOException {
+        while (next == null && !closed) {
+            if (currentBatch.hasNext()) {
+                next = currentBatch.next();
+                return;
+            }
+            if (malformedEvent != null) {
+                final IOException e = malformedEvent;
+                malformedEvent = null;
+                close();
+                throw e;
+            }
+            submitBatches();
+            final PendingBatch batch = pendingBatches.pollFirst();
+            if (batch == null) {
+                // All files are read
+                close();
+                return;
+            }
+            if (batch.future() == null) {
+                // The end of a file, nothing to parse
+                if (batch.file().countTruncation()) {
+                    truncatedFileCount++;
+                }
+                continue;
+            }
+            final BatchResult result = awaitBatch(batch.future());
+            currentBatch = result.events().iterator();
+            if (!result.complete()) {
+                skipRemainingBatches(batch.file());
+                malformedEvent = result.error();
+            }
+        }
+    }
+
+    /**
+     * Drop the remaining batches of a file after a malformed event is found.
+     *
+     * @param file the file
+     */
+    private void skipRemainingBatches(@NonNull final MappedFile file) {
+        file.markTruncated();
+        if (file.countTruncation()) {
+            truncatedFileCount++;
+        }
+        while (!pendingBatches.isEmpty() && pendingBatches.peekFirst().file() == file) {
+            final Future<BatchResult> future = pendingBatches.pollFirst().future();
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    @NonNull
+    private static BatchResult awaitBatch(@NonNull final Future<BatchResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while replaying PCES");
+        } catch (final ExecutionException e) {
+            throw new IOException("failed to parse PCES events", e.getCause());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+        findNext();
+        return next != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PlatformEvent next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is empty, can not get next element");
+        }
+        try {
+            return next;
+        } finally {
+            next = null;
+        }
+    }
+
+    /**
+     * Get the number of files that had partial event data at the end. This can happen if JVM is shut down abruptly
+     * while and event is being written to disk.
+     *
+     * @return the number of files that had partial event data at the end that have been encountered so far
+     */
+    public int getTruncatedFileCount() {
+        return truncatedFileCount;
+    }
+
+    /**
+     * Stop the worker threads. Events not returned yet are discarded.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pendingBatches.forEach(batch -> {
+            if (batch.future() != null) {
+                batch.future().cancel(false);
+            }
+        });
+        pendingBatches.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * A batch of events being parsed and hashed.
+     *
+     * @param file   the file the events are read from
+     * @param future the future for the parsed events, or {@code null} if this is the end of the file
+     */
+    private record PendingBatch(@NonNull MappedFile file, @Nullable Future<BatchResult> future) {}
+
+    /**
+     * Parsed and hashed events.
+     *
+     * @param events   the events
+     * @param complete false if an event could not be parsed, and the remaining events were not parsed
+     * @param error    the error to report after the events are returned, or {@code null} if the remaining events
+     *                 are skipped silently
+     */
+    private record BatchResult(@NonNull List<PlatformEvent> events, boolean complete, @Nullable IOException error) {}
+
+    /**
+     * A memory mapped PCES file, which is scanned for event boundaries.
+     */
+    private static final class MappedFile {
+
+        /** The file contents, positioned at the next event. {@code null} once the file is scanned */
+        @Nullable
+        private ByteBuffer buffer;
+
+        private boolean truncated = false;
+        private boolean truncationCounted = false;
+        private boolean endSubmitted = false;
+
+        private MappedFile(@Nullable final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Map a file into memory, and read its version.
+         *
+         * @param descriptor the file
+         * @return the mapped file
+         * @throws IOException if the file can't be mapped, or if its version is not supported
+         */
+        @NonNull
+        static MappedFile open(@NonNull final PcesFile descriptor) throws IOException {
+            final MappedByteBuffer mapped;
+            try (final FileChannel channel = FileChannel.open(descriptor.getPath(), StandardOpenOption.READ)) {
+                final long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("PCES file " + descriptor.getPath() + " is too large to be mapped");
+                }
+                // The mapping remains valid after the channel is closed, it's released once the buffer is collected
+                mapped = channel.map(MapMode.READ_ONLY, 0, size);
+            }
+            if (mapped.remaining() < Integer.BYTES) {
+                // Empty file. Possible if the node crashed right after it created this file.
+                return new MappedFile(null);
+            }
+            final int fileVersionNumber = mapped.getInt();
+            final PcesFileVersion fileVersion = PcesFileVersion.fromVersionNumber(fileVersionNumber);
+            if (fileVersion == null) {
+                throw new IOException("unsupported file version: " + fileVersionNumber);
+            }
+            return new MappedFile(mapped);
+        }
+
+        /**
+         * Find the next events in the file. If the file ends with a partial event, the file is marked as truncated.
+         *
+         * @param maxCount the max number of events to find
+         * @return the serialized events, or an empty list if there are no more events in the file
+         */
+        @NonNull
+        List<ByteBuffer> nextRecords(final int maxCount) {
+            final List<ByteBuffer> records = new ArrayList<>();
+            while (buffer != null && records.size() < maxCount) {
+                if (!buffer.hasRemaining()) {
+                    buffer = null;
+                    break;
+                }
+                if (buffer.remaining() < Integer.BYTES) {
+                    markTruncated();
+                    break;
+                }
+                final int size = buffer.getInt();
+                if (size < 0 || size > buffer.remaining()) {
+                    markTruncated();
+                    break;
+                }
+                records.add(buffer.slice(buffer.position(), size));
+                buffer.position(buffer.position() + size);
+            }
+            return records;
+        }
+
+        /**
+         * Mark this file as truncated, and stop scanning it.
+         */
+        void markTruncated() {
+            truncated = true;
+            buffer = null;
+        }
+
+        /**
+         * @return true if all events in this file are found
+         */
+        boolean isScanned() {
+            return buffer == null;
+        }
+
+        /**
+         * @return true if the end of this file was submitted to the pending batches
+         */
+        boolean isEndSubmitted() {
+            return endSubmitted;
+        }
+
+        void markEndSubmitted() {
+            endSubmitted = true;
+        }
+
+        /**
+         * Check if this file is truncated and hasn't been counted as truncated yet.
+         *
+         * @return true if the file must be counted as truncated
+         */
+        boolean countTruncation() {
+            if (truncated && !truncationCounted) {
+                truncationCounted = true;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import com.swirlds.component.framework.component.InputWireLabel;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.roster.RosterHistory;
+
+/**
+ * Verifies event signatures in batches. Events are collected until a batch is full or a heartbeat arrives, and the
+ * signatures of a batch are then verified in parallel. Events with valid signatures are returned in the order they
+ * were added.
+ */
+public interface BatchEventSignatureValidator {
+
+    /**
+     * Add an event to the current batch. If the batch is full, its signatures are verified.
+     *
+     * @param event the event to verify the signature of
+     * @return the events of the batch with valid signatures, or an empty list if the batch isn't full yet
+     */
+    @InputWireLabel("PlatformEvent")
+    @NonNull
+    List<PlatformEvent> addEvent(@NonNull PlatformEvent event);
+
+    /**
+     * Verify the signatures of the current batch, even if it isn't full, so that events don't wait indefinitely for
+     * a batch to fill up.
+     *
+     * @param now the current time
+     * @return the events of the batch with valid signatures
+     */
+    @InputWireLabel("heartbeat")
+    @NonNull
+    List<PlatformEvent> checkBatch(@NonNull Instant now);
+
+    /**
+     * Set the event window that defines the minimum threshold required for an event to be non-ancient
+     *
+     * @param eventWindow the event window
+     */
+    @InputWireLabel("event window")
+    void setEventWindow(@NonNull EventWindow eventWindow);
+
+    /**
+     * Set the rosterHistory
+     *
+     * @param rosterHistory the roster history read from state
+     */
+    @InputWireLabel("roster history")
+    void updateRosterHistory(@NonNull RosterHistory rosterHistory);
+}
@@ -0,0 +1,177 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.roster.RosterHistory;
+
+/**
+ * Default implementation of {@link BatchEventSignatureValidator}. The signatures of a batch are split into one chunk
+ * per thread, and each chunk is verified by an {@link EventSignatureValidator}, which must be thread safe. Neither RSA
+ * nor ECDSA signatures support batch verification, so parallelism across cores is what makes a batch faster than
+ * verifying the same events one at a time.
+ *
+ * <p>This class is not thread safe, it must be run by a sequential scheduler.
+ */
+public class DefaultBatchEventSignatureValidator implements BatchEventSignatureValidator {
+
+    /**
+     * Verifies the signature of a single event, and handles events that are ancient or invalid.
+     */
+    private final EventSignatureValidator validator;
+
+    /**
+     * The number of events that triggers the verification of a batch.
+     */
+    private final int batchSize;
+
+    /**
+     * The number of chunks a batch is split into.
+     */
+    private final int threadCount;
+
+    /**
+     * Verifies the chunks of a batch.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The events waiting to be verified.
+     */
+    private final List<PlatformEvent> batch;
+
+    /**
+     * Constructor
+     *
+     * @param validator   verifies the signature of a single event, must be thread safe
+     * @param batchSize   the number of events that triggers the verification of a batch
+     * @param threadCount the number of threads used to verify the signatures of a batch
+     */
+    public DefaultBatchEventSignatureValidator(
+            @NonNull final EventSignatureValidator validator, final int batchSize, final int threadCount) {
+        if (batchSize <= 0 || threadCount <= 0) {
+            throw new IllegalArgumentException("Batch size and thread count must be positive");
+        }
+        this.validator = Objects.requireNonNull(validator);
+        this.batchSize = batchSize;
+        this.threadCount = threadCount;
+        this.batch = new ArrayList<>(batchSize);
+        this.executor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("platform")
+                        .setThreadName("event-signature-validation")
+                        .buildFactory());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<PlatformEvent> addEvent(@NonNull final PlatformEvent event) {
+        batch.add(Objects.requireNonNull(event));
+        if (batch.size() < batchSize) {
+            return List.of();
+        }
+        return validateBatch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<PlatformEvent> checkBatch(@NonNull final Instant now) {
+        return validateBatch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEventWindow(@NonNull final EventWindow eventWindow) {
+        validator.setEventWindow(eventWindow);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateRosterHistory(@NonNull final RosterHistory rosterHistory) {
+        validator.updateRosterHistory(rosterHistory);
+    }
+
+    /**
+     * Verify the signatures of the current batch, and start a new batch.
+     *
+     * @return the events of the batch with valid signatures, in the order they were added
+     */
+    @NonNull
+    private List<PlatformEvent> validateBatch() {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        final PlatformEvent[] events = batch.toArray(new PlatformEvent[0]);
+        batch.clear();
+
+        final boolean[] valid = new boolean[events.length];
+        final int chunkSize = (events.length + threadCount - 1) / threadCount;
+        final List<Future<?>> futures = new ArrayList<>(threadCount);
+        for (int start = chunkSize; start < events.length; start += chunkSize) {
+            final int chunkStart = start;
+            futures.add(executor.submit(() -> validateChunk(events, valid, chunkStart, chunkSize)));
+        }
+        // the first chunk is verified by this thread while it waits for the others
+        validateChunk(events, valid, 0, chunkSize);
+        try {
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while validating event signatures", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("failed to validate event signatures", e.getCause());
+        }
+
+        final List<PlatformEvent> validEvents = new ArrayList<>(events.length);
+        for (int i = 0; i < events.length; i++) {
+            if (valid[i]) {
+                validEvents.add(events[i]);
+            }
+        }
+        return validEvents;
+    }
+
+    /**
+     * Verify the signatures of a chunk of a batch.
+     *
+     * @param events    the events of the batch
+     * @param valid     set to true for each event with a valid signature
+     * @param start     the index of the first event of the chunk
+     * @param chunkSize the max number of events in the chunk
+     */
+    private void validateChunk(
+            @NonNull final PlatformEvent[] events,
+            @NonNull final boolean[] valid,
+            final int start,
+            final int chunkSize) {
+        final int end = Math.min(events.length, start + chunkSize);
+        for (int i = start; i < end; i++) {
+            valid[i] = validator.validateSignature(events[i]) != null;
+        }
+    }
+}
@@ -16,6 +16,9 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,6 +50,12 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
      */
     private RosterHistory rosterHistory;
 
+    /**
+     * The public keys of the roster entries of the roster history, so that a certificate is decoded once per roster
+     * instead of once per event. Keyed by identity, since roster entries are looked up in the same roster instances.
+     */
+    private volatile Map<RosterEntry, PublicKey> publicKeys = Collections.synchronizedMap(new IdentityHashMap<>());
+
     /**
      * The current event window.
      */
@@ -121,9 +130,10 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
             return false;
         }
 
-        final X509Certificate cert = RosterUtils.fetchGossipCaCertificate(rosterEntry);
-
-        final PublicKey publicKey = cert == null ? null : cert.getPublicKey();
+        final PublicKey publicKey = publicKeys.computeIfAbsent(rosterEntry, entry -> {
+            final X509Certificate cert = RosterUtils.fetchGossipCaCertificate(entry);
+            return cert == null ? null : cert.getPublicKey();
+        });
         if (publicKey == null) {
             rateLimitedLogger.error(
                     EXCEPTION.getMarker(), "Cannot find publicKey for creator with ID: {}", eventCreatorId);
@@ -181,5 +191,6 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
     @Override
     public void updateRosterHistory(@NonNull final RosterHistory rosterHistory) {
         this.rosterHistory = Objects.requireNonNull(rosterHistory);
+        this.publicKeys = Collections.synchronizedMap(new IdentityHashMap<>());
     }
 }
@@ -0,0 +1,25 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+import java.time.Duration;
+
+/**
+ * Configuration for event signature validation.
+ *
+ * @param batchingEnabled if true, events are collected into batches whose signatures are verified in parallel, and
+ *                        valid events are released in the order they were received. If false, the signature of each
+ *                        event is verified by its own task.
+ * @param batchSize       the number of events that triggers the verification of a batch
+ * @param batchPeriod     the period of the heartbeat that verifies a batch that isn't full, i.e. the max time an event
+ *                        waits for a batch to fill up
+ * @param threadCount     the number of threads used to verify the signatures of a batch
+ */
+@ConfigData("event.signatureValidation")
+public record EventSignatureValidationConfig(
+        @ConfigProperty(defaultValue = "false") boolean batchingEnabled,
+        @Min(1) @ConfigProperty(defaultValue = "64") int batchSize,
+        @ConfigProperty(defaultValue = "5ms") Duration batchPeriod,
+        @Min(1) @ConfigProperty(defaultValue = "8") int threadCount) {}
@@ -27,14 +27,14 @@ public class ShadowEvent {
     private final PlatformEvent event;
 
     /**
-     * self-parent
+     * self-parent, volatile since it's read by sync threads while the event may be disconnected
      */
-    private ShadowEvent selfParent;
+    private volatile ShadowEvent selfParent;
 
     /**
-     * other-parent
+     * other-parent, volatile since it's read by sync threads while the event may be disconnected
      */
-    private ShadowEvent otherParent;
+    private volatile ShadowEvent otherParent;
 
     /**
      * Construct a shadow event from an event and the shadow events of its parents
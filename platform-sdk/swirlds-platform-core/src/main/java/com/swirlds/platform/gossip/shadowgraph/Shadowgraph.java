@@ -15,7 +15,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -23,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -36,6 +36,14 @@ import org.hiero.consensus.model.hashgraph.EventWindow;
 /**
  * The primary purpose of the shadowgraph is to unlink events when it is safe to do so. In order to decide when it is
  * safe to unlink an event, it allows for batches of events (by ancient indicator) to be reserved.
+ *
+ * <p>The shadowgraph is read by many sync threads concurrently, while events are added and expired by the intake
+ * thread. Reads don't take any locks: events are indexed by hash and by ancient indicator in concurrent maps, and the
+ * tips are kept in a concurrent set. Events are expired one ancient indicator at a time, by first advancing the oldest
+ * unexpired indicator, which readers check to ignore expired events, and only then removing the events from the
+ * indexes. Writes ({@link #addEvent(PlatformEvent)}, {@link #updateEventWindow(EventWindow)}, {@link #clear()}) are
+ * serialized by the monitor of this object, and reservations are guarded by a separate lock, so that
+ * {@link #reserve()} doesn't wait for events to be added.
  */
 public class Shadowgraph implements Clearable {
 
@@ -49,7 +57,7 @@ public class Shadowgraph implements Clearable {
     /**
      * The shadowgraph represented in a map from has to shadow event.
      */
-    private final HashMap<Hash, ShadowEvent> hashToShadowEvent;
+    private final Map<Hash, ShadowEvent> hashToShadowEvent;
 
     /**
      * Map from ancient indicator to all shadow events with that ancient indicator.
@@ -59,18 +67,25 @@ public class Shadowgraph implements Clearable {
     /**
      * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children)
      */
-    private final HashSet<ShadowEvent> tips;
+    private final Set<ShadowEvent> tips;
 
     /**
-     * The oldest ancient indicator that has not yet been expired
+     * The oldest ancient indicator that has not yet been expired. Only modified by writers, but read without locks.
      */
-    private long oldestUnexpiredIndicator;
+    private volatile long oldestUnexpiredIndicator;
 
     /**
-     * The list of all currently reserved indicators and their number of reservations.
+     * The list of all currently reserved indicators and their number of reservations. Guarded by
+     * {@link #reservationLock}.
      */
     private final LinkedList<ShadowgraphReservation> reservationList;
 
+    /**
+     * Guards the reservation list, and changes of the event window, so reservations are never made for an indicator
+     * that is being expired.
+     */
+    private final Object reservationLock = new Object();
+
     /**
      * Encapsulates metrics for the shadowgraph.
      */
@@ -82,9 +97,9 @@ public class Shadowgraph implements Clearable {
     private final int numberOfNodes;
 
     /**
-     * The most recent event window we know about.
+     * The most recent event window we know about. Only modified while holding {@link #reservationLock}.
      */
-    private EventWindow eventWindow;
+    private volatile EventWindow eventWindow;
 
     /**
      * For each peer, track the number of events in the intake pipeline prior to the shadowgraph.
@@ -105,9 +120,9 @@ public class Shadowgraph implements Clearable {
         this.metrics = new ShadowgraphMetrics(platformContext);
         this.numberOfNodes = numberOfNodes;
         this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
-        tips = new HashSet<>();
-        hashToShadowEvent = new HashMap<>();
-        indicatorToShadowEvent = new HashMap<>();
+        tips = ConcurrentHashMap.newKeySet();
+        hashToShadowEvent = new ConcurrentHashMap<>();
+        indicatorToShadowEvent = new ConcurrentHashMap<>();
         reservationList = new LinkedList<>();
     }
 
@@ -117,8 +132,10 @@ public class Shadowgraph implements Clearable {
      * @param eventWindow the starting event window
      */
     private void startWithEventWindow(@NonNull final EventWindow eventWindow) {
-        this.eventWindow = eventWindow;
         oldestUnexpiredIndicator = eventWindow.expiredThreshold();
+        synchronized (reservationLock) {
+            this.eventWindow = eventWindow;
+        }
         logger.info(
                 STARTUP.getMarker(),
                 "Shadowgraph starting from expiration threshold {}",
@@ -129,13 +146,15 @@ public class Shadowgraph implements Clearable {
      * Reset the shadowgraph manager to its constructed state.
      */
     public synchronized void clear() {
-        eventWindow = null;
+        synchronized (reservationLock) {
+            eventWindow = null;
+            reservationList.clear();
+        }
         oldestUnexpiredIndicator = ROUND_FIRST;
         disconnectShadowEvents();
         tips.clear();
         hashToShadowEvent.clear();
         indicatorToShadowEvent.clear();
-        reservationList.clear();
     }
 
     /**
@@ -154,7 +173,19 @@ public class Shadowgraph implements Clearable {
      * @return the reservation instance, must be closed when the reservation is no longer needed
      */
     @NonNull
-    public synchronized ReservedEventWindow reserve() {
+    public ReservedEventWindow reserve() {
+        synchronized (reservationLock) {
+            return reserveLocked();
+        }
+    }
+
+    /**
+     * Implements {@link #reserve()}, must be called while holding {@link #reservationLock}.
+     *
+     * @return the reservation instance
+     */
+    @NonNull
+    private ReservedEventWindow reserveLocked() {
         if (reservationList.isEmpty()) {
             // If we are not currently holding any reservations, we need to create a new one.
             return new ReservedEventWindow(eventWindow, newReservation());
@@ -188,7 +219,7 @@ public class Shadowgraph implements Clearable {
      * Get the latest event window known to the shadowgraph.
      */
     @NonNull
-    public synchronized EventWindow getEventWindow() {
+    public EventWindow getEventWindow() {
         return eventWindow;
     }
 
@@ -200,7 +231,7 @@ public class Shadowgraph implements Clearable {
      * @deprecated still used by tests, planned for removal. Do not add new uses.
      */
     @Deprecated(forRemoval = true)
-    public synchronized boolean isHashInGraph(final Hash hash) {
+    public boolean isHashInGraph(final Hash hash) {
         return hashToShadowEvent.containsKey(hash);
     }
 
@@ -213,11 +244,12 @@ public class Shadowgraph implements Clearable {
      * <ol>
      *     <li>this method does not modify any data</li>
      *     <li>adding events to the the graph does not affect ancestors</li>
-     *     <li>checks for expired parent events are atomic</li>
+     *     <li>checks for expired parent events read the volatile oldest unexpired indicator, which is advanced
+     *     before events are disconnected</li>
      * </ol>
-     * <p>Note: This method is always accessed after a call to a synchronized {@link Shadowgraph} method, like
-     * {@link #getTips()}, which acts as a memory gate and causes the calling thread to read the latest values for all
-     * variables from memory, including {@link ShadowEvent} links.</p>
+     * <p>Shadow events are published through concurrent collections, and their parent links are volatile, so the
+     * calling thread always reads up-to-date links. Multiple threads may search for ancestors concurrently, while
+     * events are being added.</p>
      *
      * @param events    the event to find ancestors of
      * @param predicate determines whether or not to add the ancestor to the return list
@@ -298,7 +330,7 @@ public class Shadowgraph implements Clearable {
      */
     @Deprecated(forRemoval = true)
     @NonNull
-    public synchronized Collection<PlatformEvent> findByAncientIndicator(
+    public Collection<PlatformEvent> findByAncientIndicator(
             final long lowerBound, final long upperBound, @NonNull final Predicate<PlatformEvent> predicate) {
         final List<PlatformEvent> result = new ArrayList<>();
         if (lowerBound >= upperBound) {
@@ -343,11 +375,13 @@ public class Shadowgraph implements Clearable {
             // The value of expireBelow must never decrease, so if we receive an invalid request like this, ignore it
             return;
         }
-        this.eventWindow = eventWindow;
-
         // Remove reservations for events that can and should be expired, and
         // keep track of the oldest threshold that can be expired
-        long oldestReservedIndicator = pruneReservationList();
+        long oldestReservedIndicator;
+        synchronized (reservationLock) {
+            this.eventWindow = eventWindow;
+            oldestReservedIndicator = pruneReservationList();
+        }
 
         if (oldestReservedIndicator == NO_RESERVATION) {
             oldestReservedIndicator = eventWindow.expiredThreshold();
@@ -364,16 +398,19 @@ public class Shadowgraph implements Clearable {
         final long minimumIndicatorToKeep = Math.min(eventWindow.expiredThreshold(), oldestReservedIndicator);
 
         while (oldestUnexpiredIndicator < minimumIndicatorToKeep) {
-            final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(oldestUnexpiredIndicator);
+            final long indicatorToExpire = oldestUnexpiredIndicator;
+            // Advance the indicator first, so concurrent readers ignore the events before they are disconnected
+            oldestUnexpiredIndicator = indicatorToExpire + 1;
+            final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(indicatorToExpire);
             if (shadowsToExpire != null) {
                 shadowsToExpire.forEach(this::expire);
             }
-            oldestUnexpiredIndicator++;
         }
     }
 
     /**
      * Removes reservations that can and should be expired, starting with the oldest ancient indicator reservation.
+     * Must be called while holding {@link #reservationLock}.
      *
      * @return the oldest ancient indicator with at least one reservation, or {@code -1} if there are no reservations
      */
@@ -425,7 +462,7 @@ public class Shadowgraph implements Clearable {
      * @throws IllegalArgumentException if {@code otherParentsDescriptors} contains more than one event descriptor
      */
     @Nullable
-    private synchronized ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
+    private ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
         if (otherParentsDescriptors.isEmpty()) {
             return null;
         }
@@ -444,7 +481,7 @@ public class Shadowgraph implements Clearable {
      * @return the shadow event that references an event, or null is {@code e} is null
      */
     @Nullable
-    public synchronized ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
+    public ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
         if (e == null) {
             return null;
         }
@@ -458,7 +495,7 @@ public class Shadowgraph implements Clearable {
      * @param hashes The event hashes to get shadow events for
      * @return the shadow events that reference the events with the given hashes
      */
-    public synchronized List<ShadowEvent> shadows(final List<Hash> hashes) {
+    public List<ShadowEvent> shadows(final List<Hash> hashes) {
         Objects.requireNonNull(hashes);
         final List<ShadowEvent> shadows = new ArrayList<>(hashes.size());
         for (final Hash hash : hashes) {
@@ -474,7 +511,7 @@ public class Shadowgraph implements Clearable {
      * @return the hashgraph event, if there is one in {@code this} shadowgraph, else `null`
      */
     @Nullable
-    public synchronized PlatformEvent hashgraphEvent(@Nullable final Hash h) {
+    public PlatformEvent hashgraphEvent(@Nullable final Hash h) {
         final ShadowEvent shadow = shadow(h);
         if (shadow == null) {
             return null;
@@ -490,7 +527,7 @@ public class Shadowgraph implements Clearable {
      * @return an unmodifiable copy of the tips
      */
     @NonNull
-    public synchronized List<ShadowEvent> getTips() {
+    public List<ShadowEvent> getTips() {
         return new ArrayList<>(tips);
     }
 
@@ -560,6 +597,12 @@ public class Shadowgraph implements Clearable {
         }
     }
 
+    /**
+     * Create a new reservation for the current expired threshold. Must be called while holding
+     * {@link #reservationLock}.
+     *
+     * @return the new reservation
+     */
     private ShadowgraphReservation newReservation() {
         final ShadowgraphReservation reservation = new ShadowgraphReservation(eventWindow.expiredThreshold());
         reservationList.addLast(reservation);
@@ -575,7 +618,7 @@ public class Shadowgraph implements Clearable {
      * @return the event that has the hash provided, or null if none exists
      */
     @Nullable
-    public synchronized PlatformEvent getEvent(@Nullable final Hash hash) {
+    public PlatformEvent getEvent(@Nullable final Hash hash) {
         final ShadowEvent shadowEvent = hashToShadowEvent.get(hash);
         return shadowEvent == null ? null : shadowEvent.getEvent();
     }
@@ -597,10 +640,9 @@ public class Shadowgraph implements Clearable {
         hashToShadowEvent.put(se.getEventBaseHash(), se);
 
         final long ancientIndicator = event.getBirthRound();
-        if (!indicatorToShadowEvent.containsKey(ancientIndicator)) {
-            indicatorToShadowEvent.put(ancientIndicator, new HashSet<>());
-        }
-        indicatorToShadowEvent.get(ancientIndicator).add(se);
+        indicatorToShadowEvent
+                .computeIfAbsent(ancientIndicator, i -> ConcurrentHashMap.newKeySet())
+                .add(se);
 
         return se;
     }
@@ -205,7 +205,7 @@ public final class SyncUtils {
             }
             for (final PlatformEvent event : events) {
                 connection.getDos().writeByte(ByteConstants.COMM_EVENT_NEXT);
-                connection.getDos().writePbjRecord(event.getGossipEvent(), GossipEvent.PROTOBUF);
+                connection.getDos().writeEvent(event);
             }
             if (writeAborted.get()) {
                 logger.info(SYNC_INFO.getMarker(), "{} writing events aborted", connection.getDescription());
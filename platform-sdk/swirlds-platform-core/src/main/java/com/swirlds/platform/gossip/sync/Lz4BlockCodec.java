@@ -0,0 +1,239 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A pure Java implementation of the LZ4 block format. LZ4 trades compression ratio for speed: it only looks for
+ * repeated sequences of at least 4 bytes within the last 64KiB, using a single hash table lookup per position, and
+ * doesn't use entropy coding. This makes it several times faster than Deflate, which matters for gossip, where most
+ * of the data are signatures and hashes that don't compress well anyway.
+ *
+ * <p>A compressed block is a series of sequences. Each sequence starts with a token, whose high 4 bits are the number
+ * of literals and whose low 4 bits are the match length minus 4. Values of 15 are continued in the following bytes,
+ * each adding up to 255. The token is followed by the literals, a little endian 2 byte offset of the match, and the
+ * continued match length. The last sequence only contains literals.
+ */
+final class Lz4BlockCodec {
+
+    private static final int MIN_MATCH = 4;
+    /** The last 5 bytes of a block are always literals */
+    private static final int LAST_LITERALS = 5;
+    /** A match must not start in the last 12 bytes of a block */
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_OFFSET = 65535;
+    private static final int RUN_MASK = 15;
+    private static final int HASH_LOG = 12;
+
+    /** The size of the hash table to pass to {@link #compress(byte[], int, int, byte[], int, int[])} */
+    static final int HASH_TABLE_SIZE = 1 << HASH_LOG;
+
+    private Lz4BlockCodec() {}
+
+    /**
+     * Get the max length of the compressed data of a block.
+     *
+     * @param length the length of the uncompressed data
+     * @return the max length of the compressed data
+     */
+    static int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compress a block.
+     *
+     * @param src       the data to compress
+     * @param srcOffset the offset of the data in {@code src}
+     * @param srcLength the length of the data
+     * @param dst       the array to write the compressed data to, must have at least
+     *                  {@link #maxCompressedLength(int)} bytes available
+     * @param dstOffset the offset in {@code dst} to write to
+     * @param hashTable a table of {@link #HASH_TABLE_SIZE} entries, reused between calls to avoid allocations
+     * @return the length of the compressed data
+     */
+    static int compress(
+            @NonNull final byte[] src,
+            final int srcOffset,
+            final int srcLength,
+            @NonNull final byte[] dst,
+            final int dstOffset,
+            @NonNull final int[] hashTable) {
+        Arrays.fill(hashTable, -1);
+        final int srcEnd = srcOffset + srcLength;
+        final int matchLimit = srcEnd - LAST_LITERALS;
+        final int mfLimit = srcEnd - MF_LIMIT;
+
+        int ip = srcOffset;
+        int anchor = srcOffset;
+        int op = dstOffset;
+        while (ip < mfLimit) {
+            final int sequence = readInt(src, ip);
+            final int hash = hash(sequence);
+            final int ref = hashTable[hash];
+            hashTable[hash] = ip;
+            if (ref < 0 || ip - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                ip++;
+                continue;
+            }
+
+            // extend the match backwards, over literals not written yet
+            int start = ip;
+            int matchRef = ref;
+            while (start > anchor && matchRef > srcOffset && src[start - 1] == src[matchRef - 1]) {
+                start--;
+                matchRef--;
+            }
+            // and forwards
+            int matchLength = MIN_MATCH;
+            while (start + matchLength < matchLimit && src[start + matchLength] == src[matchRef + matchLength]) {
+                matchLength++;
+            }
+
+            op = writeLiterals(src, anchor, start - anchor, matchLength - MIN_MATCH, dst, op);
+            final int offset = start - matchRef;
+            dst[op++] = (byte) offset;
+            dst[op++] = (byte) (offset >>> 8);
+            if (matchLength - MIN_MATCH >= RUN_MASK) {
+                op = writeLength(matchLength - MIN_MATCH - RUN_MASK, dst, op);
+            }
+
+            ip = start + matchLength;
+            anchor = ip;
+        }
+
+        op = writeLiterals(src, anchor, srcEnd - anchor, 0, dst, op);
+        return op - dstOffset;
+    }
+
+    /**
+     * Decompress a block.
+     *
+     * @param src       the compressed data
+     * @param srcOffset the offset of the compressed data in {@code src}
+     * @param srcLength the length of the compressed data
+     * @param dst       the array to write the decompressed data to
+     * @param dstOffset the offset in {@code dst} to write to
+     * @param dstLength the max length of the decompressed data
+     * @return the length of the decompressed data
+     * @throws IOException if the compressed data is malformed, or decompresses to more than {@code dstLength} bytes
+     */
+    static int decompress(
+            @NonNull final byte[] src,
+            final int srcOffset,
+            final int srcLength,
+            @NonNull final byte[] dst,
+            final int dstOffset,
+            final int dstLength)
+            throws IOException {
+        final int srcEnd = srcOffset + srcLength;
+        final int dstEnd = dstOffset + dstLength;
+        int ip = srcOffset;
+        int op = dstOffset;
+        while (true) {
+            if (ip >= srcEnd) {
+                throw new IOException("LZ4 block ends without a final sequence");
+            }
+            final int token = src[ip++] & 0xFF;
+
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    if (ip >= srcEnd || literalLength > dstLength) {
+                        throw new IOException("malformed LZ4 literal length");
+                    }
+                    b = src[ip++] & 0xFF;
+                    literalLength += b;
+                } while (b == 255);
+            }
+            if (literalLength > srcEnd - ip || literalLength > dstEnd - op) {
+                throw new IOException("LZ4 literals exceed the block");
+            }
+            System.arraycopy(src, ip, dst, op, literalLength);
+            ip += literalLength;
+            op += literalLength;
+            if (ip == srcEnd) {
+                // the last sequence has no match
+                return op - dstOffset;
+            }
+
+            if (srcEnd - ip < 2) {
+                throw new IOException("truncated LZ4 match offset");
+            }
+            final int offset = (src[ip] & 0xFF) | ((src[ip + 1] & 0xFF) << 8);
+            ip += 2;
+            if (offset == 0 || offset > op - dstOffset) {
+                throw new IOException("invalid LZ4 match offset " + offset);
+            }
+
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int b;
+                do {
+                    if (ip >= srcEnd || matchLength > dstLength) {
+                        throw new IOException("malformed LZ4 match length");
+                    }
+                    b = src[ip++] & 0xFF;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += MIN_MATCH;
+            if (matchLength > dstEnd - op) {
+                throw new IOException("LZ4 match exceeds the block");
+            }
+
+            final int ref = op - offset;
+            if (offset >= matchLength) {
+                System.arraycopy(dst, ref, dst, op, matchLength);
+            } else {
+                // the match overlaps the bytes being written, so they must be copied one at a time
+                for (int i = 0; i < matchLength; i++) {
+                    dst[op + i] = dst[ref + i];
+                }
+            }
+            op += matchLength;
+        }
+    }
+
+    /**
+     * Write a token, followed by literals. The match length of the token is written by the caller.
+     */
+    private static int writeLiterals(
+            @NonNull final byte[] src,
+            final int literalOffset,
+            final int literalLength,
+            final int matchLengthCode,
+            @NonNull final byte[] dst,
+            int op) {
+        final int token = (Math.min(literalLength, RUN_MASK) << 4) | Math.min(matchLengthCode, RUN_MASK);
+        dst[op++] = (byte) token;
+        if (literalLength >= RUN_MASK) {
+            op = writeLength(literalLength - RUN_MASK, dst, op);
+        }
+        System.arraycopy(src, literalOffset, dst, op, literalLength);
+        return op + literalLength;
+    }
+
+    private static int writeLength(int length, @NonNull final byte[] dst, int op) {
+        while (length >= 255) {
+            dst[op++] = (byte) 255;
+            length -= 255;
+        }
+        dst[op++] = (byte) length;
+        return op;
+    }
+
+    private static int readInt(@NonNull final byte[] buffer, final int offset) {
+        return (buffer[offset] & 0xFF)
+                | ((buffer[offset + 1] & 0xFF) << 8)
+                | ((buffer[offset + 2] & 0xFF) << 16)
+                | ((buffer[offset + 3] & 0xFF) << 24);
+    }
+
+    private static int hash(final int sequence) {
+        return (sequence * -1640531535) >>> (Integer.SIZE - HASH_LOG);
+    }
+}
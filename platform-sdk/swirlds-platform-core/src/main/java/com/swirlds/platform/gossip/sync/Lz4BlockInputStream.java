@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import static com.swirlds.platform.gossip.sync.Lz4BlockOutputStream.HEADER_LENGTH;
+import static com.swirlds.platform.gossip.sync.Lz4BlockOutputStream.UNCOMPRESSED_FLAG;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * An input stream that reads blocks written by {@link Lz4BlockOutputStream}. Blocks larger than the block size of this
+ * stream are rejected, so a peer can't make this stream allocate memory. All buffers are allocated once per stream and
+ * reused for every block.
+ *
+ * <p>This class is not thread safe.
+ */
+public class Lz4BlockInputStream extends FilterInputStream {
+
+    private final byte[] header = new byte[HEADER_LENGTH];
+    private final byte[] block;
+    private final byte[] buffer;
+    private int position = 0;
+    private int limit = 0;
+
+    /**
+     * Create a new stream.
+     *
+     * @param in        the stream to read compressed blocks from
+     * @param blockSize the max number of uncompressed bytes in a block, must not be smaller than the block size of the
+     *                  writing stream
+     */
+    public Lz4BlockInputStream(@NonNull final InputStream in, final int blockSize) {
+        super(Objects.requireNonNull(in));
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("block size must be positive, got " + blockSize);
+        }
+        buffer = new byte[blockSize];
+        block = new byte[Lz4BlockCodec.maxCompressedLength(blockSize)];
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !readBlock()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(@NonNull final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (position == limit && !readBlock()) {
+            return -1;
+        }
+        final int chunk = Math.min(len, limit - position);
+        System.arraycopy(buffer, position, b, off, chunk);
+        position += chunk;
+        return chunk;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0 || (position == limit && !readBlock())) {
+            return 0;
+        }
+        final int skipped = (int) Math.min(n, limit - position);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return limit - position;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(final int readLimit) {
+        // not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Read and decompress the next block.
+     *
+     * @return false if the end of the stream is reached before a new block
+     */
+    private boolean readBlock() throws IOException {
+        final int headerRead = in.readNBytes(header, 0, HEADER_LENGTH);
+        if (headerRead == 0) {
+            return false;
+        }
+        if (headerRead < HEADER_LENGTH) {
+            throw new EOFException("truncated LZ4 block header");
+        }
+        final int dataField = readInt(header, 0);
+        final boolean uncompressed = (dataField & UNCOMPRESSED_FLAG) != 0;
+        final int dataLength = dataField & ~UNCOMPRESSED_FLAG;
+        final int uncompressedLength = readInt(header, Integer.BYTES);
+        if (uncompressedLength <= 0 || uncompressedLength > buffer.length) {
+            throw new IOException("invalid LZ4 block length " + uncompressedLength);
+        }
+        if (uncompressed) {
+            if (dataLength != uncompressedLength) {
+                throw new IOException("uncompressed LZ4 block length mismatch");
+            }
+            readFully(buffer, dataLength);
+        } else {
+            if (dataLength > block.length) {
+                throw new IOException("invalid LZ4 compressed block length " + dataLength);
+            }
+            readFully(block, dataLength);
+            final int decompressed = Lz4BlockCodec.decompress(block, 0, dataLength, buffer, 0, uncompressedLength);
+            if (decompressed != uncompressedLength) {
+                throw new IOException("LZ4 block decompressed to " + decompressed + " bytes, expected "
+                        + uncompressedLength);
+            }
+        }
+        position = 0;
+        limit = uncompressedLength;
+        return true;
+    }
+
+    private void readFully(@NonNull final byte[] array, final int length) throws IOException {
+        if (in.readNBytes(array, 0, length) < length) {
+            throw new EOFException("truncated LZ4 block");
+        }
+    }
+
+    private static int readInt(@NonNull final byte[] array, final int offset) {
+        return ((array[offset] & 0xFF) << 24)
+                | ((array[offset + 1] & 0xFF) << 16)
+                | ((array[offset + 2] & 0xFF) << 8)
+                | (array[offset + 3] & 0xFF);
+    }
+}
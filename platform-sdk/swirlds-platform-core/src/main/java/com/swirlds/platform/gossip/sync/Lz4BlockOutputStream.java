@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * An output stream that compresses data with {@link Lz4BlockCodec}. Data is collected in a buffer, which is
+ * compressed and written as a single block when it's full or when the stream is flushed. Each block is preceded by an
+ * 8 byte header: the length of the block data, with the highest bit set if the data is stored uncompressed, and the
+ * uncompressed length. Blocks that don't compress are stored uncompressed, so incompressible data only costs the
+ * header. All buffers are allocated once per stream and reused for every block.
+ *
+ * <p>Data written by this stream must be read by {@link Lz4BlockInputStream}. This class is not thread safe.
+ */
+public class Lz4BlockOutputStream extends FilterOutputStream {
+
+    /** The length of the block header */
+    static final int HEADER_LENGTH = 2 * Integer.BYTES;
+
+    /** Set in the length of the block data if the data is not compressed */
+    static final int UNCOMPRESSED_FLAG = 0x80000000;
+
+    private final byte[] buffer;
+    private int count = 0;
+    private final byte[] block;
+    private final int[] hashTable = new int[Lz4BlockCodec.HASH_TABLE_SIZE];
+
+    /**
+     * Create a new stream.
+     *
+     * @param out       the stream to write compressed blocks to
+     * @param blockSize the max number of uncompressed bytes in a block
+     */
+    public Lz4BlockOutputStream(@NonNull final OutputStream out, final int blockSize) {
+        super(Objects.requireNonNull(out));
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("block size must be positive, got " + blockSize);
+        }
+        buffer = new byte[blockSize];
+        block = new byte[HEADER_LENGTH + Lz4BlockCodec.maxCompressedLength(blockSize)];
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (count == buffer.length) {
+            writeBlock();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(@NonNull final byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            if (count == buffer.length) {
+                writeBlock();
+            }
+            final int chunk = Math.min(len, buffer.length - count);
+            System.arraycopy(b, off, buffer, count, chunk);
+            count += chunk;
+            off += chunk;
+            len -= chunk;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBlock();
+        out.flush();
+    }
+
+    /**
+     * Compress the buffered data and write it as a single block, if there is any buffered data.
+     */
+    private void writeBlock() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        final int compressedLength = Lz4BlockCodec.compress(buffer, 0, count, block, HEADER_LENGTH, hashTable);
+        final int dataLength;
+        if (compressedLength < count) {
+            dataLength = compressedLength;
+            writeInt(block, 0, compressedLength);
+        } else {
+            dataLength = count;
+            writeInt(block, 0, count | UNCOMPRESSED_FLAG);
+            System.arraycopy(buffer, 0, block, HEADER_LENGTH, count);
+        }
+        writeInt(block, Integer.BYTES, count);
+        out.write(block, 0, HEADER_LENGTH + dataLength);
+        count = 0;
+    }
+
+    private static void writeInt(@NonNull final byte[] array, final int offset, final int value) {
+        array[offset] = (byte) (value >>> 24);
+        array[offset + 1] = (byte) (value >>> 16);
+        array[offset + 2] = (byte) (value >>> 8);
+        array[offset + 3] = (byte) value;
+    }
+}
@@ -5,6 +5,7 @@ import static com.swirlds.common.io.extendable.ExtendableInputStream.extendInput
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
+import com.swirlds.platform.network.NetworkCompression;
 import com.swirlds.platform.network.SocketConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.BufferedInputStream;
@@ -30,22 +31,31 @@ public class SyncInputStream extends SerializableDataInputStream {
 
     public static SyncInputStream createSyncInputStream(
             @NonNull final PlatformContext platformContext, @NonNull final InputStream in, final int bufferSize) {
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        return createSyncInputStream(in, bufferSize, NetworkCompression.fromConfig(socketConfig));
+    }
 
-        final CountingStreamExtension syncCounter = new CountingStreamExtension();
+    /**
+     * Create a stream that reads from a connection with the given compression.
+     *
+     * @param in          the raw input stream of the connection
+     * @param bufferSize  the size of the buffer, which is also the block size for LZ4
+     * @param compression the compression agreed on with the peer
+     * @return the new stream
+     */
+    public static SyncInputStream createSyncInputStream(
+            @NonNull final InputStream in, final int bufferSize, @NonNull final NetworkCompression compression) {
 
-        final boolean compress = platformContext
-                .getConfiguration()
-                .getConfigData(SocketConfig.class)
-                .gzipCompression();
+        final CountingStreamExtension syncCounter = new CountingStreamExtension();
 
         final InputStream meteredStream = extendInputStream(in, syncCounter);
 
-        final InputStream wrappedStream;
-        if (compress) {
-            wrappedStream = new InflaterInputStream(meteredStream, new Inflater(true), bufferSize);
-        } else {
-            wrappedStream = new BufferedInputStream(meteredStream, bufferSize);
-        }
+        final InputStream wrappedStream =
+                switch (compression) {
+                    case DEFLATE -> new InflaterInputStream(meteredStream, new Inflater(true), bufferSize);
+                    case LZ4 -> new Lz4BlockInputStream(meteredStream, bufferSize);
+                    case NONE -> new BufferedInputStream(meteredStream, bufferSize);
+                };
 
         return new SyncInputStream(wrappedStream, syncCounter);
     }
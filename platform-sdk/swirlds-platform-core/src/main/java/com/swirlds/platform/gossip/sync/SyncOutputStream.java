@@ -5,6 +5,7 @@ import static com.swirlds.common.io.extendable.ExtendableOutputStream.extendOutp
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
+import com.swirlds.platform.network.NetworkCompression;
 import com.swirlds.platform.network.SocketConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.BufferedOutputStream;
@@ -17,6 +18,7 @@ import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
+import org.hiero.consensus.model.event.PlatformEvent;
 
 public class SyncOutputStream extends SerializableDataOutputStream {
     private final CountingStreamExtension syncByteCounter;
@@ -33,23 +35,32 @@ public class SyncOutputStream extends SerializableDataOutputStream {
 
     public static SyncOutputStream createSyncOutputStream(
             @NonNull final PlatformContext platformContext, @NonNull final OutputStream out, final int bufferSize) {
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        return createSyncOutputStream(out, bufferSize, NetworkCompression.fromConfig(socketConfig));
+    }
+
+    /**
+     * Create a stream that writes to a connection with the given compression.
+     *
+     * @param out         the raw output stream of the connection
+     * @param bufferSize  the size of the buffer, which is also the block size for LZ4
+     * @param compression the compression agreed on with the peer
+     * @return the new stream
+     */
+    public static SyncOutputStream createSyncOutputStream(
+            @NonNull final OutputStream out, final int bufferSize, @NonNull final NetworkCompression compression) {
         CountingStreamExtension syncByteCounter = new CountingStreamExtension();
         CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
 
-        final boolean compress = platformContext
-                .getConfiguration()
-                .getConfigData(SocketConfig.class)
-                .gzipCompression();
-
         final OutputStream meteredStream = extendOutputStream(out, connectionByteCounter);
 
-        final OutputStream wrappedStream;
-        if (compress) {
-            wrappedStream = new DeflaterOutputStream(
-                    meteredStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize, true);
-        } else {
-            wrappedStream = new BufferedOutputStream(meteredStream, bufferSize);
-        }
+        final OutputStream wrappedStream =
+                switch (compression) {
+                    case DEFLATE -> new DeflaterOutputStream(
+                            meteredStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize, true);
+                    case LZ4 -> new Lz4BlockOutputStream(meteredStream, bufferSize);
+                    case NONE -> new BufferedOutputStream(meteredStream, bufferSize);
+                };
 
         // we write the data to the buffer first, for efficiency
         return new SyncOutputStream(wrappedStream, syncByteCounter, connectionByteCounter);
@@ -71,4 +82,15 @@ public class SyncOutputStream extends SerializableDataOutputStream {
     public void writeTipHashes(final List<Hash> tipHashes) throws IOException {
         writeSerializableList(tipHashes, false, true);
     }
+
+    /**
+     * Write an event in the same format as {@link #writePbjRecord}, using the serialized bytes cached by the event
+     * instead of serializing it again for every peer it is sent to.
+     *
+     * @param event the event to write
+     * @throws IOException iff the {@link SyncOutputStream} throws
+     */
+    public void writeEvent(@NonNull final PlatformEvent event) throws IOException {
+        writePbjRecord(event.getSerializedGossipEvent());
+    }
 }
@@ -55,6 +55,11 @@ public class EventImpl implements Clearable {
      * stronglySeeP[m] is strongly-seen witness in parent round by m (memoizes function from Swirlds-TR-2020-01)
      */
     private EventImpl[] stronglySeeP;
+    /**
+     * firstSee[m] is the first self-witness in the round of the last ancestor created by m (memoizes
+     * firstSee(x, m) from Swirlds-TR-2020-01), only used when strongly seen witnesses are calculated with bitsets
+     */
+    private EventImpl[] firstSee;
     /**
      * The first witness that's a self-ancestor in the self round (memoizes function from Swirlds-TR-2020-01)
      */
@@ -311,6 +316,44 @@ public class EventImpl implements Clearable {
         return stronglySeeP == null ? 0 : stronglySeeP.length;
     }
 
+    /**
+     * @param m the member ID
+     * @return the first self-witness in the round of the last ancestor created by m (memoizes firstSee
+     *     function from Swirlds-TR-2020-01)
+     */
+    public @Nullable EventImpl getFirstSee(final int m) {
+        return firstSee[m];
+    }
+
+    /**
+     * remember event, the first self-witness in the round of the last ancestor created by m (memoizes
+     * firstSee function from Swirlds-TR-2020-01)
+     *
+     * @param m the member ID
+     * @param event the first self-witness in the round of the last ancestor created by m
+     */
+    public void setFirstSee(final int m, @Nullable final EventImpl event) {
+        firstSee[m] = event;
+    }
+
+    /**
+     * Initialize the firstSee array to hold n elements (for n &ge; 0) (memoizes firstSee function
+     * from Swirlds-TR-2020-01)
+     *
+     * @param n number of members in AddressBook
+     */
+    public void initFirstSee(final int n) {
+        firstSee = n == 0 ? null : new EventImpl[n];
+    }
+
+    /**
+     * @return the number of elements firstSee holds (memoizes firstSee function from
+     *     Swirlds-TR-2020-01)
+     */
+    public int sizeFirstSee() {
+        return firstSee == null ? 0 : firstSee.length;
+    }
+
     /**
      * @return The first witness that's a self-ancestor in the self round (memoizes function from
      *     Swirlds-TR-2020-01)
@@ -474,6 +517,7 @@ public class EventImpl implements Clearable {
     private void clearNonJudgeMetadata() {
         initLastSee(0);
         initStronglySeeP(0);
+        initFirstSee(0);
         setFirstSelfWitnessS(null);
         setFirstWitnessS(null);
         setRecTimes(null);
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.network;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The compression used for the data sent over a connection. The values are ordered from the cheapest to the most
+ * expensive in CPU time, so that two peers can agree on the cheapest compression that both of them prefer.
+ */
+public enum NetworkCompression {
+    /** No compression */
+    NONE,
+    /** LZ4 block compression, fast with a moderate ratio */
+    LZ4,
+    /** Deflate compression, slower with a better ratio */
+    DEFLATE;
+
+    /**
+     * Get the compression to use for a connection that doesn't negotiate one, which must be the same on both peers.
+     *
+     * @param socketConfig the socket config
+     * @return {@link #DEFLATE} if gzip compression is enabled, {@link #NONE} otherwise
+     */
+    public static @NonNull NetworkCompression fromConfig(@NonNull final SocketConfig socketConfig) {
+        return socketConfig.gzipCompression() ? DEFLATE : NONE;
+    }
+
+    /**
+     * Agree on the compression to use for a new connection. If negotiation is enabled, each peer sends the compression
+     * it prefers as a single byte, and both use the cheaper of the two. Negotiation must be enabled on both peers,
+     * otherwise the negotiation byte would be read as sync data.
+     *
+     * @param socketConfig the socket config
+     * @param in           the raw input stream of the connection
+     * @param out          the raw output stream of the connection
+     * @return the compression to use
+     * @throws IOException if the connection fails, or the peer sends an unknown compression
+     */
+    public static @NonNull NetworkCompression negotiate(
+            @NonNull final SocketConfig socketConfig, @NonNull final InputStream in, @NonNull final OutputStream out)
+            throws IOException {
+        if (!socketConfig.negotiateCompression()) {
+            return fromConfig(socketConfig);
+        }
+        final NetworkCompression preferred = socketConfig.preferredCompression();
+        // both peers write before reading, a single byte will always fit in the socket buffer
+        out.write(preferred.ordinal());
+        out.flush();
+        final int peerPreference = in.read();
+        if (peerPreference < 0) {
+            throw new EOFException("connection closed during compression negotiation");
+        }
+        if (peerPreference >= values().length) {
+            throw new IOException("peer sent unknown compression " + peerPreference);
+        }
+        return values()[Math.min(preferred.ordinal(), peerPreference)];
+    }
+}
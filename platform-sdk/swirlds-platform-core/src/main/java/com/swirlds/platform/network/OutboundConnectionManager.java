@@ -131,10 +131,12 @@ public class OutboundConnectionManager implements ConnectionManager {
             clientSocket = socketFactory.createClientSocket(
                     networkEndpoint.hostname().getHostAddress(), networkEndpoint.port());
 
+            final NetworkCompression compression = NetworkCompression.negotiate(
+                    socketConfig, clientSocket.getInputStream(), clientSocket.getOutputStream());
             dos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    clientSocket.getOutputStream(), socketConfig.bufferSize(), compression);
             dis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    clientSocket.getInputStream(), socketConfig.bufferSize(), compression);
 
             logger.debug(NETWORK.getMarker(), "`connect` : finished, {} connected to {}", selfId, otherPeer.nodeId());
 
@@ -25,6 +25,10 @@ import com.swirlds.config.api.ConfigProperty;
  * @param maxSocketAcceptThreads     maximum amount of threads which will be spawned to handle incoming SSL socket
  *                                   accepts, needed because of length SSL handshake; at same time, we don't want it to
  *                                   be unlimited, to not run out of threads on some kind of DOS
+ * @param negotiateCompression       if true, peers agree on the compression when a connection is established, instead
+ *                                   of using {@code gzipCompression}; must be the same on all nodes
+ * @param preferredCompression       the compression this node asks for when negotiating, the cheaper of the two
+ *                                   preferences is used
  */
 @ConfigData("socket")
 public record SocketConfig(
@@ -37,4 +41,6 @@ public record SocketConfig(
         @ConfigProperty(defaultValue = "true") boolean tcpNoDelay,
         @ConfigProperty(defaultValue = "false") boolean gzipCompression,
         @ConfigProperty(defaultValue = "10") int waitBetweenConnectionRetries,
-        @ConfigProperty(defaultValue = "30") int maxSocketAcceptThreads) {}
+        @ConfigProperty(defaultValue = "30") int maxSocketAcceptThreads,
+        @ConfigProperty(defaultValue = "false") boolean negotiateCompression,
+        @ConfigProperty(defaultValue = "LZ4") NetworkCompression preferredCompression) {}
@@ -11,6 +11,7 @@ import com.swirlds.platform.gossip.sync.SyncInputStream;
 import com.swirlds.platform.gossip.sync.SyncOutputStream;
 import com.swirlds.platform.network.Connection;
 import com.swirlds.platform.network.ConnectionTracker;
+import com.swirlds.platform.network.NetworkCompression;
 import com.swirlds.platform.network.NetworkPeerIdentifier;
 import com.swirlds.platform.network.NetworkUtils;
 import com.swirlds.platform.network.PeerInfo;
@@ -94,10 +95,12 @@ public class InboundConnectionHandler {
             }
             final NodeId otherId = connectedPeer.nodeId();
 
+            final NetworkCompression compression = NetworkCompression.negotiate(
+                    socketConfig, clientSocket.getInputStream(), clientSocket.getOutputStream());
             final SyncInputStream sis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    clientSocket.getInputStream(), socketConfig.bufferSize(), compression);
             final SyncOutputStream sos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    clientSocket.getOutputStream(), socketConfig.bufferSize(), compression);
 
             final SocketConnection sc = SocketConnection.create(
                     selfId,
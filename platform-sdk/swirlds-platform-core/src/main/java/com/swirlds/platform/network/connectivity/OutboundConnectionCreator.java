@@ -13,6 +13,7 @@ import com.swirlds.platform.gossip.sync.SyncInputStream;
 import com.swirlds.platform.gossip.sync.SyncOutputStream;
 import com.swirlds.platform.network.Connection;
 import com.swirlds.platform.network.ConnectionTracker;
+import com.swirlds.platform.network.NetworkCompression;
 import com.swirlds.platform.network.NetworkUtils;
 import com.swirlds.platform.network.PeerInfo;
 import com.swirlds.platform.network.SocketConfig;
@@ -104,10 +105,12 @@ public class OutboundConnectionCreator {
             clientSocket = socketFactory.createClientSocket(
                     networkEndpoint.hostname().getHostAddress(), networkEndpoint.port());
 
+            final NetworkCompression compression = NetworkCompression.negotiate(
+                    socketConfig, clientSocket.getInputStream(), clientSocket.getOutputStream());
             dos = SyncOutputStream.createSyncOutputStream(
-                    platformContext, clientSocket.getOutputStream(), socketConfig.bufferSize());
+                    clientSocket.getOutputStream(), socketConfig.bufferSize(), compression);
             dis = SyncInputStream.createSyncInputStream(
-                    platformContext, clientSocket.getInputStream(), socketConfig.bufferSize());
+                    clientSocket.getInputStream(), socketConfig.bufferSize(), compression);
 
             logger.debug(NETWORK.getMarker(), "`connect` : finished, {} connected to {}", selfId, otherId);
 
@@ -10,6 +10,7 @@ import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
+import com.swirlds.platform.event.validation.BatchEventSignatureValidator;
 import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.TransactionHandler;
@@ -22,6 +23,7 @@ import com.swirlds.platform.system.status.StatusStateMachine;
 import com.swirlds.platform.wiring.components.GossipWiring;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
@@ -43,6 +45,7 @@ public class PlatformCoordinator {
     private final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring;
     private final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring;
     private final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring;
+    private final ComponentWiring<BatchEventSignatureValidator, List<PlatformEvent>> batchEventSignatureValidatorWiring;
     private final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring;
     private final GossipWiring gossipWiring;
     private final ComponentWiring<ConsensusEngine, ConsensusEngineOutput> consensusEngineWiring;
@@ -64,6 +67,8 @@ public class PlatformCoordinator {
      * @param internalEventValidatorWiring           the internal event validator wiring
      * @param eventDeduplicatorWiring                the event deduplicator wiring
      * @param eventSignatureValidatorWiring          the event signature validator wiring
+     * @param batchEventSignatureValidatorWiring     the batch event signature validator wiring, or null if event
+     *                                               signatures are not validated in batches
      * @param orphanBufferWiring                     the orphan buffer wiring
      * @param gossipWiring                           gossip wiring
      * @param consensusEngineWiring                  the consensus engine wiring
@@ -82,6 +87,9 @@ public class PlatformCoordinator {
             @NonNull final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring,
             @NonNull final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring,
             @NonNull final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring,
+            @Nullable
+                    final ComponentWiring<BatchEventSignatureValidator, List<PlatformEvent>>
+                            batchEventSignatureValidatorWiring,
             @NonNull final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring,
             @NonNull final GossipWiring gossipWiring,
             @NonNull final ComponentWiring<ConsensusEngine, ConsensusEngineOutput> consensusEngineWiring,
@@ -104,6 +112,7 @@ public class PlatformCoordinator {
         this.internalEventValidatorWiring = Objects.requireNonNull(internalEventValidatorWiring);
         this.eventDeduplicatorWiring = Objects.requireNonNull(eventDeduplicatorWiring);
         this.eventSignatureValidatorWiring = Objects.requireNonNull(eventSignatureValidatorWiring);
+        this.batchEventSignatureValidatorWiring = batchEventSignatureValidatorWiring;
         this.orphanBufferWiring = Objects.requireNonNull(orphanBufferWiring);
         this.gossipWiring = Objects.requireNonNull(gossipWiring);
         this.consensusEngineWiring = Objects.requireNonNull(consensusEngineWiring);
@@ -133,6 +142,13 @@ public class PlatformCoordinator {
         internalEventValidatorWiring.flush();
         eventDeduplicatorWiring.flush();
         eventSignatureValidatorWiring.flush();
+        if (batchEventSignatureValidatorWiring != null) {
+            // release the events waiting for a batch to fill up
+            batchEventSignatureValidatorWiring
+                    .getInputWire(BatchEventSignatureValidator::checkBatch)
+                    .inject(Instant.now());
+            batchEventSignatureValidatorWiring.flush();
+        }
         orphanBufferWiring.flush();
         if (pcesInlineWriterWiring != null) {
             pcesInlineWriterWiring.flush();
@@ -40,6 +40,9 @@ import java.time.Duration;
  * @param eventHasher                          configuration for the event hasher scheduler
  * @param branchDetector                       configuration for the branch detector scheduler
  * @param branchReporter                       configuration for the branch reporter scheduler
+ * @param batchEventSignatureValidator         configuration for the batch event signature validator scheduler, used
+ *                                             instead of the event signature validator scheduler if
+ *                                             {@code event.signatureValidation.batchingEnabled} is true
  */
 @ConfigData("platformSchedulers")
 public record PlatformSchedulersConfig(
@@ -106,4 +109,6 @@ public record PlatformSchedulersConfig(
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
                 TaskSchedulerConfiguration branchDetector,
         @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
-                TaskSchedulerConfiguration branchReporter) {}
+                TaskSchedulerConfiguration branchReporter,
+        @ConfigProperty(defaultValue = "SEQUENTIAL CAPACITY(500) FLUSHABLE UNHANDLED_TASK_METRIC")
+                TaskSchedulerConfiguration batchEventSignatureValidator) {}
@@ -33,8 +33,11 @@ import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
+import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.event.stream.ConsensusEventStream;
+import com.swirlds.platform.event.validation.BatchEventSignatureValidator;
+import com.swirlds.platform.event.validation.EventSignatureValidationConfig;
 import com.swirlds.platform.event.validation.EventSignatureValidator;
 import com.swirlds.platform.event.validation.InternalEventValidator;
 import com.swirlds.platform.eventhandling.StateWithHashComplexity;
@@ -94,6 +97,9 @@ public class PlatformWiring {
     private final ComponentWiring<InternalEventValidator, PlatformEvent> internalEventValidatorWiring;
     private final ComponentWiring<EventDeduplicator, PlatformEvent> eventDeduplicatorWiring;
     private final ComponentWiring<EventSignatureValidator, PlatformEvent> eventSignatureValidatorWiring;
+    /** Validates event signatures in batches instead of {@link #eventSignatureValidatorWiring}, if enabled */
+    @Nullable
+    private final ComponentWiring<BatchEventSignatureValidator, List<PlatformEvent>> batchEventSignatureValidatorWiring;
     private final ComponentWiring<OrphanBuffer, List<PlatformEvent>> orphanBufferWiring;
     private final ComponentWiring<ConsensusEngine, ConsensusEngineOutput> consensusEngineWiring;
     /** Output from the {@link #consensusEngineWiring} where only the consensus rounds are returned */
@@ -162,6 +168,15 @@ public class PlatformWiring {
         eventDeduplicatorWiring = new ComponentWiring<>(model, EventDeduplicator.class, config.eventDeduplicator());
         eventSignatureValidatorWiring =
                 new ComponentWiring<>(model, EventSignatureValidator.class, config.eventSignatureValidator());
+        if (platformContext
+                .getConfiguration()
+                .getConfigData(EventSignatureValidationConfig.class)
+                .batchingEnabled()) {
+            batchEventSignatureValidatorWiring = new ComponentWiring<>(
+                    model, BatchEventSignatureValidator.class, config.batchEventSignatureValidator());
+        } else {
+            batchEventSignatureValidatorWiring = null;
+        }
         orphanBufferWiring = new ComponentWiring<>(model, OrphanBuffer.class, config.orphanBuffer());
         consensusEngineWiring = new ComponentWiring<>(model, ConsensusEngine.class, config.consensusEngine());
         // output only consensus rounds
@@ -247,6 +262,7 @@ public class PlatformWiring {
                 internalEventValidatorWiring,
                 eventDeduplicatorWiring,
                 eventSignatureValidatorWiring,
+                batchEventSignatureValidatorWiring,
                 orphanBufferWiring,
                 gossipWiring,
                 consensusEngineWiring,
@@ -280,8 +296,14 @@ public class PlatformWiring {
         final OutputWire<EventWindow> eventWindowOutputWire = eventWindowManagerWiring.getOutputWire();
 
         eventWindowOutputWire.solderTo(eventDeduplicatorWiring.getInputWire(EventDeduplicator::setEventWindow), INJECT);
-        eventWindowOutputWire.solderTo(
-                eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::setEventWindow), INJECT);
+        if (batchEventSignatureValidatorWiring == null) {
+            eventWindowOutputWire.solderTo(
+                    eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::setEventWindow), INJECT);
+        } else {
+            eventWindowOutputWire.solderTo(
+                    batchEventSignatureValidatorWiring.getInputWire(BatchEventSignatureValidator::setEventWindow),
+                    INJECT);
+        }
         eventWindowOutputWire.solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::setEventWindow), INJECT);
         eventWindowOutputWire.solderTo(gossipWiring.getEventWindowInput(), INJECT);
         eventWindowOutputWire.solderTo(
@@ -331,12 +353,29 @@ public class PlatformWiring {
         internalEventValidatorWiring
                 .getOutputWire()
                 .solderTo(eventDeduplicatorWiring.getInputWire(EventDeduplicator::handleEvent));
-        eventDeduplicatorWiring
-                .getOutputWire()
-                .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignature));
-        eventSignatureValidatorWiring
-                .getOutputWire()
-                .solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent));
+        if (batchEventSignatureValidatorWiring == null) {
+            eventDeduplicatorWiring
+                    .getOutputWire()
+                    .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignature));
+            eventSignatureValidatorWiring
+                    .getOutputWire()
+                    .solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent));
+        } else {
+            // the batch validator releases events in the order it receives them
+            eventDeduplicatorWiring
+                    .getOutputWire()
+                    .solderTo(batchEventSignatureValidatorWiring.getInputWire(BatchEventSignatureValidator::addEvent));
+            batchEventSignatureValidatorWiring
+                    .getSplitOutput()
+                    .solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent));
+            model.buildHeartbeatWire(platformContext
+                            .getConfiguration()
+                            .getConfigData(EventSignatureValidationConfig.class)
+                            .batchPeriod())
+                    .solderTo(
+                            batchEventSignatureValidatorWiring.getInputWire(BatchEventSignatureValidator::checkBatch),
+                            OFFER);
+        }
         final OutputWire<PlatformEvent> splitOrphanBufferOutput = orphanBufferWiring.getSplitOutput();
 
         splitOrphanBufferOutput.solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent));
@@ -444,7 +483,14 @@ public class PlatformWiring {
 
         solderEventWindow();
 
-        pcesReplayerWiring.eventOutput().solderTo(hasherInputWire);
+        if (platformContext.getConfiguration().getConfigData(PcesConfig.class).parallelReplay()) {
+            // events are already hashed by the parallel PCES iterator
+            pcesReplayerWiring
+                    .eventOutput()
+                    .solderTo(internalEventValidatorWiring.getInputWire(InternalEventValidator::validateEvent));
+        } else {
+            pcesReplayerWiring.eventOutput().solderTo(hasherInputWire);
+        }
 
         final OutputWire<ConsensusRound> consensusRoundOutputWire =
                 consensusRoundsOutputWire.buildSplitter("ConsensusRoundsSplitter", "consensus rounds");
@@ -591,6 +637,9 @@ public class PlatformWiring {
         notifierWiring.getInputWire(AppNotifier::sendReconnectCompleteNotification);
         notifierWiring.getInputWire(AppNotifier::sendPlatformStatusChangeNotification);
         eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::updateRosterHistory);
+        if (batchEventSignatureValidatorWiring != null) {
+            batchEventSignatureValidatorWiring.getInputWire(BatchEventSignatureValidator::updateRosterHistory);
+        }
         eventWindowManagerWiring.getInputWire(EventWindowManager::updateEventWindow);
         orphanBufferWiring.getInputWire(OrphanBuffer::clear);
         pcesInlineWriterWiring.getInputWire(InlinePcesWriter::registerDiscontinuity);
@@ -631,6 +680,9 @@ public class PlatformWiring {
         internalEventValidatorWiring.bind(builder::buildInternalEventValidator);
         eventDeduplicatorWiring.bind(builder::buildEventDeduplicator);
         eventSignatureValidatorWiring.bind(builder::buildEventSignatureValidator);
+        if (batchEventSignatureValidatorWiring != null) {
+            batchEventSignatureValidatorWiring.bind(builder::buildBatchEventSignatureValidator);
+        }
         orphanBufferWiring.bind(builder::buildOrphanBuffer);
         consensusEngineWiring.bind(builder::buildConsensusEngine);
         stateSnapshotManagerWiring.bind(builder::buildStateSnapshotManager);
@@ -681,6 +733,9 @@ public class PlatformWiring {
      */
     @NonNull
     public InputWire<RosterHistory> getRosterHistoryInput() {
+        if (batchEventSignatureValidatorWiring != null) {
+            return batchEventSignatureValidatorWiring.getInputWire(BatchEventSignatureValidator::updateRosterHistory);
+        }
         return eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::updateRosterHistory);
     }
 
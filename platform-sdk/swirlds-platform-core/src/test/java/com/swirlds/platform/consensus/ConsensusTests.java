@@ -42,11 +42,14 @@ class ConsensusTests extends PlatformTest {
     }
 
     /**
-     * Create a list of platform contexts to use for testing.
+     * Create a list of platform contexts to use for testing. Strongly seen witnesses are calculated with and without
+     * bitsets, both must produce the same consensus.
      * @return a list of platform contexts
      */
     private List<PlatformContext> contexts() {
-        return List.of(createPlatformContext(null, null));
+        return List.of(
+                createPlatformContext(null, null),
+                createPlatformContext(null, c -> c.withValue(ConsensusConfig_.BITSET_STRONGLY_SEEN, true)));
     }
 
     @ParameterizedTest
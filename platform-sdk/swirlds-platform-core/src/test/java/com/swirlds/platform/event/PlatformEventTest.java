@@ -3,14 +3,18 @@ package com.swirlds.platform.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.hedera.hapi.platform.event.GossipEvent;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.platform.test.fixtures.utils.EqualsVerifier;
 import java.io.IOException;
 import java.util.Random;
 import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.hiero.consensus.crypto.PbjStreamHasher;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
 import org.junit.jupiter.api.DisplayName;
@@ -84,4 +88,43 @@ class PlatformEventTest {
         event.setHash(r.nextHash());
         assertNotNull(event.getDescriptor(), "When the hash is set, the descriptor should be returned");
     }
+
+    @Test
+    @DisplayName("Serialized bytes are cached and shared with copies")
+    void serializedGossipEventIsCached() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final PlatformEvent platformEvent = new TestingEventBuilder(random).build();
+
+        final Bytes bytes = platformEvent.getSerializedGossipEvent();
+        assertEquals(GossipEvent.PROTOBUF.toBytes(platformEvent.getGossipEvent()), bytes);
+        assertSame(bytes, platformEvent.getSerializedGossipEvent(), "the bytes should only be computed once");
+        assertSame(bytes, platformEvent.copyGossipedData().getSerializedGossipEvent());
+    }
+
+    @Test
+    @DisplayName("Cached transaction hashes produce the same event hash")
+    void cachedTransactionHashes() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final PlatformEvent platformEvent = new TestingEventBuilder(random)
+                .setAppTransactionCount(3)
+                .setSystemTransactionCount(2)
+                .build();
+        new PbjStreamHasher().hashEvent(platformEvent);
+
+        // the copy reuses the transaction hashes of the original
+        final PlatformEvent copy = platformEvent.copyGossipedData();
+        copy.invalidateHash();
+        new PbjStreamHasher().hashEvent(copy);
+        assertEquals(platformEvent.getHash(), copy.getHash());
+
+        // an event without cached hashes hashes every transaction
+        final PlatformEvent uncached = new PlatformEvent(platformEvent.getGossipEvent());
+        new PbjStreamHasher().hashEvent(uncached);
+        assertEquals(platformEvent.getHash(), uncached.getHash());
+        for (int i = 0; i < platformEvent.getTransactionCount(); i++) {
+            assertEquals(
+                    platformEvent.getTransactions().get(i).getHash(),
+                    uncached.getTransactions().get(i).getHash());
+        }
+    }
 }
@@ -0,0 +1,237 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.test.fixtures.Randotron;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("PCES Group Commit File Writer Tests")
+class PcesGroupCommitFileWriterTest {
+
+    @TempDir
+    Path testDirectory;
+
+    private PcesFile createFile(final Randotron random) throws IOException {
+        final PcesFile file = PcesFile.of(random.nextInstant(), 1, 0, 100, 0, testDirectory);
+        Files.createDirectories(file.getPath().getParent());
+        return file;
+    }
+
+    private static List<PlatformEvent> createEvents(final Randotron random, final int count) {
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new TestingEventBuilder(random)
+                    .setAppTransactionCount(2)
+                    .setBirthRound(1)
+                    .build());
+        }
+        return events;
+    }
+
+    private static List<PlatformEvent> readEvents(final PcesFile file) throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        final IOIterator<PlatformEvent> iterator = file.iterator(Long.MIN_VALUE);
+        iterator.forEachRemaining(events::add);
+        return events;
+    }
+
+    private static long sizeOf(final PcesFile file) {
+        try {
+            return Files.size(file.getPath());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("Max bytes must be positive")
+    void invalidMaxBytes() {
+        final Path path = testDirectory.resolve("file.pces");
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PcesGroupCommitFileWriter(path, Duration.ofSeconds(1), 0, null));
+    }
+
+    @Test
+    @DisplayName("Events are kept in memory until the group is complete")
+    void eventsAreWrittenInGroups() throws IOException {
+        final Randotron random = Randotron.create();
+        final PcesFile file = createFile(random);
+        final List<PlatformEvent> events = createEvents(random, 10);
+
+        final PcesGroupCommitFileWriter writer =
+                new PcesGroupCommitFileWriter(file.getPath(), Duration.ofHours(1), 1024 * 1024, null);
+        writer.writeVersion(PcesFileVersion.currentVersionNumber());
+        for (final PlatformEvent event : events) {
+            writer.writeEvent(event);
+        }
+        // Neither max bytes nor max latency are reached
+        assertEquals(0, Files.size(file.getPath()));
+
+        writer.flush();
+        assertEquals(writer.fileSize(), Files.size(file.getPath()));
+
+        writer.writeEvent(events.getFirst());
+        writer.close();
+        assertEquals(writer.fileSize(), Files.size(file.getPath()));
+
+        final List<PlatformEvent> expected = new ArrayList<>(events);
+        expected.add(events.getFirst());
+        assertEquals(expected, readEvents(file));
+    }
+
+    @Test
+    @DisplayName("Groups are written when max latency expires, even if no more events are written")
+    void maxLatency() throws IOException {
+        final Randotron random = Randotron.create();
+        final PcesFile file = createFile(random);
+        final List<PlatformEvent> events = createEvents(random, 10);
+
+        final PcesGroupCommitFileWriter writer =
+                new PcesGroupCommitFileWriter(file.getPath(), Duration.ofMillis(10), 1024 * 1024, null);
+        writer.writeVersion(PcesFileVersion.currentVersionNumber());
+        for (final PlatformEvent event : events) {
+            writer.writeEvent(event);
+        }
+        assertEventuallyEquals(
+                writer.fileSize(),
+                () -> sizeOf(file),
+                Duration.ofSeconds(1),
+                "Pending events should have been written after the max latency");
+
+        writer.writeEvent(events.getFirst());
+        assertEventuallyEquals(
+                writer.fileSize(),
+                () -> sizeOf(file),
+                Duration.ofSeconds(1),
+                "A new group should have been written after the max latency");
+        writer.close();
+
+        final List<PlatformEvent> expected = new ArrayList<>(events);
+        expected.add(events.getFirst());
+        assertEquals(expected, readEvents(file));
+    }
+
+    @Test
+    @DisplayName("Groups are written when max latency expires after other writers are closed")
+    void maxLatencyAfterOtherWritersAreClosed() throws IOException {
+        final Randotron random = Randotron.create();
+        final List<PlatformEvent> events = createEvents(random, 10);
+
+        final PcesFile firstFile = createFile(random);
+        final PcesGroupCommitFileWriter firstWriter =
+                new PcesGroupCommitFileWriter(firstFile.getPath(), Duration.ofMillis(10), 1024 * 1024, null);
+        final PcesFile secondFile = createFile(random);
+        final PcesGroupCommitFileWriter secondWriter =
+                new PcesGroupCommitFileWriter(secondFile.getPath(), Duration.ofMillis(10), 1024 * 1024, null);
+        firstWriter.writeVersion(PcesFileVersion.currentVersionNumber());
+        firstWriter.close();
+        // Closing a writer twice must not stop the background writes of other writers
+        firstWriter.close();
+
+        secondWriter.writeVersion(PcesFileVersion.currentVersionNumber());
+        secondWriter.writeEvent(events.getFirst());
+        assertEventuallyEquals(
+                secondWriter.fileSize(),
+                () -> sizeOf(secondFile),
+                Duration.ofSeconds(1),
+                "Pending events of an open writer should have been written after the max latency");
+        secondWriter.close();
+
+        final PcesFile thirdFile = createFile(random);
+        final PcesGroupCommitFileWriter thirdWriter =
+                new PcesGroupCommitFileWriter(thirdFile.getPath(), Duration.ofMillis(10), 1024 * 1024, null);
+        thirdWriter.writeVersion(PcesFileVersion.currentVersionNumber());
+        thirdWriter.writeEvent(events.getLast());
+        assertEventuallyEquals(
+                thirdWriter.fileSize(),
+                () -> sizeOf(thirdFile),
+                Duration.ofSeconds(1),
+                "Pending events of a writer opened after all others were closed should have been written");
+        thirdWriter.close();
+
+        assertEquals(List.of(events.getFirst()), readEvents(secondFile));
+        assertEquals(List.of(events.getLast()), readEvents(thirdFile));
+    }
+
+    @Test
+    @DisplayName("Groups are written when max bytes is reached")
+    void maxBytes() throws IOException {
+        final Randotron random = Randotron.create();
+        final PcesFile file = createFile(random);
+        final List<PlatformEvent> events = createEvents(random, 10);
+
+        final PcesGroupCommitFileWriter writer =
+                new PcesGroupCommitFileWriter(file.getPath(), Duration.ofHours(1), 1, null);
+        writer.writeVersion(PcesFileVersion.currentVersionNumber());
+        for (final PlatformEvent event : events) {
+            writer.writeEvent(event);
+            // Every event completes a group
+            assertEquals(writer.fileSize(), Files.size(file.getPath()));
+        }
+        writer.close();
+        assertEquals(events, readEvents(file));
+    }
+
+    @Test
+    @DisplayName("Concurrent syncs")
+    void concurrentSyncs() throws Exception {
+        final Randotron random = Randotron.create();
+        final PcesFile file = createFile(random);
+        final int threadCount = 8;
+        final int eventsPerThread = 50;
+        final List<PlatformEvent> events = createEvents(random, threadCount * eventsPerThread);
+
+        final PcesGroupCommitFileWriter writer =
+                new PcesGroupCommitFileWriter(file.getPath(), Duration.ofMillis(1), 64 * 1024, null);
+        writer.writeVersion(PcesFileVersion.currentVersionNumber());
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                final List<PlatformEvent> threadEvents =
+                        events.subList(t * eventsPerThread, (t + 1) * eventsPerThread);
+                futures.add(executor.submit(() -> {
+                    for (final PlatformEvent event : threadEvents) {
+                        writer.writeEvent(event);
+                        writer.sync();
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // All the data is written by the syncs
+        assertEquals(writer.fileSize(), Files.size(file.getPath()));
+        writer.close();
+
+        final List<PlatformEvent> read = readEvents(file);
+        assertEquals(events.size(), read.size());
+        final Set<PlatformEvent> expected = new HashSet<>(events);
+        assertEquals(expected, new HashSet<>(read));
+    }
+}
@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.common.test.fixtures.io.FileManipulation.truncateFile;
+import static com.swirlds.platform.consensus.ConsensusTestArgs.DEFAULT_PLATFORM_CONTEXT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.hiero.base.utility.test.fixtures.RandomUtils;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("PCES Parallel Multi File Iterator Tests")
+class PcesParallelMultiFileIteratorTest {
+
+    private static final int FILE_COUNT = 5;
+    private static final int EVENTS_PER_FILE = 50;
+
+    @TempDir
+    Path testDirectory;
+
+    /**
+     * Write events to a series of files.
+     *
+     * @param random             the random number generator
+     * @param events             the list to add the written events to
+     * @param lastFileBoundaries the list to add the byte positions after each event of the last file to
+     * @return the files
+     */
+    private List<PcesFile> writeFiles(
+            final Random random, final List<PlatformEvent> events, final List<Integer> lastFileBoundaries)
+            throws IOException {
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                DEFAULT_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PcesFile> files = new ArrayList<>();
+        Instant timestamp = RandomUtils.randomInstant(random);
+        for (int fileIndex = 0; fileIndex < FILE_COUNT; fileIndex++) {
+            final PcesFile file = PcesFile.of(timestamp, fileIndex, 0, Long.MAX_VALUE, 0, testDirectory);
+            timestamp = timestamp.plusSeconds(1);
+            final PcesMutableFile mutableFile = file.getMutableFile(PcesFileWriterType.OUTPUT_STREAM);
+            lastFileBoundaries.clear();
+            for (int i = 0; i < EVENTS_PER_FILE; i++) {
+                final PlatformEvent event = generator.generateEvent().getBaseEvent();
+                mutableFile.writeEvent(event);
+                lastFileBoundaries.add((int) mutableFile.fileSize());
+                events.add(event);
+            }
+            mutableFile.close();
+            files.add(file);
+        }
+        return files;
+    }
+
+    private static List<PlatformEvent> readAll(final PcesParallelMultiFileIterator iterator) throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        while (iterator.hasNext()) {
+            events.add(iterator.next());
+        }
+        return events;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 1000})
+    @DisplayName("Events are returned in order and hashed")
+    void eventsAreReturnedInOrder(final int batchSize) throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(random, events, new ArrayList<>());
+
+        final PcesParallelMultiFileIterator iterator =
+                new PcesParallelMultiFileIterator(Long.MIN_VALUE, files.iterator(), 4, batchSize, 3);
+        final List<PlatformEvent> read = readAll(iterator);
+
+        assertEquals(events, read);
+        for (int i = 0; i < events.size(); i++) {
+            assertNotNull(read.get(i).getHash());
+            assertEquals(events.get(i).getHash(), read.get(i).getHash());
+        }
+        assertEquals(0, iterator.getTruncatedFileCount());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("Events below the lower bound are skipped")
+    void lowerBound() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(random, events, new ArrayList<>());
+        final long lowerBound = events.get(events.size() / 2).getBirthRound();
+
+        final List<PlatformEvent> expected = new ArrayList<>();
+        new PcesMultiFileIterator(lowerBound, files.iterator()).forEachRemaining(expected::add);
+
+        final PcesParallelMultiFileIterator iterator =
+                new PcesParallelMultiFileIterator(lowerBound, files.iterator(), 4, 16, 8);
+        assertEquals(expected, readAll(iterator));
+    }
+
+    @Test
+    @DisplayName("Events after a partial event are skipped")
+    void truncatedFile() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<Integer> lastFileBoundaries = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(random, events, lastFileBoundaries);
+
+        // Cut the last file in the middle of an event
+        final int lastEventIndex = random.nextInt(0, EVENTS_PER_FILE - 1);
+        final int truncationPosition = lastFileBoundaries.get(lastEventIndex) + 1;
+        truncateFile(files.getLast().getPath(), truncationPosition);
+
+        final List<PlatformEvent> expected = new ArrayList<>();
+        final PcesMultiFileIterator sequentialIterator = new PcesMultiFileIterator(Long.MIN_VALUE, files.iterator());
+        sequentialIterator.forEachRemaining(expected::add);
+
+        final PcesParallelMultiFileIterator iterator =
+                new PcesParallelMultiFileIterator(Long.MIN_VALUE, files.iterator(), 4, 10, 4);
+        assertEquals(expected, readAll(iterator));
+        assertEquals(events.size() - EVENTS_PER_FILE + lastEventIndex + 1, expected.size());
+        assertEquals(sequentialIterator.getTruncatedFileCount(), iterator.getTruncatedFileCount());
+        assertEquals(1, iterator.getTruncatedFileCount());
+    }
+
+    @Test
+    @DisplayName("Closing the iterator early")
+    void closeEarly() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<PcesFile> files = writeFiles(random, events, new ArrayList<>());
+
+        final PcesParallelMultiFileIterator iterator =
+                new PcesParallelMultiFileIterator(Long.MIN_VALUE, files.iterator(), 2, 5, 4);
+        assertEquals(events.getFirst(), iterator.next());
+        iterator.close();
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.test.fixtures.Randotron;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.hiero.consensus.model.test.fixtures.hashgraph.EventWindowBuilder;
+import org.hiero.consensus.roster.RosterHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BatchEventSignatureValidatorTests {
+
+    private Randotron random;
+
+    /**
+     * The threads that verified event signatures.
+     */
+    private Set<Thread> verifyingThreads;
+
+    /**
+     * The last event window passed to the validator.
+     */
+    private AtomicReference<EventWindow> eventWindow;
+
+    /**
+     * A validator that accepts events created by nodes with an even ID.
+     */
+    private EventSignatureValidator evenCreatorValidator;
+
+    @BeforeEach
+    void setup() {
+        random = Randotron.create();
+        verifyingThreads = ConcurrentHashMap.newKeySet();
+        eventWindow = new AtomicReference<>();
+        evenCreatorValidator = new EventSignatureValidator() {
+            @Nullable
+            @Override
+            public PlatformEvent validateSignature(@NonNull final PlatformEvent event) {
+                verifyingThreads.add(Thread.currentThread());
+                return event.getCreatorId().id() % 2 == 0 ? event : null;
+            }
+
+            @Override
+            public void setEventWindow(@NonNull final EventWindow window) {
+                eventWindow.set(window);
+            }
+
+            @Override
+            public void updateRosterHistory(@NonNull final RosterHistory rosterHistory) {}
+        };
+    }
+
+    private List<PlatformEvent> generateEvents(final int count) {
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new TestingEventBuilder(random)
+                    .setCreatorId(NodeId.of(random.nextInt(10)))
+                    .build());
+        }
+        return events;
+    }
+
+    private static List<PlatformEvent> validEvents(@NonNull final List<PlatformEvent> events) {
+        return events.stream().filter(e -> e.getCreatorId().id() % 2 == 0).toList();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 16})
+    @DisplayName("Valid events of a full batch are released in order")
+    void fullBatchReleasedInOrder(final int threadCount) {
+        final int batchSize = 50;
+        final BatchEventSignatureValidator validator =
+                new DefaultBatchEventSignatureValidator(evenCreatorValidator, batchSize, threadCount);
+
+        final List<PlatformEvent> events = generateEvents(batchSize * 3);
+        final List<PlatformEvent> released = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            final List<PlatformEvent> output = validator.addEvent(events.get(i));
+            if ((i + 1) % batchSize != 0) {
+                assertTrue(output.isEmpty(), "events should be held until the batch is full");
+            }
+            released.addAll(output);
+        }
+
+        assertEquals(validEvents(events), released);
+        assertTrue(validator.checkBatch(Instant.now()).isEmpty());
+        if (threadCount > 1) {
+            assertTrue(verifyingThreads.size() > 1, "a full batch should be verified by multiple threads");
+        }
+    }
+
+    @Test
+    @DisplayName("A partial batch is released by a heartbeat")
+    void partialBatchReleasedByHeartbeat() {
+        final BatchEventSignatureValidator validator =
+                new DefaultBatchEventSignatureValidator(evenCreatorValidator, 100, 4);
+        assertTrue(validator.checkBatch(Instant.now()).isEmpty());
+
+        final List<PlatformEvent> events = generateEvents(7);
+        for (final PlatformEvent event : events) {
+            assertTrue(validator.addEvent(event).isEmpty());
+        }
+
+        assertEquals(validEvents(events), validator.checkBatch(Instant.now()));
+        assertTrue(validator.checkBatch(Instant.now()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("The event window is passed to the event validator")
+    void eventWindowIsPassedOn() {
+        final BatchEventSignatureValidator validator =
+                new DefaultBatchEventSignatureValidator(evenCreatorValidator, 10, 2);
+        final EventWindow window = EventWindowBuilder.builder().build();
+        validator.setEventWindow(window);
+        assertSame(window, eventWindow.get());
+    }
+
+    @Test
+    @DisplayName("Batch size and thread count must be positive")
+    void invalidArguments() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DefaultBatchEventSignatureValidator(evenCreatorValidator, 0, 1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DefaultBatchEventSignatureValidator(evenCreatorValidator, 1, 0));
+    }
+}
@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.gossip.sync;
+
+import static org.hiero.base.utility.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("LZ4 Block Stream Tests")
+class Lz4BlockStreamTests {
+
+    private static final int BLOCK_SIZE = 8192;
+
+    /**
+     * Write the data in chunks of random size, flushing after some of them, and read it back.
+     */
+    private static byte[] roundTrip(final Random random, final byte[] data) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final Lz4BlockOutputStream out = new Lz4BlockOutputStream(compressed, BLOCK_SIZE)) {
+            int position = 0;
+            while (position < data.length) {
+                final int chunk = Math.min(data.length - position, random.nextInt(1, 3 * BLOCK_SIZE));
+                if (chunk == 1) {
+                    out.write(data[position]);
+                } else {
+                    out.write(data, position, chunk);
+                }
+                position += chunk;
+                if (random.nextBoolean()) {
+                    out.flush();
+                }
+            }
+        }
+
+        final Lz4BlockInputStream in =
+                new Lz4BlockInputStream(new ByteArrayInputStream(compressed.toByteArray()), BLOCK_SIZE);
+        final byte[] read = in.readAllBytes();
+        assertEquals(-1, in.read());
+        return read;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 12, 13, 100, BLOCK_SIZE, 10 * BLOCK_SIZE + 7})
+    @DisplayName("Random data round trip")
+    void randomData(final int length) throws IOException {
+        final Random random = getRandomPrintSeed();
+        final byte[] data = new byte[length];
+        random.nextBytes(data);
+        assertArrayEquals(data, roundTrip(random, data));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {13, 100, BLOCK_SIZE, 10 * BLOCK_SIZE + 7})
+    @DisplayName("Compressible data round trip")
+    void compressibleData(final int length) throws IOException {
+        final Random random = getRandomPrintSeed();
+        final byte[] data = new byte[length];
+        // a small alphabet with runs, so there are both short and long matches, including overlapping ones
+        for (int i = 0; i < length; ) {
+            final byte value = (byte) random.nextInt(4);
+            final int run = random.nextInt(1, 300);
+            for (int j = 0; j < run && i < length; j++) {
+                data[i++] = value;
+            }
+        }
+        assertArrayEquals(data, roundTrip(random, data));
+    }
+
+    @Test
+    @DisplayName("Compressible data is smaller")
+    void compressionRatio() throws IOException {
+        final byte[] data = new byte[BLOCK_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 64);
+        }
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final Lz4BlockOutputStream out = new Lz4BlockOutputStream(compressed, BLOCK_SIZE)) {
+            out.write(data);
+        }
+        assertTrue(compressed.size() < data.length / 10, "compressed size " + compressed.size());
+    }
+
+    @Test
+    @DisplayName("Incompressible data only costs the header")
+    void incompressibleData() throws IOException {
+        final Random random = getRandomPrintSeed();
+        final byte[] data = new byte[BLOCK_SIZE];
+        random.nextBytes(data);
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final Lz4BlockOutputStream out = new Lz4BlockOutputStream(compressed, BLOCK_SIZE)) {
+            out.write(data);
+        }
+        assertEquals(BLOCK_SIZE + Lz4BlockOutputStream.HEADER_LENGTH, compressed.size());
+    }
+
+    @Test
+    @DisplayName("Corrupted data is rejected")
+    void corruptedData() throws IOException {
+        final byte[] data = new byte[BLOCK_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 64);
+        }
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final Lz4BlockOutputStream out = new Lz4BlockOutputStream(compressed, BLOCK_SIZE)) {
+            out.write(data);
+        }
+        final byte[] bytes = compressed.toByteArray();
+
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(
+                EOFException.class,
+                () -> new Lz4BlockInputStream(new ByteArrayInputStream(truncated), BLOCK_SIZE).readAllBytes());
+
+        // a reader with a smaller block size must not accept the block
+        assertThrows(
+                IOException.class,
+                () -> new Lz4BlockInputStream(new ByteArrayInputStream(bytes), BLOCK_SIZE / 2).readAllBytes());
+
+        // claim the block decompresses to more bytes than it does
+        final byte[] wrongLength = bytes.clone();
+        wrongLength[Integer.BYTES + 2] = (byte) (wrongLength[Integer.BYTES + 2] - 1);
+        assertThrows(
+                IOException.class,
+                () -> new Lz4BlockInputStream(new ByteArrayInputStream(wrongLength), BLOCK_SIZE).readAllBytes());
+    }
+}
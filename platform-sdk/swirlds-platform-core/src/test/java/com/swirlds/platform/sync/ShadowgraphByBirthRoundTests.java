@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -32,6 +33,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -696,4 +699,65 @@ class ShadowgraphByBirthRoundTests {
                 shadowGraph.getTips().size(),
                 "Shadow graph tips should be included in expiry.");
     }
+
+    /**
+     * Tests that sync threads can read the shadowgraph while events are added and expired.
+     */
+    @Test
+    void testConcurrentReadsDuringInsertionAndExpiry() throws Exception {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        initShadowGraph(random, 0, 4);
+
+        final int readerCount = 4;
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<Throwable> readerError = new AtomicReference<>();
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < readerCount; i++) {
+            final Thread reader = new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        try (final ReservedEventWindow reservation = shadowGraph.reserve()) {
+                            final long reservedThreshold =
+                                    reservation.getEventWindow().expiredThreshold();
+                            for (final ShadowEvent tip : shadowGraph.getTips()) {
+                                assertNotNull(tip, "Tips should never contain null");
+                            }
+                            final Set<ShadowEvent> ancestors =
+                                    shadowGraph.findAncestors(shadowGraph.getTips(), e -> true);
+                            for (final ShadowEvent ancestor : ancestors) {
+                                if (ancestor.getEvent().getBirthRound() >= reservedThreshold) {
+                                    assertNotNull(
+                                            shadowGraph.shadow(ancestor.getEvent().getDescriptor()),
+                                            "Reserved events must not be expired");
+                                }
+                            }
+                        }
+                    }
+                } catch (final Throwable t) {
+                    readerError.compareAndSet(null, t);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        try {
+            for (int i = 0; i < 2000; i++) {
+                final EventImpl event = emitter.emitEvent();
+                shadowGraph.addEvent(event.getBaseEvent());
+                maxBirthRound = Math.max(maxBirthRound, event.getBirthRound());
+                if (i % 100 == 0 && maxBirthRound > ROUND_FIRST + 2) {
+                    shadowGraph.updateEventWindow(EventWindowBuilder.builder()
+                            .setExpiredThreshold(maxBirthRound - 2)
+                            .build());
+                }
+            }
+        } finally {
+            done.set(true);
+            for (final Thread reader : readers) {
+                reader.join();
+            }
+        }
+        assertNull(readerError.get(), "Readers should not fail while events are added and expired");
+    }
 }
@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache; // NOSONAR: Needed to benchmark internal classes
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link ConcurrentLongObjectMap} with {@link ConcurrentHashMap}, which was used for
+ * {@link VirtualNodeCache} path indices before. Keys are paths, values are objects like mutations.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 10, time = 15)
+public class ConcurrentLongObjectMapBench {
+
+    @Param({"1000000"})
+    public int size;
+
+    private ConcurrentLongObjectMap<Object> longObjectMap;
+    private Map<Long, Object> concurrentHashMap;
+
+    private final Object value = new Object();
+
+    @Setup(Level.Iteration)
+    public void setupPerIteration() {
+        longObjectMap = new ConcurrentLongObjectMap<>();
+        concurrentHashMap = new ConcurrentHashMap<>();
+        for (long path = 0; path < size; path++) {
+            longObjectMap.put(path, value);
+            concurrentHashMap.put(path, value);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void longObjectMapGet(final Blackhole blackhole) {
+        blackhole.consume(longObjectMap.get(ThreadLocalRandom.current().nextInt(size)));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void concurrentHashMapGet(final Blackhole blackhole) {
+        blackhole.consume(concurrentHashMap.get((long) ThreadLocalRandom.current().nextInt(size)));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void longObjectMapCompute(final Blackhole blackhole) {
+        // Half of the computes add new keys, the other half update existing keys
+        final long path = ThreadLocalRandom.current().nextInt(size * 2);
+        blackhole.consume(longObjectMap.compute(path, (p, v) -> value));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void concurrentHashMapCompute(final Blackhole blackhole) {
+        final long path = ThreadLocalRandom.current().nextInt(size * 2);
+        blackhole.consume(concurrentHashMap.compute(path, (p, v) -> value));
+    }
+
+    @Benchmark
+    public void longObjectMapFill(final Blackhole blackhole) {
+        final ConcurrentLongObjectMap<Object> map = new ConcurrentLongObjectMap<>();
+        for (long path = 0; path < size; path++) {
+            map.put(path, value);
+        }
+        blackhole.consume(map);
+    }
+
+    @Benchmark
+    public void concurrentHashMapFill(final Blackhole blackhole) {
+        final Map<Long, Object> map = new ConcurrentHashMap<>();
+        for (long path = 0; path < size; path++) {
+            map.put(path, value);
+        }
+        blackhole.consume(map);
+    }
+
+    @Benchmark
+    public void longObjectMapIterate(final Blackhole blackhole) {
+        longObjectMap.forEach((path, v) -> blackhole.consume(v));
+    }
+
+    @Benchmark
+    public void concurrentHashMapIterate(final Blackhole blackhole) {
+        concurrentHashMap.forEach((path, v) -> blackhole.consume(v));
+    }
+
+    public ConcurrentLongObjectMapBench() {}
+}
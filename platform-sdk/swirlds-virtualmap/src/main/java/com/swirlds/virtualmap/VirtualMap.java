@@ -831,6 +831,22 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
         logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Merged in {} ms", end - start);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int purgeReleasedMutations(final int maxMutations) {
+        return cache.purgeReleasedMutations(maxMutations);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPendingPurgeSize() {
+        return cache.getPendingPurgeSize();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -882,8 +898,11 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
         if (shouldBeFlushed.get()) {
             return true;
         }
-        // Otherwise check its size and compare against flush threshold
-        final long threshold = flushCandidateThreshold.get();
+        // Otherwise check its size and compare against flush threshold. If adaptive flushes are
+        // enabled, the pipeline may pick a lower threshold
+        final long threshold = (pipeline != null)
+                ? pipeline.getFlushController().getFlushThreshold(flushCandidateThreshold.get())
+                : flushCandidateThreshold.get();
         return (threshold > 0) && (estimatedSize() >= threshold);
     }
 
@@ -938,7 +957,11 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
         }
 
         final long start = System.currentTimeMillis();
-        flush(cache, metadata, dataSource);
+        final long flushedBytes = cache.getEstimatedSize();
+        final long saveNanos = flush(cache, metadata, dataSource);
+        if (pipeline != null) {
+            pipeline.getFlushController().recordFlush(flushedBytes, saveNanos);
+        }
         cache.release();
         final long end = System.currentTimeMillis();
         flushed.set(true);
@@ -952,7 +975,13 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
                 end - start);
     }
 
-    private void flush(VirtualNodeCache cacheToFlush, VirtualMapMetadata stateToUse, VirtualDataSource ds) {
+    /**
+     * Saves the dirty and deleted records of a cache to a data source.
+     *
+     * @return the time spent in {@link VirtualDataSource#saveRecords}, nanoseconds
+     */
+    private long flush(VirtualNodeCache cacheToFlush, VirtualMapMetadata stateToUse, VirtualDataSource ds) {
+        final long saveStartNanos;
         try {
             // Get the leaves that were changed and sort them by path so that lower paths come first
             final Stream<VirtualLeafBytes> dirtyLeaves =
@@ -962,6 +991,7 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
             // Save the dirty hashes
             final Stream<VirtualHashRecord> dirtyHashes =
                     cacheToFlush.dirtyHashesForFlush(stateToUse.getLastLeafPath());
+            saveStartNanos = System.nanoTime();
             ds.saveRecords(
                     stateToUse.getFirstLeafPath(),
                     stateToUse.getLastLeafPath(),
@@ -973,10 +1003,12 @@ public final class VirtualMap extends PartialBinaryMerkleInternal
                     TESTING_EXCEPTIONS_ACCEPTABLE_RECONNECT.getMarker(),
                     "flush interrupted - this is probably not an error " + "if this happens shortly after a reconnect");
             Thread.currentThread().interrupt();
+            return 0;
         } catch (final IOException ex) {
             logger.error(EXCEPTION.getMarker(), "Error while flushing VirtualMap", ex);
             throw new UncheckedIOException(ex);
         }
+        return System.nanoTime() - saveStartNanos;
     }
 
     @Override
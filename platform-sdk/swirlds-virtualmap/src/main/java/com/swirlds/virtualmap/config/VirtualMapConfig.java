@@ -74,6 +74,26 @@ import java.time.Duration;
  * 		The maximum amount of time that any virtual map fast copy will be delayed due to a flush backlog.
  * @param validateMigrationEnabled
  *      Feature flag to enable validation during migration to the single Virtual Map (see {@code MerkleStateRoot}).
+ * @param cachePurgeChunkSize
+ *      The max number of released virtual node cache mutations to purge from cache indices in a single virtual
+ *      pipeline step. If positive, released caches are purged incrementally by the pipeline thread in chunks of
+ *      this size, interleaved with hashing, flushing, and merging. If zero, every released cache is purged at
+ *      once by cache cleaner threads.
+ * @param adaptiveFlushEnabled
+ *      Whether size based flush thresholds are chosen adaptively, based on measured flush throughput. If enabled,
+ *      {@link #copyFlushCandidateThreshold} is used as the max threshold. Has no effect, if size based flushes
+ *      aren't used.
+ * @param adaptiveFlushTargetDuration
+ *      Adaptive flushes only. Target time to flush a single copy to disk. Flush thresholds are chosen so that
+ *      a flush is expected to complete within this time at the measured flush throughput.
+ * @param adaptiveFlushMinThreshold
+ *      Adaptive flushes only. Min flush threshold, in bytes. Prevents many small flushes, when flush throughput
+ *      is low. Flushes smaller than this threshold aren't used to measure flush throughput.
+ * @param adaptiveFlushMemoryTarget
+ *      Adaptive flushes only. When estimated size of all unflushed copies of the same virtual root exceeds this
+ *      target, copies are flushed as soon as they reach {@link #adaptiveFlushMinThreshold}. Should be less
+ *      than {@link #familyThrottleThreshold}, so memory is released before backpressure is applied. If set to
+ *      zero, this target is not used.
  */
 @ConfigData("virtualMap")
 public record VirtualMapConfig(
@@ -97,7 +117,12 @@ public record VirtualMapConfig(
         @ConfigProperty(defaultValue = "10000") int preferredFlushQueueSize,
         @ConfigProperty(defaultValue = "200ms") Duration flushThrottleStepSize,
         @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod,
-        @ConfigProperty(defaultValue = "false") boolean validateMigrationEnabled) {
+        @ConfigProperty(defaultValue = "false") boolean validateMigrationEnabled,
+        @Min(0) @ConfigProperty(defaultValue = "0") int cachePurgeChunkSize,
+        @ConfigProperty(defaultValue = "false") boolean adaptiveFlushEnabled,
+        @ConfigProperty(defaultValue = "2s") Duration adaptiveFlushTargetDuration,
+        @Min(0) @ConfigProperty(defaultValue = "100000000") long adaptiveFlushMinThreshold,
+        @Min(0) @ConfigProperty(defaultValue = "2500000000") long adaptiveFlushMemoryTarget) {
 
     private static final double UNIT_FRACTION_PERCENT = 100.0;
 
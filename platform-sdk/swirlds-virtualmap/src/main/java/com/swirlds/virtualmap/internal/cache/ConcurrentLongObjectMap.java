@@ -0,0 +1,354 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A concurrent hash map with primitive long keys, optimized for use by the {@link VirtualNodeCache}
+ * path indices.
+ * <p>
+ * Compared to a {@link java.util.concurrent.ConcurrentHashMap} with {@link Long} keys, this map
+ * doesn't box keys and doesn't allocate a node object per entry. Keys and values are stored in
+ * two parallel arrays using open addressing with linear probing, which results in much less
+ * garbage per round and fewer pointer chases on lookups.
+ * <p>
+ * The map is split into a fixed number of segments. All updates to a segment are done under the
+ * segment lock, so updates to different segments don't contend. Lookups are lock-free. Within a
+ * segment table, a key slot is written at most once. When a key is removed, its value is set to
+ * null, but the key remains in the table as a tombstone, until the table is rehashed. This is what
+ * makes lock-free lookups safe: a key found in a slot always corresponds to the value in the slot.
+ * When a table is full, a new table is created, all live entries are copied to it, and the new
+ * table is published to readers. Updates after that only go to the new table, so a lookup that
+ * finds the table replaced after it read a value repeats the lookup in the new table.
+ * <p>
+ * Like {@link java.util.concurrent.ConcurrentHashMap}, lookups reflect the results of the most
+ * recently completed updates holding upon their onset, and iteration is weakly consistent. Null
+ * values aren't supported.
+ * {@link Long#MIN_VALUE} is reserved and cannot be used as a key.
+ *
+ * @param <V>
+ * 		the value type
+ */
+final class ConcurrentLongObjectMap<V> {
+
+    /** A key used to mark empty slots */
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    /** The default number of segments, must be a power of two */
+    private static final int DEFAULT_SEGMENT_COUNT = 64;
+
+    /** Initial table size in every segment, must be a power of two */
+    private static final int INITIAL_TABLE_SIZE = 16;
+
+    /** Max ratio of used slots, including tombstones, to table size */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int segmentShift;
+
+    private final Segment<V>[] segments;
+
+    /**
+     * An operation on map entries, used to iterate over all map entries.
+     *
+     * @param <V>
+     * 		the value type
+     * @param <T>
+     * 		the throwable type
+     */
+    @FunctionalInterface
+    interface LongObjectAction<V, T extends Throwable> {
+        void handle(long key, @NonNull V value) throws T;
+    }
+
+    /**
+     * A function to compute a new value for a key, given the current value.
+     *
+     * @param <V>
+     * 		the value type
+     */
+    @FunctionalInterface
+    interface LongObjectFunction<V> {
+        @Nullable
+        V apply(long key, @Nullable V value);
+    }
+
+    /**
+     * Create a new map with the default number of segments.
+     */
+    ConcurrentLongObjectMap() {
+        this(DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Create a new map with the given number of segments.
+     *
+     * @param segmentCount
+     * 		the number of segments, must be a positive power of two
+     */
+    @SuppressWarnings("unchecked")
+    ConcurrentLongObjectMap(final int segmentCount) {
+        if ((segmentCount <= 0) || (Integer.bitCount(segmentCount) != 1)) {
+            throw new IllegalArgumentException("Segment count must be a positive power of two: " + segmentCount);
+        }
+        // With a single segment, the shift is 64, which is the same as a shift by zero in Java,
+        // so segment index is computed using a mask below
+        segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * Get the value for the given key.
+     *
+     * @param key
+     * 		the key
+     * @return the value, or null if there is no value for the key
+     */
+    @Nullable
+    V get(final long key) {
+        checkKey(key);
+        final long hash = hash(key);
+        return segmentFor(hash).get(key, hash);
+    }
+
+    /**
+     * Put a value for the given key.
+     *
+     * @param key
+     * 		the key
+     * @param value
+     * 		the value, cannot be null
+     */
+    void put(final long key, @NonNull final V value) {
+        Objects.requireNonNull(value);
+        compute(key, (k, v) -> value);
+    }
+
+    /**
+     * Atomically compute a new value for the given key. The function is called exactly once, with
+     * the current value or null, if there is no current value. If the function returns null, the
+     * key is removed from the map. The function is called under a segment lock, so it should be
+     * short, and it must not update this map.
+     *
+     * @param key
+     * 		the key
+     * @param function
+     * 		the function to compute the new value
+     * @return the new value, or null if the key was removed
+     */
+    @Nullable
+    V compute(final long key, @NonNull final LongObjectFunction<V> function) {
+        checkKey(key);
+        final long hash = hash(key);
+        return segmentFor(hash).compute(key, hash, function);
+    }
+
+    /**
+     * Get the number of entries in the map. If the map is updated concurrently, the result is
+     * an estimate.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        long size = 0;
+        for (final Segment<V> segment : segments) {
+            size += segment.size;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Check whether the map is empty.
+     *
+     * @return true if the map has no entries
+     */
+    boolean isEmpty() {
+        for (final Segment<V> segment : segments) {
+            if (segment.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Perform the given action for every entry in the map. The iteration is weakly consistent: if
+     * the map is updated concurrently, the updates may or may not be visible to the action.
+     *
+     * @param action
+     * 		the action to perform
+     * @param <T>
+     * 		the throwable type the action may throw
+     * @throws T
+     * 		if the action throws
+     */
+    <T extends Throwable> void forEach(@NonNull final LongObjectAction<V, T> action) throws T {
+        Objects.requireNonNull(action);
+        for (final Segment<V> segment : segments) {
+            final Table<V> table = segment.table;
+            final int length = table.values.length();
+            for (int i = 0; i < length; i++) {
+                final V value = table.values.get(i);
+                if (value != null) {
+                    action.handle(table.keys.get(i), value);
+                }
+            }
+        }
+    }
+
+    private Segment<V> segmentFor(final long hash) {
+        return segments[(int) (hash >>> segmentShift) & (segments.length - 1)];
+    }
+
+    private static void checkKey(final long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Key " + key + " is not supported");
+        }
+    }
+
+    /**
+     * A 64-bit mixer, the finalizer of MurmurHash3. High bits are used to find segments, and
+     * low bits are used to find slots in segment tables.
+     */
+    private static long hash(final long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Segment table. Key slots are written once, value slots may be updated many times. Tables
+     * are never updated after they are replaced with larger tables.
+     */
+    private static final class Table<V> {
+        final AtomicLongArray keys;
+        final AtomicReferenceArray<V> values;
+        final int mask;
+        final int maxUsed;
+        /** The number of slots with keys, including tombstones. Accessed under segment lock */
+        int used;
+
+        Table(final int length) {
+            keys = new AtomicLongArray(length);
+            for (int i = 0; i < length; i++) {
+                keys.setPlain(i, EMPTY_KEY);
+            }
+            values = new AtomicReferenceArray<>(length);
+            mask = length - 1;
+            maxUsed = (int) (length * LOAD_FACTOR);
+        }
+    }
+
+    private static final class Segment<V> {
+
+        /** Segment table. Replaced under lock, read by lock-free lookups */
+        volatile Table<V> table = new Table<>(INITIAL_TABLE_SIZE);
+
+        /** The number of live entries in this segment. Updated under lock */
+        volatile int size = 0;
+
+        V get(final long key, final long hash) {
+            Table<V> t = table;
+            for (; ; ) {
+                final V value = get(t, key, hash);
+                final Table<V> current = table;
+                if (current == t) {
+                    return value;
+                }
+                // The table was rehashed during the lookup, the value may have been updated in the new table
+                t = current;
+            }
+        }
+
+        private static <V> V get(final Table<V> t, final long key, final long hash) {
+            int i = (int) hash & t.mask;
+            for (; ; ) {
+                final long k = t.keys.get(i);
+                if (k == key) {
+                    return t.values.get(i);
+                }
+                if (k == EMPTY_KEY) {
+                    return null;
+                }
+                i = (i + 1) & t.mask;
+            }
+        }
+
+        synchronized V compute(final long key, final long hash, final LongObjectFunction<V> function) {
+            Table<V> t = table;
+            int i = (int) hash & t.mask;
+            long k;
+            while (((k = t.keys.get(i)) != key) && (k != EMPTY_KEY)) {
+                i = (i + 1) & t.mask;
+            }
+            final V oldValue = (k == key) ? t.values.get(i) : null;
+            final V newValue = function.apply(key, oldValue);
+            if (newValue == oldValue) {
+                return newValue;
+            }
+            if (newValue == null) {
+                // Leave a tombstone
+                t.values.set(i, null);
+                size = size - 1;
+                return null;
+            }
+            if (k == key) {
+                t.values.set(i, newValue);
+                if (oldValue == null) {
+                    size = size + 1;
+                }
+                return newValue;
+            }
+            if (t.used + 1 > t.maxUsed) {
+                t = rehash(t);
+                i = (int) hash & t.mask;
+                while (t.keys.get(i) != EMPTY_KEY) {
+                    i = (i + 1) & t.mask;
+                }
+            }
+            // The value must be set before the key, so a lookup that finds the key finds the value, too
+            t.values.set(i, newValue);
+            t.keys.set(i, key);
+            t.used++;
+            size = size + 1;
+            return newValue;
+        }
+
+        private Table<V> rehash(final Table<V> oldTable) {
+            // Tombstones are dropped, the new table is at least twice as large as the number of live entries
+            int length = INITIAL_TABLE_SIZE;
+            while (length * LOAD_FACTOR < (size + 1) * 2L) {
+                length <<= 1;
+            }
+            final Table<V> newTable = new Table<>(length);
+            final int oldLength = oldTable.values.length();
+            for (int j = 0; j < oldLength; j++) {
+                final V value = oldTable.values.get(j);
+                if (value == null) {
+                    continue;
+                }
+                final long key = oldTable.keys.get(j);
+                int i = (int) hash(key) & newTable.mask;
+                while (newTable.keys.getPlain(i) != EMPTY_KEY) {
+                    i = (i + 1) & newTable.mask;
+                }
+                newTable.values.setPlain(i, value);
+                newTable.keys.setPlain(i, key);
+                newTable.used++;
+            }
+            // Volatile write, publishes the new table with all its entries
+            table = newTable;
+            return newTable;
+        }
+    }
+}
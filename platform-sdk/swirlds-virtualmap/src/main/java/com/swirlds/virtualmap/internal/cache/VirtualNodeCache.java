@@ -20,8 +20,11 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -198,17 +201,18 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
 
     /**
      * A shared index of paths to leaves, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
+     * Paths are primitive longs, so the index is a {@link ConcurrentLongObjectMap} to avoid boxing.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, Bytes>> pathToDirtyLeafIndex;
+    private final ConcurrentLongObjectMap<Mutation<Long, Bytes>> pathToDirtyLeafIndex;
 
     /**
-     * A shared index of paths to internals, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
+     * A shared index of paths to internals, via {@link Mutation}s. Works the same as {@link #pathToDirtyLeafIndex}.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, Hash>> pathToDirtyHashIndex;
+    private final ConcurrentLongObjectMap<Mutation<Long, Hash>> pathToDirtyHashIndex;
 
     /**
      * Whether this instance is released. A released cache is often the last in the
@@ -316,6 +320,13 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      */
     private final AtomicLong lastReleased;
 
+    /**
+     * Mutations of released copies, which are yet to be purged from the indices. Shared by all copies
+     * in a family. Only used when {@link VirtualMapConfig#cachePurgeChunkSize()} is positive, otherwise
+     * released copies are purged by the cleaner pool right away.
+     */
+    private final PendingPurges pendingPurges;
+
     /** Platform configuration for VirtualMap */
     @NonNull
     private final VirtualMapConfig virtualMapConfig;
@@ -339,10 +350,11 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      */
     public VirtualNodeCache(final @NonNull VirtualMapConfig virtualMapConfig, long fastCopyVersion) {
         this.keyToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyHashIndex = new ConcurrentHashMap<>();
+        this.pathToDirtyLeafIndex = new ConcurrentLongObjectMap<>();
+        this.pathToDirtyHashIndex = new ConcurrentLongObjectMap<>();
         this.releaseLock = new ReentrantLock();
         this.lastReleased = new AtomicLong(-1L);
+        this.pendingPurges = new PendingPurges();
         this.fastCopyVersion.set(fastCopyVersion);
         this.virtualMapConfig = requireNonNull(virtualMapConfig);
     }
@@ -368,6 +380,7 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
         this.pathToDirtyHashIndex = source.pathToDirtyHashIndex;
         this.releaseLock = source.releaseLock;
         this.lastReleased = source.lastReleased;
+        this.pendingPurges = source.pendingPurges;
         this.virtualMapConfig = source.virtualMapConfig;
 
         // The source now has immutable leaves and mutable internals
@@ -453,11 +466,19 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             releaseLock.unlock();
         }
 
-        // Fire off the cleaning threads to go and clear out data in the indexes that doesn't need
-        // to be there anymore.
-        purge(dirtyLeaves, keyToDirtyLeafIndex, virtualMapConfig);
-        purge(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
-        purge(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
+        if (virtualMapConfig.cachePurgeChunkSize() > 0) {
+            // Defer purging. Released mutations are purged in bounded chunks by whoever drives
+            // purgeReleasedMutations(), typically the virtual pipeline
+            pendingPurges.add(dirtyLeaves, keyToDirtyLeafIndex);
+            pendingPurges.add(dirtyLeafPaths, pathToDirtyLeafIndex);
+            pendingPurges.add(dirtyHashes, pathToDirtyHashIndex);
+        } else {
+            // Fire off the cleaning threads to go and clear out data in the indexes that doesn't need
+            // to be there anymore.
+            purge(dirtyLeaves, keyToDirtyLeafIndex, virtualMapConfig);
+            purge(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
+            purge(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
+        }
 
         estimatedLeavesSizeInBytes.set(0);
         estimatedLeafPathsSizeInBytes.set(0);
@@ -1115,7 +1136,7 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             @NonNull final AtomicLong estimatedSize,
             @NonNull final ToLongFunction<V> getValueSize,
             final long path,
-            final Map<Long, Mutation<Long, V>> index,
+            final ConcurrentLongObjectMap<Mutation<Long, V>> index,
             final ConcurrentArray<Mutation<Long, V>> dirtyPaths) {
         index.compute(path, (key, mutation) -> {
             // If there is no mutation or the mutation isn't for this version, then we need to create a new mutation.
@@ -1252,19 +1273,48 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             @NonNull final VirtualMapConfig virtualMapConfig) {
         array.parallelTraverse(
                 getCleaningPool(virtualMapConfig),
-                element -> index.compute(element.key, (key, mutation) -> {
-                    if (mutation == null || element.equals(mutation)) {
-                        // Already removed for a more recent mutation
-                        return null;
-                    }
-                    for (Mutation<K, V> m = mutation; m.next != null; m = m.next) {
-                        if (element.equals(m.next)) {
-                            m.next = null;
-                            break;
-                        }
-                    }
-                    return mutation;
-                }));
+                element -> index.compute(element.key, (key, mutation) -> purgeMutation(element, mutation)));
+    }
+
+    /**
+     * Same as {@link #purge(ConcurrentArray, Map, VirtualMapConfig)}, but for path indices.
+     *
+     * @param index
+     * 		The path index to look through for entries to purge
+     * @param <V>
+     * 		The value type referenced by the mutation list
+     */
+    private static <V> void purge(
+            final ConcurrentArray<Mutation<Long, V>> array,
+            final ConcurrentLongObjectMap<Mutation<Long, V>> index,
+            @NonNull final VirtualMapConfig virtualMapConfig) {
+        array.parallelTraverse(
+                getCleaningPool(virtualMapConfig),
+                element -> index.compute(element.key, (path, mutation) -> purgeMutation(element, mutation)));
+    }
+
+    /**
+     * Removes the given mutation, and all older mutations, from a mutation list.
+     *
+     * @param element
+     * 		The mutation to remove
+     * @param mutation
+     * 		The mutation list, can be null
+     * @return the new mutation list, or null if the list is empty
+     */
+    private static <K, V> Mutation<K, V> purgeMutation(
+            final Mutation<K, V> element, @Nullable final Mutation<K, V> mutation) {
+        if (mutation == null || element.equals(mutation)) {
+            // Already removed for a more recent mutation
+            return null;
+        }
+        for (Mutation<K, V> m = mutation; m.next != null; m = m.next) {
+            if (element.equals(m.next)) {
+                m.next = null;
+                break;
+            }
+        }
+        return mutation;
     }
 
     /**
@@ -1322,23 +1372,53 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             final Map<K, Mutation<K, L>> src,
             final Map<K, Mutation<K, L>> dst,
             final ConcurrentArray<Mutation<K, L>> array) {
-        final long accepted = fastCopyVersion.get();
-        final long rejected = lastReleased.get();
         for (final Map.Entry<K, Mutation<K, L>> entry : src.entrySet()) {
-            Mutation<K, L> mutation = entry.getValue();
-
-            while (mutation != null && mutation.version > accepted) {
-                mutation = mutation.next;
+            final Mutation<K, L> mutation = snapshotMutation(entry.getValue());
+            if (mutation != null) {
+                dst.put(entry.getKey(), mutation);
+                array.add(mutation);
+                // Estimated size is not updated, which is hopefully fine
             }
+        }
+    }
 
-            if (mutation == null || mutation.version <= rejected) {
-                continue;
+    /**
+     * Same as {@link #setMapSnapshotAndArray(Map, Map, ConcurrentArray)}, but for path indices.
+     *
+     * @param src Path index that contains the original mutations
+     * @param dst Path index that acts as the destination of mutations
+     * @param <L> Value type
+     */
+    private <L> void setMapSnapshotAndArray(
+            final ConcurrentLongObjectMap<Mutation<Long, L>> src,
+            final ConcurrentLongObjectMap<Mutation<Long, L>> dst,
+            final ConcurrentArray<Mutation<Long, L>> array) {
+        src.forEach((path, mutations) -> {
+            final Mutation<Long, L> mutation = snapshotMutation(mutations);
+            if (mutation != null) {
+                dst.put(path, mutation);
+                array.add(mutation);
             }
+        });
+    }
 
-            dst.put(entry.getKey(), mutation);
-            array.add(mutation);
-            // Estimated size is not updated, which is hopefully fine
+    /**
+     * Given a mutation list, finds the latest mutation with version less than or equal to the
+     * {@code fastCopyVersion}, unless it's already released.
+     *
+     * @param mutation the mutation list
+     * @return the mutation to snapshot, or null if there is no such mutation
+     */
+    private <K, L> Mutation<K, L> snapshotMutation(Mutation<K, L> mutation) {
+        final long accepted = fastCopyVersion.get();
+        final long rejected = lastReleased.get();
+        while (mutation != null && mutation.version > accepted) {
+            mutation = mutation.next;
+        }
+        if (mutation == null || mutation.version <= rejected) {
+            return null;
         }
+        return mutation;
     }
 
     /**
@@ -1352,13 +1432,12 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * 		If something fails.
      */
     private void serializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, Hash>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, Hash>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, Hash> mutation = entry.getValue();
-            assert mutation != null : "Mutations cannot be null in a snapshot";
+        map.forEach((path, mutation) -> {
+            out.writeLong(path);
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyInternalIndex with a version ahead";
             out.writeLong(mutation.version);
@@ -1366,7 +1445,7 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             if (!mutation.isDeleted()) {
                 out.writeSerializable(mutation.value, true);
             }
-        }
+        });
     }
 
     /**
@@ -1380,7 +1459,9 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * 		In case of trouble.
      */
     private void deserializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataInputStream in, final int version)
+            final ConcurrentLongObjectMap<Mutation<Long, Hash>> map,
+            final SerializableDataInputStream in,
+            final int version)
             throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
@@ -1413,14 +1494,13 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * 		If something fails.
      */
     private void serializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, Bytes>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, Bytes>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, Bytes>> entry : map.entrySet()) {
+        map.forEach((path, mutation) -> {
             // Write path
-            out.writeLong(entry.getKey());
-            final Mutation<Long, Bytes> mutation = entry.getValue();
-            assert mutation != null : "Mutations cannot be null in a snapshot";
+            out.writeLong(path);
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyLeafIndex with a version ahead";
 
@@ -1435,7 +1515,7 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             }
             out.writeLong(mutation.version);
             out.writeBoolean(mutation.isDeleted());
-        }
+        });
     }
 
     /**
@@ -1449,11 +1529,12 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
      * 		In case of trouble.
      */
     private void deserializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, Bytes>> map, final SerializableDataInputStream in) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, Bytes>> map, final SerializableDataInputStream in)
+            throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
             // Read path
-            final Long path = in.readLong();
+            final long path = in.readLong();
             // Read key
             final int keyLen = in.readInt();
             final Bytes key;
@@ -1541,6 +1622,34 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
         }
     }
 
+    /**
+     * Purges up to {@code maxMutations} mutations of released copies from the indices. This method
+     * is only useful when {@link VirtualMapConfig#cachePurgeChunkSize()} is positive, otherwise
+     * released copies are purged by the cleaner pool, and there is nothing to purge here.
+     *
+     * <p>Mutations are purged on the current thread, in the order the copies were released. Since
+     * the queue of mutations to purge is shared by all copies in a family, this method may be
+     * called on any copy, including released ones. It may be called concurrently, in which case
+     * the calls are serialized.
+     *
+     * @param maxMutations
+     * 		The max number of mutations to purge
+     * @return the number of purged mutations
+     */
+    public int purgeReleasedMutations(final int maxMutations) {
+        return pendingPurges.purge(maxMutations);
+    }
+
+    /**
+     * Gets the number of mutations of released copies in this cache family, which are yet to be
+     * purged from the indices. See {@link #purgeReleasedMutations(int)}.
+     *
+     * @return the number of mutations to purge
+     */
+    public long getPendingPurgeSize() {
+        return pendingPurges.size();
+    }
+
     /**
      * Get estimated size of this cache copy. The size includes all leaf records in dirtyLeaves,
      * all keys in dirtyLeafPaths, and all hashes in dirtyHashes.
@@ -1625,6 +1734,88 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
         }
     }
 
+    /**
+     * A queue of mutations of released copies to purge from the indices, shared by all copies in a
+     * family. Mutations are purged in bounded chunks, see {@link #purgeReleasedMutations(int)}, so
+     * the cost of purging a large released copy, for example, one with many merged copies in it, is
+     * spread over time rather than paid all at once.
+     */
+    private static final class PendingPurges {
+
+        /** Mutation arrays to purge, in the order the copies were released */
+        private final Queue<PurgeTask<?>> tasks = new ConcurrentLinkedQueue<>();
+
+        /** The number of mutations in all tasks, which are yet to be purged */
+        private final AtomicLong size = new AtomicLong(0);
+
+        <K, V> void add(final ConcurrentArray<Mutation<K, V>> array, final Map<K, Mutation<K, V>> index) {
+            addTask(array, element -> index.compute(element.key, (key, mutation) -> purgeMutation(element, mutation)));
+        }
+
+        <V> void add(
+                final ConcurrentArray<Mutation<Long, V>> array,
+                final ConcurrentLongObjectMap<Mutation<Long, V>> index) {
+            addTask(array, element -> index.compute(element.key, (path, mutation) -> purgeMutation(element, mutation)));
+        }
+
+        private <T> void addTask(final ConcurrentArray<T> array, final Consumer<T> action) {
+            final int arraySize = array.size();
+            if (arraySize == 0) {
+                return;
+            }
+            // Increase the size before the task is visible to purge(), so the size is never negative
+            size.addAndGet(arraySize);
+            tasks.add(new PurgeTask<>(array.stream().iterator(), arraySize, action));
+        }
+
+        synchronized int purge(final int maxMutations) {
+            int purged = 0;
+            PurgeTask<?> task;
+            while ((purged < maxMutations) && ((task = tasks.peek()) != null)) {
+                purged += task.purge(maxMutations - purged);
+                if (task.isDone()) {
+                    tasks.poll();
+                }
+            }
+            size.addAndGet(-purged);
+            return purged;
+        }
+
+        long size() {
+            return size.get();
+        }
+    }
+
+    /**
+     * A cursor over a mutation array of a released copy.
+     *
+     * @param <T> The mutation type
+     */
+    private static final class PurgeTask<T> {
+        private final Iterator<T> iterator;
+        private final Consumer<T> action;
+        private int remaining;
+
+        PurgeTask(final Iterator<T> iterator, final int size, final Consumer<T> action) {
+            this.iterator = iterator;
+            this.remaining = size;
+            this.action = action;
+        }
+
+        int purge(final int maxMutations) {
+            final int count = Math.min(maxMutations, remaining);
+            for (int i = 0; i < count; i++) {
+                action.accept(iterator.next());
+            }
+            remaining -= count;
+            return count;
+        }
+
+        boolean isDone() {
+            return remaining == 0;
+        }
+    }
+
     /**
      * Given some cache, print out the contents of all the data structures and mark specially the set of mutations
      * that apply to this cache.
@@ -1643,11 +1834,13 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringIndex(
-                        "pathToDirtyLeafIndex", (Map<Object, Mutation>) (Object) pathToDirtyLeafIndex))
+                        "pathToDirtyLeafIndex",
+                        (ConcurrentLongObjectMap<Mutation>) (Object) pathToDirtyLeafIndex))
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringIndex(
-                        "pathToDirtyHashIndex", (Map<Object, Mutation>) (Object) pathToDirtyHashIndex))
+                        "pathToDirtyHashIndex",
+                        (ConcurrentLongObjectMap<Mutation>) (Object) pathToDirtyHashIndex))
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringArray("dirtyLeaves", (ConcurrentArray<Mutation>) (Object) dirtyLeaves));
@@ -1684,28 +1877,37 @@ public final class VirtualNodeCache implements FastCopyable, SelfSerializable {
             final String indexName, @SuppressWarnings("rawtypes") final Map<Object, Mutation> index) {
         final StringBuilder builder = new StringBuilder();
         builder.append(indexName).append(":\n");
+        index.forEach((key, mutation) -> toDebugStringMutations(builder, key, mutation));
+        return builder.toString();
+    }
 
-        index.forEach((key, mutation) -> {
-            builder.append("\t").append(key).append(":==> ");
-            while (mutation != null) {
-                builder.append("[")
-                        .append(mutation.key)
-                        .append(",")
-                        .append(mutation.value)
-                        .append(",")
-                        .append(mutation.isDeleted() ? "D," : "")
-                        .append("V")
-                        .append(mutation.version)
-                        .append(mutation.version == this.fastCopyVersion.get() ? "*" : "")
-                        .append("]->");
-                mutation = mutation.next;
-            }
-            builder.append("\n");
-        });
-
+    private String toDebugStringIndex(
+            final String indexName, @SuppressWarnings("rawtypes") final ConcurrentLongObjectMap<Mutation> index) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(indexName).append(":\n");
+        index.forEach((path, mutation) -> toDebugStringMutations(builder, path, mutation));
         return builder.toString();
     }
 
+    @SuppressWarnings("rawtypes")
+    private void toDebugStringMutations(final StringBuilder builder, final Object key, Mutation mutation) {
+        builder.append("\t").append(key).append(":==> ");
+        while (mutation != null) {
+            builder.append("[")
+                    .append(mutation.key)
+                    .append(",")
+                    .append(mutation.value)
+                    .append(",")
+                    .append(mutation.isDeleted() ? "D," : "")
+                    .append("V")
+                    .append(mutation.version)
+                    .append(mutation.version == this.fastCopyVersion.get() ? "*" : "")
+                    .append("]->");
+            mutation = mutation.next;
+        }
+        builder.append("\n");
+    }
+
     private String toDebugStringArray(
             final String name, @SuppressWarnings("rawtypes") final ConcurrentArray<Mutation> arr) {
         final StringBuilder builder = new StringBuilder();
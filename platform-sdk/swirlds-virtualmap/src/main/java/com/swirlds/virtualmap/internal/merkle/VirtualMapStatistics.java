@@ -54,6 +54,14 @@ public class VirtualMapStatistics {
     private Counter flushCount;
     /** The average time to hash virtual map copy, ms */
     private LongAccumulator hashDurationMs;
+    /** Number of released virtual node cache mutations, which are yet to be purged */
+    private LongGauge pendingPurgeSize;
+    /** The average time to purge a chunk of released virtual node cache mutations, ms */
+    private LongAccumulator purgeDurationMs;
+    /** Adaptive flush threshold, bytes */
+    private LongGauge flushThresholdB;
+    /** Estimated flush throughput, bytes per second */
+    private LongGauge flushThroughputBps;
 
     private static LongAccumulator buildLongAccumulator(
             final Metrics metrics, final String name, final String description) {
@@ -146,6 +154,19 @@ public class VirtualMapStatistics {
                 metrics,
                 VMAP_PREFIX + LIFECYCLE_PREFIX + "hashDurationMs_" + label,
                 "Virtual root copy hash duration, " + label + ", ms");
+        pendingPurgeSize = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "pendingPurgeSize_" + label)
+                        .withDescription("Released virtual node cache mutations to purge, " + label));
+        purgeDurationMs = buildLongAccumulator(
+                metrics,
+                VMAP_PREFIX + LIFECYCLE_PREFIX + "purgeDurationMs_" + label,
+                "Virtual node cache purge chunk duration, " + label + ", ms");
+        flushThresholdB = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "flushThresholdB_" + label)
+                        .withDescription("Virtual root copy adaptive flush threshold, " + label + ", bytes"));
+        flushThroughputBps = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "flushThroughputBps_" + label)
+                        .withDescription("Virtual root copy flush throughput, " + label + ", bytes per second"));
     }
 
     /**
@@ -274,4 +295,48 @@ public class VirtualMapStatistics {
             this.hashDurationMs.update(hashDurationMs);
         }
     }
+
+    /**
+     * Updates {@link #pendingPurgeSize} stat to the given value.
+     *
+     * @param value the value to set
+     */
+    public void setPendingPurgeSize(final long value) {
+        if (this.pendingPurgeSize != null) {
+            this.pendingPurgeSize.set(value);
+        }
+    }
+
+    /**
+     * Record a chunk of released virtual node cache mutations is purged, and purge duration is as specified.
+     *
+     * @param purgeDurationMs purge duration, ms
+     */
+    public void recordPurge(final long purgeDurationMs) {
+        if (this.purgeDurationMs != null) {
+            this.purgeDurationMs.update(purgeDurationMs);
+        }
+    }
+
+    /**
+     * Updates {@link #flushThresholdB} stat to the given value.
+     *
+     * @param value the value to set
+     */
+    public void setFlushThreshold(final long value) {
+        if (this.flushThresholdB != null) {
+            this.flushThresholdB.set(value);
+        }
+    }
+
+    /**
+     * Updates {@link #flushThroughputBps} stat to the given value.
+     *
+     * @param value the value to set
+     */
+    public void setFlushThroughput(final long value) {
+        if (this.flushThroughputBps != null) {
+            this.flushThroughputBps.set(value);
+        }
+    }
 }
@@ -0,0 +1,152 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.pipeline;
+
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.internal.merkle.VirtualMapStatistics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * Chooses the size based flush threshold for all copies in a virtual root family.
+ *
+ * <p>With a static threshold, copies are flushed when their estimated size reaches {@link
+ * VirtualMapConfig#copyFlushCandidateThreshold()}. Under variable load this either results in
+ * very large flushes, which take long to complete, or in many small flushes. When adaptive
+ * flushes are enabled with {@link VirtualMapConfig#adaptiveFlushEnabled()}, this controller
+ * measures actual flush throughput, bytes of estimated cache size per second, and picks a
+ * threshold such that a flush is expected to complete within {@link
+ * VirtualMapConfig#adaptiveFlushTargetDuration()}. The threshold is never less than {@link
+ * VirtualMapConfig#adaptiveFlushMinThreshold()} and never greater than the static threshold. If
+ * the total estimated size of all unflushed copies in the family exceeds {@link
+ * VirtualMapConfig#adaptiveFlushMemoryTarget()}, the min threshold is used, so copies are flushed
+ * as soon as possible.
+ *
+ * <p>Flush throughput is estimated using an exponentially weighted moving average. Flushes of
+ * less than the min threshold aren't included into the estimate, since their throughput is
+ * dominated by fixed per-flush costs.
+ *
+ * <p>This class is thread safe. Flushes are reported and family sizes are updated on the pipeline
+ * thread, while thresholds may be queried from any thread.
+ */
+public final class FlushController {
+
+    /** Weight of the most recent flush in the flush throughput estimate */
+    private static final double THROUGHPUT_WEIGHT = 0.3;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /** Whether adaptive flush thresholds are enabled */
+    private final boolean enabled;
+
+    /** Target flush duration, nanoseconds */
+    private final long targetFlushNanos;
+
+    /** Min flush threshold, bytes */
+    private final long minThreshold;
+
+    /** Family size, above which copies are flushed as soon as possible, bytes. Zero if not used */
+    private final long memoryTarget;
+
+    /** Virtual map statistics to report flush decisions to */
+    private final VirtualMapStatistics statistics;
+
+    /** Estimated flush throughput, bytes per second, or zero if no flushes have been measured yet */
+    private volatile double flushThroughput = 0;
+
+    /** The last reported total estimated size of all unflushed copies in the family, bytes */
+    private volatile long familySize = 0;
+
+    /** Current flush threshold, bytes. Long.MAX_VALUE until it's known, so static thresholds are used */
+    private volatile long flushThreshold = Long.MAX_VALUE;
+
+    /**
+     * Create a new flush controller.
+     *
+     * @param config
+     * 		virtual map config
+     * @param statistics
+     * 		virtual map statistics to report flush decisions to
+     */
+    public FlushController(@NonNull final VirtualMapConfig config, @NonNull final VirtualMapStatistics statistics) {
+        Objects.requireNonNull(config);
+        this.statistics = Objects.requireNonNull(statistics);
+        enabled = config.adaptiveFlushEnabled();
+        targetFlushNanos = config.adaptiveFlushTargetDuration().toNanos();
+        minThreshold = config.adaptiveFlushMinThreshold();
+        memoryTarget = config.adaptiveFlushMemoryTarget();
+    }
+
+    /**
+     * Get the flush threshold to use for a copy.
+     *
+     * @param staticThreshold
+     * 		the static threshold configured for the copy. If zero or negative, size based flushes
+     * 		aren't used for the copy, and the value is returned as is
+     * @return the flush threshold, bytes
+     */
+    public long getFlushThreshold(final long staticThreshold) {
+        if (!enabled || (staticThreshold <= 0)) {
+            return staticThreshold;
+        }
+        return Math.min(flushThreshold, staticThreshold);
+    }
+
+    /**
+     * Report a completed flush.
+     *
+     * @param flushedBytes
+     * 		the estimated size of the flushed copy, bytes
+     * @param flushDurationNanos
+     * 		the time to save the copy to the data source, nanoseconds
+     */
+    public void recordFlush(final long flushedBytes, final long flushDurationNanos) {
+        if (!enabled || (flushedBytes < minThreshold) || (flushedBytes <= 0) || (flushDurationNanos <= 0)) {
+            return;
+        }
+        final double throughput = flushedBytes * NANOS_PER_SECOND / flushDurationNanos;
+        final double current = flushThroughput;
+        flushThroughput =
+                (current == 0) ? throughput : (THROUGHPUT_WEIGHT * throughput + (1 - THROUGHPUT_WEIGHT) * current);
+        statistics.setFlushThroughput((long) flushThroughput);
+        updateThreshold();
+    }
+
+    /**
+     * Report the total estimated size of all unflushed copies in the family.
+     *
+     * @param totalSize
+     * 		the total size, bytes
+     */
+    public void setFamilySize(final long totalSize) {
+        if (!enabled) {
+            return;
+        }
+        familySize = totalSize;
+        updateThreshold();
+    }
+
+    /**
+     * Get the estimated flush throughput.
+     *
+     * @return the flush throughput, bytes per second, or zero if not known yet
+     */
+    public double getFlushThroughput() {
+        return flushThroughput;
+    }
+
+    private void updateThreshold() {
+        final long threshold;
+        if ((memoryTarget > 0) && (familySize >= memoryTarget)) {
+            // Memory first: flush as soon as possible, but avoid tiny flushes
+            threshold = minThreshold;
+        } else if (flushThroughput > 0) {
+            threshold = Math.max(minThreshold, (long) (flushThroughput * targetFlushNanos / NANOS_PER_SECOND));
+        } else {
+            threshold = Long.MAX_VALUE;
+        }
+        if (threshold != flushThreshold) {
+            flushThreshold = threshold;
+            statistics.setFlushThreshold(threshold == Long.MAX_VALUE ? 0 : threshold);
+        }
+    }
+}
@@ -150,6 +150,9 @@ public class VirtualPipeline {
 
     private final VirtualMapStatistics statistics;
 
+    /** Chooses flush thresholds for all copies in this pipeline */
+    private final FlushController flushController;
+
     /**
      * Create a new pipeline for a family of fast copies on a virtual root.
      */
@@ -166,6 +169,7 @@ public class VirtualPipeline {
                 .buildFactory());
 
         statistics = new VirtualMapStatistics(label);
+        flushController = new FlushController(config, statistics);
     }
 
     /**
@@ -178,6 +182,15 @@ public class VirtualPipeline {
         statistics.registerMetrics(metrics);
     }
 
+    /**
+     * Get the controller, which chooses flush thresholds for all copies in this pipeline.
+     *
+     * @return the flush controller
+     */
+    public FlushController getFlushController() {
+        return flushController;
+    }
+
     /**
      * Make sure that the given copy is properly registered with this pipeline.
      *
@@ -540,14 +553,42 @@ public class VirtualPipeline {
             final long totalSize = currentTotalSize();
             logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Total size {}", totalSize);
             statistics.setNodeCacheSize(totalSize);
+            flushController.setFamilySize(totalSize);
             next = next.getNext();
         }
     }
 
+    /**
+     * Purge a chunk of mutations of released copies from the caches, if incremental purging is
+     * enabled with {@link VirtualMapConfig#cachePurgeChunkSize()}. If there are more mutations to
+     * purge, more work is scheduled, so purging continues in chunks interleaved with other jobs
+     * on the lifecycle thread, until all released mutations are purged.
+     */
+    private void purgeReleasedMutations() {
+        final int chunkSize = config.cachePurgeChunkSize();
+        final VirtualRoot copy = mostRecentCopy.get();
+        if ((chunkSize <= 0) || (copy == null)) {
+            return;
+        }
+        final long start = System.currentTimeMillis();
+        final int purged = copy.purgeReleasedMutations(chunkSize);
+        final long pending = copy.getPendingPurgeSize();
+        if (purged > 0) {
+            final long end = System.currentTimeMillis();
+            statistics.recordPurge(end - start);
+            logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Purged {} mutations, {} pending", purged, pending);
+        }
+        statistics.setPendingPurgeSize(pending);
+        if ((pending > 0) && alive) {
+            scheduleWork();
+        }
+    }
+
     private void doWork() {
         workScheduled.set(false);
         try {
             hashFlushMerge();
+            purgeReleasedMutations();
         } catch (final Throwable e) { // NOSONAR: Must cleanup and log if an error occurred since this is on a thread.
             logger.error(EXCEPTION.getMarker(), "exception on virtual pipeline thread", e);
             shutdown(true);
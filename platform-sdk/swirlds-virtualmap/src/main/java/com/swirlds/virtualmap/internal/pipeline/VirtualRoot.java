@@ -61,6 +61,30 @@ public interface VirtualRoot extends MerkleNode {
      */
     void merge();
 
+    /**
+     * Purge up to the given number of mutations of released copies from this copy's family caches.
+     * Called by the {@link VirtualPipeline} on its thread, interleaved with hashing, flushing, and
+     * merging, when {@link com.swirlds.virtualmap.config.VirtualMapConfig#cachePurgeChunkSize()} is
+     * positive. May be called on any copy in the family.
+     *
+     * @param maxMutations
+     * 		the max number of mutations to purge
+     * @return the number of purged mutations
+     */
+    default int purgeReleasedMutations(final int maxMutations) {
+        return 0;
+    }
+
+    /**
+     * Get the number of mutations of released copies in this copy's family caches, which are yet
+     * to be purged. See {@link #purgeReleasedMutations(int)}.
+     *
+     * @return the number of mutations to purge
+     */
+    default long getPendingPurgeSize() {
+        return 0;
+    }
+
     /**
      * Check if this copy has already been merged.
      *
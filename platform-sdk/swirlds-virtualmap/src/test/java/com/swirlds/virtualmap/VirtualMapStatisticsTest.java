@@ -182,4 +182,44 @@ public class VirtualMapStatisticsTest {
         // then
         assertValueEquals(metric, 56789L);
     }
+
+    @Test
+    void testPendingPurgeSize() {
+        // given
+        final Metric metric = getMetric("lifecycle_", "pendingPurgeSize_" + LABEL);
+        // when
+        statistics.setPendingPurgeSize(3456L);
+        // then
+        assertValueEquals(metric, 3456L);
+    }
+
+    @Test
+    void testPurgeDurationMs() {
+        // given
+        final Metric metric = getMetric("lifecycle_", "purgeDurationMs_" + LABEL);
+        // when
+        statistics.recordPurge(4567L);
+        // then
+        assertValueEquals(metric, 4567L);
+    }
+
+    @Test
+    void testFlushThreshold() {
+        // given
+        final Metric metric = getMetric("lifecycle_", "flushThresholdB_" + LABEL);
+        // when
+        statistics.setFlushThreshold(5678L);
+        // then
+        assertValueEquals(metric, 5678L);
+    }
+
+    @Test
+    void testFlushThroughput() {
+        // given
+        final Metric metric = getMetric("lifecycle_", "flushThroughputBps_" + LABEL);
+        // when
+        statistics.setFlushThroughput(6789L);
+        // then
+        assertValueEquals(metric, 6789L);
+    }
 }
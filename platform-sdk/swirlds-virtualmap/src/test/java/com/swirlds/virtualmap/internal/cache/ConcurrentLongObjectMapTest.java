@@ -0,0 +1,128 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLongObjectMapTest {
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Segment count must be a positive power of two")
+    void invalidSegmentCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(-4));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<String>(3));
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Reserved key is rejected")
+    void reservedKey() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.get(Long.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> map.put(Long.MIN_VALUE, "A"));
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Put, get, compute, and remove behave like a map")
+    void behavesLikeMap() {
+        for (final int segments : new int[] {1, 4, 64}) {
+            final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>(segments);
+            final Map<Long, String> expected = new HashMap<>();
+            final Random random = new Random(segments);
+            for (int i = 0; i < 100_000; i++) {
+                final long key = random.nextInt(5_000) - 100;
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        map.put(key, "v" + i);
+                        expected.put(key, "v" + i);
+                    }
+                    case 1 -> {
+                        map.compute(key, (k, v) -> null);
+                        expected.remove(key);
+                    }
+                    default -> {
+                        final String result = map.compute(key, (k, v) -> v == null ? "n" + k : v + "+");
+                        assertEquals(expected.merge(key, "n" + key, (v, n) -> v + "+"), result);
+                    }
+                }
+            }
+            assertEquals(expected.size(), map.size());
+            for (long key = -100; key < 4_900; key++) {
+                assertEquals(expected.get(key), map.get(key), "Wrong value for key " + key);
+            }
+            final Map<Long, String> iterated = new HashMap<>();
+            map.forEach(iterated::put);
+            assertEquals(expected, iterated);
+        }
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Removed keys are not found")
+    void removedKeysAreNotFound() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>(1);
+        assertTrue(map.isEmpty());
+        for (long i = 0; i < 1000; i++) {
+            map.put(i, "A");
+            map.compute(i, (k, v) -> null);
+        }
+        assertTrue(map.isEmpty());
+        assertNull(map.get(10));
+        assertNull(map.compute(10, (k, v) -> null));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Concurrent computes and lookups")
+    void concurrentComputes() throws Exception {
+        final ConcurrentLongObjectMap<AtomicInteger> map = new ConcurrentLongObjectMap<>(8);
+        final int threads = 8;
+        final int keys = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (long key = 0; key < keys; key++) {
+                        map.compute(key, (k, v) -> {
+                            final AtomicInteger counter = v == null ? new AtomicInteger() : v;
+                            counter.incrementAndGet();
+                            return counter;
+                        });
+                        // A key just updated by this thread must be visible to it
+                        assertTrue(map.get(key).get() > 0);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(keys, map.size());
+        for (long key = 0; key < keys; key++) {
+            assertEquals(threads, map.get(key).get(), "Wrong count for key " + key);
+        }
+    }
+}
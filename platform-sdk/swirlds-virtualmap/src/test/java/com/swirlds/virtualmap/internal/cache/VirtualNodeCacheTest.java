@@ -18,7 +18,10 @@ import static org.junit.jupiter.api.Assertions.fail;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.base.state.MutabilityException;
 import com.swirlds.common.test.fixtures.io.InputOutputStream;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
 import com.swirlds.virtualmap.datasource.VirtualHashRecord;
 import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
 import com.swirlds.virtualmap.test.fixtures.TestKey;
@@ -836,6 +839,46 @@ class VirtualNodeCacheTest extends VirtualTestBase {
                 "expected cache to eventually become clean");
     }
 
+    /**
+     * When incremental purging is enabled, mutations of a released copy stay in the indices until
+     * they are purged in chunks. Lookups in newer copies must be correct before and after purging.
+     */
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache"), @Tag("Lifecycle")})
+    @DisplayName("Released mutations are purged incrementally")
+    void releasedMutationsArePurgedIncrementally() {
+        final VirtualMapConfig config = ConfigurationBuilder.create()
+                .withConfigDataType(VirtualMapConfig.class)
+                .withSources(new SimpleConfigSource("virtualMap.cachePurgeChunkSize", 3))
+                .build()
+                .getConfigData(VirtualMapConfig.class);
+        final VirtualNodeCache cache0 = new VirtualNodeCache(config);
+        cache0.putLeaf(appleLeaf(1));
+        cache0.putLeaf(bananaLeaf(2));
+        final VirtualNodeCache cache1 = cache0.copy();
+        cache1.putLeaf(aardvarkLeaf(1));
+        cache0.seal();
+        cache0.release();
+
+        // Two leaves and two leaf paths are waiting to be purged
+        assertEquals(4, cache1.getPendingPurgeSize(), "Released mutations should not be purged yet");
+        assertEquals(aardvarkLeaf(1), cache1.lookupLeafByPath(1), "Wrong leaf");
+        assertEquals(bananaLeaf(2), cache1.lookupLeafByPath(2), "Wrong leaf");
+
+        assertEquals(3, cache1.purgeReleasedMutations(3), "Only a chunk of mutations should be purged");
+        assertEquals(1, cache1.getPendingPurgeSize(), "Wrong number of mutations to purge");
+        // The queue is shared by all copies in the family, including released ones
+        assertEquals(1, cache0.purgeReleasedMutations(3), "The remaining mutation should be purged");
+        assertEquals(0, cache1.getPendingPurgeSize(), "All mutations should be purged");
+        assertEquals(0, cache1.purgeReleasedMutations(3), "Nothing should be left to purge");
+
+        // Banana was only in the released copy. Aardvark is in a newer copy and must stay
+        assertNull(cache1.lookupLeafByPath(2), "Released leaf should be purged");
+        assertNull(cache1.lookupLeafByKey(B_KEY), "Released leaf should be purged");
+        assertEquals(aardvarkLeaf(1), cache1.lookupLeafByPath(1), "Wrong leaf");
+        assertEquals(aardvarkLeaf(1), cache1.lookupLeafByKey(A_KEY), "Wrong leaf");
+    }
+
     /**
      * If I have just a single cache, and never make a copy of it, I should still be able
      * to release it. As far as I know, this would never happen in a working system, but
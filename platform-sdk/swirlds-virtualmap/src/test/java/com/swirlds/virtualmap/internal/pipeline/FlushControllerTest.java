@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.internal.merkle.VirtualMapStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FlushControllerTest {
+
+    private static final long MB = 1024 * 1024;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final long STATIC_THRESHOLD = 10_000 * MB;
+
+    private static FlushController createController(final boolean enabled) {
+        final VirtualMapConfig config = new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.ADAPTIVE_FLUSH_ENABLED, enabled + "")
+                .withValue(VirtualMapConfig_.ADAPTIVE_FLUSH_TARGET_DURATION, "2s")
+                .withValue(VirtualMapConfig_.ADAPTIVE_FLUSH_MIN_THRESHOLD, 100 * MB + "")
+                .withValue(VirtualMapConfig_.ADAPTIVE_FLUSH_MEMORY_TARGET, 5_000 * MB + "")
+                .getOrCreateConfig()
+                .getConfigData(VirtualMapConfig.class);
+        return new FlushController(config, new VirtualMapStatistics("test"));
+    }
+
+    @Test
+    @DisplayName("Static thresholds are used when adaptive flushes are disabled")
+    void disabled() {
+        final FlushController controller = createController(false);
+        controller.recordFlush(1_000 * MB, NANOS_PER_SECOND);
+        controller.setFamilySize(8_000 * MB);
+        assertEquals(STATIC_THRESHOLD, controller.getFlushThreshold(STATIC_THRESHOLD));
+        assertEquals(0, controller.getFlushThreshold(0));
+        assertEquals(0.0, controller.getFlushThroughput());
+    }
+
+    @Test
+    @DisplayName("Static threshold is used until flush throughput is known")
+    void noFlushesYet() {
+        final FlushController controller = createController(true);
+        controller.setFamilySize(1_000 * MB);
+        assertEquals(STATIC_THRESHOLD, controller.getFlushThreshold(STATIC_THRESHOLD));
+        // Size based flushes are disabled for the copy
+        assertEquals(0, controller.getFlushThreshold(0));
+    }
+
+    @Test
+    @DisplayName("Threshold follows flush throughput")
+    void thresholdFollowsThroughput() {
+        final FlushController controller = createController(true);
+        // 500 MB/s, 2s target
+        controller.recordFlush(1_000 * MB, 2 * NANOS_PER_SECOND);
+        assertEquals(500.0 * MB, controller.getFlushThroughput(), 1.0);
+        assertEquals(1_000 * MB, controller.getFlushThreshold(STATIC_THRESHOLD));
+        // Never greater than the static threshold
+        assertEquals(800 * MB, controller.getFlushThreshold(800 * MB));
+
+        // Throughput drops, the threshold is lowered, but not to the new throughput right away
+        controller.recordFlush(1_000 * MB, 10 * NANOS_PER_SECOND);
+        assertEquals(380.0 * MB, controller.getFlushThroughput(), 1.0);
+        assertEquals(760.0 * MB, controller.getFlushThreshold(STATIC_THRESHOLD), 1.0);
+    }
+
+    @Test
+    @DisplayName("Small flushes and min threshold")
+    void minThreshold() {
+        final FlushController controller = createController(true);
+        // Smaller than min threshold, ignored
+        controller.recordFlush(10 * MB, NANOS_PER_SECOND);
+        assertEquals(0.0, controller.getFlushThroughput());
+        assertEquals(STATIC_THRESHOLD, controller.getFlushThreshold(STATIC_THRESHOLD));
+        // Very slow flush, but the threshold is not less than the min
+        controller.recordFlush(100 * MB, 100 * NANOS_PER_SECOND);
+        assertEquals(100 * MB, controller.getFlushThreshold(STATIC_THRESHOLD));
+    }
+
+    @Test
+    @DisplayName("Copies are flushed as soon as possible above memory target")
+    void memoryTarget() {
+        final FlushController controller = createController(true);
+        controller.recordFlush(1_000 * MB, NANOS_PER_SECOND);
+        assertEquals(2_000 * MB, controller.getFlushThreshold(STATIC_THRESHOLD));
+        controller.setFamilySize(6_000 * MB);
+        assertEquals(100 * MB, controller.getFlushThreshold(STATIC_THRESHOLD));
+        controller.setFamilySize(1_000 * MB);
+        assertEquals(2_000 * MB, controller.getFlushThreshold(STATIC_THRESHOLD));
+    }
+}